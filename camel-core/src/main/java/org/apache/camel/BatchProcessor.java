@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel;
+
+import java.util.List;
+
+/**
+ * A {@link Processor} which can process a batch of message exchanges in one call, such as a producer
+ * using a bulk API of the system it sends to.
+ * <p/>
+ * A batch is routed as a single exchange which holds the exchanges of the batch, as created by
+ * {@link org.apache.camel.util.ExchangeHelper#createBatchExchange(Endpoint, List)}. This is what the seda consumer
+ * routes when its <tt>batchSize</tt> option is in use. When a batch is sent to an endpoint whose producer is a batch
+ * processor, or processed by a batch processor in the route, then {@link #processBatch(List)} is called instead of
+ * {@link #process(Exchange)}. Exchanges grouped by the aggregator are not a batch, and are processed as usual.
+ * <p/>
+ * <b>Important:</b> The error handler of the route, <tt>onException</tt> and the dead letter channel only see the
+ * exchange holding the batch. So when the entire batch fails they handle the failure (and redeliver the batch as a whole),
+ * but a failure set on a single exchange in the batch is not handled by them. That failure is returned to the
+ * caller of that exchange, such as a request/reply seda producer, and logged by the seda consumer.
+ *
+ * @version 
+ */
+public interface BatchProcessor extends Processor {
+
+    /**
+     * Processes the exchanges of a batch.
+     * <p/>
+     * If processing some of the exchanges failed then the caused {@link Exception} should be set on those exchanges,
+     * and any results set on the exchanges as usual. If the entire batch failed then an exception should be thrown,
+     * which fails every exchange in the batch.
+     *
+     * @param exchanges the exchanges in the batch
+     * @throws Exception is thrown if the entire batch failed
+     */
+    void processBatch(List<Exchange> exchanges) throws Exception;
+}
@@ -87,6 +87,7 @@ public interface Exchange {
     String BATCH_INDEX                = "CamelBatchIndex";
     String BATCH_SIZE                 = "CamelBatchSize";
     String BATCH_COMPLETE             = "CamelBatchComplete";
+    String BATCH_EXCHANGES            = "CamelBatchExchanges";
     String BEAN_METHOD_NAME           = "CamelBeanMethodName";
     String BEAN_MULTI_PARAMETER_ARRAY = "CamelBeanMultiParameterArray";
     String BINDING                    = "CamelBinding";
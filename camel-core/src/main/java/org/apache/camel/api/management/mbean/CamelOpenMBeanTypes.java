@@ -240,4 +240,16 @@ public final class CamelOpenMBeanTypes {
                                  new String[]{"Type", "Static", "Dynamic", "Description"},
                                  new OpenType[]{SimpleType.STRING, SimpleType.BOOLEAN, SimpleType.BOOLEAN, SimpleType.STRING});
     }
+
+    public static TabularType listStartupTimesTabularType() throws OpenDataException {
+        CompositeType ct = listStartupTimesCompositeType();
+        return new TabularType("listStartupTimes", "Lists the time spent starting components, endpoints and routes", ct, new String[]{"type", "id"});
+    }
+
+    public static CompositeType listStartupTimesCompositeType() throws OpenDataException {
+        return new CompositeType("startupTimes", "Startup Times",
+                                 new String[]{"type", "id", "duration"},
+                                 new String[]{"Type", "Id", "Duration"},
+                                 new OpenType[]{SimpleType.STRING, SimpleType.STRING, SimpleType.LONG});
+    }
 }
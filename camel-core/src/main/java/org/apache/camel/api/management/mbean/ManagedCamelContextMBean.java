@@ -112,6 +112,9 @@ public interface ManagedCamelContextMBean extends ManagedPerformanceCounterMBean
     @ManagedAttribute(description = "Current number of started routes")
     Integer getStartedRoutes();
 
+    @ManagedAttribute(description = "Current number of lazy initialized routes which has not yet routed any messages")
+    Integer getDormantRoutes();
+
     @ManagedAttribute(description = "Shutdown timeout")
     void setTimeout(long timeout);
 
@@ -292,6 +295,17 @@ public interface ManagedCamelContextMBean extends ManagedPerformanceCounterMBean
     @ManagedOperation(description = "List all Camel EIPs from camel-core")
     TabularData listEips() throws Exception;
 
+    /**
+     * Lists the time spent starting the components, endpoints and routes, with the slowest first.
+     * <p/>
+     * The times are only recorded if startup recording has been enabled.
+     *
+     * @return a list with the data
+     * @throws Exception is thrown if error occurred
+     */
+    @ManagedOperation(description = "List the time spent starting components, endpoints and routes")
+    TabularData listStartupTimes() throws Exception;
+
     /**
      * Returns the JSON schema representation with information about the component and the endpoint parameters it supports
      *
@@ -39,6 +39,9 @@ public interface ManagedRouteMBean extends ManagedPerformanceCounterMBean {
     @ManagedAttribute(description = "Route Uptime [milliseconds]")
     long getUptimeMillis();
 
+    @ManagedAttribute(description = "Whether the route is lazy initialized and has not yet routed any messages")
+    Boolean isDormant();
+
     /**
      * @deprecated use {@link #getExchangesInflight()}
      */
@@ -123,10 +126,10 @@ public interface ManagedRouteMBean extends ManagedPerformanceCounterMBean {
     @ManagedOperation(description = "Returns the JSON representation of all the static endpoints (and possible dynamic) defined in this route")
     String createRouteStaticEndpointJson(boolean includeDynamic);
 
-    @ManagedAttribute(description = "Oldest inflight exchange duration")
+    @ManagedAttribute(description = "Oldest inflight exchange duration (only exchanges started from this route, whereas ExchangesInflight also counts exchanges routed to this route from other routes)")
     Long getOldestInflightDuration();
 
-    @ManagedAttribute(description = "Oldest inflight exchange id")
+    @ManagedAttribute(description = "Oldest inflight exchange id (only exchanges started from this route, whereas ExchangesInflight also counts exchanges routed to this route from other routes)")
     String getOldestInflightExchangeId();
 
 
@@ -17,6 +17,10 @@
 package org.apache.camel.component.dataset;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -25,17 +29,28 @@ import org.apache.camel.impl.DefaultConsumer;
 import org.apache.camel.processor.ThroughputLogger;
 import org.apache.camel.util.CamelLogger;
 import org.apache.camel.util.URISupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * DataSet consumer.
+ * <p/>
+ * The consumer sends the messages of the {@link DataSet} using one or more threads, either with a delay after each
+ * message, or at a target rate. The latency of each message is recorded in the
+ * {@link DataSetEndpoint#getLatencyHistogram() latency histogram} of the endpoint,
+ * and a summary is logged when all the messages have been sent.
  *
  * @version 
  */
 public class DataSetConsumer extends DefaultConsumer {
+    private static final Logger LOG = LoggerFactory.getLogger(DataSetConsumer.class);
+
     private final CamelContext camelContext;
     private DataSetEndpoint endpoint;
     private Processor reporter;
     private ExecutorService executorService;
+    private final AtomicLong nextIndex = new AtomicLong();
+    private final AtomicInteger activeThreads = new AtomicInteger();
 
     public DataSetConsumer(DataSetEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -52,24 +67,28 @@ public class DataSetConsumer extends DefaultConsumer {
         }
         final DataSet dataSet = endpoint.getDataSet();
         final long preloadSize = endpoint.getPreloadSize();
+        final int threads = Math.max(1, endpoint.getProduceThreads());
 
+        endpoint.getLatencyHistogram().reset();
         sendMessages(0, preloadSize);
-        executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, endpoint.getEndpointUri());
 
-        executorService.execute(new Runnable() {
-            public void run() {
-                if (endpoint.getInitialDelay() > 0) {
-                    try {
-                        Thread.sleep(endpoint.getInitialDelay());
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        return;
-                    }
-                }
+        if (threads == 1) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, endpoint.getEndpointUri());
+        } else {
+            executorService = camelContext.getExecutorServiceManager().newFixedThreadPool(this, endpoint.getEndpointUri(), threads);
+        }
 
-                sendMessages(preloadSize, dataSet.getSize());
-            }
-        });
+        nextIndex.set(preloadSize);
+        activeThreads.set(threads);
+        // all the threads share the same schedule which begins when the initial delay is over
+        final long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(endpoint.getInitialDelay());
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(new Runnable() {
+                public void run() {
+                    sendScheduledMessages(startNanos, preloadSize, dataSet.getSize());
+                }
+            });
+        }
     }
 
     @Override
@@ -86,7 +105,9 @@ public class DataSetConsumer extends DefaultConsumer {
         try {
             for (long i = startIndex; i < endIndex; i++) {
                 Exchange exchange = endpoint.createExchange(i);
+                long start = System.nanoTime();
                 getProcessor().process(exchange);
+                recordLatency(start);
 
                 try {
                     long delay = endpoint.getProduceDelay();
@@ -106,6 +127,81 @@ public class DataSetConsumer extends DefaultConsumer {
         }
     }
 
+    /**
+     * Sends the messages from the given index range which has not already been sent by the other threads.
+     * <p/>
+     * When a produce rate is configured, the message with a given index is due to be sent at a fixed time
+     * from the start of the schedule, and its latency is measured from that time. This avoids coordinated omission
+     * where a slow route would otherwise delay the messages which should have been sent meanwhile,
+     * without their latency including the delay.
+     */
+    protected void sendScheduledMessages(long startNanos, long startIndex, long endIndex) {
+        try {
+            if (!awaitNanos(startNanos)) {
+                return;
+            }
+
+            long rate = endpoint.getProduceRate();
+            long delay = endpoint.getProduceDelay();
+            for (long i = nextIndex.getAndIncrement(); i < endIndex && isRunAllowed(); i = nextIndex.getAndIncrement()) {
+                long due = System.nanoTime();
+                if (rate > 0) {
+                    due = startNanos + (long) ((i - startIndex) * (1000000000d / rate));
+                    if (!awaitNanos(due)) {
+                        return;
+                    }
+                }
+
+                Exchange exchange = endpoint.createExchange(i);
+                getProcessor().process(exchange);
+                recordLatency(due);
+
+                if (rate <= 0 && delay > 0) {
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (reporter != null) {
+                    reporter.process(exchange);
+                }
+            }
+        } catch (Exception e) {
+            handleException(e);
+        } finally {
+            if (activeThreads.decrementAndGet() == 0 && nextIndex.get() >= endIndex) {
+                logSummary(startNanos, endIndex - startIndex);
+            }
+        }
+    }
+
+    protected void logSummary(long startNanos, long count) {
+        long taken = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        double rate = taken > 0 ? count * 1000d / taken : count;
+        // must sanitize uri to avoid logging sensitive information
+        LOG.info("Sent {} messages to {} in {} millis ({} messages per second) with latencies in micros: {}",
+                new Object[]{count, URISupport.sanitizeUri(endpoint.getEndpointUri()), taken, String.format("%.1f", rate),
+                    endpoint.getLatencyHistogram().summary()});
+    }
+
+    private void recordLatency(long startNanos) {
+        endpoint.getLatencyHistogram().recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    }
+
+    private static boolean awaitNanos(long due) {
+        long remaining = due - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            remaining = due - System.nanoTime();
+        }
+        return true;
+    }
+
     protected ThroughputLogger createReporter() {
         // must sanitize uri to avoid logging sensitive information
         String uri = URISupport.sanitizeUri(endpoint.getEndpointUri());
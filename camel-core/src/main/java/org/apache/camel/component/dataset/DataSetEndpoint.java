@@ -25,6 +25,9 @@ import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.Service;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.mock.MockEndpoint;
 import org.apache.camel.processor.ThroughputLogger;
 import org.apache.camel.spi.Metadata;
@@ -44,17 +47,23 @@ import org.slf4j.LoggerFactory;
  * It works by allowing you to create DataSet instances both as a source of messages and as a way to assert that the data set is received.
  * Camel will use the throughput logger when sending dataset's.
  */
+@ManagedResource(description = "Managed DataSetEndpoint")
 @UriEndpoint(firstVersion = "1.3.0", scheme = "dataset", title = "Dataset", syntax = "dataset:name",
     consumerClass = DataSetConsumer.class, label = "core,testing", lenientProperties = true)
 public class DataSetEndpoint extends MockEndpoint implements Service {
     private final transient Logger log;
     private final AtomicInteger receivedCounter = new AtomicInteger();
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
     @UriPath(name = "name", description = "Name of DataSet to lookup in the registry") @Metadata(required = "true")
     private volatile DataSet dataSet;
     @UriParam(label = "consumer", defaultValue = "0")
     private int minRate;
     @UriParam(label = "consumer", defaultValue = "3")
     private long produceDelay = 3;
+    @UriParam(label = "consumer", defaultValue = "0")
+    private long produceRate;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int produceThreads = 1;
     @UriParam(label = "producer", defaultValue = "0")
     private long consumeDelay;
     @UriParam(label = "consumer", defaultValue = "0")
@@ -201,6 +210,88 @@ public class DataSetEndpoint extends MockEndpoint implements Service {
         this.produceDelay = produceDelay;
     }
 
+    public long getProduceRate() {
+        return produceRate;
+    }
+
+    /**
+     * The target rate in messages per second which the consumer should send messages at, in total for all its threads.
+     * <p/>
+     * Messages are sent according to a fixed schedule, and when the consumer falls behind then the pending messages are
+     * sent as fast as possible to catch up. The latency of each message is measured from the time it was scheduled to be sent,
+     * so the time messages are delayed by a slow route is included in the latencies. The produceDelay option is not in use
+     * when a rate has been configured.
+     */
+    public void setProduceRate(long produceRate) {
+        this.produceRate = produceRate;
+    }
+
+    public int getProduceThreads() {
+        return produceThreads;
+    }
+
+    /**
+     * Number of concurrent threads the consumer uses to send messages.
+     * <p/>
+     * Notice when using more than one thread the messages may arrive out of order,
+     * so the dataSetIndex option of a dataset endpoint receiving the messages should be off.
+     */
+    public void setProduceThreads(int produceThreads) {
+        this.produceThreads = produceThreads;
+    }
+
+    /**
+     * The latencies in micros of the messages sent by the consumer, from when the message was scheduled to be sent until the route is done
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    @ManagedAttribute(description = "Number of latencies recorded")
+    public long getLatencyCount() {
+        return latencyHistogram.getTotalCount();
+    }
+
+    @ManagedAttribute(description = "Mean latency in micros")
+    public double getLatencyMean() {
+        return latencyHistogram.getMean();
+    }
+
+    @ManagedAttribute(description = "Median latency in micros")
+    public long getLatency50thPercentile() {
+        return latencyHistogram.getValueAtPercentile(50);
+    }
+
+    @ManagedAttribute(description = "90th percentile latency in micros")
+    public long getLatency90thPercentile() {
+        return latencyHistogram.getValueAtPercentile(90);
+    }
+
+    @ManagedAttribute(description = "99th percentile latency in micros")
+    public long getLatency99thPercentile() {
+        return latencyHistogram.getValueAtPercentile(99);
+    }
+
+    @ManagedAttribute(description = "99.9th percentile latency in micros")
+    public long getLatency999thPercentile() {
+        return latencyHistogram.getValueAtPercentile(99.9);
+    }
+
+    @ManagedAttribute(description = "Max latency in micros")
+    public long getLatencyMax() {
+        return latencyHistogram.getMaxValue();
+    }
+
+    @ManagedOperation(description = "Summary of the latencies in micros")
+    public String latencySummary() {
+        return latencyHistogram.summary();
+    }
+
+    @ManagedOperation(description = "Reset the latencies")
+    public void resetLatency() {
+        latencyHistogram.reset();
+    }
+
     public long getInitialDelay() {
         return initialDelay;
     }
@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.dataset;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe histogram of latencies used by the {@link DataSetConsumer} when sending messages.
+ * <p/>
+ * The histogram uses the same log-linear bucketing as <a href="http://hdrhistogram.org/">HdrHistogram</a>
+ * with a precision of two significant digits, so a value is recorded in constant time without any locking,
+ * and the histogram uses a fixed amount of memory regardless of the number and range of the recorded values.
+ */
+public class LatencyHistogram {
+
+    // 128 sub buckets per half bucket gives a relative error of less than 1%
+    private static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = 7;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+    private static final long SUB_BUCKET_MASK = (SUB_BUCKET_HALF_COUNT << 1) - 1;
+    private static final int BUCKET_COUNT = 64 - SUB_BUCKET_HALF_COUNT_MAGNITUDE - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray((BUCKET_COUNT + 1) * SUB_BUCKET_HALF_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records the value
+     *
+     * @param value the value such as a latency in micros, negative values are recorded as zero
+     */
+    public void recordValue(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(countsIndex(value));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(value);
+
+        long min = minValue.get();
+        while (value < min && !minValue.compareAndSet(min, value)) {
+            min = minValue.get();
+        }
+        long max = maxValue.get();
+        while (value > max && !maxValue.compareAndSet(max, value)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Number of recorded values
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * The lowest recorded value, or <tt>0</tt> if no values has been recorded
+     */
+    public long getMinValue() {
+        long min = minValue.get();
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    /**
+     * The highest recorded value, or <tt>0</tt> if no values has been recorded
+     */
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * The mean of the recorded values, or <tt>0</tt> if no values has been recorded
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * Gets the value at the given percentile, such as <tt>99.9</tt>.
+     * <p/>
+     * The returned value is the highest value which is equivalent to the recorded values within the precision
+     * of the histogram, but never higher than the highest recorded value.
+     *
+     * @param percentile the percentile between <tt>0</tt> and <tt>100</tt>
+     * @return the value, or <tt>0</tt> if no values has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        double requested = Math.min(Math.max(percentile, 0), 100);
+        long countAtPercentile = Math.max(1, (long) Math.ceil(requested / 100 * count));
+
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+            if (total >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(i), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    /**
+     * Clears all the recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalValue.set(0);
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(0);
+    }
+
+    /**
+     * A one line summary with the count, mean, percentiles and max of the recorded values
+     */
+    public String summary() {
+        return String.format("count=%d, min=%d, mean=%.1f, 50%%=%d, 90%%=%d, 99%%=%d, 99.9%%=%d, max=%d",
+                getTotalCount(), getMinValue(), getMean(), getValueAtPercentile(50), getValueAtPercentile(90),
+                getValueAtPercentile(99), getValueAtPercentile(99.9), getMaxValue());
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram[" + summary() + "]";
+    }
+
+    private static int countsIndex(long value) {
+        // the first bucket holds all the values below 256 with full precision,
+        // and each following bucket covers twice the range of the bucket before at half the precision
+        int bucketIndex = 63 - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK) - SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return (bucketIndex << SUB_BUCKET_HALF_COUNT_MAGNITUDE) + subBucketIndex;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        int bucketIndex = Math.max(0, (index >> SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1);
+        long subBucketIndex = index - (bucketIndex << SUB_BUCKET_HALF_COUNT_MAGNITUDE);
+        long lowest = subBucketIndex << bucketIndex;
+        return lowest + (1L << bucketIndex) - 1;
+    }
+}
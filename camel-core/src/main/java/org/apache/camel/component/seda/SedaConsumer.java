@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -199,7 +200,13 @@ public class SedaConsumer extends ServiceSupport implements Consumer, Runnable,
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", new Object[]{ObjectHelper.getIdentityHashCode(queue), pollTimeout, exchange});
                 }
-                if (exchange != null) {
+                if (exchange != null && endpoint.getBatchSize() > 1) {
+                    // take the exchanges which are on the queue as well, and route them as a batch
+                    List<Exchange> exchanges = new ArrayList<Exchange>(endpoint.getBatchSize());
+                    exchanges.add(exchange);
+                    queue.drainTo(exchanges, endpoint.getBatchSize() - 1);
+                    sendBatchToConsumer(exchanges);
+                } else if (exchange != null) {
                     try {
                         // send a new copied exchange with new camel context
                         Exchange newExchange = prepareExchange(exchange);
@@ -303,7 +310,72 @@ public class SedaConsumer extends ServiceSupport implements Consumer, Runnable,
         }
     }
 
+    /**
+     * Send the given exchanges to the consumer as a single {@link Exchange} holding the batch.
+     * <p/>
+     * The exchanges of the batch are not routed on their own, so when the batch is done, their results are copied back
+     * and their on completions are done, the same way as when routing the exchanges one by one.
+     *
+     * @param exchanges the exchanges polled from the queue
+     */
+    protected void sendBatchToConsumer(final List<Exchange> exchanges) {
+        final List<Exchange> batch = new ArrayList<Exchange>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            batch.add(prepareExchange(exchange));
+        }
+        final Exchange batchExchange = ExchangeHelper.createBatchExchange(endpoint, batch);
+
+        if (endpoint.getConsumers().size() > 1) {
+            batchExchange.setException(new IllegalStateException("Multiple consumers for the same endpoint is not allowed: " + endpoint));
+            doneBatch(exchanges, batch, batchExchange);
+            return;
+        }
+
+        LOG.trace("Sending batch of {} exchanges to consumer: {}", batch.size(), batchExchange);
+        try {
+            processor.process(batchExchange, new AsyncCallback() {
+                public void done(boolean doneSync) {
+                    doneBatch(exchanges, batch, batchExchange);
+                }
+            });
+        } catch (Throwable e) {
+            batchExchange.setException(e);
+            doneBatch(exchanges, batch, batchExchange);
+        }
+    }
+
+    private void doneBatch(List<Exchange> exchanges, List<Exchange> batch, Exchange batchExchange) {
+        for (int i = 0; i < exchanges.size(); i++) {
+            Exchange exchange = exchanges.get(i);
+            Exchange newExchange = batch.get(i);
+            try {
+                // a failure of the entire batch fails every exchange in the batch
+                if (batchExchange.getException() != null && newExchange.getException() == null) {
+                    newExchange.setException(batchExchange.getException());
+                }
+                // copy the message back
+                if (newExchange.hasOut()) {
+                    exchange.setOut(newExchange.getOut().copy());
+                } else {
+                    exchange.setIn(newExchange.getIn());
+                }
+                // done the on completions such as a seda producer waiting for the reply
+                UnitOfWorkHelper.doneSynchronizations(newExchange, newExchange.handoverCompletions(), LOG);
+                // log exception if an exception occurred and was not handled
+                if (newExchange.getException() != null) {
+                    exchange.setException(newExchange.getException());
+                    getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+                }
+            } catch (Throwable e) {
+                getExceptionHandler().handleException("Error processing exchange", exchange, e);
+            }
+        }
+    }
+
     protected void doStart() throws Exception {
+        if (endpoint.getBatchSize() > 1 && endpoint.isMultipleConsumersSupported()) {
+            throw new IllegalArgumentException("The batchSize option cannot be used together with multipleConsumers on endpoint: " + endpoint);
+        }
         latch = new CountDownLatch(endpoint.getConcurrentConsumers());
         shutdownPending = false;
         forceShutdown = false;
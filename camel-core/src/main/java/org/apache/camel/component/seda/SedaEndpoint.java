@@ -78,6 +78,8 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer")
+    private int batchSize;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -377,6 +379,25 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     }
 
     @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * To let the consumer take up to this number of exchanges from the queue at once, and route them as a single exchange
+     * holding the batch. A producer in the route which is a {@link org.apache.camel.BatchProcessor} then processes the entire batch
+     * in one call, such as using a bulk API. The consumer does not wait for the batch to fill up, but routes the exchanges which
+     * are on the queue. Is default disabled.
+     * <p/>
+     * The error handler of the route only handles a failure of the entire batch. A failure of a single exchange in the batch
+     * is not handled by the error handler, onException or dead letter channel, but returned to the caller of the exchange.
+     * <p/>
+     * This option cannot be used together with <tt>multipleConsumers</tt>, and the consumer fails to start if both are enabled.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     public int getPollTimeout() {
         return pollTimeout;
     }
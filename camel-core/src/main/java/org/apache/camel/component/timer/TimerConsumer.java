@@ -20,6 +20,7 @@ import java.util.Date;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.AsyncCallback;
@@ -28,6 +29,9 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.StartupListener;
 import org.apache.camel.impl.DefaultConsumer;
+import org.apache.camel.impl.DefaultExchangePool;
+import org.apache.camel.spi.ExchangePool;
+import org.apache.camel.util.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +46,7 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener {
     private volatile TimerTask task;
     private volatile boolean configured;
     private ExecutorService executorService;
+    private volatile ExchangePool exchangePool;
 
     public TimerConsumer(TimerEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -53,8 +58,21 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener {
         return (TimerEndpoint) super.getEndpoint();
     }
 
+    /**
+     * Gets the pool used for recycling the fired exchanges, or <tt>null</tt> if pooling is not in use.
+     */
+    public ExchangePool getExchangePool() {
+        return exchangePool;
+    }
+
     @Override
     protected void doStart() throws Exception {
+        if (endpoint.getExchangePoolSize() > 0) {
+            exchangePool = new DefaultExchangePool(endpoint, endpoint.getExchangePoolSize());
+            // add as service so the pool is enlisted in JMX
+            endpoint.getCamelContext().addService(exchangePool, false, true);
+        }
+
         if (endpoint.getDelay() >= 0) { 
             task = new TimerTask() {
                 // counter
@@ -128,6 +146,12 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener {
             endpoint.getCamelContext().getExecutorServiceManager().shutdown(executorService);
             executorService = null;
         }
+
+        if (exchangePool != null) {
+            endpoint.getCamelContext().removeService(exchangePool);
+            ServiceHelper.stopService(exchangePool);
+            exchangePool = null;
+        }
     }
 
     @Override
@@ -173,7 +197,8 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener {
     }
 
     protected void sendTimerExchange(long counter) {
-        final Exchange exchange = endpoint.createExchange();
+        final ExchangePool pool = exchangePool;
+        final Exchange exchange = pool != null ? pool.acquire() : endpoint.createExchange();
         exchange.setProperty(Exchange.TIMER_COUNTER, counter);
         exchange.setProperty(Exchange.TIMER_NAME, endpoint.getTimerName());
         exchange.setProperty(Exchange.TIMER_TIME, endpoint.getTime());
@@ -189,6 +214,9 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener {
         }
 
         if (!endpoint.isSynchronous()) {
+            // the callback may be invoked before process returns, and the routing engine may still use the
+            // exchange until then, so only release it to the pool when both the callback and process are done
+            final AtomicInteger pending = new AtomicInteger(2);
             getAsyncProcessor().process(exchange, new AsyncCallback() {
                 @Override
                 public void done(boolean doneSync) {
@@ -196,8 +224,14 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener {
                     if (exchange.getException() != null) {
                         getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
                     }
+                    if (pool != null && pending.decrementAndGet() == 0) {
+                        pool.release(exchange);
+                    }
                 }
             });
+            if (pool != null && pending.decrementAndGet() == 0) {
+                pool.release(exchange);
+            }
         } else {
             try {
                 getProcessor().process(exchange);
@@ -209,6 +243,9 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener {
             if (exchange.getException() != null) {
                 getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
             }
+            if (pool != null) {
+                pool.release(exchange);
+            }
         }
     }
 }
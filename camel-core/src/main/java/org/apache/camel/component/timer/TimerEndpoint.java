@@ -61,6 +61,8 @@ public class TimerEndpoint extends DefaultEndpoint implements MultipleConsumersS
     private String pattern;
     @UriParam(label = "advanced")
     private Timer timer;
+    @UriParam(label = "consumer,advanced")
+    private int exchangePoolSize;
 
     public TimerEndpoint() {
     }
@@ -227,6 +229,22 @@ public class TimerEndpoint extends DefaultEndpoint implements MultipleConsumersS
         this.pattern = pattern;
     }
 
+    @ManagedAttribute(description = "Exchange Pool Size")
+    public int getExchangePoolSize() {
+        return exchangePoolSize;
+    }
+
+    /**
+     * To recycle the exchanges fired by the timer using a pool of the given size, which reduces
+     * the garbage created by timers firing at a high rate.
+     * The exchanges are released back to the pool when the routing has completed,
+     * so the routes must not keep references to the exchanges afterwards.
+     * A value of zero or negative means no pooling.
+     */
+    public void setExchangePoolSize(int exchangePoolSize) {
+        this.exchangePoolSize = exchangePoolSize;
+    }
+
     public Timer getTimer(TimerConsumer consumer) {
         if (timer != null) {
             // use custom timer
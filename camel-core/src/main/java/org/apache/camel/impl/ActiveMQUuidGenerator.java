@@ -155,6 +155,13 @@ public class ActiveMQUuidGenerator implements UuidGenerator {
         }
     }
 
+    /**
+     * The seed which is used as prefix for the generated ids, which is unique per generator instance.
+     */
+    String getSeed() {
+        return seed;
+    }
+
     public String generateUuid() {
         StringBuilder sb = new StringBuilder(length);
         sb.append(seed);
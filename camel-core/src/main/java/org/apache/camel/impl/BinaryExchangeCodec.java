@@ -0,0 +1,477 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExchangeCodec;
+import org.apache.camel.util.CamelObjectInputStream;
+
+/**
+ * A compact binary {@link ExchangeCodec}.
+ * <p/>
+ * The exchange id, bodies, headers and properties are written with a type tag followed by the value, using
+ * variable length encoding of numbers and lengths. String and byte array bodies are written as their raw bytes, and only
+ * values of other types are written using Java serialization. This makes the data a fraction of the size of the
+ * Java serialized {@link DefaultExchangeHolder}, and it does not depend on the class version of the holder.
+ * <p/>
+ * The data can optionally be compressed using {@link Deflater} when it is larger than the configured compression threshold.
+ * <p/>
+ * Data which has been written using Java serialization, for example by {@link SerializationExchangeCodec}, can be decoded
+ * as well, which allows to switch existing repositories to this codec.
+ */
+public class BinaryExchangeCodec implements ExchangeCodec {
+
+    /**
+     * The first two bytes of data written by this codec.
+     */
+    public static final int MAGIC_0 = 0xCA;
+    public static final int MAGIC_1 = 0x3E;
+
+    private static final int VERSION = 1;
+    private static final int FLAG_COMPRESSED = 1;
+    private static final int FLAG_IN_FAULT = 1;
+    private static final int FLAG_OUT_FAULT = 2;
+
+    // the first two bytes of a java serialization stream
+    private static final int SERIALIZATION_MAGIC_0 = 0xAC;
+    private static final int SERIALIZATION_MAGIC_1 = 0xED;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final int TYPE_NULL = 0;
+    private static final int TYPE_STRING = 1;
+    private static final int TYPE_BYTES = 2;
+    private static final int TYPE_INT = 3;
+    private static final int TYPE_LONG = 4;
+    private static final int TYPE_TRUE = 5;
+    private static final int TYPE_FALSE = 6;
+    private static final int TYPE_DOUBLE = 7;
+    private static final int TYPE_FLOAT = 8;
+    private static final int TYPE_SHORT = 9;
+    private static final int TYPE_BYTE = 10;
+    private static final int TYPE_CHAR = 11;
+    private static final int TYPE_DATE = 12;
+    private static final int TYPE_BIG_INTEGER = 13;
+    private static final int TYPE_BIG_DECIMAL = 14;
+    private static final int TYPE_SERIALIZED = 15;
+
+    private final SerializationExchangeCodec serializationCodec = new SerializationExchangeCodec();
+    private int compressionThreshold;
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Compresses the data when it is at least this number of bytes. Use zero or a negative value to never compress,
+     * which is the default.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Whether the given data has been written by this codec.
+     */
+    public static boolean isBinaryFormat(byte[] data, int offset, int length) {
+        return length >= 2 && (data[offset] & 0xFF) == MAGIC_0 && (data[offset + 1] & 0xFF) == MAGIC_1;
+    }
+
+    @Override
+    public void encode(CamelContext camelContext, DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        writeHolder(holder, new DataOutputStream(bytes));
+        byte[] payload = bytes.toByteArray();
+        int length = payload.length;
+
+        int flags = 0;
+        if (compressionThreshold > 0 && length >= compressionThreshold) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(payload);
+                deflater.finish();
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2);
+                byte[] buffer = new byte[4096];
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buffer);
+                    compressed.write(buffer, 0, n);
+                }
+                // only use the compressed data if it is actually smaller
+                if (compressed.size() < length) {
+                    payload = compressed.toByteArray();
+                    flags |= FLAG_COMPRESSED;
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeByte(MAGIC_0);
+        dataOut.writeByte(MAGIC_1);
+        dataOut.writeByte(VERSION);
+        dataOut.writeByte(flags);
+        writeVarInt(dataOut, payload.length);
+        if ((flags & FLAG_COMPRESSED) != 0) {
+            // the uncompressed length so we can inflate into an array of the right size
+            writeVarInt(dataOut, length);
+        }
+        dataOut.write(payload);
+        dataOut.flush();
+    }
+
+    @Override
+    public DefaultExchangeHolder decode(CamelContext camelContext, InputStream in) throws IOException, ClassNotFoundException {
+        int b0 = in.read();
+        int b1 = in.read();
+        if (b0 == SERIALIZATION_MAGIC_0 && b1 == SERIALIZATION_MAGIC_1) {
+            // data written using java serialization so put back the bytes we have read
+            InputStream head = new ByteArrayInputStream(new byte[]{(byte) b0, (byte) b1});
+            return serializationCodec.decode(camelContext, new SequenceInputStream(head, in));
+        }
+        if (b0 != MAGIC_0 || b1 != MAGIC_1) {
+            throw new StreamCorruptedException("Data is not in a supported exchange format");
+        }
+
+        DataInputStream dataIn = new DataInputStream(in);
+        int version = dataIn.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported exchange format version: " + version);
+        }
+        int flags = dataIn.readUnsignedByte();
+        byte[] payload;
+        int length = readVarInt(dataIn);
+        if ((flags & FLAG_COMPRESSED) != 0) {
+            int uncompressedLength = readVarInt(dataIn);
+            payload = inflate(readPayload(dataIn, length), uncompressedLength);
+        } else {
+            payload = readPayload(dataIn, length);
+        }
+
+        // the payload is read from a byte array so we know how many bytes are remaining when reading the values
+        return readHolder(camelContext, new DataInputStream(new ByteArrayInputStream(payload)));
+    }
+
+    /**
+     * Reads the given number of bytes from the stream. The length is read from the data which cannot be trusted,
+     * so the array is not allocated up front but grows as the bytes are read.
+     */
+    private static byte[] readPayload(InputStream in, int length) throws IOException {
+        ByteArrayOutputStream answer = new ByteArrayOutputStream(Math.min(length, BUFFER_SIZE));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int remaining = length;
+        while (remaining > 0) {
+            int n = in.read(buffer, 0, Math.min(buffer.length, remaining));
+            if (n < 0) {
+                throw new EOFException("Exchange data is truncated");
+            }
+            answer.write(buffer, 0, n);
+            remaining -= n;
+        }
+        return answer.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] data, int length) throws IOException {
+        ByteArrayOutputStream answer = new ByteArrayOutputStream(Math.min(length, BUFFER_SIZE));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new EOFException("Compressed exchange data is truncated");
+                }
+                if (answer.size() + n > length) {
+                    throw new StreamCorruptedException("Compressed exchange data is larger than its declared length: " + length);
+                }
+                answer.write(buffer, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new StreamCorruptedException("Compressed exchange data is corrupted: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+        if (answer.size() != length) {
+            throw new EOFException("Compressed exchange data is truncated");
+        }
+        return answer.toByteArray();
+    }
+
+    private static void writeHolder(DefaultExchangeHolder holder, DataOutputStream out) throws IOException {
+        writeString(out, holder.getExchangeId());
+        int faults = 0;
+        if (Boolean.TRUE.equals(holder.getInFaultFlag())) {
+            faults |= FLAG_IN_FAULT;
+        }
+        if (Boolean.TRUE.equals(holder.getOutFaultFlag())) {
+            faults |= FLAG_OUT_FAULT;
+        }
+        out.writeByte(faults);
+        writeValue(out, holder.getInBody());
+        writeMap(out, holder.getInHeaders());
+        writeValue(out, holder.getOutBody());
+        writeMap(out, holder.getOutHeaders());
+        writeMap(out, holder.getProperties());
+        writeValue(out, holder.getException());
+    }
+
+    private static DefaultExchangeHolder readHolder(CamelContext camelContext, DataInputStream in) throws IOException, ClassNotFoundException {
+        String exchangeId = readString(in);
+        int faults = in.readUnsignedByte();
+        Object inBody = readValue(camelContext, in);
+        Map<String, Object> inHeaders = readMap(camelContext, in);
+        Object outBody = readValue(camelContext, in);
+        Map<String, Object> outHeaders = readMap(camelContext, in);
+        Map<String, Object> properties = readMap(camelContext, in);
+        Object exception = readValue(camelContext, in);
+        if (exception != null && !(exception instanceof Exception)) {
+            throw new StreamCorruptedException("Exchange exception is not an exception: " + exception.getClass().getName());
+        }
+        return DefaultExchangeHolder.create(exchangeId, inBody, inHeaders, (faults & FLAG_IN_FAULT) != 0,
+            outBody, outHeaders, (faults & FLAG_OUT_FAULT) != 0, properties, (Exception) exception);
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        // zero is used for null
+        if (map == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, map.size() + 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(CamelContext camelContext, DataInputStream in) throws IOException, ClassNotFoundException {
+        int size = readVarInt(in) - 1;
+        if (size < 0) {
+            return null;
+        }
+        // each entry takes at least two bytes
+        checkLength(in, size * 2L);
+        Map<String, Object> answer = new LinkedHashMap<String, Object>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            answer.put(key, readValue(camelContext, in));
+        }
+        return answer;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            out.writeByte(TYPE_BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INT);
+            writeVarLong(out, zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            writeVarLong(out, zigZag((Long) value));
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            writeVarLong(out, zigZag((Short) value));
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(TYPE_CHAR);
+            writeVarInt(out, (Character) value);
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(TYPE_DATE);
+            writeVarLong(out, zigZag(((Date) value).getTime()));
+        } else if (value.getClass() == BigInteger.class) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (value.getClass() == BigDecimal.class) {
+            out.writeByte(TYPE_BIG_DECIMAL);
+            writeVarLong(out, zigZag(((BigDecimal) value).scale()));
+            writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else {
+            // any other type has already been checked to be serializable by the holder
+            out.writeByte(TYPE_SERIALIZED);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream objectOut = new ObjectOutputStream(bytes);
+            objectOut.writeObject(value);
+            objectOut.close();
+            writeBytes(out, bytes.toByteArray());
+        }
+    }
+
+    private static Object readValue(CamelContext camelContext, DataInputStream in) throws IOException, ClassNotFoundException {
+        int type = in.readUnsignedByte();
+        switch (type) {
+        case TYPE_NULL:
+            return null;
+        case TYPE_STRING:
+            return new String(readBytes(in), StandardCharsets.UTF_8);
+        case TYPE_BYTES:
+            return readBytes(in);
+        case TYPE_INT:
+            return (int) unZigZag(readVarLong(in));
+        case TYPE_LONG:
+            return unZigZag(readVarLong(in));
+        case TYPE_TRUE:
+            return Boolean.TRUE;
+        case TYPE_FALSE:
+            return Boolean.FALSE;
+        case TYPE_DOUBLE:
+            return in.readDouble();
+        case TYPE_FLOAT:
+            return in.readFloat();
+        case TYPE_SHORT:
+            return (short) unZigZag(readVarLong(in));
+        case TYPE_BYTE:
+            return in.readByte();
+        case TYPE_CHAR:
+            return (char) readVarInt(in);
+        case TYPE_DATE:
+            return new Date(unZigZag(readVarLong(in)));
+        case TYPE_BIG_INTEGER:
+            return new BigInteger(readBytes(in));
+        case TYPE_BIG_DECIMAL:
+            int scale = (int) unZigZag(readVarLong(in));
+            return new BigDecimal(new BigInteger(readBytes(in)), scale);
+        case TYPE_SERIALIZED:
+            return new CamelObjectInputStream(new ByteArrayInputStream(readBytes(in)), camelContext).readObject();
+        default:
+            throw new StreamCorruptedException("Unknown value type: " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        // zero is used for null
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        checkLength(in, length);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        checkLength(in, length);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Checks the length read from the data before allocating anything of that size, as the data may be corrupted.
+     * The stream is on top of the payload byte array, so the available bytes are the remaining bytes.
+     */
+    private static void checkLength(DataInputStream in, long length) throws IOException {
+        if (length > in.available()) {
+            throw new StreamCorruptedException("Length " + length + " exceeds the remaining " + in.available() + " bytes of the exchange data");
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Length out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable length number");
+    }
+
+}
@@ -37,6 +37,9 @@ import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -282,6 +285,10 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     private final List<RouteStartupOrder> routeStartupOrder = new ArrayList<RouteStartupOrder>();
     // start auto assigning route ids using numbering 1000 and upwards
     private int defaultRouteStartupOrder = 1000;
+    private Boolean parallelRouteStartup = Boolean.FALSE;
+    private Boolean lazyRouteInit = Boolean.FALSE;
+    private Boolean startupRecorderEnabled = Boolean.FALSE;
+    private final StartupRecorder startupRecorder = new StartupRecorder();
     private ShutdownStrategy shutdownStrategy = new DefaultShutdownStrategy(this);
     private ShutdownRoute shutdownRoute = ShutdownRoute.Default;
     private ShutdownRunningTask shutdownRunningTask = ShutdownRunningTask.CompleteCurrentTaskOnly;
@@ -446,6 +453,8 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                 if (log.isDebugEnabled()) {
                     log.debug("Using ComponentResolver: {} to resolve component with name: {}", getComponentResolver(), name);
                 }
+                boolean recording = isStartupRecording();
+                long start = recording ? System.nanoTime() : 0;
                 component = getComponentResolver().resolveComponent(name, this);
                 if (component != null) {
                     component.setCamelContext(this);
@@ -456,6 +465,9 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                             startService((Service)component);
                         }
                     }
+                    if (recording) {
+                        startupRecorder.record(StartupRecorder.COMPONENT, name, start);
+                    }
                 }
             } catch (Exception e) {
                 throw new RuntimeCamelException("Cannot auto create component: " + name, e);
@@ -608,6 +620,8 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         EndpointKey key = getEndpointKey(uri);
         answer = endpoints.get(key);
         if (answer == null) {
+            boolean recording = isStartupRecording();
+            long start = recording ? System.nanoTime() : 0;
             try {
                 // Use the URI prefix to find the component.
                 String splitURI[] = ObjectHelper.splitOnCharacter(uri, ":", 2);
@@ -669,6 +683,9 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                 if (answer != null) {
                     addService(answer);
                     answer = addEndpointToRegistry(uri, answer);
+                    if (recording) {
+                        startupRecorder.record(StartupRecorder.ENDPOINT, URISupport.sanitizeUri(uri), start);
+                    }
                 }
             } catch (Exception e) {
                 throw new ResolveEndpointFailedException(uri, e);
@@ -2684,6 +2701,75 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         getRoutePolicyFactories().add(routePolicyFactory);
     }
 
+    /**
+     * Whether routes are lazy initialized by default.
+     */
+    public Boolean isLazyRouteInit() {
+        return lazyRouteInit;
+    }
+
+    /**
+     * Sets whether routes are lazy initialized by default, which can be overridden per route using lazyInit.
+     * <p/>
+     * The consumers of lazy initialized routes are started as usual, but the processors of the routes,
+     * including the producers used for sending to endpoints, are created when the first message is routed.
+     * This allows to start Camel faster with many routes which seldom are in use.
+     * <p/>
+     * This is disabled by default.
+     */
+    public void setLazyRouteInit(Boolean lazyRouteInit) {
+        this.lazyRouteInit = lazyRouteInit;
+    }
+
+    /**
+     * Whether the routes which have not been configured with a startupOrder are started in parallel.
+     */
+    public Boolean isParallelRouteStartup() {
+        return parallelRouteStartup;
+    }
+
+    /**
+     * Sets whether the routes which have not been configured with a startupOrder should be started in parallel,
+     * which can speedup starting Camel when having many routes, or routes which are slow to start.
+     * <p/>
+     * The routes configured with a startupOrder are started one by one in their order before and after the other routes.
+     * The routes are started using a thread pool created from the default thread pool profile.
+     * <p/>
+     * This is disabled by default.
+     */
+    public void setParallelRouteStartup(Boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
+    /**
+     * Whether the time spent starting the components, endpoints and routes is recorded.
+     */
+    public Boolean isStartupRecorderEnabled() {
+        return startupRecorderEnabled;
+    }
+
+    /**
+     * Sets whether the time spent starting the components, endpoints and routes should be recorded,
+     * which is logged as a summary when Camel has been started, and is available from JMX.
+     * <p/>
+     * This is disabled by default.
+     */
+    public void setStartupRecorderEnabled(Boolean startupRecorderEnabled) {
+        this.startupRecorderEnabled = startupRecorderEnabled;
+    }
+
+    /**
+     * Gets the recorder with the time spent starting the components, endpoints and routes.
+     */
+    public StartupRecorder getStartupRecorder() {
+        return startupRecorder;
+    }
+
+    private boolean isStartupRecording() {
+        // only record while starting so endpoints created at runtime are not kept
+        return startupRecorderEnabled != null && startupRecorderEnabled && isStarting();
+    }
+
     public void setStreamCaching(Boolean cache) {
         this.streamCache = cache;
     }
@@ -2990,6 +3076,9 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                 }
                 log.info("Total " + getRoutes().size() + " routes, of which " + started + " are started.");
                 log.info("Apache Camel " + getVersion() + " (CamelContext: " + getName() + ") started in " + TimeUtils.printDuration(stopWatch.taken()));
+                if (isStartupRecorderEnabled() != null && isStartupRecorderEnabled()) {
+                    log.info("Startup summary of CamelContext: " + getName() + startupRecorder.summary(10));
+                }
             }
             EventHelper.notifyCamelContextStarted(this);
         }
@@ -3057,6 +3146,8 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     }
 
     private void doStartCamel() throws Exception {
+        // only keep the recorded steps from the latest start
+        startupRecorder.clear();
 
         // custom properties may use property placeholders so resolve those early on
         if (globalOptions != null && !globalOptions.isEmpty()) {
@@ -3210,7 +3301,15 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         }
 
         // start components
-        startServices(components.values());
+        if (isStartupRecording()) {
+            for (Map.Entry<String, Component> entry : components.entrySet()) {
+                long start = System.nanoTime();
+                startServices(Collections.singletonList(entry.getValue()));
+                startupRecorder.record(StartupRecorder.COMPONENT, entry.getKey(), start);
+            }
+        } else {
+            startServices(components.values());
+        }
 
         // start the route definitions before the routes is started
         startRouteDefinitions(routeDefinitions);
@@ -3690,17 +3789,105 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         return true;
     }
 
-    private void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws Exception {
+    private void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, final boolean autoStartup) throws Exception {
         // now prepare the routes by starting its services before we start the input
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            // defer starting inputs till later as we want to prepare the routes by starting
-            // all their processors and child services etc.
-            // then later we open the floods to Camel by starting the inputs
-            // what this does is to ensure Camel is more robust on starting routes as all routes
-            // will then be prepared in time before we start inputs which will consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            log.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-            routeService.warmUp();
+        doForEachRouteGroup(inputs, new RouteStartupTask() {
+            public void run(DefaultRouteStartupOrder order) throws Exception {
+                // defer starting inputs till later as we want to prepare the routes by starting
+                // all their processors and child services etc.
+                // then later we open the floods to Camel by starting the inputs
+                // what this does is to ensure Camel is more robust on starting routes as all routes
+                // will then be prepared in time before we start inputs which will consume messages to be routed
+                RouteService routeService = order.getRouteService();
+                log.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+                boolean recording = isStartupRecording();
+                long start = recording ? System.nanoTime() : 0;
+                routeService.warmUp();
+                if (recording) {
+                    startupRecorder.record(StartupRecorder.ROUTE, routeService.getId(), start);
+                }
+            }
+        });
+    }
+
+    /**
+     * A task for starting a single route, which may run in parallel with the other routes in the same group.
+     */
+    private interface RouteStartupTask {
+        void run(DefaultRouteStartupOrder order) throws Exception;
+    }
+
+    /**
+     * Runs the task for each of the routes in their startup order.
+     * <p/>
+     * If parallel route startup is enabled, then the routes which have not been configured with a startupOrder,
+     * and therefore have no requirements to the order they are started in, are grouped together and run in parallel.
+     * The routes configured with a startupOrder are run one by one, and the next group is not run before the previous
+     * group is complete.
+     */
+    private void doForEachRouteGroup(Map<Integer, DefaultRouteStartupOrder> inputs, RouteStartupTask task) throws Exception {
+        boolean parallel = isParallelRouteStartup() != null && isParallelRouteStartup() && inputs.size() > 1;
+        if (!parallel) {
+            for (DefaultRouteStartupOrder order : inputs.values()) {
+                task.run(order);
+            }
+            return;
+        }
+
+        List<List<DefaultRouteStartupOrder>> groups = new ArrayList<List<DefaultRouteStartupOrder>>();
+        List<DefaultRouteStartupOrder> group = null;
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            boolean ordered = order.getRouteService().getRouteDefinition().getStartupOrder() != null;
+            if (ordered || group == null) {
+                group = new ArrayList<DefaultRouteStartupOrder>();
+                groups.add(group);
+            }
+            group.add(order);
+            if (ordered) {
+                // the next route should not be in the same group
+                group = null;
+            }
+        }
+
+        ExecutorService executor = null;
+        try {
+            for (List<DefaultRouteStartupOrder> list : groups) {
+                if (list.size() == 1) {
+                    task.run(list.get(0));
+                    continue;
+                }
+                if (executor == null) {
+                    executor = getExecutorServiceManager().newDefaultThreadPool(this, "RouteStartup");
+                }
+                log.debug("Starting {} routes in parallel", list.size());
+                List<Future<Void>> futures = new ArrayList<Future<Void>>(list.size());
+                for (final DefaultRouteStartupOrder order : list) {
+                    futures.add(executor.submit(new Callable<Void>() {
+                        public Void call() throws Exception {
+                            task.run(order);
+                            return null;
+                        }
+                    }));
+                }
+                // wait for all the routes in the group, and fail with the first error
+                Exception cause = null;
+                for (Future<Void> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        if (cause == null) {
+                            cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : ObjectHelper.wrapRuntimeCamelException(e.getCause());
+                        }
+                    }
+                }
+                if (cause != null) {
+                    throw cause;
+                }
+            }
+        } finally {
+            if (executor != null) {
+                getExecutorServiceManager().shutdown(executor);
+            }
         }
     }
 
@@ -3712,75 +3899,108 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         doStartOrResumeRouteConsumers(inputs, false, addingRoutes);
     }
 
-    private void doStartOrResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute) throws Exception {
-        List<Endpoint> routeInputs = new ArrayList<Endpoint>();
+    private void doStartOrResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, final boolean resumeOnly, final boolean addingRoute) throws Exception {
+        final List<Endpoint> routeInputs = new ArrayList<Endpoint>();
 
+        // check for clashes up front, as the consumers may be started in parallel
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
             RouteService routeService = entry.getValue().getRouteService();
-
-            // if we are starting camel, then skip routes which are configured to not be auto started
-            boolean autoStartup = routeService.getRouteDefinition().isAutoStartup(this) && this.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                log.info("Skipping starting of route " + routeService.getId() + " as its configured with autoStartup=false");
+            if (addingRoute && !isRouteAutoStartup(routeService)) {
                 continue;
             }
+            doCheckRouteConsumers(entry.getValue(), routeInputs);
+        }
 
-            // start the service
-            for (Consumer consumer : routeService.getInputs().values()) {
-                Endpoint endpoint = consumer.getEndpoint();
+        doForEachRouteGroup(inputs, new RouteStartupTask() {
+            public void run(DefaultRouteStartupOrder order) throws Exception {
+                doStartOrResumeRouteConsumer(order, resumeOnly, addingRoute);
+            }
+        });
+    }
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(routeService.getId(),
-                        "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+    private boolean isRouteAutoStartup(RouteService routeService) throws Exception {
+        return routeService.getRouteDefinition().isAutoStartup(this) && this.isAutoStartup();
+    }
 
-                // check for multiple consumer violations with existing routes which
-                // have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<Endpoint>();
-                for (Route existingRoute : getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
+    private void doCheckRouteConsumers(DefaultRouteStartupOrder order, List<Endpoint> routeInputs) throws Exception {
+        Route route = order.getRoute();
+        RouteService routeService = order.getRouteService();
+
+        for (Consumer consumer : routeService.getInputs().values()) {
+            Endpoint endpoint = consumer.getEndpoint();
+
+            // check multiple consumer violation, with the other routes to be started
+            if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+                throw new FailedToStartRouteException(routeService.getId(),
+                    "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+            }
+
+            // check for multiple consumer violations with existing routes which
+            // have already been started, or is currently starting
+            List<Endpoint> existingEndpoints = new ArrayList<Endpoint>();
+            for (Route existingRoute : getRoutes()) {
+                if (route.getId().equals(existingRoute.getId())) {
+                    // skip ourselves
+                    continue;
                 }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(routeService.getId(),
-                            "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                Endpoint existing = existingRoute.getEndpoint();
+                ServiceStatus status = getRouteStatus(existingRoute.getId());
+                if (status != null && (status.isStarted() || status.isStarting())) {
+                    existingEndpoints.add(existing);
                 }
+            }
+            if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+                throw new FailedToStartRouteException(routeService.getId(),
+                        "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+            }
 
-                // start the consumer on the route
-                log.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    log.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    log.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
-                }
+            routeInputs.add(endpoint);
+        }
+    }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    log.info("Route: " + route.getId() + " resumed and consuming from: " + endpoint);
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : lifecycleStrategies) {
-                        strategy.onServiceAdd(this, consumer, route);
-                    }
-                    startService(consumer);
-                    log.info("Route: " + route.getId() + " started and consuming from: " + endpoint);
-                }
+    private void doStartOrResumeRouteConsumer(DefaultRouteStartupOrder startupOrder, boolean resumeOnly, boolean addingRoute) throws Exception {
+        Integer order = startupOrder.getStartupOrder();
+        Route route = startupOrder.getRoute();
+        RouteService routeService = startupOrder.getRouteService();
+
+        // if we are starting camel, then skip routes which are configured to not be auto started
+        boolean autoStartup = isRouteAutoStartup(routeService);
+        if (addingRoute && !autoStartup) {
+            log.info("Skipping starting of route " + routeService.getId() + " as its configured with autoStartup=false");
+            return;
+        }
+
+        boolean recording = isStartupRecording();
+        long start = recording ? System.nanoTime() : 0;
+
+        // start the service
+        for (Consumer consumer : routeService.getInputs().values()) {
+            Endpoint endpoint = consumer.getEndpoint();
+
+            // start the consumer on the route
+            log.debug("Route: {} >>> {}", route.getId(), route);
+            if (resumeOnly) {
+                log.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
+            } else {
+                log.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+            }
 
-                routeInputs.add(endpoint);
+            if (resumeOnly && route.supportsSuspension()) {
+                // if we are resuming and the route can be resumed
+                ServiceHelper.resumeService(consumer);
+                log.info("Route: " + route.getId() + " resumed and consuming from: " + endpoint);
+            } else {
+                // when starting we should invoke the lifecycle strategies
+                for (LifecycleStrategy strategy : lifecycleStrategies) {
+                    strategy.onServiceAdd(this, consumer, route);
+                }
+                startService(consumer);
+                log.info("Route: " + route.getId() + " started and consuming from: " + endpoint);
+            }
 
-                // add to the order which they was started, so we know how to stop them in reverse order
-                // but only add if we haven't already registered it before (we dont want to double add when restarting)
+            // add to the order which they was started, so we know how to stop them in reverse order
+            // but only add if we haven't already registered it before (we dont want to double add when restarting)
+            synchronized (routeStartupOrder) {
                 boolean found = false;
                 for (RouteStartupOrder other : routeStartupOrder) {
                     if (other.getRoute().getId().equals(route.getId())) {
@@ -3789,16 +4009,20 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                     }
                 }
                 if (!found) {
-                    routeStartupOrder.add(entry.getValue());
+                    routeStartupOrder.add(startupOrder);
                 }
             }
+        }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as they are already warmed up)
-                routeService.start(false);
-            }
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as they are already warmed up)
+            routeService.start(false);
+        }
+
+        if (recording) {
+            startupRecorder.record(StartupRecorder.ROUTE, routeService.getId(), start);
         }
     }
 
@@ -499,6 +499,28 @@ public final class DefaultExchange implements Exchange {
         return answer;
     }
 
+    /**
+     * Resets this exchange to a pristine state so it can be reused by a {@link DefaultExchangePool}.
+     * <p/>
+     * The in message is only recycled if it is a plain {@link DefaultMessage} which still belongs
+     * to this exchange, any other message is dropped and lazily re-created on demand.
+     */
+    void reset(ExchangePattern pattern) {
+        if (in != null && in.getClass() == DefaultMessage.class && ((DefaultMessage) in).getExchange() == this) {
+            ((DefaultMessage) in).reset();
+        } else {
+            in = null;
+        }
+        out = null;
+        properties = null;
+        exception = null;
+        exchangeId = null;
+        unitOfWork = null;
+        fromRouteId = null;
+        onCompletions = null;
+        this.pattern = pattern;
+    }
+
     /**
      * Configures the message after it has been set on the exchange
      */
@@ -77,6 +77,39 @@ public class DefaultExchangeHolder implements Serializable {
     private Map<String, Object> properties;
     private Exception exception;
 
+    /**
+     * Creates a payload object with the given information, which is used by a {@link org.apache.camel.spi.ExchangeCodec}
+     * to recreate the payload it has decoded.
+     * <p/>
+     * The values are used as is, which means they are not checked for being serializable.
+     *
+     * @param exchangeId   the exchange id
+     * @param inBody       the in body
+     * @param inHeaders    the in headers, can be <tt>null</tt>
+     * @param inFaultFlag  whether the in message is a fault
+     * @param outBody      the out body, can be <tt>null</tt> if there is no out message
+     * @param outHeaders   the out headers, can be <tt>null</tt>
+     * @param outFaultFlag whether the out message is a fault
+     * @param properties   the exchange properties, can be <tt>null</tt>
+     * @param exception    the exception, can be <tt>null</tt>
+     * @return the holder object with the given information
+     */
+    public static DefaultExchangeHolder create(String exchangeId, Object inBody, Map<String, Object> inHeaders, Boolean inFaultFlag,
+                                               Object outBody, Map<String, Object> outHeaders, Boolean outFaultFlag,
+                                               Map<String, Object> properties, Exception exception) {
+        DefaultExchangeHolder payload = new DefaultExchangeHolder();
+        payload.exchangeId = exchangeId;
+        payload.inBody = inBody;
+        payload.inHeaders = inHeaders;
+        payload.inFaultFlag = inFaultFlag;
+        payload.outBody = outBody;
+        payload.outHeaders = outHeaders;
+        payload.outFaultFlag = outFaultFlag;
+        payload.properties = properties;
+        payload.exception = exception;
+        return payload;
+    }
+
     /**
      * Creates a payload object with the information from the given exchange.
      *
@@ -215,6 +248,42 @@ public class DefaultExchangeHolder implements Serializable {
         payload.properties.put(key, property);
     }
 
+    public String getExchangeId() {
+        return exchangeId;
+    }
+
+    public Object getInBody() {
+        return inBody;
+    }
+
+    public Map<String, Object> getInHeaders() {
+        return inHeaders;
+    }
+
+    public Boolean getInFaultFlag() {
+        return inFaultFlag;
+    }
+
+    public Object getOutBody() {
+        return outBody;
+    }
+
+    public Map<String, Object> getOutHeaders() {
+        return outHeaders;
+    }
+
+    public Boolean getOutFaultFlag() {
+        return outFaultFlag;
+    }
+
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    public Exception getException() {
+        return exception;
+    }
+
     public String toString() {
         StringBuilder sb = new StringBuilder("DefaultExchangeHolder[exchangeId=").append(exchangeId);
         sb.append("inBody=").append(inBody).append(", outBody=").append(outBody);
@@ -0,0 +1,220 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ExchangePool;
+import org.apache.camel.support.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link ExchangePool} which recycles {@link DefaultExchange} instances created from a given endpoint.
+ * <p/>
+ * Leak detection is enabled by default when debug logging is enabled for this class, and keeps track
+ * of the exchanges which are currently acquired. Exchanges which are released twice are then rejected,
+ * and exchanges which are never released are logged when the pool is stopped.
+ */
+@ManagedResource(description = "Managed ExchangePool")
+public class DefaultExchangePool extends ServiceSupport implements ExchangePool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultExchangePool.class);
+
+    private final Endpoint endpoint;
+    private final int capacity;
+    private final BlockingQueue<DefaultExchange> pool;
+    private final Set<Exchange> acquired = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private Boolean leakDetection;
+
+    public DefaultExchangePool(Endpoint endpoint, int capacity) {
+        ObjectHelper.notNull(endpoint, "endpoint");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        this.endpoint = endpoint;
+        this.capacity = capacity;
+        this.pool = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @ManagedAttribute(description = "Endpoint URI")
+    public String getEndpointUri() {
+        return endpoint.getEndpointUri();
+    }
+
+    @Override
+    public Exchange acquire() {
+        Exchange answer = pool.poll();
+        if (answer != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            answer = endpoint.createExchange();
+        }
+        if (isLeakDetection()) {
+            acquired.add(answer);
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        if (isLeakDetection() && !acquired.remove(exchange)) {
+            LOG.warn("Exchange {} released to pool for {} was not acquired from the pool or has already been released", exchange, endpoint);
+            discarded.increment();
+            return false;
+        }
+
+        // only recycle exchanges created by this pool which are no longer in-flight
+        if (!(exchange instanceof DefaultExchange) || exchange.getFromEndpoint() != endpoint || exchange.getUnitOfWork() != null) {
+            LOG.trace("Discarding exchange {} which cannot be recycled", exchange);
+            discarded.increment();
+            return false;
+        }
+
+        DefaultExchange answer = (DefaultExchange) exchange;
+        answer.reset(getExchangePattern());
+        if (isRunAllowed() && pool.offer(answer)) {
+            released.increment();
+            return true;
+        }
+        discarded.increment();
+        return false;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Maximum number of idle exchanges in the pool")
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Current number of idle exchanges in the pool")
+    public int getSize() {
+        return pool.size();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of exchanges acquired from the pool")
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of exchanges created because the pool was empty")
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of exchanges recycled back into the pool")
+    public long getReleased() {
+        return released.sum();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of exchanges which could not be recycled")
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+
+    @ManagedAttribute(description = "Number of exchanges currently acquired (only tracked with leak detection)")
+    public int getAcquired() {
+        return acquired.size();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether leak detection is enabled")
+    public boolean isLeakDetection() {
+        return leakDetection != null && leakDetection;
+    }
+
+    /**
+     * Whether to keep track of acquired exchanges to detect exchanges which are released twice or never released.
+     * <p/>
+     * Is by default enabled if debug logging is enabled for this class.
+     */
+    public void setLeakDetection(boolean leakDetection) {
+        this.leakDetection = leakDetection;
+    }
+
+    @Override
+    @ManagedOperation(description = "Reset counters")
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        released.reset();
+        discarded.reset();
+    }
+
+    private ExchangePattern getExchangePattern() {
+        if (endpoint instanceof DefaultEndpoint) {
+            return ((DefaultEndpoint) endpoint).getExchangePattern();
+        }
+        return ExchangePattern.InOnly;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (leakDetection == null) {
+            leakDetection = LOG.isDebugEnabled();
+        }
+        LOG.debug("Starting ExchangePool for {} with capacity: {} and leak detection: {}", new Object[]{endpoint, capacity, leakDetection});
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        pool.clear();
+
+        if (!acquired.isEmpty()) {
+            List<Exchange> leaked = new ArrayList<>(acquired);
+            LOG.warn("There are {} exchanges acquired from the pool for {} which has not been released: {}", new Object[]{leaked.size(), endpoint, leaked});
+            acquired.clear();
+        }
+
+        LOG.debug("Stopped ExchangePool for {} (hits: {}, misses: {}, released: {}, discarded: {})",
+                new Object[]{endpoint, getHits(), getMisses(), getReleased(), getDiscarded()});
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangePool[" + endpoint + "]";
+    }
+}
@@ -23,9 +23,12 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
@@ -37,34 +40,75 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The exchanges are tracked by their identity so the exchange id is not generated only for bookkeeping,
+ * and each route has a slot with a striped counter which is created once, so adding and removing
+ * an exchange to a route does not create any objects. The exchanges are also kept ordered by the sequence
+ * in which they were added, both in total and per route they were started from, so the oldest inflight
+ * exchange is found without scanning all the inflight exchanges.
  *
  * @version 
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
-    private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<String, Exchange>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<String, AtomicInteger>();
+    // exchanges do not override equals/hashCode so they are tracked by their identity
+    private final ConcurrentMap<Exchange, InflightSlot> inflight = new ConcurrentHashMap<Exchange, InflightSlot>();
+    private final ConcurrentMap<String, RouteInflight> routes = new ConcurrentHashMap<String, RouteInflight>();
+    private final RouteInflight all = new RouteInflight();
+    private final AtomicLong sequence = new AtomicLong();
 
     public void add(Exchange exchange) {
-        inflight.put(exchange.getExchangeId(), exchange);
+        long number = sequence.incrementAndGet();
+        String fromRouteId = exchange.getFromRouteId();
+        RouteInflight route = fromRouteId != null ? getOrCreateRoute(fromRouteId) : null;
+        if (inflight.putIfAbsent(exchange, new InflightSlot(number, route)) == null) {
+            all.started.put(number, exchange);
+            if (route != null) {
+                route.started.put(number, exchange);
+            }
+        }
     }
 
     public void remove(Exchange exchange) {
-        inflight.remove(exchange.getExchangeId());
+        InflightSlot slot = inflight.remove(exchange);
+        if (slot != null) {
+            all.started.remove(slot.sequence);
+            if (slot.route != null) {
+                slot.route.started.remove(slot.sequence);
+            }
+        }
     }
 
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.putIfAbsent(routeId, new AtomicInteger(1));
-        if (existing != null) {
-            existing.incrementAndGet();
+        RouteInflight route = getOrCreateRoute(routeId);
+        route.count.increment();
+
+        // an exchange created by a producer template is added before it is routed, so it may first now be known
+        // which route it is started from
+        InflightSlot slot = inflight.get(exchange);
+        if (slot != null && slot.route == null && routeId.equals(exchange.getFromRouteId())) {
+            slot.route = route;
+            route.started.put(slot.sequence, exchange);
+            if (inflight.get(exchange) != slot) {
+                // the exchange was removed concurrently
+                route.started.remove(slot.sequence);
+            }
+        }
+    }
+
+    private RouteInflight getOrCreateRoute(String routeId) {
+        RouteInflight route = routes.get(routeId);
+        if (route == null) {
+            route = routes.computeIfAbsent(routeId, k -> new RouteInflight());
         }
+        return route;
     }
 
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        if (existing != null) {
-            existing.decrementAndGet();
+        RouteInflight route = routes.get(routeId);
+        if (route != null) {
+            route.count.decrement();
         }
     }
 
@@ -79,13 +123,28 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public void removeRoute(String routeId) {
-        routeCount.remove(routeId);
+        routes.remove(routeId);
     }
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        RouteInflight route = routes.get(routeId);
+        return route != null ? route.count.intValue() : 0;
+    }
+
+    @Override
+    public InflightExchange oldest(String fromRouteId) {
+        RouteInflight route = all;
+        if (fromRouteId != null) {
+            route = routes.get(fromRouteId);
+            if (route == null) {
+                return null;
+            }
+        }
+
+        // the exchanges are ordered by the sequence they were added, so the first is the oldest
+        Map.Entry<Long, Exchange> oldest = route.started.firstEntry();
+        return oldest != null ? new InflightExchangeEntry(oldest.getValue()) : null;
     }
 
     @Override
@@ -110,11 +169,11 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         List<Exchange> values;
         if (fromRouteId == null) {
             // all values
-            values = new ArrayList<Exchange>(inflight.values());
+            values = new ArrayList<Exchange>(inflight.keySet());
         } else {
             // only if route match
             values = new ArrayList<Exchange>();
-            for (Exchange exchange : inflight.values()) {
+            for (Exchange exchange : inflight.keySet()) {
                 String exchangeRouteId = exchange.getFromRouteId();
                 if (fromRouteId.equals(exchangeRouteId)) {
                     values.add(exchange);
@@ -162,7 +221,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         } else {
             LOG.debug("Shutting down with no inflight exchanges.");
         }
-        routeCount.clear();
+        routes.clear();
     }
 
     private static long getExchangeDuration(Exchange exchange) {
@@ -174,6 +233,31 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         return duration;
     }
 
+    /**
+     * The inflight slot of a route.
+     */
+    private static final class RouteInflight {
+
+        // striped counter as many threads may route exchanges through the same route concurrently
+        private final LongAdder count = new LongAdder();
+        // the exchanges started from the route ordered by the sequence they were added
+        private final ConcurrentSkipListMap<Long, Exchange> started = new ConcurrentSkipListMap<Long, Exchange>();
+    }
+
+    /**
+     * Where an inflight exchange is kept, so it can be removed again without searching.
+     */
+    private static final class InflightSlot {
+
+        private final long sequence;
+        private volatile RouteInflight route;
+
+        private InflightSlot(long sequence, RouteInflight route) {
+            this.sequence = sequence;
+            this.route = route;
+        }
+    }
+
     private static final class InflightExchangeEntry implements InflightExchange {
 
         private final Exchange exchange;
@@ -220,6 +220,16 @@ public class DefaultMessage extends MessageSupport {
         return headers != null && !headers.isEmpty();
     }
 
+    @Override
+    void reset() {
+        super.reset();
+        // drop rather than clear the maps as they may have been handed out via getHeaders()
+        fault = false;
+        headers = null;
+        attachments = null;
+        attachmentObjects = null;
+    }
+
     public DefaultMessage newInstance() {
         return new DefaultMessage();
     }
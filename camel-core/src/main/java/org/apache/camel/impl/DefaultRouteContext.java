@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
+import org.apache.camel.FailedToCreateRouteException;
 import org.apache.camel.NoSuchEndpointException;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
@@ -257,6 +258,30 @@ public class DefaultRouteContext implements RouteContext {
         eventDrivenProcessors.add(processor);
     }
 
+    /**
+     * Creates the processors of the given outputs, which is used by lazy initialized routes
+     * where the processors are created when the first message is routed.
+     *
+     * @param outputs the outputs of the route
+     * @return the processors which was added as event driven processors by the outputs
+     */
+    List<Processor> createEventDrivenProcessors(List<ProcessorDefinition<?>> outputs) throws Exception {
+        int index = eventDrivenProcessors.size();
+        try {
+            for (ProcessorDefinition<?> output : outputs) {
+                try {
+                    output.addRoutes(this, routes);
+                } catch (Exception e) {
+                    throw new FailedToCreateRouteException(route.getId(), route.toString(), output.toString(), e);
+                }
+            }
+            return new ArrayList<Processor>(eventDrivenProcessors.subList(index, eventDrivenProcessors.size()));
+        } finally {
+            // the route has already been committed so no need to keep the processors, also if creating them failed
+            eventDrivenProcessors.subList(index, eventDrivenProcessors.size()).clear();
+        }
+    }
+
     public List<InterceptStrategy> getInterceptStrategies() {
         return interceptStrategies;
     }
@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.DelegateProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.Navigate;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.Pipeline;
+import org.apache.camel.support.ServiceSupport;
+import org.apache.camel.util.AsyncProcessorConverterHelper;
+import org.apache.camel.util.AsyncProcessorHelper;
+import org.apache.camel.util.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lightweight stub used as the processor of a lazy initialized route.
+ * <p/>
+ * The processors of the route, including the producers used for sending to endpoints, are not created
+ * when the route is started, but when the first message is routed. Until then the route is <i>dormant</i>.
+ */
+public class LazyRouteProcessor extends ServiceSupport implements AsyncProcessor, Navigate<Processor> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LazyRouteProcessor.class);
+
+    private final DefaultRouteContext routeContext;
+    private final List<ProcessorDefinition<?>> outputs;
+    private volatile AsyncProcessor processor;
+
+    public LazyRouteProcessor(DefaultRouteContext routeContext, List<ProcessorDefinition<?>> outputs) {
+        this.routeContext = routeContext;
+        this.outputs = new ArrayList<ProcessorDefinition<?>>(outputs);
+    }
+
+    /**
+     * Whether the given route is lazy initialized and is still dormant, as no messages has been routed yet.
+     */
+    public static boolean isDormant(Route route) {
+        if (route instanceof EventDrivenConsumerRoute) {
+            Processor processor = ((EventDrivenConsumerRoute) route).getProcessor();
+            if (processor instanceof DelegateProcessor) {
+                processor = ((DelegateProcessor) processor).getProcessor();
+            }
+            return processor instanceof LazyRouteProcessor && !((LazyRouteProcessor) processor).isInitialized();
+        }
+        return false;
+    }
+
+    /**
+     * Whether the processors of the route has been created, or the route is still dormant
+     */
+    public boolean isInitialized() {
+        return processor != null;
+    }
+
+    /**
+     * Creates the processors of the route if not already done
+     */
+    public AsyncProcessor initialize() throws Exception {
+        AsyncProcessor answer = processor;
+        if (answer == null) {
+            synchronized (this) {
+                answer = processor;
+                if (answer == null) {
+                    String routeId = routeContext.getRoute().getId();
+                    LOG.debug("Initializing lazy route: {}", routeId);
+                    long start = System.currentTimeMillis();
+
+                    List<Processor> list = routeContext.createEventDrivenProcessors(outputs);
+                    answer = AsyncProcessorConverterHelper.convert(Pipeline.newInstance(routeContext.getCamelContext(), list));
+                    if (isStarted() || isStarting()) {
+                        ServiceHelper.startServices(answer);
+                    }
+                    processor = answer;
+
+                    LOG.info("Initialized lazy route: {} in {} millis", routeId, System.currentTimeMillis() - start);
+                }
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorHelper.process(this, exchange);
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        AsyncProcessor target = processor;
+        if (target == null) {
+            try {
+                target = initialize();
+            } catch (Exception e) {
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+        }
+        return target.process(exchange, callback);
+    }
+
+    @Override
+    public List<Processor> next() {
+        if (!hasNext()) {
+            return null;
+        }
+        List<Processor> answer = new ArrayList<Processor>(1);
+        answer.add(processor);
+        return answer;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return processor != null;
+    }
+
+    @Override
+    public String toString() {
+        return processor != null ? processor.toString() : "LazyRoute[" + routeContext.getRoute().getId() + "]";
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // only start the processors if the route has been initialized
+        ServiceHelper.startServices(processor);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopServices(processor);
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        ServiceHelper.stopAndShutdownServices(processor);
+    }
+}
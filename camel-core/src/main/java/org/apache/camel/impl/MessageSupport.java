@@ -227,6 +227,16 @@ public abstract class MessageSupport implements Message, DataTypeAware {
      */
     public abstract Message newInstance();
 
+    /**
+     * Clears the body, message id and data type so the message can be reused
+     * by a pooled {@link org.apache.camel.Exchange}.
+     */
+    void reset() {
+        body = null;
+        messageId = null;
+        dataType = null;
+    }
+
     /**
      * A factory method to allow a provider to lazily create the message body
      * for inbound messages from other sources
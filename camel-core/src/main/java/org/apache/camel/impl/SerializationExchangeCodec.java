@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExchangeCodec;
+import org.apache.camel.util.CamelObjectInputStream;
+
+/**
+ * {@link ExchangeCodec} which uses Java serialization of the {@link DefaultExchangeHolder}.
+ * <p/>
+ * This is the format the aggregation repositories have always used.
+ */
+public class SerializationExchangeCodec implements ExchangeCodec {
+
+    @Override
+    public void encode(CamelContext camelContext, DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        objectOut.writeObject(holder);
+        // flush but do not close the given stream
+        objectOut.flush();
+    }
+
+    @Override
+    public DefaultExchangeHolder decode(CamelContext camelContext, InputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream objectIn = new CamelObjectInputStream(in, camelContext);
+        return (DefaultExchangeHolder) objectIn.readObject();
+    }
+
+}
@@ -0,0 +1,170 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the time spent starting the components, endpoints and routes of a {@link DefaultCamelContext}.
+ * <p/>
+ * The recorded steps are available from JMX, and a summary with the slowest steps is logged when Camel has been started.
+ * Time spent on the same step more than once, such as warming up and later starting the consumer of a route, is added up.
+ */
+public class StartupRecorder {
+
+    public static final String COMPONENT = "component";
+    public static final String ENDPOINT = "endpoint";
+    public static final String ROUTE = "route";
+
+    private final ConcurrentMap<String, ConcurrentMap<String, AtomicLong>> steps = new ConcurrentHashMap<String, ConcurrentMap<String, AtomicLong>>();
+
+    /**
+     * A recorded step
+     */
+    public static final class Step {
+        private final String type;
+        private final String id;
+        private final long duration;
+
+        Step(String type, String id, long duration) {
+            this.type = type;
+            this.id = id;
+            this.duration = duration;
+        }
+
+        /**
+         * The type such as component, endpoint or route
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * The name of the component, uri of the endpoint, or id of the route
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * The time spent in millis
+         */
+        public long getDuration() {
+            return duration;
+        }
+    }
+
+    /**
+     * Records time spent on the given step
+     *
+     * @param type      the type such as component, endpoint or route
+     * @param id        the name of the component, uri of the endpoint, or id of the route
+     * @param startNanos the value of {@link System#nanoTime()} when the step begun
+     */
+    public void record(String type, String id, long startNanos) {
+        long taken = System.nanoTime() - startNanos;
+        ConcurrentMap<String, AtomicLong> map = steps.get(type);
+        if (map == null) {
+            ConcurrentMap<String, AtomicLong> existing = steps.putIfAbsent(type, map = new ConcurrentHashMap<String, AtomicLong>());
+            if (existing != null) {
+                map = existing;
+            }
+        }
+        AtomicLong total = map.get(id);
+        if (total == null) {
+            AtomicLong existing = map.putIfAbsent(id, total = new AtomicLong());
+            if (existing != null) {
+                total = existing;
+            }
+        }
+        total.addAndGet(taken);
+    }
+
+    /**
+     * Gets all the recorded steps, with the slowest first
+     */
+    public List<Step> getSteps() {
+        List<Step> answer = new ArrayList<Step>();
+        for (Map.Entry<String, ConcurrentMap<String, AtomicLong>> type : steps.entrySet()) {
+            for (Map.Entry<String, AtomicLong> entry : type.getValue().entrySet()) {
+                long millis = TimeUnit.NANOSECONDS.toMillis(entry.getValue().get());
+                answer.add(new Step(type.getKey(), entry.getKey(), millis));
+            }
+        }
+        Collections.sort(answer, new Comparator<Step>() {
+            @Override
+            public int compare(Step o1, Step o2) {
+                return Long.compare(o2.getDuration(), o1.getDuration());
+            }
+        });
+        return answer;
+    }
+
+    /**
+     * Gets the recorded steps of the given type, with the slowest first
+     */
+    public List<Step> getSteps(String type) {
+        List<Step> answer = new ArrayList<Step>();
+        for (Step step : getSteps()) {
+            if (step.getType().equals(type)) {
+                answer.add(step);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Clears the recorded steps, which is done each time Camel is started
+     */
+    public void clear() {
+        steps.clear();
+    }
+
+    /**
+     * Creates a summary of the startup with the total time spent per type, and the slowest steps.
+     *
+     * @param limit the maximum number of steps to include per type
+     */
+    public String summary(int limit) {
+        StringBuilder sb = new StringBuilder();
+        for (String type : new String[]{COMPONENT, ENDPOINT, ROUTE}) {
+            List<Step> list = getSteps(type);
+            if (list.isEmpty()) {
+                continue;
+            }
+            long total = 0;
+            for (Step step : list) {
+                total += step.getDuration();
+            }
+            sb.append(String.format("%n    Started %d %ss in %d millis (slowest first):", list.size(), type, total));
+            for (int i = 0; i < list.size() && i < limit; i++) {
+                Step step = list.get(i);
+                sb.append(String.format("%n        %8d millis  %s", step.getDuration(), step.getId()));
+            }
+        }
+        return sb.toString();
+    }
+
+}
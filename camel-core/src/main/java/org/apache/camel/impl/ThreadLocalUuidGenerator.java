@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.spi.UuidGenerator;
+
+/**
+ * {@link org.apache.camel.spi.UuidGenerator} which generates ids in the same style as {@link ActiveMQUuidGenerator}
+ * but is allocation-light and contention free.
+ * <p/>
+ * Each thread reserves a block of sequence numbers from a shared counter, and writes the sequence
+ * number as fixed length hex digits into its own char buffer which holds the seed as prefix.
+ * Generating an id is then just creating the {@link String} from the buffer.
+ * <p/>
+ * The ids are unique per JVM (and across JVMs as the seed is the same as {@link ActiveMQUuidGenerator}),
+ * but they are not ordered across threads.
+ */
+public class ThreadLocalUuidGenerator implements UuidGenerator {
+
+    private static final int BLOCK_SIZE = 1024;
+    private static final int SEQUENCE_LENGTH = 16;
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private final String seed;
+    private final AtomicLong blocks = new AtomicLong();
+    private final ThreadLocal<Block> block = ThreadLocal.withInitial(Block::new);
+
+    public ThreadLocalUuidGenerator(String prefix) {
+        this.seed = new ActiveMQUuidGenerator(prefix).getSeed();
+    }
+
+    public ThreadLocalUuidGenerator() {
+        this.seed = new ActiveMQUuidGenerator().getSeed();
+    }
+
+    public String generateUuid() {
+        Block current = block.get();
+        if (current.next == current.limit) {
+            long start = blocks.getAndIncrement() * BLOCK_SIZE;
+            current.next = start;
+            current.limit = start + BLOCK_SIZE;
+        }
+        long sequence = current.next++;
+
+        char[] buffer = current.buffer;
+        for (int pos = buffer.length - 1; pos >= seed.length(); pos--) {
+            buffer[pos] = DIGITS[(int) (sequence & 0xF)];
+            sequence >>>= 4;
+        }
+        return new String(buffer);
+    }
+
+    /**
+     * The block of sequence numbers reserved by a thread, and its buffer to write the ids into.
+     */
+    private final class Block {
+        private final char[] buffer;
+        private long next;
+        private long limit;
+
+        private Block() {
+            buffer = new char[seed.length() + SEQUENCE_LENGTH];
+            seed.getChars(0, seed.length(), buffer, 0);
+        }
+    }
+}
@@ -53,6 +53,9 @@ import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedCamelContextMBean;
 import org.apache.camel.api.management.mbean.ManagedProcessorMBean;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.LazyRouteProcessor;
+import org.apache.camel.impl.StartupRecorder;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelHelper;
 import org.apache.camel.model.RouteDefinition;
@@ -202,6 +205,16 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         return started;
     }
 
+    public Integer getDormantRoutes() {
+        int dormant = 0;
+        for (Route route : context.getRoutes()) {
+            if (LazyRouteProcessor.isDormant(route)) {
+                dormant++;
+            }
+        }
+        return dormant;
+    }
+
     public void setTimeout(long timeout) {
         context.getShutdownStrategy().setTimeout(timeout);
     }
@@ -735,6 +748,24 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         }
     }
 
+    public TabularData listStartupTimes() throws Exception {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listStartupTimesTabularType());
+            if (context instanceof DefaultCamelContext) {
+                CompositeType ct = CamelOpenMBeanTypes.listStartupTimesCompositeType();
+                for (StartupRecorder.Step step : ((DefaultCamelContext) context).getStartupRecorder().getSteps()) {
+                    CompositeData data = new CompositeDataSupport(ct,
+                            new String[]{"type", "id", "duration"},
+                            new Object[]{step.getType(), step.getId(), step.getDuration()});
+                    answer.put(data);
+                }
+            }
+            return answer;
+        } catch (Exception e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+
     public List<String> completeEndpointPath(String componentName, Map<String, Object> endpointParameters,
                                              String completionText) throws Exception {
         if (completionText == null) {
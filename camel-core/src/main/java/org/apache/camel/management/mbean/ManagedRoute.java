@@ -25,8 +25,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.management.AttributeValueExp;
@@ -47,9 +45,11 @@ import org.apache.camel.TimerListener;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedProcessorMBean;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.impl.LazyRouteProcessor;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelHelper;
 import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.spi.RoutePolicy;
 import org.apache.camel.util.ObjectHelper;
@@ -68,8 +68,6 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
     protected final String description;
     protected final ModelCamelContext context;
     private final LoadTriplet load = new LoadTriplet();
-    private final ConcurrentSkipListMap<InFlightKey, Long> exchangesInFlightStartTimestamps = new ConcurrentSkipListMap<InFlightKey, Long>();
-    private final ConcurrentHashMap<String, InFlightKey> exchangesInFlightKeys = new ConcurrentHashMap<String, InFlightKey>();
     private final String jmxDomain;
 
     public ManagedRoute(ModelCamelContext context, Route route) {
@@ -84,9 +82,6 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
         super.init(strategy);
         boolean enabled = context.getManagementStrategy().getManagementAgent().getStatisticsLevel() != ManagementStatisticsLevel.Off;
         setStatisticsEnabled(enabled);
-
-        exchangesInFlightKeys.clear();
-        exchangesInFlightStartTimestamps.clear();
     }
 
     public Route getRoute() {
@@ -135,6 +130,10 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
         return route.getUptimeMillis();
     }
 
+    public Boolean isDormant() {
+        return LazyRouteProcessor.isDormant(route);
+    }
+
     public Integer getInflightExchanges() {
         return (int) super.getExchangesInflight();
     }
@@ -410,13 +409,13 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
         String stat = dumpStatsAsXml(fullStats);
         answer.append(" exchangesInflight=\"").append(getInflightExchanges()).append("\"");
         answer.append(" selfProcessingTime=\"").append(routeSelfTime).append("\"");
-        InFlightKey oldestInflightEntry = getOldestInflightEntry();
+        InflightRepository.InflightExchange oldestInflightEntry = getOldestInflightEntry();
         if (oldestInflightEntry == null) {
             answer.append(" oldestInflightExchangeId=\"\"");
             answer.append(" oldestInflightDuration=\"\"");
         } else {
-            answer.append(" oldestInflightExchangeId=\"").append(oldestInflightEntry.exchangeId).append("\"");
-            answer.append(" oldestInflightDuration=\"").append(System.currentTimeMillis() - oldestInflightEntry.timeStamp).append("\"");
+            answer.append(" oldestInflightExchangeId=\"").append(oldestInflightEntry.getExchange().getExchangeId()).append("\"");
+            answer.append(" oldestInflightDuration=\"").append(oldestInflightEntry.getDuration()).append("\"");
         }
         answer.append(" ").append(stat.substring(7, stat.length() - 2)).append(">\n");
 
@@ -466,111 +465,25 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
         return route.hashCode();
     }
 
-    private InFlightKey getOldestInflightEntry() {
-        Map.Entry<InFlightKey, Long> entry = exchangesInFlightStartTimestamps.firstEntry();
-        if (entry != null) {
-            return entry.getKey();
-        }
-        return null;
+    private InflightRepository.InflightExchange getOldestInflightEntry() {
+        // the inflight repository keeps the exchanges ordered so we do not need to track the exchanges ourselves
+        return context.getInflightRepository().oldest(route.getId());
     }
 
     public Long getOldestInflightDuration() {
-        InFlightKey oldest = getOldestInflightEntry();
+        InflightRepository.InflightExchange oldest = getOldestInflightEntry();
         if (oldest == null) {
             return null;
         }
-        return System.currentTimeMillis() - oldest.timeStamp;
+        return oldest.getDuration();
     }
 
     public String getOldestInflightExchangeId() {
-        InFlightKey oldest = getOldestInflightEntry();
+        InflightRepository.InflightExchange oldest = getOldestInflightEntry();
         if (oldest == null) {
             return null;
         }
-        return oldest.exchangeId;
-    }
-
-    @Override
-    public synchronized void processExchange(Exchange exchange) {
-        InFlightKey key = new InFlightKey(System.currentTimeMillis(), exchange.getExchangeId());
-        InFlightKey oldKey = exchangesInFlightKeys.putIfAbsent(exchange.getExchangeId(), key);
-        // we may already have the exchange being processed so only add to timestamp if its a new exchange
-        // for example when people call the same routes recursive
-        if (oldKey == null) {
-            exchangesInFlightStartTimestamps.put(key, key.timeStamp);
-        }
-        super.processExchange(exchange);
-    }
-
-    @Override
-    public synchronized void completedExchange(Exchange exchange, long time) {
-        InFlightKey key = exchangesInFlightKeys.remove(exchange.getExchangeId());
-        if (key != null) {
-            exchangesInFlightStartTimestamps.remove(key);
-        }
-        super.completedExchange(exchange, time);
-    }
-
-    @Override
-    public synchronized void failedExchange(Exchange exchange) {
-        InFlightKey key = exchangesInFlightKeys.remove(exchange.getExchangeId());
-        if (key != null) {
-            exchangesInFlightStartTimestamps.remove(key);
-        }
-        super.failedExchange(exchange);
-    }
-
-    private static class InFlightKey implements Comparable<InFlightKey> {
-
-        private final Long timeStamp;
-        private final String exchangeId;
-
-        InFlightKey(Long timeStamp, String exchangeId) {
-            this.timeStamp = timeStamp;
-            this.exchangeId = exchangeId;
-        }
-
-        @Override
-        public int compareTo(InFlightKey o) {
-            int compare = Long.compare(timeStamp, o.timeStamp);
-            if (compare == 0) {
-                return exchangeId.compareTo(o.exchangeId);
-            }
-            return compare;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-
-            InFlightKey that = (InFlightKey) o;
-
-            if (!exchangeId.equals(that.exchangeId)) {
-                return false;
-            }
-            if (!timeStamp.equals(that.timeStamp)) {
-                return false;
-            }
-
-            return true;
-        }
-
-        @Override
-        public int hashCode() {
-            int result = timeStamp.hashCode();
-            result = 31 * result + exchangeId.hashCode();
-            return result;
-        }
-
-        @Override
-        public String toString() {
-            return exchangeId;
-        }
+        return oldest.getExchange().getExchangeId();
     }
 
     /**
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.model;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.util.Iterator;
@@ -39,11 +40,16 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Expression;
 import org.apache.camel.NamedNode;
 import org.apache.camel.TypeConversionException;
+import org.apache.camel.converter.IOConverter;
 import org.apache.camel.converter.jaxp.XmlConverter;
+import org.apache.camel.impl.DefaultModelJAXBContextFactory;
 import org.apache.camel.model.language.ExpressionDefinition;
 import org.apache.camel.spi.NamespaceAware;
 import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.model.ProcessorDefinitionHelper.filterTypeInOutputs;
 
@@ -52,6 +58,9 @@ import static org.apache.camel.model.ProcessorDefinitionHelper.filterTypeInOutpu
  */
 public final class ModelHelper {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ModelHelper.class);
+    private static final StaxModelReader STAX_MODEL_READER = new StaxModelReader();
+
     private ModelHelper() {
         // utility class
     }
@@ -139,14 +148,34 @@ public final class ModelHelper {
 
     /**
      * Marshal the xml to the model definition
+     * <p/>
+     * The xml is read using the {@link StaxModelReader} which avoids creating a {@link JAXBContext} for the model.
+     * JAXB is used instead if a custom {@link org.apache.camel.spi.ModelJAXBContextFactory} is in use, as it may
+     * add classes which the reader does not know, or if the reader fails to read the xml.
      *
      * @param context the CamelContext, if <tt>null</tt> then {@link org.apache.camel.spi.ModelJAXBContextFactory} is not in use
      * @param inputStream the xml stream
      * @throws Exception is thrown if an error is encountered unmarshalling from xml to model
      */
     public static RoutesDefinition loadRoutesDefinition(CamelContext context, InputStream inputStream) throws Exception {
+        // keep the xml so we can fallback to JAXB
+        byte[] xml;
+        try {
+            xml = IOConverter.toBytes(inputStream);
+        } finally {
+            IOHelper.close(inputStream);
+        }
+
+        if (context == null || context.getModelJAXBContextFactory().getClass() == DefaultModelJAXBContextFactory.class) {
+            try {
+                return STAX_MODEL_READER.readRoutes(new ByteArrayInputStream(xml));
+            } catch (Exception e) {
+                LOG.debug("Cannot read routes using StAX due " + e.getMessage() + ". Will fallback and use JAXB.", e);
+            }
+        }
+
         XmlConverter xmlConverter = newXmlConverter(context);
-        Document dom = xmlConverter.toDOMDocument(inputStream, null);
+        Document dom = xmlConverter.toDOMDocument(new ByteArrayInputStream(xml), null);
         return loadRoutesDefinition(context, dom);
     }
 
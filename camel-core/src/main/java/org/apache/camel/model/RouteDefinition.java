@@ -43,7 +43,9 @@ import org.apache.camel.builder.AdviceWithRouteBuilder;
 import org.apache.camel.builder.AdviceWithTask;
 import org.apache.camel.builder.ErrorHandlerBuilderRef;
 import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.impl.DefaultRouteContext;
+import org.apache.camel.impl.LazyRouteProcessor;
 import org.apache.camel.model.rest.RestBindingDefinition;
 import org.apache.camel.model.rest.RestDefinition;
 import org.apache.camel.processor.interceptor.HandleFault;
@@ -82,6 +84,7 @@ public class RouteDefinition extends ProcessorDefinition<RouteDefinition> {
     private String delayer;
     private String autoStartup;
     private Integer startupOrder;
+    private String lazyInit;
     private List<RoutePolicy> routePolicies;
     private String routePolicyRef;
     private ShutdownRoute shutdownRoute;
@@ -609,6 +612,30 @@ public class RouteDefinition extends ProcessorDefinition<RouteDefinition> {
         return this;
     }
 
+    /**
+     * Enables lazy initialization of this route.
+     * <p/>
+     * The consumer of the route is started as usual, but the processors of the route, including the producers
+     * used for sending to endpoints, are created when the first message is routed.
+     *
+     * @return the builder
+     */
+    public RouteDefinition lazyInit() {
+        setLazyInit("true");
+        return this;
+    }
+
+    /**
+     * Sets whether this route is lazy initialized.
+     *
+     * @param lazyInit whether to lazy initialize (true or false), the value can be a property placeholder
+     * @return the builder
+     */
+    public RouteDefinition lazyInit(String lazyInit) {
+        setLazyInit(lazyInit);
+        return this;
+    }
+
     /**
      * Configures route policies for this route
      *
@@ -980,6 +1007,22 @@ public class RouteDefinition extends ProcessorDefinition<RouteDefinition> {
         this.startupOrder = startupOrder;
     }
 
+    /**
+     * Whether to lazy initialize this route
+     */
+    public String getLazyInit() {
+        return lazyInit;
+    }
+
+    /**
+     * Whether to lazy initialize this route, which means the processors of the route are created
+     * when the first message is routed, instead of when the route is started.
+     */
+    @XmlAttribute @Metadata(defaultValue = "false")
+    public void setLazyInit(String lazyInit) {
+        this.lazyInit = lazyInit;
+    }
+
     /**
      * Sets the bean ref name of the error handler builder to use on this route
      */
@@ -1280,12 +1323,26 @@ public class RouteDefinition extends ProcessorDefinition<RouteDefinition> {
         }
 
         List<ProcessorDefinition<?>> list = new ArrayList<ProcessorDefinition<?>>(outputs);
-        for (ProcessorDefinition<?> output : list) {
-            try {
-                output.addRoutes(routeContext, routes);
-            } catch (Exception e) {
-                RouteDefinition route = routeContext.getRoute();
-                throw new FailedToCreateRouteException(route.getId(), route.toString(), output.toString(), e);
+
+        // configure lazy init, which defaults to the option from camel context
+        Boolean isLazyInit = null;
+        if (lazyInit != null) {
+            isLazyInit = CamelContextHelper.parseBoolean(camelContext, getLazyInit());
+        } else if (camelContext instanceof DefaultCamelContext) {
+            isLazyInit = ((DefaultCamelContext) camelContext).isLazyRouteInit();
+        }
+        if (isLazyInit != null && isLazyInit && routeContext instanceof DefaultRouteContext) {
+            log.debug("LazyInit is enabled on route: {}", getId());
+            // the outputs are created when the first message is routed
+            routeContext.addEventDrivenProcessor(new LazyRouteProcessor((DefaultRouteContext) routeContext, list));
+        } else {
+            for (ProcessorDefinition<?> output : list) {
+                try {
+                    output.addRoutes(routeContext, routes);
+                } catch (Exception e) {
+                    RouteDefinition route = routeContext.getRoute();
+                    throw new FailedToCreateRouteException(route.getId(), route.toString(), output.toString(), e);
+                }
             }
         }
 
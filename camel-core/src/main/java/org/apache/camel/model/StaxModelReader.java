@@ -0,0 +1,693 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAnyAttribute;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlList;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.XmlValue;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.model.rest.RestDefinition;
+import org.apache.camel.model.rest.RestsDefinition;
+import org.apache.camel.spi.NamespaceAware;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads XML routes, rests and other definitions of the Camel model using StAX, as a faster alternative
+ * to unmarshalling the model using JAXB.
+ * <p/>
+ * The reader binds the XML to the model classes using their JAXB annotations, but without creating
+ * a {@link javax.xml.bind.JAXBContext}, which is costly as it covers all the classes of the model.
+ * Instead each model class is introspected the first time it is in use, and the result is cached
+ * and shared by all the readers. For example to add the routes from a XML file:
+ * <pre>
+ *     RoutesDefinition routes = new StaxModelReader().readRoutes(inputStream);
+ *     camelContext.addRouteDefinitions(routes.getRoutes());
+ * </pre>
+ * The root element must be in the Camel namespace <tt>http://camel.apache.org/schema/spring</tt>.
+ * Unknown attributes and elements, including elements from other namespaces, are ignored as when using JAXB,
+ * but a WARN is logged.
+ * The XML namespaces in scope are set on the expressions which are {@link NamespaceAware} such as XPath.
+ * <p/>
+ * This reader is thread-safe.
+ */
+public class StaxModelReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaxModelReader.class);
+
+    private static final String[] MODEL_PACKAGES = {
+        "org.apache.camel.model", "org.apache.camel.model.cloud", "org.apache.camel.model.config",
+        "org.apache.camel.model.dataformat", "org.apache.camel.model.language", "org.apache.camel.model.loadbalancer",
+        "org.apache.camel.model.rest", "org.apache.camel.model.transformer", "org.apache.camel.model.validator"};
+    private static final String DEFAULT_NAME = "##default";
+    private static final String NAMESPACE = "http://camel.apache.org/schema/spring";
+
+    private static final ConcurrentMap<Class<?>, ClassBinding> BINDINGS = new ConcurrentHashMap<Class<?>, ClassBinding>();
+    private static volatile Map<String, List<Class<?>>> rootElements;
+
+    private final XMLInputFactory factory;
+
+    public StaxModelReader() {
+        factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+    }
+
+    /**
+     * Reads the routes from the XML, which can either be a <tt>routes</tt> or a single <tt>route</tt> element.
+     *
+     * @param inputStream the xml stream
+     * @return the routes
+     * @throws Exception is thrown if an error is encountered reading the xml
+     */
+    public RoutesDefinition readRoutes(InputStream inputStream) throws Exception {
+        Object result = read(inputStream);
+
+        // can either be routes or a single route
+        if (result instanceof RouteDefinition) {
+            RoutesDefinition answer = new RoutesDefinition();
+            answer.getRoutes().add((RouteDefinition) result);
+            return answer;
+        } else if (result instanceof RoutesDefinition) {
+            return (RoutesDefinition) result;
+        }
+        throw new IllegalArgumentException("Read object is an unsupported type: " + ObjectHelper.className(result) + " -> " + result);
+    }
+
+    /**
+     * Reads the rests from the XML, which can either be a <tt>rests</tt> or a single <tt>rest</tt> element.
+     *
+     * @param inputStream the xml stream
+     * @return the rests
+     * @throws Exception is thrown if an error is encountered reading the xml
+     */
+    public RestsDefinition readRests(InputStream inputStream) throws Exception {
+        Object result = read(inputStream);
+
+        // can either be rests or a single rest
+        if (result instanceof RestDefinition) {
+            RestsDefinition answer = new RestsDefinition();
+            answer.getRests().add((RestDefinition) result);
+            return answer;
+        } else if (result instanceof RestsDefinition) {
+            return (RestsDefinition) result;
+        }
+        throw new IllegalArgumentException("Read object is an unsupported type: " + ObjectHelper.className(result) + " -> " + result);
+    }
+
+    /**
+     * Reads a model definition of the given type from the XML.
+     *
+     * @param inputStream the xml stream
+     * @param type        the expected type of the root element
+     * @return the definition
+     * @throws Exception is thrown if an error is encountered reading the xml
+     */
+    public <T> T read(InputStream inputStream, Class<T> type) throws Exception {
+        Object result = read(inputStream);
+        if (!type.isInstance(result)) {
+            throw new IllegalArgumentException("Read object is not of type: " + type.getName() + " -> " + result);
+        }
+        return type.cast(result);
+    }
+
+    /**
+     * Reads the model definition of the root element of the XML.
+     *
+     * @param inputStream the xml stream
+     * @return the definition
+     * @throws Exception is thrown if an error is encountered reading the xml
+     */
+    public Object read(InputStream inputStream) throws Exception {
+        XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
+        try {
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // skip until the root element
+            }
+            if (!reader.isStartElement()) {
+                throw new IllegalArgumentException("No root element in the XML");
+            }
+            Class<?> type = isCamelNamespace(reader) ? findRootElementType(reader.getLocalName(), Object.class) : null;
+            if (type == null) {
+                throw new IllegalArgumentException("Unknown root element: " + reader.getName());
+            }
+            return readElement(reader, type, new LinkedHashMap<String, String>());
+        } finally {
+            reader.close();
+            IOHelper.close(inputStream);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readElement(XMLStreamReader reader, Class<?> type, Map<String, String> namespaces) throws Exception {
+        Object answer = newInstance(type);
+        ClassBinding binding = getBinding(type);
+        String elementName = reader.getLocalName();
+
+        // keep track of the namespaces in scope
+        if (reader.getNamespaceCount() > 0) {
+            namespaces = new LinkedHashMap<String, String>(namespaces);
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                namespaces.put(prefix == null || prefix.isEmpty() ? "xmlns" : prefix, reader.getNamespaceURI(i));
+            }
+        }
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String name = reader.getAttributeLocalName(i);
+            String ns = reader.getAttributeNamespace(i);
+            String value = reader.getAttributeValue(i);
+            Property property = ns == null || ns.isEmpty() ? binding.attributes.get(name) : null;
+            if (property != null) {
+                property.set(answer, property.fromText(value));
+            } else if (binding.anyAttribute != null) {
+                Map<QName, Object> map = (Map<QName, Object>) binding.anyAttribute.get(answer);
+                if (map == null) {
+                    map = new HashMap<QName, Object>();
+                    binding.anyAttribute.set(answer, map);
+                }
+                map.put(reader.getAttributeName(i), value);
+            } else {
+                LOG.warn("Ignoring unknown attribute {} on element {}", name, elementName);
+            }
+        }
+
+        StringBuilder text = binding.value != null ? new StringBuilder() : null;
+        Map<Property, List<Object>> lists = null;
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA || event == XMLStreamConstants.SPACE) {
+                if (text != null) {
+                    text.append(reader.getText());
+                }
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (!isCamelNamespace(reader)) {
+                    LOG.warn("Ignoring element {} from another namespace in element {}", reader.getName(), elementName);
+                    skipElement(reader);
+                    continue;
+                }
+                Property property = binding.elements.get(name);
+                Class<?> childType = property != null ? property.elementTypes.get(name) : null;
+                if (property == null) {
+                    for (Property ref : binding.elementRefs) {
+                        childType = findRootElementType(name, ref.itemType);
+                        if (childType != null) {
+                            property = ref;
+                            break;
+                        }
+                    }
+                }
+                if (property == null) {
+                    LOG.warn("Ignoring unknown element {} in element {}", name, elementName);
+                    skipElement(reader);
+                    continue;
+                }
+
+                if (property.wrapper != null) {
+                    // the values are wrapped in an extra element
+                    if (lists == null) {
+                        lists = new LinkedHashMap<Property, List<Object>>();
+                    }
+                    List<Object> list = lists.computeIfAbsent(property, k -> new ArrayList<Object>());
+                    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                        if (!isCamelNamespace(reader)) {
+                            LOG.warn("Ignoring element {} from another namespace in element {}", reader.getName(), property.wrapper);
+                            skipElement(reader);
+                            continue;
+                        }
+                        list.add(readValue(reader, property, property.itemType, namespaces));
+                    }
+                } else if (property.list) {
+                    if (lists == null) {
+                        lists = new LinkedHashMap<Property, List<Object>>();
+                    }
+                    lists.computeIfAbsent(property, k -> new ArrayList<Object>()).add(readValue(reader, property, childType, namespaces));
+                } else {
+                    property.set(answer, readValue(reader, property, childType, namespaces));
+                }
+            }
+        }
+
+        if (text != null) {
+            binding.value.set(answer, binding.value.fromText(text.toString()));
+        }
+        if (lists != null) {
+            for (Map.Entry<Property, List<Object>> entry : lists.entrySet()) {
+                entry.getKey().setList(answer, entry.getValue());
+            }
+        }
+        if (answer instanceof NamespaceAware && !namespaces.isEmpty()) {
+            ((NamespaceAware) answer).setNamespaces(new LinkedHashMap<String, String>(namespaces));
+        }
+        return answer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(XMLStreamReader reader, Property property, Class<?> type, Map<String, String> namespaces) throws Exception {
+        if (property.adapter != null) {
+            Object value = isSimpleType(property.adapterValueType)
+                ? convert(reader.getElementText(), property.adapterValueType) : readElement(reader, property.adapterValueType, namespaces);
+            return ((XmlAdapter<Object, Object>) property.adapter).unmarshal(value);
+        }
+        if (isSimpleType(type)) {
+            return convert(reader.getElementText(), type);
+        }
+        return readElement(reader, type, namespaces);
+    }
+
+    private static boolean isCamelNamespace(XMLStreamReader reader) {
+        return NAMESPACE.equals(reader.getNamespaceURI());
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws Exception {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static Object newInstance(Class<?> type) throws Exception {
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    private static boolean isSimpleType(Class<?> type) {
+        return type == String.class || type == Object.class || type.isPrimitive() || type.isEnum()
+            || Number.class.isAssignableFrom(type) || type == Boolean.class || type == Character.class;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(String text, Class<?> type) {
+        if (type == String.class || type == Object.class) {
+            return text;
+        }
+        String value = text.trim();
+        if (type == Boolean.class || type == boolean.class) {
+            return "true".equals(value) || "1".equals(value);
+        } else if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(value);
+        } else if (type == Long.class || type == long.class) {
+            return Long.valueOf(value);
+        } else if (type == Double.class || type == double.class) {
+            return Double.valueOf(value);
+        } else if (type == Float.class || type == float.class) {
+            return Float.valueOf(value);
+        } else if (type == Short.class || type == short.class) {
+            return Short.valueOf(value);
+        } else if (type == Byte.class || type == byte.class) {
+            return Byte.valueOf(value);
+        } else if (type == Character.class || type == char.class) {
+            return value.charAt(0);
+        } else if (type.isEnum()) {
+            for (Field field : type.getFields()) {
+                XmlEnumValue enumValue = field.getAnnotation(XmlEnumValue.class);
+                if (field.isEnumConstant() && enumValue != null && enumValue.value().equals(value)) {
+                    return Enum.valueOf((Class<Enum>) type, field.getName());
+                }
+            }
+            return Enum.valueOf((Class<Enum>) type, value);
+        }
+        throw new IllegalArgumentException("Cannot convert value: " + text + " to type: " + type.getName());
+    }
+
+    /**
+     * Finds the model class with the given XML element name, which is of the given type
+     */
+    private static Class<?> findRootElementType(String name, Class<?> type) throws Exception {
+        List<Class<?>> candidates = getRootElements().get(name);
+        if (candidates != null) {
+            for (Class<?> candidate : candidates) {
+                if (type.isAssignableFrom(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        // the type may not be listed in the model packages
+        XmlRootElement root = type.getAnnotation(XmlRootElement.class);
+        if (root != null && name.equals(rootElementName(type, root))) {
+            return type;
+        }
+        return null;
+    }
+
+    private static Map<String, List<Class<?>>> getRootElements() throws Exception {
+        Map<String, List<Class<?>>> answer = rootElements;
+        if (answer == null) {
+            answer = new HashMap<String, List<Class<?>>>();
+            ClassLoader classLoader = RoutesDefinition.class.getClassLoader();
+            for (String pkg : MODEL_PACKAGES) {
+                // use the jaxb.index files which list the classes of the model
+                InputStream is = classLoader.getResourceAsStream(pkg.replace('.', '/') + "/jaxb.index");
+                if (is == null) {
+                    continue;
+                }
+                try {
+                    BufferedReader reader = IOHelper.buffered(new InputStreamReader(is, "UTF-8"));
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (line.isEmpty() || line.startsWith("#")) {
+                            continue;
+                        }
+                        Class<?> type = classLoader.loadClass(pkg + "." + line);
+                        XmlRootElement root = type.getAnnotation(XmlRootElement.class);
+                        if (root != null && !Modifier.isAbstract(type.getModifiers())) {
+                            answer.computeIfAbsent(rootElementName(type, root), k -> new ArrayList<Class<?>>()).add(type);
+                        }
+                    }
+                } finally {
+                    IOHelper.close(is);
+                }
+            }
+            rootElements = answer;
+        }
+        return answer;
+    }
+
+    private static String rootElementName(Class<?> type, XmlRootElement root) {
+        return DEFAULT_NAME.equals(root.name()) ? decapitalize(type.getSimpleName()) : root.name();
+    }
+
+    private static String decapitalize(String name) {
+        // same rules as java beans which JAXB uses for default names
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static ClassBinding getBinding(Class<?> type) throws Exception {
+        ClassBinding binding = BINDINGS.get(type);
+        if (binding == null) {
+            binding = new ClassBinding(type);
+            ClassBinding existing = BINDINGS.putIfAbsent(type, binding);
+            if (existing != null) {
+                binding = existing;
+            }
+        }
+        return binding;
+    }
+
+    /**
+     * How the XML attributes and elements are bound to a model class, derived from its JAXB annotations.
+     */
+    private static final class ClassBinding {
+        private final Map<String, Property> attributes = new HashMap<String, Property>();
+        private final Map<String, Property> elements = new HashMap<String, Property>();
+        private final List<Property> elementRefs = new ArrayList<Property>();
+        private final List<String> names = new ArrayList<String>();
+        private Property value;
+        private Property anyAttribute;
+
+        ClassBinding(Class<?> type) throws Exception {
+            // sub classes first so overridden properties take precedence
+            for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                XmlAccessType access = getAccessType(clazz);
+                for (Field field : clazz.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                        || field.isAnnotationPresent(XmlTransient.class)) {
+                        continue;
+                    }
+                    if (isBound(field) || access == XmlAccessType.FIELD) {
+                        field.setAccessible(true);
+                        addProperty(new Property(field.getName(), field, null, null, field.getType(), field.getGenericType(), field));
+                    }
+                }
+                for (Method method : clazz.getDeclaredMethods()) {
+                    if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic() || !isBound(method)) {
+                        continue;
+                    }
+                    String name = method.getName();
+                    if (name.startsWith("set") && method.getParameterCount() == 1) {
+                        String property = decapitalize(name.substring(3));
+                        Method getter = findGetter(clazz, name.substring(3));
+                        method.setAccessible(true);
+                        addProperty(new Property(property, null, method, getter, method.getParameterTypes()[0], method.getGenericParameterTypes()[0], method));
+                    } else if ((name.startsWith("get") || name.startsWith("is")) && method.getParameterCount() == 0) {
+                        String suffix = name.substring(name.startsWith("get") ? 3 : 2);
+                        Method setter = findSetter(clazz, suffix, method.getReturnType());
+                        method.setAccessible(true);
+                        addProperty(new Property(decapitalize(suffix), null, setter, method, method.getReturnType(), method.getGenericReturnType(), method));
+                    }
+                }
+            }
+        }
+
+        private void addProperty(Property property) throws Exception {
+            if (names.contains(property.name)) {
+                // already bound by a sub class
+                return;
+            }
+            names.add(property.name);
+
+            AnnotatedElement annotated = property.annotated;
+            XmlAttribute attribute = annotated.getAnnotation(XmlAttribute.class);
+            XmlElements xmlElements = annotated.getAnnotation(XmlElements.class);
+            XmlElementRef elementRef = annotated.getAnnotation(XmlElementRef.class);
+            if (attribute != null) {
+                property.xmlList = annotated.isAnnotationPresent(XmlList.class);
+                attributes.put(DEFAULT_NAME.equals(attribute.name()) ? property.name : attribute.name(), property);
+            } else if (annotated.isAnnotationPresent(XmlValue.class)) {
+                value = property;
+            } else if (annotated.isAnnotationPresent(XmlAnyAttribute.class)) {
+                anyAttribute = property;
+            } else if (xmlElements != null) {
+                for (XmlElement element : xmlElements.value()) {
+                    property.elementTypes.put(element.name(), element.type());
+                    elements.put(element.name(), property);
+                }
+            } else if (elementRef != null) {
+                elementRefs.add(property);
+            } else {
+                XmlElement element = annotated.getAnnotation(XmlElement.class);
+                String name = element != null && !DEFAULT_NAME.equals(element.name()) ? element.name() : property.name;
+                Class<?> type = element != null && element.type() != XmlElement.DEFAULT.class ? element.type() : property.itemType;
+                property.elementTypes.put(name, type);
+
+                XmlElementWrapper wrapper = annotated.getAnnotation(XmlElementWrapper.class);
+                if (wrapper != null) {
+                    property.wrapper = DEFAULT_NAME.equals(wrapper.name()) ? property.name : wrapper.name();
+                    elements.put(property.wrapper, property);
+                } else {
+                    elements.put(name, property);
+                }
+            }
+        }
+
+        private static XmlAccessType getAccessType(Class<?> type) {
+            XmlAccessorType accessor = type.getAnnotation(XmlAccessorType.class);
+            if (accessor == null && type.getPackage() != null) {
+                accessor = type.getPackage().getAnnotation(XmlAccessorType.class);
+            }
+            return accessor != null ? accessor.value() : XmlAccessType.PUBLIC_MEMBER;
+        }
+
+        private static boolean isBound(AnnotatedElement element) {
+            return element.isAnnotationPresent(XmlAttribute.class) || element.isAnnotationPresent(XmlElement.class)
+                || element.isAnnotationPresent(XmlElements.class) || element.isAnnotationPresent(XmlElementRef.class)
+                || element.isAnnotationPresent(XmlValue.class) || element.isAnnotationPresent(XmlAnyAttribute.class)
+                || element.isAnnotationPresent(XmlElementWrapper.class) || element.isAnnotationPresent(XmlJavaTypeAdapter.class);
+        }
+
+        private static Method findGetter(Class<?> type, String suffix) {
+            for (String prefix : new String[]{"get", "is"}) {
+                try {
+                    Method method = type.getDeclaredMethod(prefix + suffix);
+                    method.setAccessible(true);
+                    return method;
+                } catch (NoSuchMethodException e) {
+                    // ignore
+                }
+            }
+            return null;
+        }
+
+        private static Method findSetter(Class<?> type, String suffix, Class<?> parameterType) {
+            try {
+                Method method = type.getDeclaredMethod("set" + suffix, parameterType);
+                method.setAccessible(true);
+                return method;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * A bound property of a model class, which is set using either its field or setter method.
+     */
+    private static final class Property {
+        private final String name;
+        private final Field field;
+        private final Method setter;
+        private final Method getter;
+        private final AnnotatedElement annotated;
+        private final boolean list;
+        private final Class<?> itemType;
+        private final Map<String, Class<?>> elementTypes = new HashMap<String, Class<?>>();
+        private final XmlAdapter<?, ?> adapter;
+        private final Class<?> adapterValueType;
+        private String wrapper;
+        private boolean xmlList;
+
+        Property(String name, Field field, Method setter, Method getter, Class<?> type, Type genericType, AnnotatedElement annotated) throws Exception {
+            this.name = name;
+            this.field = field;
+            this.setter = setter;
+            this.getter = getter;
+            this.annotated = annotated;
+
+            XmlJavaTypeAdapter typeAdapter = annotated.getAnnotation(XmlJavaTypeAdapter.class);
+            if (typeAdapter != null) {
+                // the adapter creates the value of the property so it is not a list
+                this.adapter = (XmlAdapter<?, ?>) newInstance(typeAdapter.value());
+                this.adapterValueType = adapterValueType(typeAdapter.value());
+                this.list = false;
+                this.itemType = adapterValueType;
+            } else {
+                this.adapter = null;
+                this.adapterValueType = null;
+                this.list = Collection.class.isAssignableFrom(type);
+                if (list && genericType instanceof ParameterizedType) {
+                    this.itemType = rawType(((ParameterizedType) genericType).getActualTypeArguments()[0]);
+                } else {
+                    this.itemType = list ? Object.class : type;
+                }
+            }
+        }
+
+        Object get(Object target) throws Exception {
+            if (field != null) {
+                return field.get(target);
+            } else if (getter != null) {
+                return getter.invoke(target);
+            }
+            return null;
+        }
+
+        void set(Object target, Object value) throws Exception {
+            if (field != null) {
+                field.set(target, value);
+            } else if (setter != null) {
+                setter.invoke(target, value);
+            } else {
+                throw new IllegalStateException("Cannot set property: " + name + " on: " + target.getClass().getName());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void setList(Object target, List<Object> values) throws Exception {
+            if (field == null && setter == null) {
+                // only a getter so add to the existing list
+                ((Collection<Object>) get(target)).addAll(values);
+            } else {
+                set(target, values);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Object fromText(String text) throws Exception {
+            if (adapter != null) {
+                return ((XmlAdapter<Object, Object>) adapter).unmarshal(convert(text, adapterValueType));
+            } else if (xmlList || list) {
+                List<Object> answer = new ArrayList<Object>();
+                for (String token : text.trim().split("\\s+")) {
+                    if (!token.isEmpty()) {
+                        answer.add(convert(token, itemType));
+                    }
+                }
+                return answer;
+            }
+            return convert(text, itemType);
+        }
+
+        private static Class<?> adapterValueType(Class<?> adapterType) {
+            for (Type type = adapterType.getGenericSuperclass(); type != null;) {
+                if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == XmlAdapter.class) {
+                    return rawType(((ParameterizedType) type).getActualTypeArguments()[0]);
+                }
+                Class<?> raw = rawType(type);
+                type = raw != null ? raw.getGenericSuperclass() : null;
+            }
+            return String.class;
+        }
+
+        private static Class<?> rawType(Type type) {
+            if (type instanceof Class) {
+                return (Class<?>) type;
+            } else if (type instanceof ParameterizedType) {
+                return rawType(((ParameterizedType) type).getRawType());
+            } else if (type instanceof WildcardType) {
+                return rawType(((WildcardType) type).getUpperBounds()[0]);
+            } else if (type instanceof TypeVariable) {
+                return rawType(((TypeVariable<?>) type).getBounds()[0]);
+            }
+            return Object.class;
+        }
+    }
+
+}
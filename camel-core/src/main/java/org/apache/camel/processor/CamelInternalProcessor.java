@@ -84,6 +84,8 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelInternalProcessor.class);
     private final List<CamelInternalProcessorAdvice> advices = new ArrayList<CamelInternalProcessorAdvice>();
+    // the advices to execute during routing, which is computed on first use
+    private volatile AdviceChain chain;
 
     public CamelInternalProcessor() {
     }
@@ -101,6 +103,8 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         advices.add(advice);
         // ensure advices are sorted so they are in the order we want
         advices.sort(new OrderedComparator());
+        // the advice chain must be computed again
+        chain = null;
     }
 
     /**
@@ -140,11 +144,17 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             return true;
         }
 
-        final List<Object> states = new ArrayList<Object>(advices.size());
-        for (CamelInternalProcessorAdvice task : advices) {
+        final AdviceChain chain = getAdviceChain(exchange.getContext());
+        final CamelInternalProcessorAdvice[] tasks = chain.advices;
+        // only keep state for the advices which has state
+        final Object[] states = chain.states > 0 ? new Object[chain.states] : null;
+        for (int i = 0; i < tasks.length; i++) {
             try {
-                Object state = task.before(exchange);
-                states.add(state);
+                Object state = tasks[i].before(exchange);
+                int index = chain.stateIndexes[i];
+                if (index >= 0) {
+                    states[index] = state;
+                }
             } catch (Throwable e) {
                 exchange.setException(e);
                 callback.done(true);
@@ -152,8 +162,10 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             }
         }
 
-        // create internal callback which will execute the advices in reverse order when done
-        callback = new InternalCallback(states, exchange, callback);
+        if (tasks.length > 0) {
+            // create internal callback which will execute the advices in reverse order when done
+            callback = new InternalCallback(chain, states, exchange, callback);
+        }
 
         // UNIT_OF_WORK_PROCESS_SYNC is @deprecated and we should remove it from Camel 3.0
         Object synchronous = exchange.removeProperty(Exchange.UNIT_OF_WORK_PROCESS_SYNC);
@@ -218,31 +230,97 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         return processor != null ? processor.toString() : super.toString();
     }
 
+    /**
+     * Gets the advices to execute during routing.
+     * <p/>
+     * The chain is computed once (and again if any advices are added) on first use, which is after the route
+     * has been started and enlisted in JMX, and does not include the advices which would do nothing.
+     */
+    private AdviceChain getAdviceChain(CamelContext context) {
+        AdviceChain answer = chain;
+        if (answer == null) {
+            synchronized (advices) {
+                List<CamelInternalProcessorAdvice> list = new ArrayList<CamelInternalProcessorAdvice>(advices.size());
+                for (CamelInternalProcessorAdvice advice : advices) {
+                    if (isNoopAdvice(advice, context)) {
+                        LOG.trace("Skipping advice: {} as it would do nothing", advice);
+                    } else {
+                        list.add(advice);
+                    }
+                }
+                answer = new AdviceChain(list.toArray(new CamelInternalProcessorAdvice[list.size()]));
+                chain = answer;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Strategy to determine if the given advice would do nothing, and can be left out when routing.
+     *
+     * @param advice   the advice
+     * @param context  the camel context
+     * @return <tt>true</tt> if the advice does nothing, <tt>false</tt> to execute the advice.
+     */
+    protected boolean isNoopAdvice(CamelInternalProcessorAdvice advice, CamelContext context) {
+        if (advice instanceof InstrumentationAdvice) {
+            // the counter is only set when the route is enlisted in JMX, so without JMX it will never be in use
+            return ((InstrumentationAdvice) advice).counter == null
+                && (context == null || context.getManagementStrategy().getManagementAgent() == null);
+        }
+        return false;
+    }
+
+    /**
+     * The advices to execute, and where to keep their state.
+     */
+    private static final class AdviceChain {
+
+        private final CamelInternalProcessorAdvice[] advices;
+        // index of the state of the advice, or -1 if the advice has no state
+        private final int[] stateIndexes;
+        private final int states;
+
+        private AdviceChain(CamelInternalProcessorAdvice[] advices) {
+            this.advices = advices;
+            this.stateIndexes = new int[advices.length];
+            int count = 0;
+            for (int i = 0; i < advices.length; i++) {
+                stateIndexes[i] = advices[i].hasState() ? count++ : -1;
+            }
+            this.states = count;
+        }
+    }
+
     /**
      * Internal callback that executes the after advices.
      */
-    private final class InternalCallback implements AsyncCallback {
+    private static final class InternalCallback implements AsyncCallback {
 
-        private final List<Object> states;
+        private final AdviceChain chain;
+        private final Object[] states;
         private final Exchange exchange;
         private final AsyncCallback callback;
 
-        private InternalCallback(List<Object> states, Exchange exchange, AsyncCallback callback) {
+        private InternalCallback(AdviceChain chain, Object[] states, Exchange exchange, AsyncCallback callback) {
+            this.chain = chain;
             this.states = states;
             this.exchange = exchange;
             this.callback = callback;
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public void done(boolean doneSync) {
             // NOTE: if you are debugging Camel routes, then all the code in the for loop below is internal only
             // so you can step straight to the finally block and invoke the callback
 
             // we should call after in reverse order
             try {
-                for (int i = advices.size() - 1; i >= 0; i--) {
-                    CamelInternalProcessorAdvice task = advices.get(i);
-                    Object state = states.get(i);
+                for (int i = chain.advices.length - 1; i >= 0; i--) {
+                    CamelInternalProcessorAdvice task = chain.advices[i];
+                    int index = chain.stateIndexes[i];
+                    Object state = index >= 0 ? states[index] : null;
                     try {
                         task.after(exchange, state);
                     } catch (Exception e) {
@@ -318,6 +396,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                 uow.afterRoute(exchange, route);
             }
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -450,6 +533,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object state) throws Exception {
             inflightRepository.remove(exchange, id);
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -518,6 +606,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             }
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         private static boolean isCamelStopping(CamelContext context) {
             if (context instanceof StatefulService) {
                 StatefulService ss = (StatefulService) context;
@@ -573,6 +666,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // noop
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         @Override
         public int getOrder() {
             // we want tracer just before calling the processor
@@ -853,5 +951,10 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object data) throws Exception {
             // noop
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 }
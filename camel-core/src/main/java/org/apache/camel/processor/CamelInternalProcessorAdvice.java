@@ -46,4 +46,16 @@ public interface CamelInternalProcessorAdvice<T> {
      * @throws Exception is thrown if error during the call.
      */
     void after(Exchange exchange, T data) throws Exception;
+
+    /**
+     * Whether this advice has any state to keep from the {@link #before(org.apache.camel.Exchange)} method.
+     * <p/>
+     * Advices which always return <tt>null</tt> as state can return <tt>false</tt>, so the
+     * routing engine does not need to keep their state during routing.
+     *
+     * @return <tt>true</tt> (default) if the advice has state, <tt>false</tt> if not.
+     */
+    default boolean hasState() {
+        return true;
+    }
 }
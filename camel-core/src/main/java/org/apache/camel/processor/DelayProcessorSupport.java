@@ -61,7 +61,9 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
             // we are running now so decrement the counter
             delayedCount.decrementAndGet();
 
-            log.trace("Delayed task woke up and continues routing for exchangeId: {}", exchange.getExchangeId());
+            if (log.isTraceEnabled()) {
+                log.trace("Delayed task woke up and continues routing for exchangeId: {}", exchange.getExchangeId());
+            }
             if (!isRunAllowed()) {
                 exchange.setException(new RejectedExecutionException("Run is not allowed"));
             }
@@ -70,7 +72,9 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
             DelayProcessorSupport.this.processor.process(exchange, new AsyncCallback() {
                 @Override
                 public void done(boolean doneSync) {
-                    log.trace("Delayed task done for exchangeId: {}", exchange.getExchangeId());
+                    if (log.isTraceEnabled()) {
+                        log.trace("Delayed task done for exchangeId: {}", exchange.getExchangeId());
+                    }
                     // we must done the callback from this async callback as well, to ensure callback is done correctly
                     // must invoke done on callback with false, as that is what the original caller would
                     // expect as we returned false in the process method
@@ -110,8 +114,10 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
             delayedCount.incrementAndGet();
             ProcessCall call = new ProcessCall(exchange, callback);
             try {
-                log.trace("Scheduling delayed task to run in {} millis for exchangeId: {}",
-                        delay, exchange.getExchangeId());
+                if (log.isTraceEnabled()) {
+                    log.trace("Scheduling delayed task to run in {} millis for exchangeId: {}",
+                            delay, exchange.getExchangeId());
+                }
                 executorService.schedule(call, delay, TimeUnit.MILLISECONDS);
                 // tell Camel routing engine we continue routing asynchronous
                 return false;
@@ -122,7 +128,9 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
                     if (!isRunAllowed()) {
                         exchange.setException(new RejectedExecutionException());
                     } else {
-                        log.debug("Scheduling rejected task, so letting caller run, delaying at first for {} millis for exchangeId: {}", delay, exchange.getExchangeId());
+                        if (log.isDebugEnabled()) {
+                            log.debug("Scheduling rejected task, so letting caller run, delaying at first for {} millis for exchangeId: {}", delay, exchange.getExchangeId());
+                        }
                         // let caller run by processing
                         try {
                             delay(delay, exchange);
@@ -156,7 +164,9 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
             delay = calculateDelay(exchange);
             if (delay <= 0) {
                 // no delay then continue routing
-                log.trace("No delay for exchangeId: {}", exchange.getExchangeId());
+                if (log.isTraceEnabled()) {
+                    log.trace("No delay for exchangeId: {}", exchange.getExchangeId());
+                }
                 return processor.process(exchange, callback);
             }
         } catch (Throwable e) {
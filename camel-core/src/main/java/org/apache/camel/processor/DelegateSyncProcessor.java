@@ -21,10 +21,12 @@ import java.util.List;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.support.ServiceSupport;
+import org.apache.camel.util.ExchangeHelper;
 import org.apache.camel.util.ServiceHelper;
 
 /**
@@ -35,6 +37,9 @@ import org.apache.camel.util.ServiceHelper;
  * if the logic in the {@link #process(org.apache.camel.Exchange)} does not invoke EIPs; as it forces using
  * synchronous processing during the {@link #process(org.apache.camel.Exchange)} method call.
  * If you are implementing a EIP pattern please use this as the delegate, for simple EIPs.
+ * <p/>
+ * If the nested processor is a {@link BatchProcessor} then an exchange holding a batch is processed by
+ * {@link BatchProcessor#processBatch(List)}.
  *
  * @version
  * @see DelegateAsyncProcessor
@@ -60,7 +65,7 @@ public class DelegateSyncProcessor extends ServiceSupport implements org.apache.
     public boolean process(Exchange exchange, AsyncCallback callback) {
         // force calling the sync method
         try {
-            processor.process(exchange);
+            process(exchange);
         } catch (Throwable e) {
             // must catch throwable so we catch all
             exchange.setException(e);
@@ -73,6 +78,13 @@ public class DelegateSyncProcessor extends ServiceSupport implements org.apache.
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        if (processor instanceof BatchProcessor) {
+            List<Exchange> batch = ExchangeHelper.getBatch(exchange);
+            if (batch != null) {
+                ((BatchProcessor) processor).processBatch(batch);
+                return;
+            }
+        }
         processor.process(exchange);
     }
 
@@ -233,13 +233,17 @@ public class Enricher extends ServiceSupport implements AsyncProcessor, IdAware,
         });
 
         if (!sync) {
-            LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+            }
             // the remainder of the routing slip will be completed async
             // so we break out now, then the callback will be invoked which then continue routing from where we left here
             return false;
         }
 
-        LOG.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+        }
 
         // emit event that the exchange was sent to the endpoint
         long timeTaken = watch.stop();
@@ -96,13 +96,17 @@ public class LoopProcessor extends DelegateAsyncProcessor implements Traceable,
             boolean sync = process(target, callback, index, count, doWhile, original);
 
             if (!sync) {
-                LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", target.getExchangeId());
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", target.getExchangeId());
+                }
                 // the remainder of the loop will be completed async
                 // so we break out now, then the callback will be invoked which then continue routing from where we left here
                 return false;
             }
 
-            LOG.trace("Processing exchangeId: {} is continued being processed synchronously", target.getExchangeId());
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Processing exchangeId: {} is continued being processed synchronously", target.getExchangeId());
+            }
 
             // check for error if so we should break out
             if (!continueProcessing(target, "so breaking out of loop", LOG)) {
@@ -112,7 +116,9 @@ public class LoopProcessor extends DelegateAsyncProcessor implements Traceable,
 
         // we are done so prepare the result
         ExchangeHelper.copyResults(exchange, target);
-        LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+        }
         callback.done(true);
         return true;
     }
@@ -164,7 +170,9 @@ public class LoopProcessor extends DelegateAsyncProcessor implements Traceable,
                     // process again
                     boolean sync = process(target, callback, index, count, doWhile, original);
                     if (!sync) {
-                        LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", target.getExchangeId());
+                        if (LOG.isTraceEnabled()) {
+                            LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", target.getExchangeId());
+                        }
                         // the remainder of the routing slip will be completed async
                         // so we break out now, then the callback will be invoked which then continue routing from where we left here
                         return;
@@ -173,7 +181,9 @@ public class LoopProcessor extends DelegateAsyncProcessor implements Traceable,
 
                 // we are done so prepare the result
                 ExchangeHelper.copyResults(exchange, target);
-                LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+                }
                 callback.done(false);
             }
         });
@@ -359,7 +359,9 @@ public class MulticastProcessor extends ServiceSupport implements AsyncProcessor
             // its to hard to do parallel async routing so we let the caller thread be synchronously
             // and have it pickup the replies and do the aggregation (eg we use a latch to wait)
             // wait for aggregation to be done
-            LOG.debug("Waiting for on-the-fly aggregation to complete aggregating {} responses for exchangeId: {}", total.get(), original.getExchangeId());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Waiting for on-the-fly aggregation to complete aggregating {} responses for exchangeId: {}", total.get(), original.getExchangeId());
+            }
             aggregationOnTheFlyDone.await();
 
             // did we fail for whatever reason, if so throw that caused exception
@@ -412,7 +414,9 @@ public class MulticastProcessor extends ServiceSupport implements AsyncProcessor
         }
 
         public void run() {
-            LOG.trace("Aggregate on the fly task started for exchangeId: {}", original.getExchangeId());
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Aggregate on the fly task started for exchangeId: {}", original.getExchangeId());
+            }
 
             try {
                 aggregateOnTheFly();
@@ -424,8 +428,12 @@ public class MulticastProcessor extends ServiceSupport implements AsyncProcessor
                 }
             } finally {
                 // must signal we are done so the latch can open and let the other thread continue processing
-                LOG.debug("Signaling we are done aggregating on the fly for exchangeId: {}", original.getExchangeId());
-                LOG.trace("Aggregate on the fly task done for exchangeId: {}", original.getExchangeId());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Signaling we are done aggregating on the fly for exchangeId: {}", original.getExchangeId());
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Aggregate on the fly task done for exchangeId: {}", original.getExchangeId());
+                }
                 aggregationOnTheFlyDone.countDown();
             }
         }
@@ -757,7 +765,9 @@ public class MulticastProcessor extends ServiceSupport implements AsyncProcessor
                         boolean sync = doProcessSequential(original, result, pairs, it, pair, callback, total);
 
                         if (!sync) {
-                            LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", original.getExchangeId());
+                            if (LOG.isTraceEnabled()) {
+                                LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", original.getExchangeId());
+                            }
                             return;
                         }
 
@@ -84,13 +84,17 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
 
             // continue as long its being processed synchronously
             if (!sync) {
-                LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                }
                 // the remainder of the pipeline will be completed async
                 // so we break out now, then the callback will be invoked which then continue routing from where we left here
                 return false;
             }
 
-            LOG.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+            }
 
             // check for error if so we should break out
             if (!continueProcessing(nextExchange, "so breaking out of pipeline", LOG)) {
@@ -101,7 +105,9 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
         // logging nextExchange as it contains the exchange that might have altered the payload and since
         // we are logging the completion if will be confusing if we log the original instead
         // we could also consider logging the original and the nextExchange then we have *before* and *after* snapshots
-        LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), nextExchange);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), nextExchange);
+        }
 
         // copy results back to the original exchange
         ExchangeHelper.copyResults(exchange, nextExchange);
@@ -113,7 +119,9 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
     private boolean process(final Exchange original, final Exchange exchange, final AsyncCallback callback,
                             final Iterator<Processor> processors, final AsyncProcessor asyncProcessor) {
         // this does the actual processing so log at trace level
-        LOG.trace("Processing exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Processing exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+        }
 
         // implement asynchronous routing logic in callback so we can have the callback being
         // triggered and then continue routing where we left
@@ -137,13 +145,17 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
                     nextExchange = createNextExchange(nextExchange);
                     doneSync = process(original, nextExchange, callback, processors, processor);
                     if (!doneSync) {
-                        LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                        if (LOG.isTraceEnabled()) {
+                            LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                        }
                         return;
                     }
                 }
 
                 ExchangeHelper.copyResults(original, nextExchange);
-                LOG.trace("Processing complete for exchangeId: {} >>> {}", original.getExchangeId(), original);
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Processing complete for exchangeId: {} >>> {}", original.getExchangeId(), original);
+                }
                 callback.done(false);
             }
         });
@@ -170,7 +182,9 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
         if (stop != null) {
             boolean doStop = exchange.getContext().getTypeConverter().convertTo(Boolean.class, stop);
             if (doStop) {
-                LOG.debug("ExchangeId: {} is marked to stop routing: {}", exchange.getExchangeId(), exchange);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("ExchangeId: {} is marked to stop routing: {}", exchange.getExchangeId(), exchange);
+                }
                 answer = false;
             }
         } else {
@@ -178,7 +192,9 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
             answer = it.hasNext();
         }
 
-        LOG.trace("ExchangeId: {} should continue routing: {}", exchange.getExchangeId(), answer);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ExchangeId: {} should continue routing: {}", exchange.getExchangeId(), answer);
+        }
         return answer;
     }
 
@@ -207,7 +207,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
                 // be notified when we are done
                 sync = outputAsync.process(exchange, new AsyncCallback() {
                     public void done(boolean doneSync) {
-                        log.trace("Redelivering exchangeId: {} done sync: {}", exchange.getExchangeId(), doneSync);
+                        if (log.isTraceEnabled()) {
+                            log.trace("Redelivering exchangeId: {} done sync: {}", exchange.getExchangeId(), doneSync);
+                        }
 
                         // mark we are in sync mode now
                         data.sync = false;
@@ -228,7 +230,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
                 // handle when the asynchronous task was done
                 sync = outputAsync.process(exchange, new AsyncCallback() {
                     public void done(boolean doneSync) {
-                        log.trace("Redelivering exchangeId: {} done sync: {}", exchange.getExchangeId(), doneSync);
+                        if (log.isTraceEnabled()) {
+                            log.trace("Redelivering exchangeId: {} done sync: {}", exchange.getExchangeId(), doneSync);
+                        }
 
                         // this callback should only handle the async case
                         if (doneSync) {
@@ -722,7 +726,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
                 || ExchangeHelper.isRedeliveryExhausted(exchange);
         }
 
-        log.trace("Is exchangeId: {} done? {}", exchange.getExchangeId(), answer);
+        if (log.isTraceEnabled()) {
+            log.trace("Is exchangeId: {} done? {}", exchange.getExchangeId(), answer);
+        }
         return answer;
     }
 
@@ -739,7 +745,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
             answer = true;
         }
 
-        log.trace("Is exchangeId: {} interrupted? {}", exchange.getExchangeId(), answer);
+        if (log.isTraceEnabled()) {
+            log.trace("Is exchangeId: {} interrupted? {}", exchange.getExchangeId(), answer);
+        }
         return answer;
     }
 
@@ -238,13 +238,17 @@ public class RoutingSlip extends ServiceSupport implements AsyncProcessor, Trace
             current = prepareExchangeForRoutingSlip(current, endpoint);
             
             if (!sync) {
-                log.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                if (log.isTraceEnabled()) {
+                    log.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                }
                 // the remainder of the routing slip will be completed async
                 // so we break out now, then the callback will be invoked which then continue routing from where we left here
                 return false;
             }
 
-            log.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+            if (log.isTraceEnabled()) {
+                log.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+            }
 
             // we ignore some kind of exceptions and allow us to continue
             if (isIgnoreInvalidEndpoints()) {
@@ -267,7 +271,9 @@ public class RoutingSlip extends ServiceSupport implements AsyncProcessor, Trace
         // logging nextExchange as it contains the exchange that might have altered the payload and since
         // we are logging the completion if will be confusing if we log the original instead
         // we could also consider logging the original and the nextExchange then we have *before* and *after* snapshots
-        log.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), current);
+        if (log.isTraceEnabled()) {
+            log.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), current);
+        }
 
         // copy results back to the original exchange
         ExchangeHelper.copyResults(exchange, current);
@@ -341,7 +347,9 @@ public class RoutingSlip extends ServiceSupport implements AsyncProcessor, Trace
                                       final AsyncCallback callback, final RoutingSlipIterator iter) {
 
         // this does the actual processing so log at trace level
-        log.trace("Processing exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+        if (log.isTraceEnabled()) {
+            log.trace("Processing exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+        }
 
         boolean sync = producerCache.doInAsyncProducer(endpoint, exchange, null, callback, new AsyncProducerCallback() {
             public boolean doInAsyncProducer(Producer producer, AsyncProcessor asyncProducer, final Exchange exchange,
@@ -403,7 +411,9 @@ public class RoutingSlip extends ServiceSupport implements AsyncProcessor, Trace
                             current = prepareExchangeForRoutingSlip(current, endpoint);
 
                             if (!sync) {
-                                log.trace("Processing exchangeId: {} is continued being processed asynchronously", original.getExchangeId());
+                                if (log.isTraceEnabled()) {
+                                    log.trace("Processing exchangeId: {} is continued being processed asynchronously", original.getExchangeId());
+                                }
                                 return;
                             }
                         }
@@ -411,7 +421,9 @@ public class RoutingSlip extends ServiceSupport implements AsyncProcessor, Trace
                         // logging nextExchange as it contains the exchange that might have altered the payload and since
                         // we are logging the completion if will be confusing if we log the original instead
                         // we could also consider logging the original and the nextExchange then we have *before* and *after* snapshots
-                        log.trace("Processing complete for exchangeId: {} >>> {}", original.getExchangeId(), current);
+                        if (log.isTraceEnabled()) {
+                            log.trace("Processing complete for exchangeId: {} >>> {}", original.getExchangeId(), current);
+                        }
 
                         // copy results back to the original exchange
                         ExchangeHelper.copyResults(original, current);
@@ -18,10 +18,12 @@ package org.apache.camel.processor;
 
 import java.net.URISyntaxException;
 import java.util.HashMap;
+import java.util.List;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.AsyncProducerCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.EndpointAware;
@@ -38,6 +40,7 @@ import org.apache.camel.util.AsyncProcessorConverterHelper;
 import org.apache.camel.util.AsyncProcessorHelper;
 import org.apache.camel.util.EndpointHelper;
 import org.apache.camel.util.EventHelper;
+import org.apache.camel.util.ExchangeHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.ServiceHelper;
 import org.apache.camel.util.StopWatch;
@@ -57,6 +60,7 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
     protected final ExchangePattern pattern;
     protected ProducerCache producerCache;
     protected AsyncProcessor producer;
+    protected BatchProcessor batchProducer;
     protected Endpoint destination;
     protected ExchangePattern destinationExchangePattern;
     protected String id;
@@ -129,6 +133,16 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
 
         counter++;
 
+        // a batch is handed over in one call to producers which can process batches
+        if (batchProducer != null) {
+            List<Exchange> batch = ExchangeHelper.getBatch(exchange);
+            if (batch != null) {
+                processBatch(exchange, batch, existingPattern);
+                callback.done(true);
+                return true;
+            }
+        }
+
         // if we have a producer then use that as its optimized
         if (producer != null) {
 
@@ -182,6 +196,25 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
         });
     }
     
+    protected void processBatch(Exchange exchange, List<Exchange> batch, ExchangePattern existingPattern) {
+        StopWatch watch = new StopWatch();
+        Exchange target = configureExchange(exchange, pattern);
+
+        EventHelper.notifyExchangeSending(exchange.getContext(), target, destination);
+        LOG.debug(">>>> {} batch of {} exchanges {}", new Object[]{destination, batch.size(), exchange});
+        try {
+            batchProducer.processBatch(batch);
+        } catch (Throwable e) {
+            exchange.setException(e);
+        } finally {
+            // restore previous MEP
+            target.setPattern(existingPattern);
+            // emit event that the exchange was sent to the endpoint
+            long timeTaken = watch.stop();
+            EventHelper.notifyExchangeSent(target.getContext(), target, destination, timeTaken);
+        }
+    }
+
     public Endpoint getDestination() {
         return destination;
     }
@@ -248,6 +281,9 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
         } else {
             // yes we can optimize and use the producer directly for sending
             this.producer = AsyncProcessorConverterHelper.convert(producer);
+            if (producer instanceof BatchProcessor) {
+                this.batchProducer = (BatchProcessor) producer;
+            }
         }
     }
 
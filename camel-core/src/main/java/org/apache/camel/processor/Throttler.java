@@ -121,7 +121,9 @@ public class Throttler extends DelegateAsyncProcessor implements Traceable, IdAw
                 } else {
                     // delegate to async pool
                     if (isAsyncDelayed() && !exchange.isTransacted() && state == State.SYNC) {
-                        log.debug("Throttle rate exceeded but AsyncDelayed enabled, so queueing for async processing, exchangeId: {}", exchange.getExchangeId());
+                        if (log.isDebugEnabled()) {
+                            log.debug("Throttle rate exceeded but AsyncDelayed enabled, so queueing for async processing, exchangeId: {}", exchange.getExchangeId());
+                        }
                         return processAsynchronously(exchange, callback);
                     }
 
@@ -143,7 +145,9 @@ public class Throttler extends DelegateAsyncProcessor implements Traceable, IdAw
                             log.trace("Queued for {}ms, Throttled for {}ms, exchangeId: {}", queuedTime, elapsed, exchange.getExchangeId());
                         }
                     } else {
-                        log.trace("Throttled for {}ms, exchangeId: {}", elapsed, exchange.getExchangeId());
+                        if (log.isTraceEnabled()) {
+                            log.trace("Throttled for {}ms, exchangeId: {}", elapsed, exchange.getExchangeId());
+                        }
                     }
                 }
             } else {
@@ -155,7 +159,9 @@ public class Throttler extends DelegateAsyncProcessor implements Traceable, IdAw
                         log.trace("Queued for {}ms, No throttling applied (throttle cleared while queued), for exchangeId: {}", queuedTime, exchange.getExchangeId());
                     }
                 } else {
-                    log.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                    if (log.isTraceEnabled()) {
+                        log.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                    }
                 }
             }
 
@@ -212,7 +218,9 @@ public class Throttler extends DelegateAsyncProcessor implements Traceable, IdAw
             return false;
         } catch (final RejectedExecutionException e) {
             if (isCallerRunsWhenRejected()) {
-                log.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}", exchange.getExchangeId());
+                if (log.isDebugEnabled()) {
+                    log.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}", exchange.getExchangeId());
+                }
                 exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC_REJECTED);
                 return process(exchange, callback);
             }
@@ -257,9 +265,13 @@ public class Throttler extends DelegateAsyncProcessor implements Traceable, IdAw
                         while (delta > 0) {
                             delayQueue.take();
                             delta--;
-                            log.trace("Permit discarded due to throttling rate decrease, triggered by ExchangeId: {}", exchange.getExchangeId());
+                            if (log.isTraceEnabled()) {
+                                log.trace("Permit discarded due to throttling rate decrease, triggered by ExchangeId: {}", exchange.getExchangeId());
+                            }
+                        }
+                        if (log.isDebugEnabled()) {
+                            log.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle, exchange.getExchangeId());
                         }
-                        log.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle, exchange.getExchangeId());
 
                     // increase
                     } else if (newThrottle > throttleRate) {
@@ -268,9 +280,13 @@ public class Throttler extends DelegateAsyncProcessor implements Traceable, IdAw
                             delayQueue.put(new ThrottlePermit(-1));
                         }
                         if (throttleRate == 0) {
-                            log.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle, exchange.getExchangeId());
+                            if (log.isDebugEnabled()) {
+                                log.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle, exchange.getExchangeId());
+                            }
                         } else {
-                            log.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle, exchange.getExchangeId());
+                            if (log.isDebugEnabled()) {
+                                log.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle, exchange.getExchangeId());
+                            }
                         }
                     }
                     throttleRate = newThrottle;
@@ -119,7 +119,9 @@ public class CircuitBreakerLoadBalancer extends LoadBalancerSupport implements T
             }
         }
 
-        log.trace("Failed: {} for exchangeId: {}", answer, exchange.getExchangeId());
+        if (log.isTraceEnabled()) {
+            log.trace("Failed: {} for exchangeId: {}", answer, exchange.getExchangeId());
+        }
 
         return answer;
     }
@@ -238,11 +240,15 @@ public class CircuitBreakerLoadBalancer extends LoadBalancerSupport implements T
         } else {
             // CircuitBreakerCallback can take care of failure check of the
             // exchange
-            log.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+            if (log.isTraceEnabled()) {
+                log.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+            }
             return false;
         }
 
-        log.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+        if (log.isTraceEnabled()) {
+            log.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+        }
         callback.done(true);
         return true;
     }
@@ -143,7 +143,9 @@ public class FailOverLoadBalancer extends LoadBalancerSupport implements Traceab
             }
         }
 
-        log.trace("Should failover: {} for exchangeId: {}", answer, exchange.getExchangeId());
+        if (log.isTraceEnabled()) {
+            log.trace("Should failover: {} for exchangeId: {}", answer, exchange.getExchangeId());
+        }
 
         return answer;
     }
@@ -233,13 +235,17 @@ public class FailOverLoadBalancer extends LoadBalancerSupport implements Traceab
 
             // continue as long its being processed synchronously
             if (!sync) {
-                log.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                if (log.isTraceEnabled()) {
+                    log.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                }
                 // the remainder of the failover will be completed async
                 // so we break out now, then the callback will be invoked which then continue routing from where we left here
                 return false;
             }
 
-            log.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+            if (log.isTraceEnabled()) {
+                log.trace("Processing exchangeId: {} is continued being processed synchronously", exchange.getExchangeId());
+            }
         }
 
         // remember last good index
@@ -249,7 +255,9 @@ public class FailOverLoadBalancer extends LoadBalancerSupport implements Traceab
         if (copy != null) {
             ExchangeHelper.copyResults(exchange, copy);
         }
-        log.debug("Failover complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+        if (log.isDebugEnabled()) {
+            log.debug("Failover complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+        }
         callback.done(true);
         return true;
     }
@@ -347,7 +355,9 @@ public class FailOverLoadBalancer extends LoadBalancerSupport implements Traceab
                 // try to failover using the next processor
                 doneSync = processExchange(processor, exchange, copy, attempts, index, callback, processors);
                 if (!doneSync) {
-                    log.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                    if (log.isTraceEnabled()) {
+                        log.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
+                    }
                     // the remainder of the failover will be completed async
                     // so we break out now, then the callback will be invoked which then continue routing from where we left here
                     return;
@@ -361,7 +371,9 @@ public class FailOverLoadBalancer extends LoadBalancerSupport implements Traceab
             if (copy != null) {
                 ExchangeHelper.copyResults(exchange, copy);
             }
-            log.debug("Failover complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+            if (log.isDebugEnabled()) {
+                log.debug("Failover complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+            }
             // signal callback we are done
             callback.done(false);
         }
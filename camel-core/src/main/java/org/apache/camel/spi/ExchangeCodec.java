@@ -0,0 +1,59 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultExchangeHolder;
+
+/**
+ * Codec to encode and decode a {@link DefaultExchangeHolder} to and from bytes, for example when an exchange
+ * is persisted by an {@link AggregationRepository}.
+ * <p/>
+ * A codec reads the information to encode using the getters of the {@link DefaultExchangeHolder}, and recreates the holder
+ * it has decoded using {@link DefaultExchangeHolder#create}.
+ *
+ * @see org.apache.camel.impl.SerializationExchangeCodec
+ * @see org.apache.camel.impl.BinaryExchangeCodec
+ */
+public interface ExchangeCodec {
+
+    /**
+     * Encodes the holder to the stream.
+     *
+     * @param camelContext the camel context
+     * @param holder       the holder with the information from the exchange
+     * @param out          the stream to write to, which is not closed by the codec
+     * @throws IOException is thrown if error writing to the stream
+     */
+    void encode(CamelContext camelContext, DefaultExchangeHolder holder, OutputStream out) throws IOException;
+
+    /**
+     * Decodes the holder from the stream.
+     *
+     * @param camelContext the camel context, used for loading classes of serialized values
+     * @param in           the stream to read from, which is not closed by the codec
+     * @return the holder
+     * @throws IOException is thrown if error reading from the stream, or the data is not in a supported format
+     * @throws ClassNotFoundException is thrown if a class of a serialized value cannot be loaded
+     */
+    DefaultExchangeHolder decode(CamelContext camelContext, InputStream in) throws IOException, ClassNotFoundException;
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Service;
+
+/**
+ * A bounded pool of {@link Exchange} instances which high-rate consumers can use to recycle
+ * exchanges instead of allocating a new exchange (and message) for every incoming event.
+ * <p/>
+ * A consumer acquires an exchange from the pool instead of calling {@link Endpoint#createExchange()},
+ * and releases it back when it is completely done with the exchange, which is after the routing
+ * has completed and the unit of work is done. Only exchanges which are no longer in-flight are recycled,
+ * any other exchange is discarded and left for the garbage collector.
+ * <p/>
+ * <b>Important:</b> pooling is only safe if the routes do not keep references to the exchange
+ * (or its messages) after the routing has completed.
+ */
+public interface ExchangePool extends Service {
+
+    /**
+     * Gets the endpoint the pooled exchanges are created from.
+     */
+    Endpoint getEndpoint();
+
+    /**
+     * Acquires an exchange from the pool, or creates a new exchange if the pool is empty.
+     *
+     * @return the exchange to use
+     */
+    Exchange acquire();
+
+    /**
+     * Releases the exchange back into the pool.
+     *
+     * @param exchange the exchange which the consumer is done with
+     * @return <tt>true</tt> if the exchange was recycled, <tt>false</tt> if it was discarded
+     */
+    boolean release(Exchange exchange);
+
+    /**
+     * Maximum number of idle exchanges kept in the pool.
+     */
+    int getCapacity();
+
+    /**
+     * Current number of idle exchanges in the pool.
+     */
+    int getSize();
+
+    /**
+     * Number of times an exchange was acquired from the pool.
+     */
+    long getHits();
+
+    /**
+     * Number of times the pool was empty and a new exchange had to be created.
+     */
+    long getMisses();
+
+    /**
+     * Number of exchanges which was released and recycled back into the pool.
+     */
+    long getReleased();
+
+    /**
+     * Number of exchanges which could not be recycled, such as exchanges which was still in-flight or the pool was full.
+     */
+    long getDiscarded();
+
+    /**
+     * Whether leak detection is enabled, which keeps track of acquired exchanges that are never released.
+     */
+    boolean isLeakDetection();
+
+    /**
+     * Reset the counters
+     */
+    void resetStatistics();
+}
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.util.Collection;
+import java.util.Date;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
@@ -144,6 +145,31 @@ public interface InflightRepository extends StaticService {
      */
     int size(String routeId);
 
+    /**
+     * The oldest {@link InflightExchange} that is currently inflight that started from the given route.
+     * <p/>
+     * The exchanges are compared by their {@link Exchange#CREATED_TIMESTAMP}. Notice that exchanges which are routed
+     * to the route from other routes are not included, as they did not start from the route.
+     * <p/>
+     * The default implementation scans the exchanges from {@link #browse(String)}.
+     *
+     * @param fromRouteId  the route id, or <tt>null</tt> for all routes.
+     * @return the oldest inflight exchange, or <tt>null</tt> if there are no inflight exchanges.
+     */
+    default InflightExchange oldest(String fromRouteId) {
+        InflightExchange oldest = null;
+        long oldestCreated = Long.MAX_VALUE;
+        for (InflightExchange inflight : browse(fromRouteId)) {
+            Date created = inflight.getExchange().getProperty(Exchange.CREATED_TIMESTAMP, Date.class);
+            long time = created != null ? created.getTime() : Long.MAX_VALUE;
+            if (oldest == null || time < oldestCreated) {
+                oldest = inflight;
+                oldestCreated = time;
+            }
+        }
+        return oldest;
+    }
+
     /**
      * A <i>read-only</i> browser of the {@link InflightExchange}s that are currently inflight.
      */
@@ -56,7 +56,9 @@ public final class AsyncProcessorHelper {
 
         if (exchange.isTransacted()) {
             // must be synchronized for transacted exchanges
-            LOG.trace("Transacted Exchange must be routed synchronously for exchangeId: {} -> {}", exchange.getExchangeId(), exchange);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Transacted Exchange must be routed synchronously for exchangeId: {} -> {}", exchange.getExchangeId(), exchange);
+            }
             try {
                 process(processor, exchange);
             } catch (Throwable e) {
@@ -913,6 +913,41 @@ public final class ExchangeHelper {
         }
     }
 
+    /**
+     * Creates an exchange holding the given batch of exchanges, which can be routed and processed in one call
+     * by a {@link org.apache.camel.BatchProcessor}.
+     * <p/>
+     * The batch is stored as the message body and as the {@link Exchange#BATCH_EXCHANGES} property.
+     * The property is not the {@link Exchange#GROUPED_EXCHANGE} property of the aggregator, so exchanges
+     * grouped by the aggregator are not processed as a batch.
+     *
+     * @param fromEndpoint the endpoint which creates the exchange
+     * @param exchanges    the exchanges in the batch
+     * @return the exchange holding the batch
+     */
+    public static Exchange createBatchExchange(Endpoint fromEndpoint, List<Exchange> exchanges) {
+        Exchange answer = fromEndpoint.createExchange();
+        answer.setFromEndpoint(fromEndpoint);
+        answer.setProperty(Exchange.BATCH_EXCHANGES, exchanges);
+        answer.getIn().setBody(exchanges);
+        return answer;
+    }
+
+    /**
+     * Gets the batch of exchanges the given exchange holds
+     *
+     * @param exchange the exchange
+     * @return the exchanges in the batch, or <tt>null</tt> if the exchange does not hold a batch
+     * @see #createBatchExchange(Endpoint, List)
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Exchange> getBatch(Exchange exchange) {
+        if (!exchange.hasProperties()) {
+            return null;
+        }
+        return exchange.getProperty(Exchange.BATCH_EXCHANGES, List.class);
+    }
+
     /**
      * Gets the original IN {@link Message} this Unit of Work was started with.
      * <p/>
@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.dataset;
+
+import java.util.Date;
+import javax.naming.Context;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+
+public class DataSetProduceRateTest extends ContextTestSupport {
+    private SimpleDataSet dataSet = new SimpleDataSet(200);
+    private String uri = "dataset:foo?produceRate=500&produceThreads=4";
+
+    public void testProduceRate() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(200);
+        mock.setResultWaitTime(10000);
+
+        mock.assertIsSatisfied();
+
+        // 200 messages at 500 per second takes at least 400 millis
+        Date first = mock.getReceivedExchanges().get(0).getProperty(Exchange.RECEIVED_TIMESTAMP, Date.class);
+        Date last = mock.getReceivedExchanges().get(199).getProperty(Exchange.RECEIVED_TIMESTAMP, Date.class);
+        long taken = last.getTime() - first.getTime();
+        assertTrue("Should take at least 350 millis, was " + taken, taken >= 350);
+
+        // the latency is recorded when the route is done which can be after the mock received the message
+        LatencyHistogram histogram = context.getEndpoint(uri, DataSetEndpoint.class).getLatencyHistogram();
+        for (int i = 0; i < 50 && histogram.getTotalCount() < 200; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(200, histogram.getTotalCount());
+        // the route delays every 50th message by 100 millis which should be included in the latencies,
+        // also for the messages which were scheduled to be sent while the threads were busy
+        assertTrue(histogram.getValueAtPercentile(99) >= 50000);
+    }
+
+    @Override
+    protected Context createJndiContext() throws Exception {
+        Context context = super.createJndiContext();
+        context.bind("foo", dataSet);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(uri)
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            if (exchange.getIn().getHeader(Exchange.DATASET_INDEX, Long.class) % 50 == 0) {
+                                Thread.sleep(100);
+                            }
+                        }
+                    })
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.BatchProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultEndpoint;
+import org.apache.camel.impl.DefaultProducer;
+import org.apache.camel.processor.aggregate.GroupedExchangeAggregationStrategy;
+
+/**
+ * @version 
+ */
+public class SedaBatchTest extends ContextTestSupport {
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<Integer>();
+    private final List<Object> bodies = new CopyOnWriteArrayList<Object>();
+    private final List<Exchange> singles = new CopyOnWriteArrayList<Exchange>();
+    private final CountDownLatch latch = new CountDownLatch(25);
+
+    public void testBatchToBatchProducer() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            template.sendBody("seda:start", i);
+        }
+        context.startRoute("batch");
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(25, bodies.size());
+        for (int size : batchSizes) {
+            assertTrue("Batch should not be larger than 10, was " + size, size <= 10);
+        }
+        assertEquals(25, sizeOf(batchSizes));
+        assertTrue("Should route in batches", batchSizes.size() < 25);
+    }
+
+    public void testBatchRequestReply() throws Exception {
+        assertEquals("HELLO", template.requestBody("seda:inout", "Hello"));
+
+        try {
+            template.requestBody("seda:inout", "Kaboom");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertEquals("Forced", e.getCause().getMessage());
+        }
+    }
+
+    public void testBatchProcessorInRoute() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("HELLO");
+        template.sendBody("seda:process", "Hello");
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testGroupedExchangesAreNotABatch() throws Exception {
+        template.sendBody("direct:group", "A");
+        template.sendBody("direct:group", "B");
+        template.sendBody("direct:group", "C");
+
+        // the aggregated exchange is processed as usual
+        assertEquals(0, batchSizes.size());
+        assertEquals(1, singles.size());
+        assertEquals(3, singles.get(0).getProperty(Exchange.GROUPED_EXCHANGE, List.class).size());
+    }
+
+    public void testFailedExchangeInBatchNotHandledByErrorHandler() throws Exception {
+        getMockEndpoint("mock:dead").expectedMessageCount(0);
+
+        try {
+            template.requestBody("seda:dead", "Kaboom");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            // the caller gets the failure of its exchange
+            assertEquals("Forced", e.getCause().getMessage());
+        }
+        assertEquals("HELLO", template.requestBody("seda:dead", "Hello"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testFailedBatchHandledByErrorHandler() throws Exception {
+        getMockEndpoint("mock:dead").expectedMessageCount(1);
+        getMockEndpoint("mock:dead").message(0).body().isInstanceOf(List.class);
+
+        // the entire batch fails so the dead letter channel gets the batch
+        assertEquals("Explode", template.requestBody("seda:dead", "Explode"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testBatchWithMultipleConsumersFailsToStart() throws Exception {
+        try {
+            context.startRoute("multiple");
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("The batchSize option cannot be used together with multipleConsumers"));
+        }
+    }
+
+    private static int sizeOf(List<Integer> sizes) {
+        int answer = 0;
+        for (int size : sizes) {
+            answer += size;
+        }
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                context.addEndpoint("bulk:foo", new BulkEndpoint("bulk:foo", context));
+
+                from("seda:start?batchSize=10").routeId("batch").noAutoStartup()
+                    .to("bulk:foo");
+
+                from("seda:multiple?batchSize=10&multipleConsumers=true").routeId("multiple").noAutoStartup()
+                    .to("bulk:foo");
+
+                from("seda:inout?batchSize=10")
+                    .to("bulk:foo");
+
+                from("seda:process?batchSize=10")
+                    .process(new UpperCaseBatchProcessor())
+                    .split(body())
+                        .process(exchange -> exchange.getIn().setBody(exchange.getIn().getBody(Exchange.class).getIn().getBody()))
+                        .to("mock:result");
+
+                from("seda:dead?batchSize=10")
+                    .errorHandler(deadLetterChannel("mock:dead"))
+                    .to("bulk:foo");
+
+                from("direct:group")
+                    .aggregate(constant(true), new GroupedExchangeAggregationStrategy()).completionSize(3)
+                        .to("direct:bulk");
+
+                from("direct:bulk")
+                    .to("bulk:foo");
+            }
+        };
+    }
+
+    private static final class UpperCaseBatchProcessor implements BatchProcessor {
+
+        @Override
+        public void processBatch(List<Exchange> exchanges) throws Exception {
+            for (Exchange exchange : exchanges) {
+                exchange.getIn().setBody(exchange.getIn().getBody(String.class).toUpperCase());
+            }
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            fail("Should process the batch");
+        }
+    }
+
+    private final class BulkEndpoint extends DefaultEndpoint {
+
+        private BulkEndpoint(String endpointUri, CamelContext camelContext) {
+            setCamelContext(camelContext);
+            setEndpointUri(endpointUri);
+        }
+
+        public Producer createProducer() throws Exception {
+            return new BulkProducer(this);
+        }
+
+        public Consumer createConsumer(Processor processor) throws Exception {
+            throw new UnsupportedOperationException();
+        }
+
+        public boolean isSingleton() {
+            return true;
+        }
+    }
+
+    private final class BulkProducer extends DefaultProducer implements BatchProcessor {
+
+        BulkProducer(Endpoint endpoint) {
+            super(endpoint);
+        }
+
+        @Override
+        public void processBatch(List<Exchange> exchanges) throws Exception {
+            for (Exchange exchange : exchanges) {
+                if ("Explode".equals(exchange.getIn().getBody())) {
+                    throw new IllegalStateException("Forced batch failure");
+                }
+            }
+            batchSizes.add(exchanges.size());
+            for (Exchange exchange : exchanges) {
+                Object body = exchange.getIn().getBody();
+                if ("Kaboom".equals(body)) {
+                    exchange.setException(new IllegalArgumentException("Forced"));
+                } else {
+                    bodies.add(body);
+                    exchange.getOut().setBody(body.toString().toUpperCase());
+                }
+                latch.countDown();
+            }
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            singles.add(exchange);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.timer;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.ExchangePool;
+
+/**
+ * Unit test for timer recycling its exchanges using an exchange pool
+ */
+public class TimerExchangePoolTest extends ContextTestSupport {
+
+    public void testExchangePool() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+        mock.setAssertPeriod(200);
+        mock.expectedBodiesReceived(1L, 2L, 3L, 4L, 5L);
+
+        assertMockEndpointsSatisfied();
+
+        TimerConsumer consumer = (TimerConsumer) context.getRoute("timer").getConsumer();
+        ExchangePool pool = consumer.getExchangePool();
+        assertNotNull(pool);
+        assertEquals(1, pool.getMisses());
+        assertEquals(4, pool.getHits());
+        assertEquals(5, pool.getReleased());
+        assertEquals(0, pool.getDiscarded());
+        assertEquals(1, pool.getSize());
+
+        // the pool is stopped together with the consumer
+        context.stopRoute("timer");
+        assertNull(consumer.getExchangePool());
+    }
+
+    public void testExchangePoolAsyncRouting() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:async");
+        mock.expectedBodiesReceived(1L, 2L, 3L);
+
+        context.startRoute("async");
+        assertMockEndpointsSatisfied();
+
+        // the exchange is released once both the callback is done and process has returned
+        TimerConsumer consumer = (TimerConsumer) context.getRoute("async").getConsumer();
+        ExchangePool pool = consumer.getExchangePool();
+        assertNotNull(pool);
+        long released = 0;
+        for (int i = 0; i < 50 && released < 3; i++) {
+            Thread.sleep(20);
+            released = pool.getReleased();
+        }
+        assertEquals(3, released);
+        assertEquals(0, pool.getDiscarded());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("timer://hello?repeatCount=5&period=10&exchangePoolSize=2").routeId("timer")
+                    .process(exchange -> {
+                        // a recycled exchange must not carry state from its previous use
+                        assertNull(exchange.getIn().getHeader("seen"));
+                        assertNull(exchange.getProperty("seen"));
+                        exchange.getIn().setHeader("seen", true);
+                        exchange.setProperty("seen", true);
+                    })
+                    .setBody(exchangeProperty(Exchange.TIMER_COUNTER))
+                    .to("mock:result");
+
+                // the delayer continues routing on another thread after process has returned
+                from("timer://async?repeatCount=3&period=100&exchangePoolSize=2").routeId("async").noAutoStartup()
+                    .delay(50).asyncDelayed()
+                    .setBody(exchangeProperty(Exchange.TIMER_COUNTER))
+                    .to("mock:async");
+            }
+        };
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.ExchangeCodec;
+
+/**
+ * @version 
+ */
+public class BinaryExchangeCodecTest extends ContextTestSupport {
+
+    public void testRoundTrip() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("int", 123);
+        exchange.getIn().setHeader("negative", -456L);
+        exchange.getIn().setHeader("flag", true);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("date", new Date(1000));
+        exchange.getIn().setHeader("decimal", new BigDecimal("12.345"));
+        exchange.getOut().setBody(new byte[]{1, 2, 3});
+        exchange.getOut().setFault(true);
+        exchange.setProperty("bar", 'x');
+        exchange.setException(new RuntimeCamelException("Damn"));
+
+        BinaryExchangeCodec codec = new BinaryExchangeCodec();
+        Exchange answer = decode(codec, encode(codec, exchange));
+
+        assertEquals(exchange.getExchangeId(), answer.getExchangeId());
+        assertEquals("Hello World", answer.getIn().getBody());
+        assertEquals(123, answer.getIn().getHeader("int"));
+        assertEquals(-456L, answer.getIn().getHeader("negative"));
+        assertEquals(Boolean.TRUE, answer.getIn().getHeader("flag"));
+        assertEquals(1.5d, answer.getIn().getHeader("double"));
+        assertEquals(new Date(1000), answer.getIn().getHeader("date"));
+        assertEquals(new BigDecimal("12.345"), answer.getIn().getHeader("decimal"));
+        assertEquals(3, answer.getOut().getBody(byte[].class).length);
+        assertTrue(answer.getOut().isFault());
+        assertEquals('x', answer.getProperty("bar"));
+        assertEquals("Damn", answer.getException().getMessage());
+    }
+
+    public void testSmallerThanSerialization() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+
+        byte[] binary = encode(new BinaryExchangeCodec(), exchange);
+        byte[] serialized = encode(new SerializationExchangeCodec(), exchange);
+        assertTrue("Binary format should be smaller: " + binary.length + " >= " + serialized.length, binary.length < serialized.length);
+    }
+
+    public void testDecodeSerialized() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+
+        byte[] data = encode(new SerializationExchangeCodec(), exchange);
+        Exchange answer = decode(new BinaryExchangeCodec(), data);
+
+        assertEquals("Hello World", answer.getIn().getBody());
+        assertEquals(123, answer.getIn().getHeader("foo"));
+    }
+
+    public void testCompression() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("Hello World ");
+        }
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(sb.toString());
+
+        BinaryExchangeCodec codec = new BinaryExchangeCodec();
+        int uncompressed = encode(codec, exchange).length;
+
+        codec.setCompressionThreshold(1024);
+        byte[] data = encode(codec, exchange);
+        assertTrue("Should be compressed: " + data.length, data.length < uncompressed / 10);
+
+        Exchange answer = decode(codec, data);
+        assertEquals(sb.toString(), answer.getIn().getBody());
+    }
+
+    public void testCorruptedLength() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        byte[] data = encode(new BinaryExchangeCodec(), exchange);
+
+        // change the length of the exchange id, which is the first value in the payload, to a huge value
+        byte[] corrupted = new byte[data.length + 4];
+        System.arraycopy(data, 0, corrupted, 0, 5);
+        corrupted[4] = (byte) (data[4] + 4);
+        corrupted[5] = (byte) 0xFF;
+        corrupted[6] = (byte) 0xFF;
+        corrupted[7] = (byte) 0xFF;
+        corrupted[8] = (byte) 0xFF;
+        corrupted[9] = (byte) 0x07;
+        System.arraycopy(data, 6, corrupted, 10, data.length - 6);
+        try {
+            decode(new BinaryExchangeCodec(), corrupted);
+            fail("Should have thrown an exception");
+        } catch (StreamCorruptedException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Length 2147483646 exceeds the remaining"));
+        }
+
+        // the payload length is larger than the data
+        byte[] truncated = new byte[data.length];
+        System.arraycopy(data, 0, truncated, 0, data.length);
+        truncated[4] = (byte) 0x7F;
+        try {
+            decode(new BinaryExchangeCodec(), truncated);
+            fail("Should have thrown an exception");
+        } catch (EOFException e) {
+            // expected
+        }
+    }
+
+    public void testCreateHolder() throws Exception {
+        // a codec recreates the holder it has decoded using the public api of the holder
+        DefaultExchangeHolder holder = DefaultExchangeHolder.create("id", "Hello", null, false, null, null, false, null, null);
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, holder);
+        assertEquals("id", answer.getExchangeId());
+        assertEquals("Hello", answer.getIn().getBody());
+        assertEquals("Hello", holder.getInBody());
+    }
+
+    private byte[] encode(ExchangeCodec codec, Exchange exchange) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        codec.encode(context, DefaultExchangeHolder.marshal(exchange), bos);
+        return bos.toByteArray();
+    }
+
+    private Exchange decode(ExchangeCodec codec, byte[] data) throws Exception {
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, codec.decode(context, new ByteArrayInputStream(data)));
+        return answer;
+    }
+
+}
@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Message;
+
+/**
+ * @version 
+ */
+public class DefaultExchangePoolTest extends ContextTestSupport {
+
+    public void testRecycle() throws Exception {
+        Endpoint endpoint = context.getEndpoint("direct:start?exchangePattern=InOut");
+        DefaultExchangePool pool = new DefaultExchangePool(endpoint, 2);
+        pool.start();
+
+        Exchange exchange = pool.acquire();
+        assertSame(endpoint, exchange.getFromEndpoint());
+        assertEquals(ExchangePattern.InOut, exchange.getPattern());
+        String id = exchange.getExchangeId();
+        Message in = exchange.getIn();
+        in.setBody("Hello World");
+        in.setHeader("foo", "bar");
+        exchange.setProperty("beer", "Carlsberg");
+        exchange.setPattern(ExchangePattern.InOnly);
+        exchange.getOut().setBody("Bye World");
+        exchange.setException(new IllegalArgumentException("Damn"));
+        exchange.setFromRouteId("myRoute");
+
+        assertTrue(pool.release(exchange));
+        assertEquals(1, pool.getSize());
+
+        Exchange recycled = pool.acquire();
+        assertSame(exchange, recycled);
+        assertSame(in, recycled.getIn());
+        assertFalse(id.equals(recycled.getExchangeId()));
+        assertNull(recycled.getIn().getBody());
+        assertFalse(recycled.getIn().hasHeaders());
+        assertFalse(recycled.hasProperties());
+        assertFalse(recycled.hasOut());
+        assertNull(recycled.getException());
+        assertNull(recycled.getFromRouteId());
+        assertEquals(ExchangePattern.InOut, recycled.getPattern());
+
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+        assertEquals(1, pool.getReleased());
+        assertEquals(0, pool.getSize());
+
+        pool.stop();
+    }
+
+    public void testDiscard() throws Exception {
+        Endpoint endpoint = context.getEndpoint("direct:start");
+        DefaultExchangePool pool = new DefaultExchangePool(endpoint, 1);
+        pool.start();
+
+        // still in-flight
+        Exchange exchange = pool.acquire();
+        exchange.setUnitOfWork(new DefaultUnitOfWork(exchange));
+        assertFalse(pool.release(exchange));
+
+        // not from this pool endpoint
+        assertFalse(pool.release(new DefaultExchange(context)));
+
+        // pool is full
+        assertTrue(pool.release(pool.acquire()));
+        assertFalse(pool.release(new DefaultExchange(endpoint)));
+
+        assertEquals(3, pool.getDiscarded());
+        assertEquals(1, pool.getReleased());
+        assertEquals(1, pool.getSize());
+
+        pool.resetStatistics();
+        assertEquals(0, pool.getDiscarded());
+
+        pool.stop();
+        assertEquals(0, pool.getSize());
+    }
+
+    public void testLeakDetection() throws Exception {
+        Endpoint endpoint = context.getEndpoint("direct:start");
+        DefaultExchangePool pool = new DefaultExchangePool(endpoint, 10);
+        pool.setLeakDetection(true);
+        pool.start();
+
+        Exchange exchange = pool.acquire();
+        pool.acquire();
+        assertEquals(2, pool.getAcquired());
+
+        assertTrue(pool.release(exchange));
+        // released twice
+        assertFalse(pool.release(exchange));
+        assertEquals(1, pool.getAcquired());
+        assertEquals(1, pool.getDiscarded());
+
+        // logs the leaked exchange
+        pool.stop();
+        assertEquals(0, pool.getAcquired());
+    }
+}
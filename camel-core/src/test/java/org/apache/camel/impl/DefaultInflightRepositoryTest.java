@@ -16,6 +16,8 @@
  */
 package org.apache.camel.impl;
 
+import java.util.Date;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.InflightRepository;
@@ -44,4 +46,101 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    public void testDefaultInflightRepositoryRoute() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+
+        assertEquals(0, repo.size("foo"));
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1, "foo");
+        assertEquals(1, repo.size("foo"));
+        assertEquals(0, repo.size("bar"));
+
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2, "foo");
+        repo.add(e2, "bar");
+        assertEquals(2, repo.size("foo"));
+        assertEquals(1, repo.size("bar"));
+
+        repo.remove(e2, "bar");
+        repo.remove(e2, "foo");
+        assertEquals(1, repo.size("foo"));
+        assertEquals(0, repo.size("bar"));
+
+        repo.remove(e1, "foo");
+        assertEquals(0, repo.size("foo"));
+
+        repo.removeRoute("foo");
+        assertEquals(0, repo.size("foo"));
+    }
+
+    public void testDefaultInflightRepositoryOldest() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+
+        assertNull(repo.oldest(null));
+
+        Exchange e1 = new DefaultExchange(context);
+        e1.setFromRouteId("foo");
+        e1.setProperty(Exchange.CREATED_TIMESTAMP, new Date(1000));
+        repo.add(e1);
+        repo.add(e1, "foo");
+
+        Exchange e2 = new DefaultExchange(context);
+        e2.setFromRouteId("bar");
+        e2.setProperty(Exchange.CREATED_TIMESTAMP, new Date(2000));
+        repo.add(e2);
+        repo.add(e2, "bar");
+
+        Exchange e3 = new DefaultExchange(context);
+        e3.setFromRouteId("foo");
+        e3.setProperty(Exchange.CREATED_TIMESTAMP, new Date(3000));
+        repo.add(e3);
+        repo.add(e3, "foo");
+
+        assertSame(e1, repo.oldest(null).getExchange());
+        assertSame(e1, repo.oldest("foo").getExchange());
+        assertSame(e2, repo.oldest("bar").getExchange());
+        assertNull(repo.oldest("baz"));
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+
+        assertSame(e2, repo.oldest(null).getExchange());
+        assertSame(e3, repo.oldest("foo").getExchange());
+        assertSame(e2, repo.oldest("bar").getExchange());
+
+        repo.remove(e2, "bar");
+        repo.remove(e2);
+        repo.remove(e3, "foo");
+        repo.remove(e3);
+
+        assertNull(repo.oldest(null));
+        assertNull(repo.oldest("foo"));
+        assertNull(repo.oldest("bar"));
+    }
+
+    public void testDefaultInflightRepositoryOldestFromRouteKnownLater() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+
+        // an exchange from a producer template is added before the route it is started from is known
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        assertSame(e1, repo.oldest(null).getExchange());
+        assertNull(repo.oldest("foo"));
+
+        e1.setFromRouteId("foo");
+        repo.add(e1, "foo");
+        assertSame(e1, repo.oldest("foo").getExchange());
+
+        // routed to another route which it is not started from
+        repo.add(e1, "bar");
+        assertNull(repo.oldest("bar"));
+
+        repo.remove(e1, "bar");
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        assertNull(repo.oldest(null));
+        assertNull(repo.oldest("foo"));
+    }
 }
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.FailedToCreateRouteException;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * @version 
+ */
+public class LazyRouteInitTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        DefaultCamelContext context = (DefaultCamelContext) super.createCamelContext();
+        context.setLazyRouteInit(true);
+        return context;
+    }
+
+    public void testLazyRouteInit() throws Exception {
+        assertTrue(LazyRouteProcessor.isDormant(context.getRoute("foo")));
+        assertFalse(LazyRouteProcessor.isDormant(context.getRoute("bar")));
+
+        // the endpoints of the lazy route should not be created before its in use
+        assertNull(context.hasEndpoint("mock://foo"));
+        assertNotNull(context.hasEndpoint("mock://bar"));
+
+        getMockEndpoint("mock:foo").expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:foo", "Hello World");
+
+        assertFalse(LazyRouteProcessor.isDormant(context.getRoute("foo")));
+
+        // should keep working after the route has been restarted
+        context.stopRoute("foo");
+        context.startRoute("foo");
+
+        template.sendBody("direct:foo", "Bye World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testLazyRouteInitFailure() throws Exception {
+        try {
+            template.sendBody("direct:fail", "Hello World");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            FailedToCreateRouteException cause = assertIsInstanceOf(FailedToCreateRouteException.class, e.getCause());
+            assertEquals("fail", cause.getRouteId());
+        }
+
+        assertTrue(LazyRouteProcessor.isDormant(context.getRoute("fail")));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:foo").routeId("foo").to("log:foo").to("mock:foo");
+
+                from("direct:bar").routeId("bar").lazyInit("false").to("mock:bar");
+
+                // the first output is created before the second fails
+                from("direct:fail").routeId("fail").to("log:fail").to("unknown:fail");
+            }
+        };
+    }
+}
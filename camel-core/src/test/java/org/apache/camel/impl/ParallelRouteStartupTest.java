@@ -0,0 +1,114 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.ServiceSupport;
+
+/**
+ * @version 
+ */
+public class ParallelRouteStartupTest extends ContextTestSupport {
+
+    // both of the warm up routes must be starting at the same time to get past the latch
+    private final CountDownLatch warmUpLatch = new CountDownLatch(2);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        DefaultCamelContext context = (DefaultCamelContext) super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        context.setStartupRecorderEnabled(true);
+        return context;
+    }
+
+    public void testParallelRouteStartup() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start" + i, "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        DefaultCamelContext dcc = (DefaultCamelContext) context;
+        List<RouteStartupOrder> order = dcc.getRouteStartupOrder();
+        assertEquals(14, order.size());
+        // the routes with a startup order must be started first, and in their order
+        assertEquals("first", order.get(0).getRoute().getId());
+        assertEquals("second", order.get(1).getRoute().getId());
+    }
+
+    public void testStartupRecorder() throws Exception {
+        StartupRecorder recorder = ((DefaultCamelContext) context).getStartupRecorder();
+
+        assertEquals(14, recorder.getSteps(StartupRecorder.ROUTE).size());
+        assertFalse(recorder.getSteps(StartupRecorder.COMPONENT).isEmpty());
+        assertFalse(recorder.getSteps(StartupRecorder.ENDPOINT).isEmpty());
+
+        String summary = recorder.summary(3);
+        assertTrue(summary, summary.contains("Started 14 routes"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:warmUp1").routeId("warmUp1").process(new WarmUpProcessor());
+
+                from("direct:warmUp2").routeId("warmUp2").process(new WarmUpProcessor());
+
+                from("seda:second").routeId("second").startupOrder(2).to("mock:result");
+
+                from("seda:first").routeId("first").startupOrder(1).to("seda:second");
+
+                for (int i = 0; i < 10; i++) {
+                    from("direct:start" + i).to("seda:first");
+                }
+            }
+        };
+    }
+
+    private final class WarmUpProcessor extends ServiceSupport implements Processor {
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            warmUpLatch.countDown();
+            // would time out if the routes were started one by one
+            if (!warmUpLatch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The routes were not started in parallel");
+            }
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ThreadLocalUuidGeneratorTest extends TestCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ThreadLocalUuidGeneratorTest.class);
+
+    public void testGenerateUUID() {
+        ThreadLocalUuidGenerator uuidGenerator = new ThreadLocalUuidGenerator();
+
+        String firstUUID = uuidGenerator.generateUuid();
+        String secondUUID = uuidGenerator.generateUuid();
+
+        assertFalse(firstUUID.equals(secondUUID));
+        assertEquals(firstUUID.length(), secondUUID.length());
+        assertTrue(firstUUID.startsWith("ID-"));
+        assertTrue(firstUUID.endsWith("0000000000000000"));
+        assertTrue(secondUUID.endsWith("0000000000000001"));
+    }
+
+    public void testUniqueAcrossGenerators() {
+        String first = new ThreadLocalUuidGenerator().generateUuid();
+        String second = new ThreadLocalUuidGenerator().generateUuid();
+
+        assertFalse(first.equals(second));
+    }
+
+    public void testUniqueAcrossThreads() throws Exception {
+        final ThreadLocalUuidGenerator uuidGenerator = new ThreadLocalUuidGenerator();
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        final int threads = 8;
+        final int count = 5000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(new Callable<Object>() {
+                    public Object call() throws Exception {
+                        for (int j = 0; j < count; j++) {
+                            ids.add(uuidGenerator.generateUuid());
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * count, ids.size());
+    }
+
+    public void testPerformance() {
+        ThreadLocalUuidGenerator uuidGenerator = new ThreadLocalUuidGenerator();
+        StopWatch watch = new StopWatch();
+
+        LOG.info("First id: " + uuidGenerator.generateUuid());
+        for (int i = 0; i < 500000; i++) {
+            uuidGenerator.generateUuid();
+        }
+        LOG.info("Last id:  " + uuidGenerator.generateUuid());
+
+        LOG.info("Took " + TimeUtils.printDuration(watch.stop()));
+    }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.dataset.SimpleDataSet;
+import org.apache.camel.impl.JndiRegistry;
+
+/**
+ * @version 
+ */
+public class ManagedDataSetEndpointTest extends ManagementTestSupport {
+
+    public void testDataSetEndpoint() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        ObjectName name = ObjectName.getInstance("org.apache.camel:context=camel-1,type=endpoints,name=\"dataset://foo\"");
+        // the latency is recorded when the route is done which can be after the mock received the message
+        Long count = (Long) mbeanServer.getAttribute(name, "LatencyCount");
+        for (int i = 0; i < 50 && count < 20; i++) {
+            Thread.sleep(100);
+            count = (Long) mbeanServer.getAttribute(name, "LatencyCount");
+        }
+        assertEquals(20, count.longValue());
+
+        Long max = (Long) mbeanServer.getAttribute(name, "LatencyMax");
+        Long p99 = (Long) mbeanServer.getAttribute(name, "Latency99thPercentile");
+        assertTrue(p99 <= max);
+
+        String summary = (String) mbeanServer.invoke(name, "latencySummary", null, null);
+        assertTrue(summary, summary.startsWith("count=20"));
+
+        mbeanServer.invoke(name, "resetLatency", null, null);
+        count = (Long) mbeanServer.getAttribute(name, "LatencyCount");
+        assertEquals(0, count.longValue());
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("foo", new SimpleDataSet(20));
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("dataset:foo?produceDelay=0").to("mock:result");
+            }
+        };
+    }
+
+}
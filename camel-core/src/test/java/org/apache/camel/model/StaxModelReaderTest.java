@@ -0,0 +1,165 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultModelJAXBContextFactory;
+import org.apache.camel.model.language.XPathExpression;
+import org.apache.camel.model.rest.RestDefinition;
+import org.apache.camel.model.rest.RestsDefinition;
+
+public class StaxModelReaderTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private InputStream routesXml() {
+        return getClass().getResourceAsStream("staxRoutes.xml");
+    }
+
+    private static InputStream toStream(String xml) throws Exception {
+        return new ByteArrayInputStream(xml.getBytes("UTF-8"));
+    }
+
+    public void testReadRoutes() throws Exception {
+        RoutesDefinition routes = new StaxModelReader().readRoutes(routesXml());
+        assertEquals(2, routes.getRoutes().size());
+
+        RouteDefinition route = routes.getRoutes().get(0);
+        assertEquals("choice", route.getId());
+        assertEquals(Integer.valueOf(2), route.getStartupOrder());
+        assertEquals("true", route.getStreamCache());
+        assertEquals("Routes the orders", route.getDescriptionText());
+        assertEquals("direct:start", route.getInputs().get(0).getUri());
+        // the foo:to element is not in the camel namespace
+        assertEquals(3, route.getOutputs().size());
+
+        OnExceptionDefinition onException = (OnExceptionDefinition) route.getOutputs().get(0);
+        assertEquals("java.lang.IllegalArgumentException", onException.getExceptions().get(0));
+        assertEquals("true", onException.getHandled().getExpressionType().getExpression());
+
+        XPathExpression xpath = (XPathExpression) ((SetHeaderDefinition) route.getOutputs().get(1)).getExpression();
+        assertEquals("/foo:order/@kind", xpath.getExpression());
+        assertEquals("http://example.com/foo", xpath.getNamespaces().get("foo"));
+
+        ChoiceDefinition choice = (ChoiceDefinition) route.getOutputs().get(2);
+        assertEquals(2, choice.getWhenClauses().size());
+        ToDefinition other = (ToDefinition) choice.getOtherwise().getOutputs().get(0);
+        assertEquals("other", other.getId());
+        assertEquals("mock:other", other.getUri());
+    }
+
+    public void testReadSingleRoute() throws Exception {
+        String xml = "<route xmlns=\"http://camel.apache.org/schema/spring\" id=\"foo\">"
+            + "<from uri=\"direct:foo\"/><to uri=\"mock:foo\" unknown=\"ignored\"/></route>";
+
+        RoutesDefinition routes = new StaxModelReader().readRoutes(toStream(xml));
+        assertEquals(1, routes.getRoutes().size());
+        assertEquals("foo", routes.getRoutes().get(0).getId());
+        assertEquals("mock:foo", ((ToDefinition) routes.getRoutes().get(0).getOutputs().get(0)).getUri());
+    }
+
+    public void testReadRouteFromOtherNamespace() throws Exception {
+        String xml = "<route xmlns=\"http://example.com/foo\" id=\"foo\"><from uri=\"direct:foo\"/></route>";
+
+        try {
+            new StaxModelReader().readRoutes(toStream(xml));
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Unknown root element"));
+        }
+    }
+
+    public void testReadRests() throws Exception {
+        String xml = "<rests xmlns=\"http://camel.apache.org/schema/spring\">"
+            + "<rest path=\"/users\"><get uri=\"/{id}\" outType=\"java.lang.String\"><to uri=\"direct:user\"/></get>"
+            + "<post consumes=\"application/json\"><to uri=\"direct:create\"/></post></rest></rests>";
+
+        RestsDefinition rests = new StaxModelReader().readRests(toStream(xml));
+        assertEquals(1, rests.getRests().size());
+        RestDefinition rest = rests.getRests().get(0);
+        assertEquals("/users", rest.getPath());
+        assertEquals(2, rest.getVerbs().size());
+        assertEquals("get", rest.getVerbs().get(0).asVerb());
+        assertEquals("/{id}", rest.getVerbs().get(0).getUri());
+        assertEquals("direct:user", rest.getVerbs().get(0).getTo().getUri());
+        assertEquals("application/json", rest.getVerbs().get(1).getConsumes());
+    }
+
+    public void testLoadRoutesDefinition() throws Exception {
+        // uses the stax reader as the default model jaxb context factory is in use
+        RoutesDefinition routes = context.loadRoutesDefinition(routesXml());
+        assertEquals(2, routes.getRoutes().size());
+        assertEquals(3, routes.getRoutes().get(0).getOutputs().size());
+
+        context.addRouteDefinitions(routes.getRoutes());
+        context.start();
+
+        MockEndpoint gold = getMockEndpoint("mock:gold");
+        gold.expectedMessageCount(1);
+        MockEndpoint other = getMockEndpoint("mock:other");
+        other.expectedMessageCount(1);
+        MockEndpoint error = getMockEndpoint("mock:error");
+        error.expectedMessageCount(1);
+        MockEndpoint line = getMockEndpoint("mock:line");
+        line.expectedBodiesReceived("A", "B", "C");
+
+        template.sendBody("direct:start", "<order xmlns=\"http://example.com/foo\" kind=\"gold\"/>");
+        template.sendBody("direct:start", "<order xmlns=\"http://example.com/foo\" kind=\"silver\"/>");
+        template.sendBody("direct:start", "<order xmlns=\"http://example.com/foo\" kind=\"bad\"/>");
+        template.sendBody("direct:split", "A,B,C");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(error.getReceivedExchanges().get(0).getProperty("CamelExceptionCaught") instanceof IllegalArgumentException);
+    }
+
+    public void testLoadRoutesDefinitionCustomFactoryUsesJAXB() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        context.setModelJAXBContextFactory(new DefaultModelJAXBContextFactory() {
+            @Override
+            public JAXBContext newJAXBContext() throws JAXBException {
+                created.incrementAndGet();
+                return super.newJAXBContext();
+            }
+        });
+
+        RoutesDefinition routes = context.loadRoutesDefinition(routesXml());
+        assertEquals(1, created.get());
+        assertEquals(2, routes.getRoutes().size());
+    }
+
+    public void testLoadRoutesDefinitionFallbackToJAXB() throws Exception {
+        // the stax reader fails, and JAXB reports the error as before
+        String xml = "<route xmlns=\"http://example.com/foo\" id=\"foo\"><from uri=\"direct:foo\"/></route>";
+
+        try {
+            context.loadRoutesDefinition(toStream(xml));
+            fail("Should have thrown exception");
+        } catch (JAXBException e) {
+            // expected
+        }
+    }
+}
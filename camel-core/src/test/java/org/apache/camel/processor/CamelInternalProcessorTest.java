@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.impl.DefaultExchange;
+
+/**
+ * @version 
+ */
+public class CamelInternalProcessorTest extends ContextTestSupport {
+
+    private final List<String> events = new ArrayList<String>();
+
+    public void testAdvices() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(new Processor() {
+            @Override
+            public void process(Exchange exchange) throws Exception {
+                events.add("process");
+            }
+        });
+        internal.addAdvice(new MyAdvice("a", true));
+        internal.addAdvice(new MyAdvice("b", false));
+        internal.addAdvice(new MyAdvice("c", true));
+        // without JMX the instrumentation advice does nothing and is skipped
+        internal.addAdvice(new CamelInternalProcessor.InstrumentationAdvice("route"));
+
+        Exchange exchange = new DefaultExchange(context);
+        internal.process(exchange);
+
+        assertNull(exchange.getException());
+        assertEquals("[before-a, before-b, before-c, process, after-c-c, after-b-null, after-a-a]", events.toString());
+
+        // adding an advice after routing is included on next exchange
+        events.clear();
+        internal.addAdvice(new MyAdvice("d", true));
+        internal.process(new DefaultExchange(context));
+        assertEquals("[before-a, before-b, before-c, before-d, process, after-d-d, after-c-c, after-b-null, after-a-a]", events.toString());
+    }
+
+    public void testNoAdvices() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(new Processor() {
+            @Override
+            public void process(Exchange exchange) throws Exception {
+                events.add("process");
+            }
+        });
+
+        internal.process(new DefaultExchange(context));
+        assertEquals("[process]", events.toString());
+    }
+
+    private final class MyAdvice implements CamelInternalProcessorAdvice<String> {
+
+        private final String name;
+        private final boolean state;
+
+        private MyAdvice(String name, boolean state) {
+            this.name = name;
+            this.state = state;
+        }
+
+        @Override
+        public String before(Exchange exchange) throws Exception {
+            events.add("before-" + name);
+            return state ? name : null;
+        }
+
+        @Override
+        public void after(Exchange exchange, String data) throws Exception {
+            events.add("after-" + name + "-" + data);
+        }
+
+        @Override
+        public boolean hasState() {
+            return state;
+        }
+    }
+}
@@ -17,38 +17,88 @@
 package org.apache.camel.component.aws.kinesis;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.amazonaws.services.kinesis.AmazonKinesis;
 import com.amazonaws.services.kinesis.model.DescribeStreamRequest;
 import com.amazonaws.services.kinesis.model.DescribeStreamResult;
+import com.amazonaws.services.kinesis.model.ExpiredIteratorException;
 import com.amazonaws.services.kinesis.model.GetRecordsRequest;
 import com.amazonaws.services.kinesis.model.GetRecordsResult;
 import com.amazonaws.services.kinesis.model.GetShardIteratorRequest;
 import com.amazonaws.services.kinesis.model.GetShardIteratorResult;
 import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.services.kinesis.model.Shard;
 import com.amazonaws.services.kinesis.model.ShardIteratorType;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.impl.ScheduledBatchPollingConsumer;
+import org.apache.camel.spi.StateRepository;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class KinesisConsumer extends ScheduledBatchPollingConsumer {
     private static final Logger LOG = LoggerFactory.getLogger(KinesisConsumer.class);
 
+    /**
+     * Checkpoint value stored for a shard which has been read to its end, after a split or merge.
+     */
+    static final String SHARD_END = "SHARD_END";
+
     private String currentShardIterator;
 
+    // state for consuming all shards of the stream
+    private final Map<String, ShardState> shards = new LinkedHashMap<>();
+    private volatile boolean refreshShards = true;
+    private ExecutorService executorService;
+
     public KinesisConsumer(KinesisEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().isAllShards()) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "KinesisConsumer[" + getEndpoint().getStreamName() + "]", getEndpoint().getMaxConcurrentShards());
+            // ensure the repository has loaded its stored checkpoints
+            ServiceHelper.startService(getEndpoint().getCheckpointRepository());
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            ServiceHelper.stopService(getEndpoint().getCheckpointRepository());
+        }
+        shards.clear();
+        refreshShards = true;
+    }
+
     @Override
     protected int poll() throws Exception {
+        if (getEndpoint().isAllShards()) {
+            return pollAllShards();
+        }
+
         GetRecordsRequest req = new GetRecordsRequest()
                 .withShardIterator(getShardItertor())
                 .withLimit(getEndpoint().getMaxResultsPerRequest());
@@ -69,6 +119,10 @@ public class KinesisConsumer extends ScheduledBatchPollingConsumer {
 
     @Override
     public int processBatch(Queue<Object> exchanges) throws Exception {
+        if (getEndpoint().isAllShards()) {
+            return processShardBatch(exchanges);
+        }
+
         int processedExchanges = 0;
         while (!exchanges.isEmpty()) {
             final Exchange exchange = ObjectHelper.cast(Exchange.class, exchanges.poll());
@@ -85,6 +139,30 @@ public class KinesisConsumer extends ScheduledBatchPollingConsumer {
         return processedExchanges;
     }
 
+    /**
+     * Processes the exchanges of a shard in order, and stops at the first exchange which fails, which is left
+     * in the queue together with the exchanges after it so they can be read again.
+     */
+    private int processShardBatch(Queue<Object> exchanges) {
+        int processedExchanges = 0;
+        while (!exchanges.isEmpty() && isBatchAllowed()) {
+            Exchange exchange = ObjectHelper.cast(Exchange.class, exchanges.peek());
+            try {
+                getProcessor().process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange from shard "
+                    + exchange.getIn().getHeader(KinesisConstants.SHARD_ID), exchange, exchange.getException());
+                break;
+            }
+            exchanges.poll();
+            processedExchanges++;
+        }
+        return processedExchanges;
+    }
+
     private AmazonKinesis getClient() {
         return getEndpoint().getClient();
     }
@@ -134,6 +212,201 @@ public class KinesisConsumer extends ScheduledBatchPollingConsumer {
         return exchanges;
     }
 
+    /**
+     * Polls every shard which is ready to be consumed, fetching and processing the shards in parallel on the
+     * consumer thread pool. Records within a shard are processed in order and the last processed sequence number
+     * is checkpointed to the {@link StateRepository} (if configured) once the batch of the shard is done.
+     */
+    protected int pollAllShards() throws Exception {
+        if (refreshShards) {
+            refreshShards = false;
+            refreshShards();
+        }
+
+        List<ShardState> ready = readyShards();
+        int limit = getEndpoint().getMaxResultsPerRequest();
+        if (getMaxMessagesPerPoll() > 0 && !ready.isEmpty()) {
+            // share the messages of the poll between the shards
+            limit = Math.min(limit, Math.max(1, getMaxMessagesPerPoll() / ready.size()));
+        }
+        final int shardLimit = limit;
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (final ShardState shard : ready) {
+            futures.add(executorService.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    return pollShard(shard, shardLimit);
+                }
+            }));
+        }
+
+        int total = 0;
+        Exception cause = null;
+        for (Future<Integer> future : futures) {
+            try {
+                total += future.get();
+            } catch (ExecutionException e) {
+                if (cause == null) {
+                    cause = ObjectHelper.wrapRuntimeCamelException(e.getCause());
+                }
+            }
+        }
+        if (cause != null) {
+            throw cause;
+        }
+        return total;
+    }
+
+    private int pollShard(ShardState shard, int limit) throws Exception {
+        if (shard.iterator == null) {
+            shard.iterator = obtainShardIterator(shard);
+        }
+
+        GetRecordsResult result;
+        try {
+            result = getClient().getRecords(new GetRecordsRequest()
+                    .withShardIterator(shard.iterator)
+                    .withLimit(limit));
+        } catch (ExpiredIteratorException e) {
+            LOG.debug("Shard iterator for shard {} expired, a new one will be obtained on next poll", shard.id);
+            shard.iterator = null;
+            return 0;
+        }
+
+        List<Record> records = result.getRecords();
+        Queue<Exchange> exchanges = createExchanges(records);
+        for (Exchange exchange : exchanges) {
+            exchange.getIn().setHeader(KinesisConstants.SHARD_ID, shard.id);
+        }
+        int processed = processBatch(CastUtils.cast(exchanges));
+        if (processed > 0) {
+            shard.sequenceNumber = records.get(processed - 1).getSequenceNumber();
+            shard.resumeSequenceNumber = null;
+        }
+        if (processed < records.size()) {
+            // resume at the first record not processed, such as a failed record, so it is redelivered on next poll
+            shard.resumeSequenceNumber = records.get(processed).getSequenceNumber();
+            shard.iterator = null;
+            checkpoint(shard);
+            return processed;
+        }
+
+        shard.iterator = result.getNextShardIterator();
+        if (shard.iterator == null) {
+            // the shard has been closed by a split or merge, so its children can now be read
+            LOG.debug("Shard {} of stream {} has been read to its end", shard.id, getEndpoint().getStreamName());
+            shard.sequenceNumber = SHARD_END;
+            shard.finished = true;
+            refreshShards = true;
+        }
+        checkpoint(shard);
+        return processed;
+    }
+
+    private String obtainShardIterator(ShardState shard) {
+        GetShardIteratorRequest req = new GetShardIteratorRequest()
+                .withStreamName(getEndpoint().getStreamName())
+                .withShardId(shard.id);
+        if (shard.resumeSequenceNumber != null) {
+            req.withShardIteratorType(ShardIteratorType.AT_SEQUENCE_NUMBER).withStartingSequenceNumber(shard.resumeSequenceNumber);
+        } else if (shard.sequenceNumber != null) {
+            req.withShardIteratorType(ShardIteratorType.AFTER_SEQUENCE_NUMBER).withStartingSequenceNumber(shard.sequenceNumber);
+        } else if (shard.child) {
+            // never skip records of a shard created by a split or merge we have been following
+            req.withShardIteratorType(ShardIteratorType.TRIM_HORIZON);
+        } else {
+            req.withShardIteratorType(getEndpoint().getIteratorType());
+        }
+        String iterator = getClient().getShardIterator(req).getShardIterator();
+        LOG.debug("Shard Iterator for shard {} is: {}", shard.id, iterator);
+        return iterator;
+    }
+
+    private void checkpoint(ShardState shard) {
+        StateRepository<String, String> repository = getEndpoint().getCheckpointRepository();
+        // only write when there is progress, as the repository may write to disk on every change
+        if (repository != null && shard.sequenceNumber != null && !shard.sequenceNumber.equals(shard.checkpoint)) {
+            repository.setState(checkpointKey(shard.id), shard.sequenceNumber);
+            shard.checkpoint = shard.sequenceNumber;
+        }
+    }
+
+    private String checkpointKey(String shardId) {
+        return getEndpoint().getStreamName() + "/" + shardId;
+    }
+
+    private void refreshShards() {
+        List<Shard> described = new ArrayList<>();
+        String exclusiveStartShardId = null;
+        boolean more = true;
+        while (more) {
+            DescribeStreamResult result = getClient().describeStream(new DescribeStreamRequest()
+                    .withStreamName(getEndpoint().getStreamName())
+                    .withExclusiveStartShardId(exclusiveStartShardId));
+            List<Shard> page = result.getStreamDescription().getShards();
+            described.addAll(page);
+            more = Boolean.TRUE.equals(result.getStreamDescription().getHasMoreShards()) && !page.isEmpty();
+            if (more) {
+                exclusiveStartShardId = page.get(page.size() - 1).getShardId();
+            }
+        }
+
+        StateRepository<String, String> repository = getEndpoint().getCheckpointRepository();
+        for (Shard shard : described) {
+            if (shards.containsKey(shard.getShardId())) {
+                continue;
+            }
+            ShardState state = new ShardState(shard);
+            // a shard whose parent we know of was created while consuming, so read it from the beginning
+            state.child = shards.containsKey(shard.getParentShardId()) || shards.containsKey(shard.getAdjacentParentShardId());
+            if (repository != null) {
+                state.sequenceNumber = repository.getState(checkpointKey(shard.getShardId()));
+                state.checkpoint = state.sequenceNumber;
+                state.finished = SHARD_END.equals(state.sequenceNumber);
+            }
+            LOG.debug("Discovered shard {} of stream {}", shard.getShardId(), getEndpoint().getStreamName());
+            shards.put(shard.getShardId(), state);
+        }
+    }
+
+    private List<ShardState> readyShards() {
+        List<ShardState> answer = new ArrayList<>();
+        Set<String> open = new HashSet<>();
+        for (ShardState shard : shards.values()) {
+            if (!shard.finished) {
+                open.add(shard.id);
+            }
+        }
+        for (ShardState shard : shards.values()) {
+            // only read a child shard after its parents have been read to their end to keep per key ordering
+            if (!shard.finished && !open.contains(shard.parentId) && !open.contains(shard.adjacentParentId)) {
+                answer.add(shard);
+            }
+        }
+        return answer;
+    }
+
+    private static final class ShardState {
+        private final String id;
+        private final String parentId;
+        private final String adjacentParentId;
+        private volatile String iterator;
+        private volatile String sequenceNumber;
+        // the record to read again, when the shard stopped before it
+        private volatile String resumeSequenceNumber;
+        // the sequence number last stored in the checkpoint repository
+        private volatile String checkpoint;
+        private volatile boolean finished;
+        private boolean child;
+
+        ShardState(Shard shard) {
+            this.id = shard.getShardId();
+            this.parentId = shard.getParentShardId();
+            this.adjacentParentId = shard.getAdjacentParentShardId();
+        }
+    }
+
     private boolean hasSequenceNumber() {
         return !getEndpoint().getSequenceNumber().isEmpty()
                 && (getEndpoint().getIteratorType().equals(ShardIteratorType.AFTER_SEQUENCE_NUMBER)
@@ -25,6 +25,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.impl.ScheduledPollEndpoint;
 import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.StateRepository;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
@@ -50,6 +51,14 @@ public class KinesisEndpoint extends ScheduledPollEndpoint {
     private String shardId = "";
     @UriParam(label = "consumer", description = "The sequence number to start polling from. Required if iteratorType is set to AFTER_SEQUENCE_NUMBER or AT_SEQUENCE_NUMBER")
     private String sequenceNumber = "";
+    @UriParam(label = "consumer", description = "Whether to consume from all the shards of the stream in parallel, following the child shards"
+        + " when a shard is split or merged. When enabled the shardId and sequenceNumber options are not used.")
+    private boolean allShards;
+    @UriParam(label = "consumer", description = "The maximum number of shards fetched and processed concurrently when allShards is enabled", defaultValue = "4")
+    private int maxConcurrentShards = 4;
+    @UriParam(label = "consumer", description = "The checkpoint repository used to store the last processed sequence number of each shard when allShards is enabled."
+        + " On restart the consumer resumes each shard after its stored sequence number.")
+    private StateRepository<String, String> checkpointRepository;
 
     public KinesisEndpoint(String uri, String streamName, KinesisComponent component) {
         super(uri, component);
@@ -58,9 +67,16 @@ public class KinesisEndpoint extends ScheduledPollEndpoint {
 
     @Override
     protected void doStart() throws Exception {
-        if ((iteratorType.equals(ShardIteratorType.AFTER_SEQUENCE_NUMBER) || iteratorType.equals(ShardIteratorType.AT_SEQUENCE_NUMBER)) && sequenceNumber.isEmpty()) {
+        boolean sequenceIterator = iteratorType.equals(ShardIteratorType.AFTER_SEQUENCE_NUMBER) || iteratorType.equals(ShardIteratorType.AT_SEQUENCE_NUMBER);
+        if (allShards && sequenceIterator) {
+            throw new IllegalArgumentException("Iterator Types AFTER_SEQUENCE_NUMBER or AT_SEQUENCE_NUMBER cannot be used when consuming all shards");
+        }
+        if (!allShards && sequenceIterator && sequenceNumber.isEmpty()) {
             throw new IllegalArgumentException("Sequence Number must be specified with iterator Types AFTER_SEQUENCE_NUMBER or AT_SEQUENCE_NUMBER");
         }
+        if (maxConcurrentShards < 1) {
+            throw new IllegalArgumentException("Max Concurrent Shards must be positive");
+        }
         super.doStart();
     }
 
@@ -144,4 +160,28 @@ public class KinesisEndpoint extends ScheduledPollEndpoint {
         this.sequenceNumber = sequenceNumber;
     }
 
+    public boolean isAllShards() {
+        return allShards;
+    }
+
+    public void setAllShards(boolean allShards) {
+        this.allShards = allShards;
+    }
+
+    public int getMaxConcurrentShards() {
+        return maxConcurrentShards;
+    }
+
+    public void setMaxConcurrentShards(int maxConcurrentShards) {
+        this.maxConcurrentShards = maxConcurrentShards;
+    }
+
+    public StateRepository<String, String> getCheckpointRepository() {
+        return checkpointRepository;
+    }
+
+    public void setCheckpointRepository(StateRepository<String, String> checkpointRepository) {
+        this.checkpointRepository = checkpointRepository;
+    }
+
 }
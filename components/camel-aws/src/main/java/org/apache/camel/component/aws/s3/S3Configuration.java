@@ -46,6 +46,12 @@ public class S3Configuration implements Cloneable {
     private boolean multiPartUpload;
     @UriParam(label = "producer", defaultValue = "" + 25 * 1024 * 1024)
     private long partSize = 25 * 1024 * 1024;
+    @UriParam(label = "producer", defaultValue = "4")
+    private int multiPartConcurrency = 4;
+    @UriParam(label = "consumer")
+    private long rangedGetPartSize;
+    @UriParam(label = "consumer", defaultValue = "4")
+    private int rangedGetConcurrency = 4;
     @UriParam
     private String amazonS3Endpoint;
     @UriParam
@@ -89,6 +95,42 @@ public class S3Configuration implements Cloneable {
         this.multiPartUpload = multiPartUpload;
     }
 
+    public int getMultiPartConcurrency() {
+        return multiPartConcurrency;
+    }
+
+    /**
+     * *Camel 2.19*: The number of parts uploaded in parallel in a multi part upload. When the message body is a stream
+     * this is also the number of part buffers of `partSize` bytes held in memory at the same time.
+     */
+    public void setMultiPartConcurrency(int multiPartConcurrency) {
+        this.multiPartConcurrency = multiPartConcurrency;
+    }
+
+    public long getRangedGetPartSize() {
+        return rangedGetPartSize;
+    }
+
+    /**
+     * *Camel 2.19*: If set to a positive size, objects bigger than this size are downloaded with parallel ranged GET
+     * requests of this size into a stream cache, instead of a single GET. The size must not be greater than 2147483647 bytes.
+     * The default 0 disables ranged downloads.
+     */
+    public void setRangedGetPartSize(long rangedGetPartSize) {
+        this.rangedGetPartSize = rangedGetPartSize;
+    }
+
+    public int getRangedGetConcurrency() {
+        return rangedGetConcurrency;
+    }
+
+    /**
+     * *Camel 2.19*: The number of ranged GET requests executed in parallel when `rangedGetPartSize` is set.
+     */
+    public void setRangedGetConcurrency(int rangedGetConcurrency) {
+        this.rangedGetConcurrency = rangedGetConcurrency;
+    }
+
     /**
      * The region with which the AWS-S3 client wants to work with.
      */
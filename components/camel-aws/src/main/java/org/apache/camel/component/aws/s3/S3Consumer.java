@@ -16,15 +16,22 @@
  */
 package org.apache.camel.component.aws.s3;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 
@@ -32,9 +39,12 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.NoFactoryAvailableException;
 import org.apache.camel.Processor;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.impl.ScheduledBatchPollingConsumer;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.util.CastUtils;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
@@ -50,10 +60,35 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
     private String marker;
     private transient String s3ConsumerToString;
 
+    private ExecutorService executorService;
+
     public S3Consumer(S3Endpoint endpoint, Processor processor) throws NoFactoryAvailableException {
         super(endpoint, processor);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (getConfiguration().getRangedGetPartSize() > Integer.MAX_VALUE) {
+            // each part is downloaded into a byte array
+            throw new IllegalArgumentException("The rangedGetPartSize must not be greater than " + Integer.MAX_VALUE
+                    + " bytes, was: " + getConfiguration().getRangedGetPartSize());
+        }
+        if (getConfiguration().getRangedGetPartSize() > 0) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "S3Consumer[" + getConfiguration().getBucketName() + "]", getConfiguration().getRangedGetConcurrency());
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+
     @Override
     protected int poll() throws Exception {
         // must reset for each poll
@@ -67,8 +102,13 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
         if (fileName != null) {
             LOG.trace("Getting object in bucket [{}] with file name [{}]...", bucketName, fileName);
 
-            S3Object s3Object = getAmazonS3Client().getObject(new GetObjectRequest(bucketName, fileName));
-            exchanges = createExchanges(s3Object);
+            if (getConfiguration().getRangedGetPartSize() > 0) {
+                exchanges = new LinkedList<Exchange>();
+                exchanges.add(createExchange(bucketName, fileName, -1));
+            } else {
+                S3Object s3Object = getAmazonS3Client().getObject(new GetObjectRequest(bucketName, fileName));
+                exchanges = createExchanges(s3Object);
+            }
         } else {
             LOG.trace("Queueing objects in bucket [{}]...", bucketName);
 
@@ -108,20 +148,103 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
         return answer;
     }
     
-    protected Queue<Exchange> createExchanges(List<S3ObjectSummary> s3ObjectSummaries) {
+    protected Queue<Exchange> createExchanges(List<S3ObjectSummary> s3ObjectSummaries) throws Exception {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Received {} messages in this poll", s3ObjectSummaries.size());
         }
         
         Queue<Exchange> answer = new LinkedList<Exchange>();
         for (S3ObjectSummary s3ObjectSummary : s3ObjectSummaries) {
-            S3Object s3Object = getAmazonS3Client().getObject(s3ObjectSummary.getBucketName(), s3ObjectSummary.getKey());
-            Exchange exchange = getEndpoint().createExchange(s3Object);
-            answer.add(exchange);
+            answer.add(createExchange(s3ObjectSummary.getBucketName(), s3ObjectSummary.getKey(), s3ObjectSummary.getSize()));
         }
 
         return answer;
     }
+
+    /**
+     * Creates the exchange for the given object, downloading it with parallel ranged GET requests when it is bigger
+     * than the configured <tt>rangedGetPartSize</tt>.
+     *
+     * @param size the size of the object, or <tt>-1</tt> if not known
+     */
+    protected Exchange createExchange(String bucketName, String key, long size) throws Exception {
+        long partSize = getConfiguration().getRangedGetPartSize();
+        if (partSize <= 0 || (size >= 0 && size <= partSize)) {
+            return getEndpoint().createExchange(getAmazonS3Client().getObject(bucketName, key));
+        }
+
+        ObjectMetadata objectMetadata = getAmazonS3Client().getObjectMetadata(bucketName, key);
+        if (objectMetadata.getContentLength() <= partSize) {
+            return getEndpoint().createExchange(getAmazonS3Client().getObject(bucketName, key));
+        }
+
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(bucketName);
+        s3Object.setKey(key);
+        s3Object.setObjectMetadata(objectMetadata);
+        Exchange exchange = getEndpoint().createExchange(s3Object);
+        if (getConfiguration().isIncludeBody()) {
+            exchange.getIn().setBody(downloadInRanges(exchange, bucketName, key, objectMetadata.getContentLength()));
+        }
+        return exchange;
+    }
+
+    /**
+     * Downloads the object with up to <tt>rangedGetConcurrency</tt> ranged GET requests in flight, writing the parts
+     * in order into a stream cache which spools to disk according to the stream caching strategy.
+     */
+    protected StreamCache downloadInRanges(Exchange exchange, final String bucketName, final String key, long length) throws Exception {
+        final long partSize = getConfiguration().getRangedGetPartSize();
+        final Queue<Future<byte[]>> pending = new LinkedList<Future<byte[]>>();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        long position = 0;
+        try {
+            while (position < length || !pending.isEmpty()) {
+                while (position < length && pending.size() < getConfiguration().getRangedGetConcurrency()) {
+                    final long start = position;
+                    final long end = Math.min(length, start + partSize) - 1;
+                    pending.add(executorService.submit(new Callable<byte[]>() {
+                        @Override
+                        public byte[] call() throws Exception {
+                            return getRange(bucketName, key, start, end);
+                        }
+                    }));
+                    position = end + 1;
+                }
+                cos.write(pending.poll().get());
+            }
+            return cos.newStreamCache();
+        } catch (Exception e) {
+            for (Future<byte[]> future : pending) {
+                future.cancel(true);
+            }
+            IOHelper.close(cos);
+            if (e instanceof ExecutionException && e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private byte[] getRange(String bucketName, String key, long start, long end) throws IOException {
+        LOG.trace("Getting range [{}-{}] of object with key [{}] from bucket [{}]...", new Object[]{start, end, key, bucketName});
+        S3Object s3Object = getAmazonS3Client().getObject(new GetObjectRequest(bucketName, key).withRange(start, end));
+        try {
+            byte[] data = new byte[(int) (end - start + 1)];
+            int length = 0;
+            InputStream is = s3Object.getObjectContent();
+            while (length < data.length) {
+                int n = is.read(data, length, data.length - length);
+                if (n == -1) {
+                    throw new IOException("Premature end of range [" + start + "-" + end + "] of object with key " + key);
+                }
+                length += n;
+            }
+            return data;
+        } finally {
+            s3Object.close();
+        }
+    }
     
     public int processBatch(Queue<Object> exchanges) throws Exception {
         int total = exchanges.size();
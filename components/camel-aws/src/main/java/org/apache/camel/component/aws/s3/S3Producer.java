@@ -16,15 +16,21 @@
  */
 package org.apache.camel.component.aws.s3;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
-import com.amazonaws.services.cloudfront.model.InvalidArgumentException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AccessControlList;
@@ -68,11 +74,30 @@ public class S3Producer extends DefaultProducer {
     private static final Logger LOG = LoggerFactory.getLogger(S3Producer.class);
 
     private transient String s3ProducerToString;
+    private ExecutorService executorService;
     
     public S3Producer(final Endpoint endpoint) {
         super(endpoint);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (getConfiguration().isMultiPartUpload()) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "S3Producer[" + getConfiguration().getBucketName() + "]", getConfiguration().getMultiPartConcurrency());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        super.doStop();
+    }
+
 
     @Override
     public void process(final Exchange exchange) throws Exception {
@@ -102,6 +127,7 @@ public class S3Producer extends DefaultProducer {
 
     public void processMultiPart(final Exchange exchange) throws Exception {
         File filePayload = null;
+        InputStream is = null;
         Object obj = exchange.getIn().getMandatoryBody();
         // Need to check if the message body is WrappedFile
         if (obj instanceof WrappedFile) {
@@ -110,14 +136,45 @@ public class S3Producer extends DefaultProducer {
         if (obj instanceof File) {
             filePayload = (File) obj;
         } else {
-            throw new InvalidArgumentException("aws-s3: MultiPart upload requires a File input.");
+            is = exchange.getIn().getMandatoryBody(InputStream.class);
+        }
+
+        try {
+            processMultiPart(exchange, filePayload, is);
+        } finally {
+            // close the stream whether the upload succeeded or failed
+            IOHelper.close(is);
+        }
+    }
+
+    private void processMultiPart(final Exchange exchange, File filePayload, InputStream is) throws Exception {
+        final long partSize = getConfiguration().getPartSize();
+        if (is != null && partSize > Integer.MAX_VALUE) {
+            // the parts of a stream are buffered in a byte array
+            throw new IllegalArgumentException("The partSize must not be greater than " + Integer.MAX_VALUE
+                    + " bytes when uploading a stream, was: " + partSize);
         }
 
         ObjectMetadata objectMetadata = determineMetadata(exchange);
-        if (objectMetadata.getContentLength() == 0) {
+        if (filePayload != null && objectMetadata.getContentLength() == 0) {
             objectMetadata.setContentLength(filePayload.length());
         }
 
+        final Semaphore buffers = new Semaphore(getConfiguration().getMultiPartConcurrency());
+        byte[] buffer = null;
+        int length = 0;
+        if (is != null) {
+            // read the first part up front as a stream smaller than a part is cheaper to send with a single put
+            buffers.acquire();
+            buffer = new byte[(int) partSize];
+            length = readPart(is, buffer);
+            if (length < partSize) {
+                objectMetadata.setContentLength(length);
+                putObject(exchange, objectMetadata, new ByteArrayInputStream(buffer, 0, length), null);
+                return;
+            }
+        }
+
         final String keyName = determineKey(exchange);
         final InitiateMultipartUploadRequest initRequest = new InitiateMultipartUploadRequest(getConfiguration().getBucketName(),
                 keyName, objectMetadata);
@@ -143,30 +200,59 @@ public class S3Producer extends DefaultProducer {
         LOG.trace("Initiating multipart upload [{}] from exchange [{}]...", initRequest, exchange);
 
         final InitiateMultipartUploadResult initResponse = getEndpoint().getS3Client().initiateMultipartUpload(initRequest);
-        final long contentLength = objectMetadata.getContentLength();
-        final List<PartETag> partETags = new ArrayList<PartETag>();
-        long partSize = getConfiguration().getPartSize();
+        final List<Future<PartETag>> parts = new ArrayList<Future<PartETag>>();
         CompleteMultipartUploadResult uploadResult = null;
 
-        long filePosition = 0;
-
-
         try {
-            for (int part = 1; filePosition < contentLength; part++) {
-                partSize = Math.min(partSize, contentLength - filePosition);
-
-                UploadPartRequest uploadRequest = new UploadPartRequest()
-                        .withBucketName(getConfiguration().getBucketName()).withKey(keyName)
-                        .withUploadId(initResponse.getUploadId()).withPartNumber(part)
-                        .withFileOffset(filePosition)
-                        .withFile(filePayload)
-                        .withPartSize(partSize);
-
-                LOG.trace("Uploading part [{}] for {}", part, keyName);
-                partETags.add(getEndpoint().getS3Client().uploadPart(uploadRequest).getPartETag());
+            if (filePayload != null) {
+                final long contentLength = objectMetadata.getContentLength();
+                long filePosition = 0;
+                for (int part = 1; filePosition < contentLength; part++) {
+                    long size = Math.min(partSize, contentLength - filePosition);
+
+                    UploadPartRequest uploadRequest = new UploadPartRequest()
+                            .withBucketName(getConfiguration().getBucketName()).withKey(keyName)
+                            .withUploadId(initResponse.getUploadId()).withPartNumber(part)
+                            .withFileOffset(filePosition)
+                            .withFile(filePayload)
+                            .withPartSize(size);
+
+                    buffers.acquire();
+                    checkParts(parts);
+                    parts.add(uploadPart(uploadRequest, buffers));
+
+                    filePosition += size;
+                }
+            } else {
+                // stream the body in parts of partSize, holding at most multiPartConcurrency part buffers in memory
+                for (int part = 1; length > 0; part++) {
+                    UploadPartRequest uploadRequest = new UploadPartRequest()
+                            .withBucketName(getConfiguration().getBucketName()).withKey(keyName)
+                            .withUploadId(initResponse.getUploadId()).withPartNumber(part)
+                            .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                            .withPartSize(length)
+                            .withLastPart(length < partSize);
+
+                    parts.add(uploadPart(uploadRequest, buffers));
+
+                    if (length < partSize) {
+                        break;
+                    }
+                    buffers.acquire();
+                    checkParts(parts);
+                    buffer = new byte[(int) partSize];
+                    length = readPart(is, buffer);
+                    if (length == 0) {
+                        buffers.release();
+                    }
+                }
+            }
 
-                filePosition += partSize;
+            final List<PartETag> partETags = new ArrayList<PartETag>(parts.size());
+            for (Future<PartETag> part : parts) {
+                partETags.add(part.get());
             }
+
             CompleteMultipartUploadRequest compRequest = new
                     CompleteMultipartUploadRequest(getConfiguration().getBucketName(),
                     keyName,
@@ -176,8 +262,14 @@ public class S3Producer extends DefaultProducer {
             uploadResult = getEndpoint().getS3Client().completeMultipartUpload(compRequest);
 
         } catch (Exception e) {
+            for (Future<PartETag> part : parts) {
+                part.cancel(true);
+            }
             getEndpoint().getS3Client().abortMultipartUpload(new AbortMultipartUploadRequest(
                     getConfiguration().getBucketName(), keyName, initResponse.getUploadId()));
+            if (e instanceof ExecutionException && e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
             throw e;
         }
 
@@ -192,6 +284,48 @@ public class S3Producer extends DefaultProducer {
         }
     }
 
+    /**
+     * Fails fast if an already uploaded part has failed, instead of reading the rest of the body.
+     */
+    private static void checkParts(List<Future<PartETag>> parts) throws Exception {
+        for (Future<PartETag> part : parts) {
+            if (part.isDone()) {
+                part.get();
+            }
+        }
+    }
+
+    private Future<PartETag> uploadPart(final UploadPartRequest uploadRequest, final Semaphore buffers) {
+        return executorService.submit(new Callable<PartETag>() {
+            @Override
+            public PartETag call() throws Exception {
+                try {
+                    LOG.trace("Uploading part [{}] for {}", uploadRequest.getPartNumber(), uploadRequest.getKey());
+                    return getEndpoint().getS3Client().uploadPart(uploadRequest).getPartETag();
+                } finally {
+                    buffers.release();
+                }
+            }
+        });
+    }
+
+    /**
+     * Reads from the stream until the buffer is full or the stream has ended.
+     *
+     * @return the number of bytes read
+     */
+    private static int readPart(InputStream is, byte[] buffer) throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            int n = is.read(buffer, length, buffer.length - length);
+            if (n == -1) {
+                break;
+            }
+            length += n;
+        }
+        return length;
+    }
+
     public void processSingleOp(final Exchange exchange) throws Exception {
 
         ObjectMetadata objectMetadata = determineMetadata(exchange);
@@ -199,7 +333,6 @@ public class S3Producer extends DefaultProducer {
         File filePayload = null;
         InputStream is = null;
         Object obj = exchange.getIn().getMandatoryBody();
-        PutObjectRequest putObjectRequest = null;
         // Need to check if the message body is WrappedFile
         if (obj instanceof WrappedFile) {
             obj = ((WrappedFile<?>)obj).getFile();
@@ -211,7 +344,11 @@ public class S3Producer extends DefaultProducer {
             is = exchange.getIn().getMandatoryBody(InputStream.class);
         }
 
-        putObjectRequest = new PutObjectRequest(getConfiguration().getBucketName(), determineKey(exchange), is, objectMetadata);
+        putObject(exchange, objectMetadata, is, filePayload);
+    }
+
+    private void putObject(final Exchange exchange, ObjectMetadata objectMetadata, InputStream is, File filePayload) throws Exception {
+        PutObjectRequest putObjectRequest = new PutObjectRequest(getConfiguration().getBucketName(), determineKey(exchange), is, objectMetadata);
 
         String storageClass = determineStorageClass(exchange);
         if (storageClass != null) {
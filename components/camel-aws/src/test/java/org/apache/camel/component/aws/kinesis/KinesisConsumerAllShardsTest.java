@@ -0,0 +1,261 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.kinesis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.DescribeStreamRequest;
+import com.amazonaws.services.kinesis.model.DescribeStreamResult;
+import com.amazonaws.services.kinesis.model.GetRecordsRequest;
+import com.amazonaws.services.kinesis.model.GetRecordsResult;
+import com.amazonaws.services.kinesis.model.GetShardIteratorRequest;
+import com.amazonaws.services.kinesis.model.GetShardIteratorResult;
+import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.services.kinesis.model.ShardIteratorType;
+import com.amazonaws.services.kinesis.model.StreamDescription;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.MemoryStateRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KinesisConsumerAllShardsTest {
+
+    @Mock
+    private AmazonKinesis kinesisClient;
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KinesisComponent component = new KinesisComponent(context);
+    private final AtomicInteger checkpointWrites = new AtomicInteger();
+    private final MemoryStateRepository checkpoints = new MemoryStateRepository() {
+        @Override
+        public void setState(String key, String value) {
+            checkpointWrites.incrementAndGet();
+            super.setState(key, value);
+        }
+    };
+    private final List<String> received = Collections.synchronizedList(new ArrayList<String>());
+    private final Set<String> failOnce = Collections.synchronizedSet(new HashSet<String>());
+
+    private KinesisConsumer undertest;
+
+    @Before
+    public void setup() throws Exception {
+        KinesisEndpoint endpoint = new KinesisEndpoint(null, "streamName", component);
+        endpoint.setAmazonKinesisClient(kinesisClient);
+        endpoint.setIteratorType(ShardIteratorType.LATEST);
+        endpoint.setAllShards(true);
+        endpoint.setMaxConcurrentShards(2);
+        endpoint.setCheckpointRepository(checkpoints);
+        undertest = new KinesisConsumer(endpoint, new Processor() {
+            @Override
+            public void process(Exchange exchange) throws Exception {
+                if (failOnce.remove(exchange.getIn().getHeader(KinesisConstants.SEQUENCE_NUMBER, String.class))) {
+                    throw new IllegalStateException("Forced");
+                }
+                received.add(exchange.getIn().getHeader(KinesisConstants.SHARD_ID) + ":" + exchange.getIn().getHeader(KinesisConstants.SEQUENCE_NUMBER));
+            }
+        });
+        undertest.setStartScheduler(false);
+
+        when(kinesisClient.getShardIterator(any(GetShardIteratorRequest.class))).thenAnswer(new Answer<GetShardIteratorResult>() {
+            @Override
+            public GetShardIteratorResult answer(InvocationOnMock invocation) throws Throwable {
+                GetShardIteratorRequest request = (GetShardIteratorRequest) invocation.getArguments()[0];
+                return new GetShardIteratorResult().withShardIterator(request.getShardId() + "-iterator");
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        undertest.stop();
+    }
+
+    @Test
+    public void itConsumesAllShardsAndCheckpointsThem() throws Exception {
+        when(kinesisClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describe(new Shard().withShardId("shard-1"), new Shard().withShardId("shard-2")));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class))).thenAnswer(new Answer<GetRecordsResult>() {
+            @Override
+            public GetRecordsResult answer(InvocationOnMock invocation) throws Throwable {
+                String iterator = ((GetRecordsRequest) invocation.getArguments()[0]).getShardIterator();
+                String shard = iterator.substring(0, iterator.indexOf('-', 6));
+                return new GetRecordsResult()
+                    .withRecords(new Record().withSequenceNumber(shard + "-1"), new Record().withSequenceNumber(shard + "-2"))
+                    .withNextShardIterator(shard + "-next");
+            }
+        });
+
+        undertest.start();
+        int count = undertest.poll();
+
+        assertThat(count, is(4));
+        assertThat(received.size(), is(4));
+        assertThat(received.indexOf("shard-1:shard-1-1") < received.indexOf("shard-1:shard-1-2"), is(true));
+        assertThat(received.indexOf("shard-2:shard-2-1") < received.indexOf("shard-2:shard-2-2"), is(true));
+        assertThat(checkpoints.getState("streamName/shard-1"), is("shard-1-2"));
+        assertThat(checkpoints.getState("streamName/shard-2"), is("shard-2-2"));
+    }
+
+    @Test
+    public void itResumesFromTheCheckpoint() throws Exception {
+        checkpoints.setState("streamName/shard-1", "42");
+        when(kinesisClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describe(new Shard().withShardId("shard-1")));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(new GetRecordsResult().withNextShardIterator("next"));
+
+        undertest.start();
+        undertest.poll();
+
+        ArgumentCaptor<GetShardIteratorRequest> captor = ArgumentCaptor.forClass(GetShardIteratorRequest.class);
+        verify(kinesisClient).getShardIterator(captor.capture());
+        assertThat(captor.getValue().getShardIteratorType(), is("AFTER_SEQUENCE_NUMBER"));
+        assertThat(captor.getValue().getStartingSequenceNumber(), is("42"));
+    }
+
+    @Test
+    public void itReadsChildShardsAfterTheParentIsClosed() throws Exception {
+        when(kinesisClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describe(new Shard().withShardId("shard-1"),
+                new Shard().withShardId("shard-2").withParentShardId("shard-1"),
+                new Shard().withShardId("shard-3").withParentShardId("shard-1")));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class))).thenAnswer(new Answer<GetRecordsResult>() {
+            @Override
+            public GetRecordsResult answer(InvocationOnMock invocation) throws Throwable {
+                String iterator = ((GetRecordsRequest) invocation.getArguments()[0]).getShardIterator();
+                if (iterator.startsWith("shard-1")) {
+                    // the parent shard has been split and is now closed
+                    return new GetRecordsResult().withRecords(new Record().withSequenceNumber("1"));
+                }
+                return new GetRecordsResult().withRecords(new Record().withSequenceNumber("2")).withNextShardIterator("next");
+            }
+        });
+
+        undertest.start();
+        assertThat(undertest.poll(), is(1));
+        assertThat(received, is(Collections.singletonList("shard-1:1")));
+        assertThat(checkpoints.getState("streamName/shard-1"), is(KinesisConsumer.SHARD_END));
+        assertThat(checkpoints.getState("streamName/shard-2"), nullValue());
+
+        assertThat(undertest.poll(), is(2));
+        assertThat(received.size(), is(3));
+        verify(kinesisClient, atLeastOnce()).describeStream(any(DescribeStreamRequest.class));
+    }
+
+    @Test
+    public void itRetriesTheFailedFirstRecordOfAShard() throws Exception {
+        failOnce.add("1");
+        when(kinesisClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describe(new Shard().withShardId("shard-1")));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(new GetRecordsResult().withRecords(new Record().withSequenceNumber("1"), new Record().withSequenceNumber("2"))
+                .withNextShardIterator("next"));
+
+        undertest.start();
+        assertThat(undertest.poll(), is(0));
+        assertThat(checkpoints.getState("streamName/shard-1"), nullValue());
+
+        assertThat(undertest.poll(), is(2));
+        assertThat(received, is(Arrays.asList("shard-1:1", "shard-1:2")));
+        assertThat(checkpoints.getState("streamName/shard-1"), is("2"));
+
+        ArgumentCaptor<GetShardIteratorRequest> captor = ArgumentCaptor.forClass(GetShardIteratorRequest.class);
+        verify(kinesisClient, times(2)).getShardIterator(captor.capture());
+        assertThat(captor.getAllValues().get(0).getShardIteratorType(), is("LATEST"));
+        assertThat(captor.getAllValues().get(1).getShardIteratorType(), is("AT_SEQUENCE_NUMBER"));
+        assertThat(captor.getAllValues().get(1).getStartingSequenceNumber(), is("1"));
+    }
+
+    @Test
+    public void itOnlyCheckpointsWhenThereIsProgress() throws Exception {
+        when(kinesisClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describe(new Shard().withShardId("shard-1")));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(new GetRecordsResult().withRecords(new Record().withSequenceNumber("1")).withNextShardIterator("next"))
+            .thenReturn(new GetRecordsResult().withNextShardIterator("next"));
+
+        undertest.start();
+        undertest.poll();
+        undertest.poll();
+        undertest.poll();
+
+        assertThat(checkpointWrites.get(), is(1));
+        assertThat(checkpoints.getState("streamName/shard-1"), is("1"));
+    }
+
+    @Test
+    public void itSharesMaxMessagesPerPollBetweenTheShards() throws Exception {
+        undertest.setMaxMessagesPerPoll(4);
+        when(kinesisClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describe(new Shard().withShardId("shard-1"), new Shard().withShardId("shard-2")));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(new GetRecordsResult().withNextShardIterator("next"));
+
+        undertest.start();
+        undertest.poll();
+
+        ArgumentCaptor<GetRecordsRequest> captor = ArgumentCaptor.forClass(GetRecordsRequest.class);
+        verify(kinesisClient, times(2)).getRecords(captor.capture());
+        assertThat(captor.getAllValues().get(0).getLimit(), is(2));
+        assertThat(captor.getAllValues().get(1).getLimit(), is(2));
+    }
+
+    @Test
+    public void itStopsTheCheckpointRepository() throws Exception {
+        when(kinesisClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describe(new Shard().withShardId("shard-1")));
+
+        undertest.start();
+        assertThat(checkpoints.isStarted(), is(true));
+
+        undertest.stop();
+        assertThat(checkpoints.isStopped(), is(true));
+    }
+
+    private static DescribeStreamResult describe(Shard... shards) {
+        return new DescribeStreamResult().withStreamDescription(new StreamDescription().withShards(shards).withHasMoreShards(false));
+    }
+}
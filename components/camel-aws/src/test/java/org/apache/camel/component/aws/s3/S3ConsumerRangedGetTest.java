@@ -0,0 +1,141 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.s3;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import org.apache.camel.Consumer;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+/**
+ * Test to verify that a large object is downloaded with ranged GET requests when rangedGetPartSize is set
+ */
+public class S3ConsumerRangedGetTest extends CamelTestSupport {
+
+    private static final String CONTENT = "The quick brown fox jumps over the lazy dog";
+
+    private final DummyAmazonS3Client client = new DummyAmazonS3Client();
+
+    @Test
+    public void testObjectIsDownloadedInRanges() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        assertMockEndpointsSatisfied();
+
+        Object body = mock.getExchanges().get(0).getIn().getBody();
+        assertIsInstanceOf(StreamCache.class, body);
+        assertEquals(CONTENT, mock.getExchanges().get(0).getIn().getBody(String.class));
+        assertEquals(43L, mock.getExchanges().get(0).getIn().getHeader(S3Constants.CONTENT_LENGTH));
+        // 43 bytes in ranges of 10 bytes
+        assertEquals(5, client.ranges.size());
+        assertTrue(client.ranges.contains("40-42"));
+    }
+
+    @Test
+    public void testRangedGetPartSizeTooBig() throws Exception {
+        Consumer consumer = context.getEndpoint("aws-s3://mycamelbucket?amazonS3Client=#amazonS3Client&rangedGetPartSize=2147483648")
+            .createConsumer(exchange -> fail("Should not consume"));
+        try {
+            consumer.start();
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The rangedGetPartSize must not be greater than 2147483647 bytes, was: 2147483648", e.getMessage());
+        }
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("amazonS3Client", client);
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("aws-s3://mycamelbucket?amazonS3Client=#amazonS3Client&delay=50&maxMessagesPerPoll=1"
+                        + "&deleteAfterRead=false&rangedGetPartSize=10&rangedGetConcurrency=3")
+                    .to("mock:result");
+            }
+        };
+    }
+
+    class DummyAmazonS3Client extends AmazonS3Client {
+
+        private final List<String> ranges = new CopyOnWriteArrayList<String>();
+        private volatile boolean listed;
+
+        DummyAmazonS3Client() {
+            super(new BasicAWSCredentials("myAccessKey", "mySecretKey"));
+        }
+
+        @Override
+        public ObjectListing listObjects(ListObjectsRequest request) throws AmazonClientException, AmazonServiceException {
+            ObjectListing response = new ObjectListing();
+            response.setBucketName(request.getBucketName());
+            // the endpoint checks the bucket with a listing of 0 keys on startup
+            if (!listed && request.getMaxKeys() != null && request.getMaxKeys() > 0) {
+                listed = true;
+                S3ObjectSummary s3ObjectSummary = new S3ObjectSummary();
+                s3ObjectSummary.setBucketName(request.getBucketName());
+                s3ObjectSummary.setKey("key");
+                s3ObjectSummary.setSize(CONTENT.length());
+                response.getObjectSummaries().add(s3ObjectSummary);
+            }
+            return response;
+        }
+
+        @Override
+        public ObjectMetadata getObjectMetadata(String bucketName, String key) throws AmazonClientException, AmazonServiceException {
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            objectMetadata.setContentLength(CONTENT.length());
+            return objectMetadata;
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest request) throws AmazonClientException, AmazonServiceException {
+            long[] range = request.getRange();
+            ranges.add(range[0] + "-" + range[1]);
+
+            S3Object s3Object = new S3Object();
+            s3Object.setBucketName(request.getBucketName());
+            s3Object.setKey(request.getKey());
+            s3Object.setObjectContent(new ByteArrayInputStream(CONTENT.substring((int) range[0], (int) range[1] + 1).getBytes()));
+            return s3Object;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+
+/**
+ * Test to verify that a stream body is uploaded in parts when multiPartUpload is enabled
+ */
+public class S3ProducerMultiPartStreamTest extends CamelTestSupport {
+
+    private final DummyAmazonS3Client client = new DummyAmazonS3Client();
+
+    @Test
+    public void testStreamIsUploadedInParts() throws Exception {
+        template.sendBodyAndHeader("direct:start", new ByteArrayInputStream("0123456789012345678901".getBytes()), S3Constants.KEY, "key");
+
+        assertEquals(3, client.parts.size());
+        assertEquals("0123456789", client.parts.get(1));
+        assertEquals("0123456789", client.parts.get(2));
+        assertEquals("01", client.parts.get(3));
+        assertEquals(3, client.completed.getPartETags().size());
+        assertEquals(1, client.completed.getPartETags().get(0).getPartNumber());
+        assertEquals(3, client.completed.getPartETags().get(2).getPartNumber());
+        assertEquals(0, client.puts);
+    }
+
+    @Test
+    public void testSmallStreamIsPut() throws Exception {
+        template.sendBodyAndHeader("direct:start", new ByteArrayInputStream("01234".getBytes()), S3Constants.KEY, "key");
+
+        assertEquals(0, client.parts.size());
+        assertEquals(1, client.puts);
+    }
+
+    @Test
+    public void testStreamIsClosed() throws Exception {
+        CloseTrackingInputStream is = new CloseTrackingInputStream("0123456789012345678901");
+        template.sendBodyAndHeader("direct:start", is, S3Constants.KEY, "key");
+
+        assertEquals(3, client.parts.size());
+        assertTrue("The stream should be closed", is.closed);
+    }
+
+    @Test
+    public void testStreamIsClosedWhenUploadFails() throws Exception {
+        client.failParts = true;
+        CloseTrackingInputStream is = new CloseTrackingInputStream("0123456789012345678901");
+        try {
+            template.sendBodyAndHeader("direct:start", is, S3Constants.KEY, "key");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(AmazonServiceException.class, e.getCause());
+        }
+
+        assertTrue("The upload should be aborted", client.aborted);
+        assertTrue("The stream should be closed", is.closed);
+    }
+
+    @Test
+    public void testPartSizeTooLargeForStream() throws Exception {
+        CloseTrackingInputStream is = new CloseTrackingInputStream("01234");
+        try {
+            template.sendBodyAndHeader("direct:large", is, S3Constants.KEY, "key");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+
+        assertEquals(0, client.puts);
+        assertTrue("The stream should be closed", is.closed);
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("amazonS3Client", client);
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("aws-s3://mycamelbucket?amazonS3Client=#amazonS3Client&multiPartUpload=true&partSize=10&multiPartConcurrency=2");
+
+                from("direct:large")
+                    .to("aws-s3://mycamelbucket?amazonS3Client=#amazonS3Client&multiPartUpload=true&partSize=3000000000");
+            }
+        };
+    }
+
+    static class CloseTrackingInputStream extends ByteArrayInputStream {
+
+        private volatile boolean closed;
+
+        CloseTrackingInputStream(String data) {
+            super(data.getBytes());
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    class DummyAmazonS3Client extends AmazonS3ClientMock {
+
+        private final Map<Integer, String> parts = new TreeMap<Integer, String>();
+        private CompleteMultipartUploadRequest completed;
+        private int puts;
+        private volatile boolean failParts;
+        private volatile boolean aborted;
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) throws AmazonClientException, AmazonServiceException {
+            aborted = true;
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) throws AmazonClientException, AmazonServiceException {
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId("uploadId");
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) throws AmazonClientException, AmazonServiceException {
+            if (failParts) {
+                throw new AmazonServiceException("Forced");
+            }
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try {
+                IOHelper.copy(request.getInputStream(), bos);
+            } catch (Exception e) {
+                throw new AmazonClientException(e.getMessage(), e);
+            }
+            assertEquals(bos.size(), request.getPartSize());
+            synchronized (parts) {
+                parts.put(request.getPartNumber(), bos.toString());
+            }
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag" + request.getPartNumber());
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) throws AmazonClientException, AmazonServiceException {
+            completed = request;
+            for (PartETag partETag : request.getPartETags()) {
+                assertEquals("etag" + partETag.getPartNumber(), partETag.getETag());
+            }
+            CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+            result.setETag("3a5c8b1ad448bca04584ecb55b836264");
+            return result;
+        }
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest request) throws AmazonClientException, AmazonServiceException {
+            puts++;
+            assertEquals(5, request.getMetadata().getContentLength());
+            PutObjectResult result = new PutObjectResult();
+            result.setETag("3a5c8b1ad448bca04584ecb55b836264");
+            return result;
+        }
+    }
+}
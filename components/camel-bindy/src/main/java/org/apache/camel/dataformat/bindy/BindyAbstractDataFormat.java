@@ -16,14 +16,16 @@
  */
 package org.apache.camel.dataformat.bindy;
 
+import java.io.Closeable;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -38,6 +40,8 @@ import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.Registry;
 import org.apache.camel.support.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +50,7 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
     private String locale;
     private BindyAbstractFactory modelFactory;
     private Class<?> classType;
+    private boolean streaming;
     private CamelContext camelContext;
 
     public BindyAbstractDataFormat() {
@@ -71,6 +76,21 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         this.locale = locale;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to unmarshal the records lazily.
+     * <p/>
+     * When enabled, unmarshal returns an {@link Iterator} which reads and binds one record at a time instead of a
+     * list holding all the records, so large files can be split in streaming mode with a flat memory usage.
+     * The iterator closes the input stream once all the records have been read, or when it is closed.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public BindyAbstractFactory getFactory() throws Exception {
         if (modelFactory == null) {
             FormatFactory formatFactory = createFormatFactory();
@@ -175,6 +195,71 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         }
     }
 
+    protected Object extractUnmarshalRecord(Map<String, Object> model) {
+        if (getClassType() != null) {
+            return model.get(getClassType().getName());
+        } else {
+            return model;
+        }
+    }
+
+    /**
+     * An iterator which unmarshals the records of a stream one at a time, used when streaming is enabled.
+     */
+    protected abstract class StreamingModelIterator implements Iterator<Object>, Closeable {
+        private final Closeable stream;
+        private Map<String, Object> next;
+        private boolean closed;
+
+        protected StreamingModelIterator(Closeable stream) {
+            this.stream = stream;
+        }
+
+        /**
+         * Read and bind the next record.
+         *
+         * @return the model of the next record, or <tt>null</tt> if there are no more records
+         */
+        protected abstract Map<String, Object> readModel() throws Exception;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !closed) {
+                try {
+                    next = readModel();
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                } catch (Exception e) {
+                    close();
+                    throw ObjectHelper.wrapRuntimeCamelException(e);
+                }
+                if (next == null) {
+                    close();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map<String, Object> model = next;
+            next = null;
+            return extractUnmarshalRecord(model);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                IOHelper.close(stream, "stream", LOGGER);
+            }
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
@@ -18,6 +18,7 @@ package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
 import java.text.NumberFormat;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -25,7 +26,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.dataformat.bindy.annotation.KeyValuePairField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +49,8 @@ public abstract class BindyAbstractFactory implements BindyFactory {
     
     private String locale;
     private Class<?> type;
+    private List<Class<?>> modelClasses;
+    private ThreadLocal<Map<Field, Format<?>>> formats = newFormatCache();
     
     public BindyAbstractFactory(Class<?> type) throws Exception {
         this.type = type;
@@ -67,6 +74,8 @@ public abstract class BindyAbstractFactory implements BindyFactory {
         modelClassNames = new HashSet<String>();
         
         loadModels(type);
+
+        modelClasses = new ArrayList<Class<?>>(models);
     }
     
     /**
@@ -112,12 +121,9 @@ public abstract class BindyAbstractFactory implements BindyFactory {
         for (String link : annotatedLinkFields.keySet()) {
             List<Field> linkFields = annotatedLinkFields.get(link);
 
-            // Iterate through Link fields list
+            // Iterate through Link fields list (made accessible by initAnnotatedFields)
             for (Field field : linkFields) {
 
-                // Change protection for private field
-                field.setAccessible(true);
-
                 // Retrieve linked object
                 String toClassName = field.getType().getName();
                 Object to = model.get(toClassName);
@@ -137,9 +143,9 @@ public abstract class BindyAbstractFactory implements BindyFactory {
      * @throws Exception can be thrown
      */
     public Map<String, Object> factory() throws Exception {
-        Map<String, Object> mapModel = new HashMap<String, Object>();
+        Map<String, Object> mapModel = new HashMap<String, Object>(modelClasses.size() * 2);
 
-        for (Class<?> cl : models) {
+        for (Class<?> cl : modelClasses) {
             Object obj = ObjectHelper.newInstance(cl);
 
             // Add instance of the class to the Map Model
@@ -149,6 +155,47 @@ public abstract class BindyAbstractFactory implements BindyFactory {
         return mapModel;
     }
     
+    /**
+     * Get the format of a field annotated with {@link DataField}.
+     * <p/>
+     * The format is resolved once per field and thread, as building it is costly and most formats wrap a
+     * {@link java.text.Format} which is not thread safe.
+     */
+    protected Format<?> getFormat(Field field, DataField dataField) throws Exception {
+        Map<Field, Format<?>> cache = formats.get();
+        Format<?> format = cache.get(field);
+        if (format == null) {
+            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
+                    field.getType(),
+                    field.getAnnotation(BindyConverter.class),
+                    getLocale());
+            format = formatFactory.getFormat(formattingOptions);
+            cache.put(field, format);
+        }
+        return format;
+    }
+
+    /**
+     * Get the format of a field annotated with {@link KeyValuePairField}, resolved once per field and thread.
+     */
+    protected Format<?> getFormat(Field field, KeyValuePairField keyValuePairField) throws Exception {
+        Map<Field, Format<?>> cache = formats.get();
+        Format<?> format = cache.get(field);
+        if (format == null) {
+            FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
+                    field.getType(),
+                    field.getAnnotation(BindyConverter.class),
+                    getLocale());
+            format = formatFactory.getFormat(formattingOptions);
+            cache.put(field, format);
+        }
+        return format;
+    }
+
+    private static ThreadLocal<Map<Field, Format<?>>> newFormatCache() {
+        return ThreadLocal.withInitial(HashMap::new);
+    }
+
     /**
      * Indicates whether this factory can support a row comprised of the identified classes
      * @param classes  the names of the classes in the row
@@ -245,9 +292,11 @@ public abstract class BindyAbstractFactory implements BindyFactory {
 
     public void setLocale(String locale) {
         this.locale = locale;
+        this.formats = newFormatCache();
     }
 
     public void setFormatFactory(FormatFactory formatFactory) {
         this.formatFactory = formatFactory;
+        this.formats = newFormatCache();
     }
 }
@@ -27,7 +27,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 
-import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
 import org.apache.camel.dataformat.bindy.annotation.CsvRecord;
 import org.apache.camel.dataformat.bindy.annotation.DataField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
@@ -126,6 +125,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                     }
                     dataFields.put(pos, dataField);
                     annotatedFields.put(pos, field);
+                    field.setAccessible(true);
                     maxpos = Math.max(maxpos, pos);
                 }
 
@@ -135,6 +135,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Class linked: {}, Field: {}", cl.getName(), field);
                     }
+                    field.setAccessible(true);
                     linkFields.add(field);
                 }
             }
@@ -186,18 +187,13 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
             // Get Field to be setted
             Field field = annotatedFields.get(pos);
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos: {}, Data: {}, Field type: {}", new Object[]{pos, data, field.getType()});
             }
 
             // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
+            Format<?> format = getFormat(field, dataField);
 
             // field object to be set
             Object modelField = model.get(field.getDeclaringClass().getName());
@@ -401,11 +397,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                     Class<?> type = field.getType();
 
                     // Create format
-                    FormattingOptions formattingOptions = ConverterUtils.convert(datafield,
-                            field.getType(),
-                            field.getAnnotation(BindyConverter.class),
-                            getLocale());
-                    Format<?> format = formatFactory.getFormat(formattingOptions);
+                    Format<?> format = getFormat(field, datafield);
 
                     // Get field value
                     Object value = field.get(obj);
@@ -603,15 +595,10 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         // Set the default values, if defined
         for (int i = 1; i <= dataFields.size(); i++) {
             Field field = annotatedFields.get(i);
-            field.setAccessible(true);
             DataField dataField = dataFields.get(i);
             Object modelField = model.get(field.getDeclaringClass().getName());
             if (field.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
-                FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                        field.getType(),
-                        field.getAnnotation(BindyConverter.class),
-                        getLocale());
-                Format<?> format = formatFactory.getFormat(formattingOptions);
+                Format<?> format = getFormat(field, dataField);
                 Object value = format.parse(dataField.defaultValue());
                 field.set(modelField, value);
             }
@@ -27,12 +27,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 
-import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
 import org.apache.camel.dataformat.bindy.annotation.DataField;
 import org.apache.camel.dataformat.bindy.annotation.FixedLengthRecord;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.format.FormatException;
-import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -121,6 +119,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
                     dataFields.put(dataField.pos(), dataField);
                     annotatedFields.put(dataField.pos(), field);
+                    field.setAccessible(true);
                 }
 
                 Link linkField = field.getAnnotation(Link.class);
@@ -129,6 +128,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Class linked: {}, Field: {}", cl.getName(), field);
                     }
+                    field.setAccessible(true);
                     linkFields.add(field);
                 }
 
@@ -182,7 +182,6 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             if (length == 0 && dataField.lengthPos() != 0) {
                 Field lengthField = annotatedFields.get(dataField.lengthPos());
-                lengthField.setAccessible(true);
                 Object modelObj = model.get(lengthField.getDeclaringClass().getName());
                 Object lengthObj =  lengthField.get(modelObj);
                 length = ((Integer)lengthObj).intValue();
@@ -243,18 +242,13 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             // Get Field to be set
             field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", new Object[]{offset, token, field.getType()});
             }
 
             // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
+            Format<?> format = getFormat(field, dataField);
 
             // field object to be set
             Object modelField = model.get(field.getDeclaringClass().getName());
@@ -395,11 +389,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                     Class<?> type = field.getType();
 
                     // Create format
-                    FormattingOptions formattingOptions = ConverterUtils.convert(datafield,
-                            field.getType(),
-                            field.getAnnotation(BindyConverter.class),
-                            getLocale());
-                    Format<?> format = formatFactory.getFormat(formattingOptions);
+                    Format<?> format = getFormat(field, datafield);
 
                     // Get field value
                     Object value = field.get(obj);
@@ -26,7 +26,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
 import org.apache.camel.dataformat.bindy.annotation.KeyValuePairField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.Message;
@@ -96,6 +95,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                     }
                     keyValuePairFields.put(keyValuePairField.tag(), keyValuePairField);
                     annotatedFields.put(keyValuePairField.tag(), field);
+                    field.setAccessible(true);
                 }
 
                 Link linkField = field.getAnnotation(Link.class);
@@ -104,6 +104,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Class linked  : {}, Field {}", cl.getName(), field);
                     }
+                    field.setAccessible(true);
                     linkFields.add(field);
                 }
             }
@@ -279,11 +280,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                             if (value != null) {
 
                                 // Create format object to format the field
-                                FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
-                                        field.getType(),
-                                        field.getAnnotation(BindyConverter.class),
-                                        getLocale());
-                                Format<?> format = formatFactory.getFormat(formattingOptions);
+                                Format<?> format = getFormat(field, keyValuePairField);
 
                                 // format the value of the key received
                                 result = formatField(format, value, key, line);
@@ -319,11 +316,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                                     value = values.get(i);
 
                                     // Create format object to format the field
-                                    FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
-                                            field.getType(),
-                                            field.getAnnotation(BindyConverter.class),
-                                            getLocale());
-                                    Format<?> format = formatFactory.getFormat(formattingOptions);
+                                    Format<?> format = getFormat(field, keyValuePairField);
 
                                     // format the value of the key received
                                     Object result = formatField(format, value, key, line);
@@ -451,11 +444,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
             Class<?> type = field.getType();
 
             // Create format
-            FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<Object> format = (Format<Object>) formatFactory.getFormat(formattingOptions);
+            Format<Object> format = (Format<Object>) getFormat(field, keyValuePairField);
 
             // Get object to be formatted
             Object obj = model.get(field.getDeclaringClass().getName());
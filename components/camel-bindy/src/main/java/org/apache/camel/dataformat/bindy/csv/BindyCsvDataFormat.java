@@ -27,6 +27,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
@@ -128,7 +129,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     }
 
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
-        BindyCsvFactory factory = (BindyCsvFactory)getFactory();
+        final BindyCsvFactory factory = (BindyCsvFactory)getFactory();
         ObjectHelper.notNull(factory, "not instantiated");
 
         // List of Pojos
@@ -149,11 +150,9 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
             scanner = new Scanner(in);
     
             // Retrieve the separator defined to split the record
-            String separator = factory.getSeparator();
-            String quote = factory .getQuote();
-            ObjectHelper.notNull(separator, "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
+            ObjectHelper.notNull(factory.getSeparator(), "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
     
-            int count = 0;
+            final AtomicInteger count = new AtomicInteger(0);
             
             // If the first line of the CSV file contains columns name, then we
             // skip this line
@@ -163,48 +162,27 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                     scanner.nextLine();
                 }
             }
-    
-            while (scanner.hasNextLine()) {
-    
-                // Read the line
-                String line = scanner.nextLine().trim();
-    
-                if (ObjectHelper.isEmpty(line)) {
-                    // skip if line is empty
-                    continue;
-                }
-    
-                // Increment counter
-                count++;
-    
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
-    
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                String[] tokens = line.split(separator, factory.getAutospanLine() ? factory.getMaxpos() : -1);
-                List<String> result = Arrays.asList(tokens);
-                // must unquote tokens before use
-                result = unquoteTokens(result, separator, quote);
-    
-                if (result.size() == 0 || result.isEmpty()) {
-                    throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
+
+            if (isStreaming()) {
+                final Scanner records = scanner;
+                StreamingModelIterator iterator = new StreamingModelIterator(records) {
+                    @Override
+                    protected Map<String, Object> readModel() throws Exception {
+                        return nextModel(factory, records, count);
                     }
-    
-                    // Bind data from CSV record with model classes
-                    factory.bind(result, model, count);
-    
-                    // Link objects together
-                    factory.link(model);
-    
-                    // Add objects graph to the list
-                    models.add(model);
-    
-                    LOG.debug("Graph of objects created: {}", model);
+                };
+                // the iterator now owns the stream
+                scanner = null;
+                in = null;
+                if (!iterator.hasNext()) {
+                    throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
                 }
+                return iterator;
+            }
+    
+            while ((model = nextModel(factory, scanner, count)) != null) {
+                // Add objects graph to the list
+                models.add(model);
             }
     
             // BigIntegerFormatFactory if models list is empty or not
@@ -226,6 +204,58 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
     }
 
+    /**
+     * Read the next non empty line and bind it to a new model.
+     *
+     * @return the model, or <tt>null</tt> if there are no more lines
+     */
+    private Map<String, Object> nextModel(BindyCsvFactory factory, Scanner scanner, AtomicInteger count) throws Exception {
+        String separator = factory.getSeparator();
+        String quote = factory.getQuote();
+
+        while (scanner.hasNextLine()) {
+
+            // Read the line
+            String line = scanner.nextLine().trim();
+
+            if (ObjectHelper.isEmpty(line)) {
+                // skip if line is empty
+                continue;
+            }
+
+            // Increment counter
+            int lineNumber = count.incrementAndGet();
+
+            // Create POJO where CSV data will be stored
+            Map<String, Object> model = factory.factory();
+
+            // Split the CSV record according to the separator defined in
+            // annotated class @CSVRecord
+            String[] tokens = line.split(separator, factory.getAutospanLine() ? factory.getMaxpos() : -1);
+            List<String> result = Arrays.asList(tokens);
+            // must unquote tokens before use
+            result = unquoteTokens(result, separator, quote);
+
+            if (result.size() == 0 || result.isEmpty()) {
+                throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Size of the record splitted : {}", result.size());
+                }
+
+                // Bind data from CSV record with model classes
+                factory.bind(result, model, lineNumber);
+
+                // Link objects together
+                factory.link(model);
+
+                LOG.debug("Graph of objects created: {}", model);
+                return model;
+            }
+        }
+        return null;
+    }
+
     /**
      * Unquote the tokens, by removing leading and trailing quote chars,
      * as will handling fixing broken tokens which may have been split
@@ -176,7 +176,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
     }
 
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
-        BindyFixedLengthFactory factory = (BindyFixedLengthFactory) getFactory();
+        final BindyFixedLengthFactory factory = (BindyFixedLengthFactory) getFactory();
         ObjectHelper.notNull(factory, "not instantiated");
 
         // List of Pojos
@@ -190,7 +190,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         // Scanner is used to read big file
         Scanner scanner = new Scanner(in);
 
-        AtomicInteger count = new AtomicInteger(0);
+        final AtomicInteger count = new AtomicInteger(0);
 
         try {
 
@@ -206,6 +206,36 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
                 }
             }
 
+            if (isStreaming()) {
+                final Scanner records = scanner;
+                final String firstLine = getNextNonEmptyLine(scanner, count);
+                StreamingModelIterator iterator = new StreamingModelIterator(records) {
+                    private String thisLine = firstLine;
+
+                    @Override
+                    protected Map<String, Object> readModel() throws Exception {
+                        if (thisLine == null) {
+                            return null;
+                        }
+                        String nextLine = getNextNonEmptyLine(records, count);
+                        if (nextLine == null && factory.hasFooter()) {
+                            // the last line is the footer which is not bound when streaming
+                            thisLine = null;
+                            return null;
+                        }
+                        Map<String, Object> model = createModel(factory, thisLine, count.intValue());
+                        thisLine = nextLine;
+                        return model;
+                    }
+                };
+                // the iterator now owns the stream
+                scanner = null;
+                if (!iterator.hasNext()) {
+                    throw new java.lang.IllegalArgumentException("No records have been defined in the the file");
+                }
+                return iterator;
+            }
+
             String thisLine = getNextNonEmptyLine(scanner, count);
 
             String nextLine = null;
@@ -248,8 +278,10 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             }
 
         } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
+            if (scanner != null) {
+                scanner.close();
+                IOHelper.close(in, "in", LOG);
+            }
         }
 
     }
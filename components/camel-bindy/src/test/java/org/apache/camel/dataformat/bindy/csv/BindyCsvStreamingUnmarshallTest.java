@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.Iterator;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.pipeline.MyData;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class BindyCsvStreamingUnmarshallTest extends CamelTestSupport {
+
+    @Test
+    public void testStreamingUnmarshal() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        template.sendBody("direct:unmarshal", "COL1|COL2|COL3\n\nHAPPY|NEW|YEAR\nMERRY|CHRISTMAS|EVERYONE\n");
+
+        assertMockEndpointsSatisfied();
+
+        MyData rec1 = mock.getReceivedExchanges().get(0).getIn().getBody(MyData.class);
+        MyData rec2 = mock.getReceivedExchanges().get(1).getIn().getBody(MyData.class);
+        MyData rec3 = mock.getReceivedExchanges().get(2).getIn().getBody(MyData.class);
+
+        assertEquals("COL1", rec1.getCol1());
+        assertEquals("YEAR", rec2.getCol3());
+        assertEquals("CHRISTMAS", rec3.getCol2());
+    }
+
+    @Test
+    public void testStreamingUnmarshalReturnsIterator() throws Exception {
+        Object body = template.requestBody("direct:iterator", "COL1|COL2|COL3\nHAPPY|NEW|YEAR");
+
+        assertIsInstanceOf(Iterator.class, body);
+        Iterator<?> it = (Iterator<?>) body;
+        assertEquals("COL1", ((MyData) it.next()).getCol1());
+        assertEquals("HAPPY", ((MyData) it.next()).getCol1());
+        assertFalse(it.hasNext());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyCsvDataFormat bindy = new BindyCsvDataFormat(MyData.class);
+                bindy.setStreaming(true);
+
+                from("direct:unmarshal")
+                        .unmarshal(bindy)
+                        .split(body()).streaming()
+                            .to("mock:result");
+
+                from("direct:iterator")
+                        .unmarshal(bindy);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.fixed.headerfooter;
+
+import java.util.Map;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.fixed.BindyFixedLengthDataFormat;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+/**
+ * This test validates that the data records are unmarshalled one at a time when streaming is enabled, while the
+ * header is still parsed up front and the footer is not bound as a record.
+ */
+public class BindyFixedLengthStreamingHeaderFooterTest extends CamelTestSupport {
+
+    private static final String TEST_HEADER = "101-08-2009\r\n";
+    private static final String TEST_RECORD = "A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_FOOTER = "9000000003\r\n";
+
+    @Test
+    public void testStreamingUnmarshal() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        StringBuilder buff = new StringBuilder(TEST_HEADER);
+        for (int i = 10; i < 13; i++) {
+            buff.append(i).append(TEST_RECORD);
+        }
+        buff.append(TEST_FOOTER);
+
+        template.sendBody("direct:unmarshal", buff.toString());
+
+        assertMockEndpointsSatisfied();
+
+        for (int i = 0; i < 3; i++) {
+            Order order = mock.getReceivedExchanges().get(i).getIn().getBody(Order.class);
+            assertEquals(10 + i, order.getOrderNr());
+        }
+
+        Map<?, ?> header = mock.getReceivedExchanges().get(0).getIn().getHeader(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_HEADER, Map.class);
+        assertNotNull(header);
+        assertNotNull(header.get(OrderHeader.class.getName()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyFixedLengthDataFormat bindy = new BindyFixedLengthDataFormat(Order.class);
+                bindy.setStreaming(true);
+
+                from("direct:unmarshal")
+                        .unmarshal(bindy)
+                        .split(body()).streaming()
+                            .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -71,6 +71,14 @@ public class CassandraEndpoint extends DefaultEndpoint {
     private ConsistencyLevel consistencyLevel;
     @UriParam
     private String loadBalancingPolicy;
+    @UriParam(label = "producer", defaultValue = "100")
+    private int preparedStatementCacheSize = 100;
+    @UriParam(label = "producer")
+    private boolean asyncExecute;
+    @UriParam(label = "producer")
+    private int batchSize;
+    @UriParam(label = "producer", defaultValue = "10")
+    private long batchTimeout = 10;
     @UriParam(javaType = "java.lang.String")
     private ResultSetConversionStrategy resultSetConversionStrategy = ResultSetConversionStrategies.all();
 
@@ -344,6 +352,58 @@ public class CassandraEndpoint extends DefaultEndpoint {
         this.prepareStatements = prepareStatements;
     }
 
+    public int getPreparedStatementCacheSize() {
+        return preparedStatementCacheSize;
+    }
+
+    /**
+     * Maximum number of PreparedStatements to cache when the CQL is provided in the message header with key CamelCqlQuery,
+     * which avoids preparing the same statement for every message. Use 0 to disable the cache.
+     */
+    public void setPreparedStatementCacheSize(int preparedStatementCacheSize) {
+        this.preparedStatementCacheSize = preparedStatementCacheSize;
+    }
+
+    public boolean isAsyncExecute() {
+        return asyncExecute;
+    }
+
+    /**
+     * Whether to execute the statements asynchronously using the Cassandra driver, so the calling thread is not blocked
+     * while waiting for the result. The exchange is then continued by a thread from a Camel thread pool, instead of the
+     * calling thread. This option is not in use if the endpoint is synchronous.
+     */
+    public void setAsyncExecute(boolean asyncExecute) {
+        this.asyncExecute = asyncExecute;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Maximum number of consecutive messages to group together in an unlogged batch.
+     * Only messages using prepared statements which are bound to the same partition key are grouped together,
+     * and the batch is executed as soon as a message for another partition arrives, the batch is full,
+     * or the batch timeout is triggered. Use 0 or 1 to disable batching.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * Maximum time in millis to wait for more messages to add to a batch before the batch is executed.
+     * Notice that a message which does not fill up a batch waits for this timeout, so when the messages are sent one at a time,
+     * such as from a route with a single thread, every message is delayed by the full batch timeout.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
     /**
      * To use a specific LoadBalancingPolicy
      */
@@ -16,15 +16,33 @@
  */
 package org.apache.camel.component.cassandra;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.impl.DefaultProducer;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.util.LRUCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,11 +56,19 @@ import static org.apache.camel.utils.cassandra.CassandraUtils.isEmpty;
  * <dt>Out Message</dt>
  * <dd>List of all Rows<dd>
  * <dl>
+ * Statements are executed asynchronously using {@link Session#executeAsync(Statement)} if the endpoint
+ * is configured with asyncExecute and is not synchronous. If batching is enabled then consecutive exchanges
+ * which bind a prepared statement to the same partition key are grouped into an unlogged batch.
  */
-public class CassandraProducer extends DefaultProducer {
+public class CassandraProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(CassandraProducer.class);
     private PreparedStatement preparedStatement;
+    private LRUCache<String, PreparedStatement> preparedStatementCache;
+    private ExecutorService executorService;
+    private ScheduledExecutorService batchTimeoutExecutorService;
+    private final Object batchLock = new Object();
+    private PendingBatch pendingBatch;
 
     public CassandraProducer(CassandraEndpoint endpoint) {
         super(endpoint);
@@ -54,10 +80,42 @@ public class CassandraProducer extends DefaultProducer {
         if (isPrepareStatements() && getEndpoint().getCql() != null) {
             this.preparedStatement = getEndpoint().prepareStatement();
         }
+        if (isPrepareStatements() && getEndpoint().getPreparedStatementCacheSize() > 0) {
+            this.preparedStatementCache = new LRUCache<>(getEndpoint().getPreparedStatementCacheSize());
+        }
+        if (isAsyncExecute() || isBatching()) {
+            // result sets are converted and exchanges continued outside the driver I/O threads, as fetching more pages would block
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "CassandraProducer");
+        }
+        if (isBatching()) {
+            batchTimeoutExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "CassandraProducerBatchTimeout");
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        // execute any pending batch synchronously as the thread pools are shutdown next
+        PendingBatch batch;
+        synchronized (batchLock) {
+            batch = pendingBatch;
+            pendingBatch = null;
+        }
+        if (batch != null) {
+            executeBatch(batch, true);
+        }
+        if (batchTimeoutExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(batchTimeoutExecutorService);
+            batchTimeoutExecutorService = null;
+        }
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        if (preparedStatementCache != null) {
+            preparedStatementCache.clear();
+            preparedStatementCache = null;
+        }
         this.preparedStatement = null;
         super.doStop();
     }
@@ -71,6 +129,14 @@ public class CassandraProducer extends DefaultProducer {
         return getEndpoint().isPrepareStatements();
     }
 
+    public boolean isAsyncExecute() {
+        return getEndpoint().isAsyncExecute() && !getEndpoint().isSynchronous();
+    }
+
+    public boolean isBatching() {
+        return isPrepareStatements() && getEndpoint().getBatchSize() > 1;
+    }
+
     private Object[] getCqlParams(Message message) {
         Object cqlParamsObj = message.getBody();
         Object[] cqlParams;
@@ -89,9 +155,9 @@ public class CassandraProducer extends DefaultProducer {
     }
 
     /**
-     * Execute CQL query using incoming message body has statement parameters.
+     * Create the CQL statement using incoming message body has statement parameters.
      */
-    private ResultSet execute(Message message) {
+    private Statement createStatement(Message message) {
         Object messageCql = message.getHeader(CassandraConstants.CQL_QUERY);
         // Convert Empty string to null
         if (messageCql instanceof String && ((String) messageCql).isEmpty()) {
@@ -99,49 +165,69 @@ public class CassandraProducer extends DefaultProducer {
         }
         Object[] cqlParams = getCqlParams(message);
 
-        ResultSet resultSet;
-        Session session = getEndpoint().getSessionHolder().getSession();
         if (isPrepareStatements()) {
-            resultSet = executePreparedStatement(session, messageCql, cqlParams);
+            return createPreparedStatement(messageCql, cqlParams);
         } else {
-            resultSet = executeStatement(session, messageCql, cqlParams);
+            return createRegularStatement(messageCql, cqlParams);
         }
-        return resultSet;
     }
 
     /**
-     * Execute CQL as PreparedStatement
+     * Create CQL as bound PreparedStatement
      */
-    private ResultSet executePreparedStatement(Session session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet;
+    private Statement createPreparedStatement(Object messageCql, Object[] cqlParams) {
         PreparedStatement lPreparedStatement;
         if (messageCql == null) {
             // URI CQL
             lPreparedStatement = this.preparedStatement;
         } else if (messageCql instanceof String) {
             // Message CQL
-            lPreparedStatement = getEndpoint().prepareStatement((String) messageCql);
+            lPreparedStatement = getPreparedStatement((String) messageCql, null);
         } else if (messageCql instanceof RegularStatement) {
             // Message Statement
-            lPreparedStatement = getEndpoint().getSession().prepare((RegularStatement) messageCql);
+            RegularStatement statement = (RegularStatement) messageCql;
+            lPreparedStatement = getPreparedStatement(statement.getQueryString(), statement);
         } else {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
         if (isEmpty(cqlParams)) {
-            resultSet = session.execute(lPreparedStatement.bind());
+            return lPreparedStatement.bind();
         } else {
-            resultSet = session.execute(lPreparedStatement.bind(cqlParams));
+            return lPreparedStatement.bind(cqlParams);
+        }
+    }
+
+    /**
+     * The cache of the statements prepared from the CQL in the message header, or <tt>null</tt> if the cache is disabled.
+     */
+    LRUCache<String, PreparedStatement> getPreparedStatementCache() {
+        return preparedStatementCache;
+    }
+
+    /**
+     * Gets the PreparedStatement for the CQL from the cache, or prepares it if not cached.
+     */
+    private PreparedStatement getPreparedStatement(String cql, RegularStatement statement) {
+        PreparedStatement answer = preparedStatementCache != null ? preparedStatementCache.get(cql) : null;
+        if (answer == null) {
+            if (statement != null) {
+                answer = getEndpoint().getSession().prepare(statement);
+            } else {
+                answer = getEndpoint().prepareStatement(cql);
+            }
+            if (preparedStatementCache != null) {
+                LOG.trace("Caching PreparedStatement for CQL: {}", cql);
+                preparedStatementCache.put(cql, answer);
+            }
         }
-        return resultSet;
+        return answer;
     }
 
     /**
-     * Execute CQL as is
+     * Create CQL as is
      */
-    private ResultSet executeStatement(Session session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet;
-        String cql = null;
-        RegularStatement statement = null;
+    private Statement createRegularStatement(Object messageCql, Object[] cqlParams) {
+        String cql;
         if (messageCql == null) {
             // URI CQL
             cql = getEndpoint().getCql();
@@ -150,26 +236,252 @@ public class CassandraProducer extends DefaultProducer {
             cql = (String) messageCql;
         } else if (messageCql instanceof RegularStatement) {
             // Message Statement
-            statement = (RegularStatement) messageCql;
+            return (RegularStatement) messageCql;
         } else {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
-        if (statement != null) {
-            resultSet = session.execute(statement);
-        } else if (isEmpty(cqlParams)) {
-            resultSet = session.execute(cql);
+        if (isEmpty(cqlParams)) {
+            return new SimpleStatement(cql);
         } else {
-            resultSet = session.execute(cql, cqlParams);
+            return new SimpleStatement(cql, cqlParams);
         }
-        return resultSet;
     }
 
-    public void process(Exchange exchange) throws Exception {
-        // copy the header of in message to the out message
-        exchange.getOut().copyFrom(exchange.getIn());
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        Statement statement;
+        try {
+            // copy the header of in message to the out message
+            exchange.getOut().copyFrom(exchange.getIn());
+            statement = createStatement(exchange.getIn());
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (isBatching()) {
+            ByteBuffer routingKey = statement instanceof BoundStatement ? getRoutingKey(statement) : null;
+            if (routingKey != null) {
+                if (getEndpoint().isSynchronous()) {
+                    // wait for the batch to be executed by the thread which fills it up, or by the batch timeout
+                    BatchEntry entry = new BatchEntry(exchange, callback, new CountDownLatch(1));
+                    addToBatch(entry, (BoundStatement) statement, routingKey);
+                    entry.await();
+                    callback.done(true);
+                    return true;
+                }
+                addToBatch(new BatchEntry(exchange, callback, null), (BoundStatement) statement, routingKey);
+                return false;
+            }
+            // preserve the order of the statements by flushing any pending batch first
+            flushBatch(null);
+        }
 
-        ResultSet resultSet = execute(exchange.getIn());
-        getEndpoint().fillMessage(resultSet, exchange.getOut());
+        Session session = getEndpoint().getSessionHolder().getSession();
+        if (!isAsyncExecute()) {
+            try {
+                ResultSet resultSet = session.execute(statement);
+                getEndpoint().fillMessage(resultSet, exchange.getOut());
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            callback.done(true);
+            return true;
+        }
+
+        final ResultSetFuture future = session.executeAsync(statement);
+        future.addListener(() -> {
+            try {
+                getEndpoint().fillMessage(future.getUninterruptibly(), exchange.getOut());
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            callback.done(false);
+        }, executorService);
+        return false;
+    }
+
+    private ByteBuffer getRoutingKey(Statement statement) {
+        Cluster cluster = getEndpoint().getSessionHolder().getSession().getCluster();
+        return statement.getRoutingKey(cluster.getConfiguration().getProtocolOptions().getProtocolVersion(),
+                cluster.getConfiguration().getCodecRegistry());
+    }
+
+    /**
+     * Adds the statement to the pending batch, which is flushed when it is full, when a statement for another
+     * partition arrives, or when the batch timeout triggers.
+     */
+    private void addToBatch(BatchEntry entry, BoundStatement statement, ByteBuffer routingKey) {
+        PendingBatch full = null;
+        PendingBatch other = null;
+        boolean schedule = false;
+        synchronized (batchLock) {
+            if (pendingBatch != null && !pendingBatch.isSamePartition(statement, routingKey)) {
+                other = pendingBatch;
+                pendingBatch = null;
+            }
+            if (pendingBatch == null) {
+                pendingBatch = new PendingBatch(statement.getKeyspace(), routingKey);
+                schedule = true;
+            }
+            pendingBatch.add(entry, statement);
+            if (pendingBatch.size() >= getEndpoint().getBatchSize()) {
+                full = pendingBatch;
+                pendingBatch = null;
+                schedule = false;
+            }
+            if (schedule) {
+                final PendingBatch batch = pendingBatch;
+                batch.timeout = batchTimeoutExecutorService.schedule(() -> flushBatch(batch), getEndpoint().getBatchTimeout(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (other != null) {
+            executeBatch(other, !isAsyncExecute());
+        }
+        if (full != null) {
+            executeBatch(full, !isAsyncExecute());
+        }
+    }
+
+    /**
+     * Flushes the pending batch
+     *
+     * @param expected only flush if the pending batch is the expected batch, or <tt>null</tt> to flush any pending batch
+     */
+    private void flushBatch(PendingBatch expected) {
+        PendingBatch batch;
+        synchronized (batchLock) {
+            batch = pendingBatch;
+            if (batch == null || (expected != null && batch != expected)) {
+                return;
+            }
+            pendingBatch = null;
+        }
+        executeBatch(batch, !isAsyncExecute());
+    }
+
+    private void executeBatch(final PendingBatch batch, boolean synchronous) {
+        if (batch.timeout != null) {
+            batch.timeout.cancel(false);
+        }
+        LOG.debug("Executing unlogged batch of {} statements", batch.size());
+
+        Session session = getEndpoint().getSessionHolder().getSession();
+        if (synchronous) {
+            try {
+                batch.done(session.execute(batch.statement), null);
+            } catch (Exception e) {
+                batch.done(null, e);
+            }
+            return;
+        }
+
+        final ResultSetFuture future = session.executeAsync(batch.statement);
+        future.addListener(() -> {
+            try {
+                batch.done(future.getUninterruptibly(), null);
+            } catch (Exception e) {
+                batch.done(null, e);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Consecutive exchanges for the same partition which are executed together as an unlogged batch.
+     */
+    private final class PendingBatch {
+        private final String keyspace;
+        private final ByteBuffer routingKey;
+        private final BatchStatement statement = new BatchStatement(BatchStatement.Type.UNLOGGED);
+        private final List<BatchEntry> entries = new ArrayList<>();
+        private ScheduledFuture<?> timeout;
+
+        private PendingBatch(String keyspace, ByteBuffer routingKey) {
+            this.keyspace = keyspace;
+            this.routingKey = routingKey;
+            if (getEndpoint().getConsistencyLevel() != null) {
+                statement.setConsistencyLevel(getEndpoint().getConsistencyLevel());
+            }
+        }
+
+        private boolean isSamePartition(Statement other, ByteBuffer otherRoutingKey) {
+            return Objects.equals(keyspace, other.getKeyspace()) && routingKey.equals(otherRoutingKey);
+        }
+
+        private void add(BatchEntry entry, Statement bound) {
+            entries.add(entry);
+            statement.add(bound);
+        }
+
+        private int size() {
+            return entries.size();
+        }
+
+        private void done(ResultSet resultSet, Exception cause) {
+            Object body = null;
+            if (resultSet != null) {
+                body = getEndpoint().getResultSetConversionStrategy().getBody(resultSet);
+            }
+            for (BatchEntry entry : entries) {
+                if (cause != null) {
+                    entry.exchange.setException(cause);
+                } else {
+                    entry.exchange.getOut().setBody(body);
+                }
+                entry.done();
+            }
+        }
+    }
+
+    /**
+     * An exchange in a batch, which is either continued by a thread from the thread pool when the batch is done,
+     * or by the synchronous caller which waits for the batch to be done.
+     */
+    private final class BatchEntry {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final CountDownLatch latch;
+
+        private BatchEntry(Exchange exchange, AsyncCallback callback, CountDownLatch latch) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.latch = latch;
+        }
+
+        private void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    // the batch is executed at the latest when the batch timeout triggers
+                    latch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void done() {
+            if (latch != null) {
+                latch.countDown();
+                return;
+            }
+            // continue the exchanges of the batch in parallel, instead of one after the other on the same thread
+            ExecutorService executor = executorService;
+            if (executor != null) {
+                try {
+                    executor.execute(() -> callback.done(false));
+                    return;
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Cannot continue exchange on thread pool, continuing on current thread", e);
+                }
+            }
+            callback.done(false);
+        }
     }
 
 }
@@ -34,6 +34,7 @@ import com.datastax.driver.core.querybuilder.Select;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.spi.ExchangeCodec;
 import org.apache.camel.spi.RecoverableAggregationRepository;
 import org.apache.camel.support.ServiceSupport;
 import org.apache.camel.utils.cassandra.CassandraSessionHolder;
@@ -476,4 +477,16 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
     public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec.getExchangeCodec();
+    }
+
+    /**
+     * Sets the codec to use for storing the exchanges, such as {@link org.apache.camel.impl.BinaryExchangeCodec}.
+     * By default the exchanges are stored using java serialization, which can still be read after a codec has been set.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec.setExchangeCodec(exchangeCodec);
+    }
 }
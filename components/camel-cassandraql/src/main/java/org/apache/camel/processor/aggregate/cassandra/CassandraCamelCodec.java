@@ -28,6 +28,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultExchange;
 import org.apache.camel.impl.DefaultExchangeHolder;
+import org.apache.camel.spi.ExchangeCodec;
 
 /**
  * Marshall/unmarshall Exchange to/from a ByteBuffer.
@@ -35,6 +36,21 @@ import org.apache.camel.impl.DefaultExchangeHolder;
  */
 public class CassandraCamelCodec {
 
+    private ExchangeCodec exchangeCodec;
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * Sets the codec to use for the exchanges. By default the exchanges are stored using java serialization.
+     * <p/>
+     * Exchanges which has been stored using java serialization can still be read after setting a codec.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
     public ByteBuffer marshallExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders) throws IOException {
         // use DefaultExchangeHolder to marshal to a serialized object
         DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
@@ -51,11 +67,21 @@ public class CassandraCamelCodec {
         if (exchange.getFromEndpoint() != null) {
             DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
         }
+        if (exchangeCodec != null) {
+            ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+            exchangeCodec.encode(camelContext, pe, bytesOut);
+            return ByteBuffer.wrap(bytesOut.toByteArray());
+        }
         return ByteBuffer.wrap(serialize(pe));
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, ByteBuffer buffer) throws IOException, ClassNotFoundException {
-        DefaultExchangeHolder pe = (DefaultExchangeHolder) deserialize(new ByteBufferInputStream(buffer));
+        DefaultExchangeHolder pe;
+        if (exchangeCodec != null && !isSerialized(buffer)) {
+            pe = exchangeCodec.decode(camelContext, new ByteBufferInputStream(buffer));
+        } else {
+            pe = (DefaultExchangeHolder) deserialize(new ByteBufferInputStream(buffer));
+        }
         Exchange answer = new DefaultExchange(camelContext);
         DefaultExchangeHolder.unmarshal(answer, pe);
         // restore the from endpoint
@@ -84,6 +110,12 @@ public class CassandraCamelCodec {
         return object;
     }
 
+    private static boolean isSerialized(ByteBuffer buffer) {
+        // the stream magic of java serialization
+        int position = buffer.position();
+        return buffer.remaining() >= 2 && (buffer.get(position) & 0xFF) == 0xAC && (buffer.get(position + 1) & 0xFF) == 0xED;
+    }
+
     private static class ByteBufferInputStream extends InputStream {
 
         private final ByteBuffer buffer;
@@ -97,7 +129,7 @@ public class CassandraCamelCodec {
             if (!buffer.hasRemaining()) {
                 return -1;
             }
-            return buffer.get();
+            return buffer.get() & 0xFF;
         }
 
         @Override
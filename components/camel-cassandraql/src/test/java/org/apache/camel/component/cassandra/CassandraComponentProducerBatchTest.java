@@ -0,0 +1,195 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Produce;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.LRUCache;
+import org.apache.camel.util.ServiceHelper;
+import org.cassandraunit.CassandraCQLUnit;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CassandraComponentProducerBatchTest extends BaseCassandraTest {
+
+    private static final String CQL = "insert into camel_user(login, first_name, last_name) values (?, ?, ?)";
+
+    @Rule
+    public CassandraCQLUnit cassandra = CassandraUnitUtils.cassandraCQLUnit();
+
+    @Produce(uri = "direct:input")
+    ProducerTemplate producerTemplate;
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:input")
+                        .to("cql://localhost/camel_ks?cql=" + CQL + "&batchSize=10&batchTimeout=50");
+            }
+        };
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // same partition key so they are grouped in the same batch
+            futures.add(producerTemplate.asyncRequestBody("direct:input", Arrays.asList("batch", "First " + i, "Last " + i)));
+        }
+        for (int i = 0; i < 5; i++) {
+            futures.add(producerTemplate.asyncRequestBody("direct:input", Arrays.asList("batch_" + i, "First " + i, "Last " + i)));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+
+        Cluster cluster = CassandraUnitUtils.cassandraCluster();
+        Session session = cluster.connect(CassandraUnitUtils.KEYSPACE);
+        for (int i = 0; i < 5; i++) {
+            ResultSet resultSet = session.execute("select login, first_name, last_name from camel_user where login = ?", "batch_" + i);
+            Row row = resultSet.one();
+            assertNotNull(row);
+            assertEquals("First " + i, row.getString("first_name"));
+        }
+        ResultSet resultSet = session.execute("select login, first_name, last_name from camel_user where login = ?", "batch");
+        assertNotNull(resultSet.one());
+        session.close();
+        cluster.close();
+    }
+
+    @Test
+    public void testSynchronousBatch() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        CassandraEndpoint endpoint = context.getEndpoint("cql://localhost/camel_ks?cql=" + CQL + "&batchSize=10&batchTimeout=50&synchronous=true",
+            CassandraEndpoint.class);
+        CassandraProducer producer = (CassandraProducer) endpoint.createProducer();
+        ServiceHelper.startService(producer);
+        try {
+            Exchange exchange = endpoint.createExchange();
+            exchange.getIn().setBody(Arrays.asList("sync_batch", "First", "Last"));
+            final AtomicBoolean doneSync = new AtomicBoolean();
+            boolean sync = producer.process(exchange, new AsyncCallback() {
+                @Override
+                public void done(boolean done) {
+                    doneSync.set(done);
+                }
+            });
+
+            // the batch is executed by the batch timeout and the caller waits for it
+            assertTrue(sync);
+            assertTrue(doneSync.get());
+            assertNull(exchange.getException());
+        } finally {
+            ServiceHelper.stopService(producer);
+        }
+    }
+
+    @Test
+    public void testAsyncExecute() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        CassandraEndpoint endpoint = context.getEndpoint("cql://localhost/camel_ks?cql=" + CQL + "&asyncExecute=true", CassandraEndpoint.class);
+        CassandraProducer producer = (CassandraProducer) endpoint.createProducer();
+        ServiceHelper.startService(producer);
+        try {
+            Exchange exchange = endpoint.createExchange();
+            exchange.getIn().setBody(Arrays.asList("async", "First", "Last"));
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicBoolean doneSync = new AtomicBoolean(true);
+            boolean sync = producer.process(exchange, new AsyncCallback() {
+                @Override
+                public void done(boolean done) {
+                    doneSync.set(done);
+                    latch.countDown();
+                }
+            });
+
+            assertFalse(sync);
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertFalse(doneSync.get());
+            assertNull(exchange.getException());
+        } finally {
+            ServiceHelper.stopService(producer);
+        }
+    }
+
+    @Test
+    public void testPreparedStatementCache() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        String cql = "update camel_user set first_name=?, last_name=? where login=?";
+        CassandraEndpoint endpoint = context.getEndpoint("cql://localhost/camel_ks?preparedStatementCacheSize=10", CassandraEndpoint.class);
+        CassandraProducer producer = (CassandraProducer) endpoint.createProducer();
+        ServiceHelper.startService(producer);
+        try {
+            for (int i = 2; i <= 3; i++) {
+                Exchange exchange = endpoint.createExchange();
+                exchange.getIn().setBody(new Object[]{"Claus " + i, "Ibsen " + i, "c_ibsen"});
+                exchange.getIn().setHeader(CassandraConstants.CQL_QUERY, cql);
+                producer.process(exchange);
+                assertNull(exchange.getException());
+            }
+
+            // the statement is only prepared for the first message, and then taken from the cache
+            LRUCache<String, PreparedStatement> cache = producer.getPreparedStatementCache();
+            assertNotNull(cache);
+            assertEquals(1, cache.size());
+            assertEquals(1, cache.getMisses());
+            assertEquals(1, cache.getHits());
+        } finally {
+            ServiceHelper.stopService(producer);
+        }
+
+        Cluster cluster = CassandraUnitUtils.cassandraCluster();
+        Session session = cluster.connect(CassandraUnitUtils.KEYSPACE);
+        ResultSet resultSet = session.execute("select login, first_name, last_name from camel_user where login = ?", "c_ibsen");
+        Row row = resultSet.one();
+        assertNotNull(row);
+        assertEquals("Claus 3", row.getString("first_name"));
+        assertEquals("Ibsen 3", row.getString("last_name"));
+        session.close();
+        cluster.close();
+    }
+}
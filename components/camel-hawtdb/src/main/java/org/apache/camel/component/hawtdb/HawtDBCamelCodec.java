@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.hawtdb;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 import org.apache.camel.CamelContext;
@@ -23,6 +24,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultExchange;
 import org.apache.camel.impl.DefaultExchangeHolder;
+import org.apache.camel.spi.ExchangeCodec;
 import org.fusesource.hawtbuf.Buffer;
 import org.fusesource.hawtbuf.DataByteArrayInputStream;
 import org.fusesource.hawtbuf.DataByteArrayOutputStream;
@@ -36,7 +38,21 @@ import org.fusesource.hawtbuf.codec.StringCodec;
 public final class HawtDBCamelCodec {
 
     private Codec<String> keyCodec = new StringCodec();
-    private Codec<DefaultExchangeHolder> exchangeCodec = new ObjectCodec<DefaultExchangeHolder>();
+    private Codec<DefaultExchangeHolder> objectCodec = new ObjectCodec<DefaultExchangeHolder>();
+    private ExchangeCodec exchangeCodec;
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * Sets the codec to use for the exchanges. By default the exchanges are stored using java serialization.
+     * <p/>
+     * Exchanges which has been stored using java serialization can still be read after setting a codec.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
 
     public Buffer marshallKey(String key) throws IOException {
         DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
@@ -67,13 +83,26 @@ public final class HawtDBCamelCodec {
         if (exchange.getFromEndpoint() != null) {
             DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
         }
-        exchangeCodec.encode(pe, baos);
+        if (exchangeCodec != null) {
+            exchangeCodec.encode(camelContext, pe, baos);
+        } else {
+            objectCodec.encode(pe, baos);
+        }
         return baos.toBuffer();
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, Buffer buffer) throws IOException {
-        DataByteArrayInputStream bais = new DataByteArrayInputStream(buffer);
-        DefaultExchangeHolder pe = exchangeCodec.decode(bais);
+        DefaultExchangeHolder pe;
+        if (exchangeCodec == null || isObjectCodecFormat(buffer)) {
+            DataByteArrayInputStream bais = new DataByteArrayInputStream(buffer);
+            pe = objectCodec.decode(bais);
+        } else {
+            try {
+                pe = exchangeCodec.decode(camelContext, new ByteArrayInputStream(buffer.getData(), buffer.getOffset(), buffer.getLength()));
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
         Exchange answer = new DefaultExchange(camelContext);
         DefaultExchangeHolder.unmarshal(answer, pe);
         // restore the from endpoint
@@ -87,4 +116,18 @@ public final class HawtDBCamelCodec {
         return answer;
     }
 
+    /**
+     * Whether the buffer has been written by the {@link ObjectCodec}, which is the length of the data followed by
+     * the java serialized data.
+     */
+    private static boolean isObjectCodecFormat(Buffer buffer) {
+        byte[] data = buffer.getData();
+        int offset = buffer.getOffset();
+        if (buffer.getLength() < 6) {
+            return false;
+        }
+        int length = ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16) | ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+        return length == buffer.getLength() - 4 && (data[offset + 4] & 0xFF) == 0xAC && (data[offset + 5] & 0xFF) == 0xED;
+    }
+
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.hazelcast.seda;
 
+import org.apache.camel.spi.ExchangeCodec;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriParams;
 
@@ -36,6 +37,10 @@ public class HazelcastSedaConfiguration {
     private boolean transferExchange;
     @UriParam(label = "seda")
     private boolean transacted;
+    @UriParam(label = "seda")
+    private ExchangeCodec exchangeCodec;
+    @UriParam(label = "seda", defaultValue = "1")
+    private int maxMessagesPerPoll = 1;
 
     public HazelcastSedaConfiguration() {
     }
@@ -110,4 +115,31 @@ public class HazelcastSedaConfiguration {
         this.transacted = transacted;
     }
 
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * To use a codec, such as org.apache.camel.impl.BinaryExchangeCodec, for transferring the exchange when transferExchange
+     * is enabled. The encoded exchange is put on the queue in an envelope which Hazelcast writes without using Java serialization.
+     * The consumers must use the same codec; if no codec is configured on the consumer the binary codec is used for reading envelopes.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
+    public int getMaxMessagesPerPoll() {
+        return maxMessagesPerPoll;
+    }
+
+    /**
+     * The maximum number of messages each consumer takes from the queue in one poll. When more than one, the consumer
+     * waits for the first message and then drains the messages already on the queue, up to this limit.
+     * When transacted is enabled all the messages from one poll are processed in the same transaction, which is
+     * rolled back as a whole if any of them fails.
+     */
+    public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
+        this.maxMessagesPerPoll = maxMessagesPerPoll;
+    }
+
 }
@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.hazelcast.seda;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import com.hazelcast.core.TransactionalQueue;
 import com.hazelcast.transaction.TransactionContext;
 
 import org.apache.camel.AsyncCallback;
@@ -29,7 +32,9 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.impl.DefaultConsumer;
+import org.apache.camel.impl.BinaryExchangeCodec;
 import org.apache.camel.impl.DefaultExchangeHolder;
+import org.apache.camel.spi.ExchangeCodec;
 import org.apache.camel.util.AsyncProcessorConverterHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +47,7 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(HazelcastSedaConsumer.class);
     private final HazelcastSedaEndpoint endpoint;
     private final AsyncProcessor processor;
+    private final ExchangeCodec defaultCodec = new BinaryExchangeCodec();
     private ExecutorService executor;
 
     public HazelcastSedaConsumer(final Endpoint endpoint, final Processor processor) {
@@ -71,13 +77,16 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
     }
 
     public void run() {
-        final BlockingQueue<?> queue = endpoint.getQueue();
+        final BlockingQueue<Object> queue = endpoint.getQueue();
+        final HazelcastSedaConfiguration configuration = endpoint.getConfiguration();
+        final int maxMessagesPerPoll = Math.max(1, configuration.getMaxMessagesPerPoll());
+        final List<Object> bodies = new ArrayList<Object>(maxMessagesPerPoll);
 
         while (queue != null && isRunAllowed()) {
-            final Exchange exchange = this.getEndpoint().createExchange();
+            bodies.clear();
 
             TransactionContext transactionCtx = null;
-            if (endpoint.getConfiguration().isTransacted()) {
+            if (configuration.isTransacted()) {
                 // Get and begin transaction if exist
                 transactionCtx = endpoint.getHazelcastInstance().newTransactionContext();
 
@@ -86,15 +95,37 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
                     transactionCtx.beginTransaction();
                 }
             }
+            Exchange exchange = null;
             try {
-                final Object body = queue.poll(endpoint.getConfiguration().getPollTimeout(), TimeUnit.MILLISECONDS);
+                if (transactionCtx != null) {
+                    // poll from the transactional view of the queue so the messages are only removed on commit
+                    TransactionalQueue<Object> transactionalQueue = transactionCtx.getQueue(configuration.getQueueName());
+                    Object body = transactionalQueue.poll(configuration.getPollTimeout(), TimeUnit.MILLISECONDS);
+                    while (body != null) {
+                        bodies.add(body);
+                        body = bodies.size() < maxMessagesPerPoll ? transactionalQueue.poll() : null;
+                    }
+                } else {
+                    Object body = queue.poll(configuration.getPollTimeout(), TimeUnit.MILLISECONDS);
+                    if (body != null) {
+                        bodies.add(body);
+                        if (maxMessagesPerPoll > 1) {
+                            queue.drainTo(bodies, maxMessagesPerPoll - 1);
+                        }
+                    }
+                }
 
-                if (body != null) {
-                    if (body instanceof DefaultExchangeHolder) {
-                        DefaultExchangeHolder.unmarshal(exchange, (DefaultExchangeHolder) body);
-                    } else {
-                        exchange.getIn().setBody(body);
+                boolean rollback = false;
+                for (Object body : bodies) {
+                    exchange = null;
+                    try {
+                        exchange = createExchange(body);
+                    } catch (Exception e) {
+                        // the payload cannot be decoded, so retrying would not help, report it and continue with the next
+                        getExceptionHandler().handleException("Error creating exchange from message polled from queue: " + configuration.getQueueName(), e);
+                        continue;
                     }
+
                     try {
                         // process using the asynchronous routing engine
                         processor.process(exchange, new AsyncCallback() {
@@ -104,31 +135,39 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
                         });
 
                         if (exchange.getException() != null) {
-                            // Rollback
-                            if (transactionCtx != null) {
-                                transactionCtx.rollbackTransaction();
-                            }
                             getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+                            rollback = true;
                         }
 
                     } catch (Exception e) {
                         LOG.error("Hzlq Exception caught: " + e, e);
-                        // Rollback
-                        if (transactionCtx != null) {
-                            log.trace("Rollback transaction: {}", transactionCtx.getTxnId());
-                            transactionCtx.rollbackTransaction();
-                        }
+                        rollback = true;
+                    }
+
+                    if (rollback && transactionCtx != null) {
+                        // the whole batch is rolled back so there is no point in processing the remainder
+                        break;
                     }
                 }
-                // It's OK, I commit
-                if (exchange.getException() == null && transactionCtx != null) {
-                    log.trace("Commit transaction: {}", transactionCtx.getTxnId());
-                    transactionCtx.commitTransaction();
+
+                if (transactionCtx != null) {
+                    if (rollback) {
+                        log.trace("Rollback transaction: {}", transactionCtx.getTxnId());
+                        transactionCtx.rollbackTransaction();
+                    } else {
+                        // It's OK, I commit
+                        log.trace("Commit transaction: {}", transactionCtx.getTxnId());
+                        transactionCtx.commitTransaction();
+                    }
                 }
             } catch (InterruptedException e) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Hzlq Consumer Interrupted: " + e, e);
                 }
+                if (transactionCtx != null) {
+                    log.trace("Rollback transaction: {}", transactionCtx.getTxnId());
+                    transactionCtx.rollbackTransaction();
+                }
                 continue;
             } catch (Throwable e) {
                 // Rollback
@@ -141,4 +180,21 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
         }
     }
 
+    private Exchange createExchange(Object body) throws Exception {
+        Exchange exchange = getEndpoint().createExchange();
+        if (body instanceof HazelcastSedaExchangeEnvelope) {
+            ExchangeCodec codec = endpoint.getConfiguration().getExchangeCodec();
+            if (codec == null) {
+                codec = defaultCodec;
+            }
+            DefaultExchangeHolder holder = ((HazelcastSedaExchangeEnvelope) body).decode(endpoint.getCamelContext(), codec);
+            DefaultExchangeHolder.unmarshal(exchange, holder);
+        } else if (body instanceof DefaultExchangeHolder) {
+            DefaultExchangeHolder.unmarshal(exchange, (DefaultExchangeHolder) body);
+        } else {
+            exchange.getIn().setBody(body);
+        }
+        return exchange;
+    }
+
 }
@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hazelcast.seda;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultExchangeHolder;
+import org.apache.camel.spi.ExchangeCodec;
+
+/**
+ * The envelope used for transferring an exchange over the Hazelcast SEDA queue, when an
+ * {@link ExchangeCodec} has been configured.
+ * <p/>
+ * The envelope is written by Hazelcast using its {@link DataSerializable} contract, and the exchange itself is
+ * kept as the bytes produced by the codec, so neither the envelope nor the exchange is written with Java serialization.
+ */
+public class HazelcastSedaExchangeEnvelope implements DataSerializable {
+
+    private byte[] data;
+
+    public HazelcastSedaExchangeEnvelope() {
+        // used by hazelcast when reading the envelope
+    }
+
+    public HazelcastSedaExchangeEnvelope(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Creates an envelope holding the given exchange holder encoded with the codec.
+     */
+    public static HazelcastSedaExchangeEnvelope encode(CamelContext camelContext, ExchangeCodec codec, DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        codec.encode(camelContext, holder, bos);
+        return new HazelcastSedaExchangeEnvelope(bos.toByteArray());
+    }
+
+    /**
+     * Decodes the exchange holder from this envelope using the codec.
+     */
+    public DefaultExchangeHolder decode(CamelContext camelContext, ExchangeCodec codec) throws IOException, ClassNotFoundException {
+        return codec.decode(camelContext, new ByteArrayInputStream(data));
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeByteArray(data);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        data = in.readByteArray();
+    }
+
+}
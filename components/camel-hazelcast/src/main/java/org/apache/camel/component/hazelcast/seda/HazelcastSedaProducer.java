@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.hazelcast.seda;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.concurrent.BlockingQueue;
 
@@ -39,12 +40,16 @@ public class HazelcastSedaProducer extends DefaultAsyncProducer {
     }
 
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
-        checkAndStore(exchange);
+        try {
+            checkAndStore(exchange);
+        } catch (IOException e) {
+            exchange.setException(e);
+        }
         callback.done(true);
         return true;
     }
 
-    private void checkAndStore(final Exchange exchange) {
+    private void checkAndStore(final Exchange exchange) throws IOException {
         Object obj;
         Object body = exchange.getIn().getBody();
 
@@ -52,7 +57,12 @@ public class HazelcastSedaProducer extends DefaultAsyncProducer {
         final HazelcastSedaConfiguration configuration = endpoint.getConfiguration();
 
         if (configuration.isTransferExchange()) {
-            obj = DefaultExchangeHolder.marshal(exchange);
+            DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange);
+            if (configuration.getExchangeCodec() != null) {
+                obj = HazelcastSedaExchangeEnvelope.encode(endpoint.getCamelContext(), configuration.getExchangeCodec(), holder);
+            } else {
+                obj = holder;
+            }
         } else {
             // in case body is not serializable convert to byte array
             if (!(body instanceof Serializable)) {
@@ -0,0 +1,149 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hazelcast;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.hazelcast.seda.HazelcastSedaEndpoint;
+import org.apache.camel.component.hazelcast.seda.HazelcastSedaExchangeEnvelope;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.BinaryExchangeCodec;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class HazelcastSedaBatchTest extends CamelTestSupport {
+
+    @EndpointInject(uri = "mock:codec")
+    private MockEndpoint codec;
+
+    @EndpointInject(uri = "mock:batch")
+    private MockEndpoint batch;
+
+    @EndpointInject(uri = "mock:undecodable")
+    private MockEndpoint undecodable;
+
+    @EndpointInject(uri = "mock:transacted")
+    private MockEndpoint transacted;
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    @Test
+    public void testExchangeCodec() throws Exception {
+        codec.expectedBodiesReceived("test");
+        codec.expectedHeaderReceived("test", "CAMEL-3983");
+        codec.expectedHeaderReceived("number", 123);
+
+        Exchange exchange = createExchangeWithBody("test");
+        exchange.getIn().setHeader("test", "CAMEL-3983");
+        exchange.getIn().setHeader("number", 123);
+        template.send("direct:codec", exchange);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMaxMessagesPerPoll() throws Exception {
+        batch.expectedMessageCount(50);
+        batch.expectsNoDuplicates(body());
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBody("direct:batch", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testUndecodableMessageInBatchIsSkipped() throws Exception {
+        undecodable.expectedBodiesReceived("Message 0", "Message 1", "Message 3", "Message 4");
+
+        HazelcastSedaEndpoint endpoint = context.getEndpoint("hazelcast:seda:undecodable", HazelcastSedaEndpoint.class);
+        for (int i = 0; i < 5; i++) {
+            if (i == 2) {
+                // garbage which the codec is not able to decode
+                endpoint.getQueue().put(new HazelcastSedaExchangeEnvelope(new byte[]{1, 2, 3}));
+            } else {
+                template.sendBody("direct:undecodable", "Message " + i);
+            }
+        }
+        // start the consumer after all messages has been sent, so they are drained in one batch
+        context.startRoute("undecodable");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testTransactedBatchRollback() throws Exception {
+        // the first attempt fails at message 5 which rolls back the whole batch,
+        // so the first 5 messages are received twice
+        transacted.expectedMessageCount(25);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:transacted", "Message " + i);
+        }
+        // start the consumer after all messages has been sent, so they are taken in one batch
+        context.startRoute("transacted");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(failed.get());
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("binaryCodec", new BinaryExchangeCodec());
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:codec").to("hazelcast:seda:codec?transferExchange=true&exchangeCodec=#binaryCodec");
+                from("hazelcast:seda:codec?transferExchange=true&exchangeCodec=#binaryCodec").to("mock:codec");
+
+                from("direct:batch").to("hazelcast:seda:batch");
+                from("hazelcast:seda:batch?maxMessagesPerPoll=10&concurrentConsumers=2").to("mock:batch");
+
+                from("direct:undecodable").to("hazelcast:seda:undecodable?transferExchange=true&exchangeCodec=#binaryCodec");
+                from("hazelcast:seda:undecodable?transferExchange=true&exchangeCodec=#binaryCodec&maxMessagesPerPoll=10")
+                    .routeId("undecodable").noAutoStartup()
+                    .to("mock:undecodable");
+
+                from("direct:transacted").to("hazelcast:seda:transacted");
+                from("hazelcast:seda:transacted?transacted=true&maxMessagesPerPoll=100").routeId("transacted").noAutoStartup()
+                    .errorHandler(noErrorHandler())
+                    .process(new Processor() {
+                        @Override
+                        public void process(Exchange exchange) throws Exception {
+                            if ("Message 5".equals(exchange.getIn().getBody()) && failed.compareAndSet(false, true)) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        }
+                    })
+                    .to("mock:transacted");
+            }
+        };
+    }
+
+}
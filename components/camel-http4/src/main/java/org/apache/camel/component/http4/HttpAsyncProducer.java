@@ -0,0 +1,309 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.util.AsyncProcessorHelper;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AsyncProcessor} based HTTP producer which uses the non blocking Apache HttpAsyncClient,
+ * so no thread is held while waiting for the remote server.
+ * <p/>
+ * The response body is read by the I/O reactor into a {@link CachedOutputStream} (which spools to disk
+ * according to the stream caching strategy) and the routing of the exchange is continued on a worker thread pool
+ * so the I/O reactor threads are never used to process the exchange. Notice that once a response body exceeds
+ * the spool threshold it is written to the temporary file on the I/O reactor thread, so a slow spool directory
+ * delays the other connections handled by the same I/O dispatcher.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+    private ExecutorService workerPool;
+    private ScheduledExecutorService timeoutChecker;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorHelper.process(this, exchange);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        final HttpRequestBase httpRequest;
+        final CloseableHttpAsyncClient client;
+        try {
+            httpRequest = createRequest(exchange);
+            client = getEndpoint().getHttpAsyncClient();
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing async http {} method: {}", httpRequest.getMethod(), httpRequest.getURI().toString());
+        }
+
+        // ensure the callback is only invoked once, as the timeout and the response may race
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean timedOut = new AtomicBoolean();
+        final AtomicReference<Future<HttpResponse>> future = new AtomicReference<Future<HttpResponse>>();
+        final long timeout = exchange.getIn().getHeader(HttpConstants.HTTP_ASYNC_TIMEOUT, getEndpoint().getAsyncTimeout(), Long.class);
+
+        // schedule the timeout before executing the request, so the response callbacks can always cancel it
+        final ScheduledFuture<?> timeoutTask;
+        if (timeout > 0) {
+            timeoutTask = timeoutChecker.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (done.compareAndSet(false, true)) {
+                        LOG.debug("Http request timed out after {} millis: {}", timeout, httpRequest.getURI());
+                        timedOut.set(true);
+                        cancel(future.get());
+                        // do not continue routing on the single timeout checker thread
+                        dispatch(exchange, callback, new Runnable() {
+                            @Override
+                            public void run() {
+                                exchange.setException(new ExchangeTimedOutException(exchange, timeout));
+                            }
+                        });
+                    }
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+        } else {
+            timeoutTask = null;
+        }
+
+        try {
+            future.set(client.execute(
+                HttpAsyncMethods.create(URIUtils.extractHost(httpRequest.getURI()), httpRequest),
+                new CachedResponseConsumer(exchange), createLocalContext(), new FutureCallback<HttpResponse>() {
+                    @Override
+                    public void completed(final HttpResponse response) {
+                        continueRouting(exchange, callback, done, timeoutTask, new Runnable() {
+                            @Override
+                            public void run() {
+                                try {
+                                    handleResponse(exchange, httpRequest, response);
+                                } catch (Exception e) {
+                                    exchange.setException(e);
+                                }
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void failed(final Exception e) {
+                        continueRouting(exchange, callback, done, timeoutTask, new Runnable() {
+                            @Override
+                            public void run() {
+                                exchange.setException(e);
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        // a no-op if cancelled by the timeout checker, as it has already completed the exchange
+                        continueRouting(exchange, callback, done, timeoutTask, new Runnable() {
+                            @Override
+                            public void run() {
+                                exchange.setException(new IOException("Http request cancelled: " + httpRequest.getURI()));
+                            }
+                        });
+                    }
+                }));
+        } catch (Exception e) {
+            if (done.compareAndSet(false, true)) {
+                if (timeoutTask != null) {
+                    timeoutTask.cancel(false);
+                }
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+            // the exchange has already timed out
+            return false;
+        }
+
+        if (timedOut.get()) {
+            // the timeout fired before the future was set, so it could not cancel the request
+            cancel(future.get());
+        }
+
+        return false;
+    }
+
+    private static void cancel(Future<?> future) {
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    private void continueRouting(final Exchange exchange, final AsyncCallback callback, AtomicBoolean done,
+                                 ScheduledFuture<?> timeoutTask, final Runnable task) {
+        if (!done.compareAndSet(false, true)) {
+            // the exchange has already timed out
+            return;
+        }
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+        }
+        // do not continue routing on the I/O reactor thread
+        dispatch(exchange, callback, task);
+    }
+
+    private void dispatch(final Exchange exchange, final AsyncCallback callback, final Runnable task) {
+        try {
+            workerPool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    task.run();
+                    callback.done(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            exchange.setException(e);
+            callback.done(false);
+        }
+    }
+
+    @Override
+    protected InputStream doExtractResponseBodyAsStream(InputStream is, Exchange exchange) throws IOException {
+        if (is instanceof StreamCache) {
+            // the response consumer has already cached the body
+            return is;
+        }
+        return super.doExtractResponseBodyAsStream(is, exchange);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (workerPool == null) {
+            workerPool = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "HttpAsyncProducer");
+        }
+        if (timeoutChecker == null) {
+            timeoutChecker = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "HttpAsyncProducerTimeoutChecker");
+        }
+        // create and start the client eager
+        getEndpoint().getHttpAsyncClient();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (timeoutChecker != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(timeoutChecker);
+            timeoutChecker = null;
+        }
+        if (workerPool != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(workerPool);
+            workerPool = null;
+        }
+        super.doStop();
+    }
+
+    /**
+     * Reads the response body into a {@link CachedOutputStream} as the content arrives, without blocking.
+     */
+    private static final class CachedResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+        private final Exchange exchange;
+        private ByteBuffer buffer;
+        private HttpResponse response;
+        private HttpEntity entity;
+        private CachedOutputStream cos;
+
+        private CachedResponseConsumer(Exchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        protected void onResponseReceived(HttpResponse response) throws HttpException, IOException {
+            this.response = response;
+        }
+
+        @Override
+        protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) throws IOException {
+            this.entity = entity;
+            // the cached stream is closed (and any temporary file deleted) when the exchange is done
+            this.cos = new CachedOutputStream(exchange);
+            this.buffer = ByteBuffer.allocate(cos.getStrategyBufferSize());
+        }
+
+        @Override
+        protected void onContentReceived(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+            int read;
+            while ((read = decoder.read(buffer)) > 0) {
+                cos.write(buffer.array(), 0, read);
+                buffer.clear();
+            }
+        }
+
+        @Override
+        protected HttpResponse buildResult(HttpContext context) throws Exception {
+            if (cos != null) {
+                BasicHttpEntity cached = new BasicHttpEntity();
+                cached.setContentType(entity.getContentType());
+                cached.setContentEncoding(entity.getContentEncoding());
+                cached.setContentLength(entity.getContentLength());
+                cached.setContent((InputStream) cos.newStreamCache());
+                response.setEntity(cached);
+            }
+            return response;
+        }
+
+        @Override
+        protected void releaseResources() {
+            buffer = null;
+        }
+    }
+}
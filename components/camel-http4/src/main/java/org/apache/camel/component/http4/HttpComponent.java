@@ -285,7 +285,9 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             endpoint.setCookieStore(getCookieStore());
         }
         endpoint.setHttpClientOptions(httpClientOptions);
-        
+        // used by the async client which creates its own connection manager
+        endpoint.setSslContextParameters(sslContextParameters);
+
         return endpoint;
     }
 
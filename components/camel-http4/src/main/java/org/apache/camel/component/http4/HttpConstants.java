@@ -23,6 +23,7 @@ public final class HttpConstants {
 
     public static final String CONTENT_TYPE_JAVA_SERIALIZED_OBJECT = "application/x-java-serialized-object";
     public static final String CONTENT_TYPE_WWW_FORM_URLENCODED = "application/x-www-form-urlencoded";
+    public static final String HTTP_ASYNC_TIMEOUT = "CamelHttpAsyncTimeout";
 
     private HttpConstants() {
     }
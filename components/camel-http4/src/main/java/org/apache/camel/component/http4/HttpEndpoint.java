@@ -19,35 +19,61 @@ package org.apache.camel.component.http4;
 import java.io.Closeable;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.http.common.HttpCommonEndpoint;
 import org.apache.camel.http.common.HttpHelper;
 import org.apache.camel.http.common.cookie.CookieHandler;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.IntrospectionSupport;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.jsse.SSLContextParameters;
 import org.apache.http.HttpHost;
+import org.apache.http.auth.AuthScope;
+import org.apache.http.auth.Credentials;
+import org.apache.http.auth.NTCredentials;
+import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * For calling out to external HTTP servers using Apache HTTP Client 4.x.
  */
+@ManagedResource(description = "Managed HttpEndpoint")
 @UriEndpoint(firstVersion = "2.3.0", scheme = "http4,http4s", title = "HTTP4,HTTP4S", syntax = "http4:httpUri",
     producerOnly = true, label = "http", lenientProperties = true)
 public class HttpEndpoint extends HttpCommonEndpoint {
@@ -91,6 +117,21 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @UriParam(label = "security", description = "To use a custom X509HostnameVerifier such as DefaultHostnameVerifier or NoopHostnameVerifier")
     private HostnameVerifier x509HostnameVerifier;
 
+    @UriParam(label = "producer", description = "Whether the producer should use the non blocking HttpAsyncClient instead of the blocking HttpClient."
+        + " This allows many concurrent requests without holding a thread per request while waiting for the response.")
+    private boolean useAsyncClient;
+    @UriParam(label = "producer", description = "The timeout in millis for the entire request/response when using the async client."
+        + " The timeout can be overridden per message using the CamelHttpAsyncTimeout header. Setting a value of 0 or negative disables the timeout.")
+    private long asyncTimeout;
+    @UriParam(label = "advanced", description = "The number of I/O dispatcher threads of the async client."
+        + " The default value is 0 which uses the number of available processors.")
+    private int asyncIoThreadCount;
+    @UriParam(label = "advanced", description = "Sets a custom HttpAsyncClient to be used by the producer when useAsyncClient is enabled")
+    private CloseableHttpAsyncClient httpAsyncClient;
+
+    private SSLContextParameters sslContextParameters;
+    private PoolingNHttpClientConnectionManager asyncConnectionManager;
+
     public HttpEndpoint() {
     }
 
@@ -116,6 +157,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     }
 
     public Producer createProducer() throws Exception {
+        if (isUseAsyncClient()) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -198,6 +242,126 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    public synchronized CloseableHttpAsyncClient getHttpAsyncClient() throws Exception {
+        if (httpAsyncClient == null) {
+            httpAsyncClient = createHttpAsyncClient();
+        }
+        if (!httpAsyncClient.isRunning()) {
+            httpAsyncClient.start();
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Sets a custom HttpAsyncClient to be used by the producer when useAsyncClient is enabled.
+     * <p/>
+     * The endpoint starts the client if it is not running, but does not close it when stopped.
+     */
+    public void setHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = httpAsyncClient;
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance, which is configured from the same
+     * options as the blocking {@link HttpClient} (except for a custom {@link HttpClientConfigurer} as that is specific to
+     * the {@link HttpClientBuilder}).
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() throws Exception {
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+        if (asyncIoThreadCount > 0) {
+            ioReactorConfig.setIoThreadCount(asyncIoThreadCount);
+        }
+
+        HostnameVerifier hostnameVerifier = x509HostnameVerifier;
+        if (hostnameVerifier == null) {
+            hostnameVerifier = getComponent() != null ? getComponent().getX509HostnameVerifier() : new DefaultHostnameVerifier();
+        }
+        SSLContext sslContext = sslContextParameters != null ? sslContextParameters.createSSLContext(getCamelContext()) : SSLContexts.createDefault();
+        SchemeIOSessionStrategy sslStrategy = new SSLIOSessionStrategy(sslContext, hostnameVerifier);
+        Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+            .register("http", NoopIOSessionStrategy.INSTANCE)
+            .register("http4", NoopIOSessionStrategy.INSTANCE)
+            .register("https", sslStrategy)
+            .register("https4", sslStrategy)
+            .build();
+
+        long timeToLive = getComponent() != null ? getComponent().getConnectionTimeToLive() : -1;
+        asyncConnectionManager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(ioReactorConfig.build()),
+            null, registry, null, null, timeToLive, TimeUnit.MILLISECONDS);
+        int maxTotal = maxTotalConnections > 0 ? maxTotalConnections : (getComponent() != null ? getComponent().getMaxTotalConnections() : 0);
+        if (maxTotal > 0) {
+            asyncConnectionManager.setMaxTotal(maxTotal);
+        }
+        int perRoute = connectionsPerRoute > 0 ? connectionsPerRoute : (getComponent() != null ? getComponent().getConnectionsPerRoute() : 0);
+        if (perRoute > 0) {
+            asyncConnectionManager.setDefaultMaxPerRoute(perRoute);
+        }
+
+        HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create();
+        builder.setConnectionManager(asyncConnectionManager);
+        builder.setDefaultCookieStore(isBridgeEndpoint() ? new NoopCookieStore() : cookieStore);
+
+        // configure the request from the same httpClient. options as the blocking client
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        if (httpClientOptions != null) {
+            IntrospectionSupport.setProperties(requestConfigBuilder, new HashMap<String, Object>(httpClientOptions));
+        }
+        builder.setDefaultRequestConfig(requestConfigBuilder.build());
+
+        BasicCredentialsProvider credentialsProvider = null;
+        if (getAuthUsername() != null && getAuthPassword() != null) {
+            credentialsProvider = new BasicCredentialsProvider();
+            credentialsProvider.setCredentials(AuthScope.ANY, createCredentials(getAuthUsername(), getAuthPassword(), getAuthHost(), getAuthDomain()));
+        }
+        if (getProxyAuthHost() != null && getProxyAuthPort() > 0) {
+            String scheme = getProxyAuthScheme();
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            builder.setProxy(new HttpHost(getProxyAuthHost(), getProxyAuthPort(), scheme));
+            if (getProxyAuthUsername() != null && getProxyAuthPassword() != null) {
+                if (credentialsProvider == null) {
+                    credentialsProvider = new BasicCredentialsProvider();
+                }
+                credentialsProvider.setCredentials(new AuthScope(getProxyAuthHost(), getProxyAuthPort()),
+                    createCredentials(getProxyAuthUsername(), getProxyAuthPassword(), null, getProxyAuthDomain()));
+            }
+        } else if (!useSystemProperties) {
+            // configure http proxy from camelContext
+            if (ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyPort"))) {
+                String host = getCamelContext().getProperty("http.proxyHost");
+                int port = Integer.parseInt(getCamelContext().getProperty("http.proxyPort"));
+                String scheme = getCamelContext().getProperty("http.proxyScheme");
+                if (scheme == null) {
+                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+                }
+                builder.setProxy(new HttpHost(host, port, scheme));
+            }
+        }
+        if (useSystemProperties) {
+            builder.useSystemProperties();
+        }
+        if (credentialsProvider != null) {
+            builder.setDefaultCredentialsProvider(credentialsProvider);
+        }
+
+        if (isAuthenticationPreemptive()) {
+            builder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", builder);
+        return builder.build();
+    }
+
+    private static Credentials createCredentials(String username, String password, String host, String domain) {
+        if (domain != null) {
+            return new NTCredentials(username, password, host, domain);
+        }
+        return new UsernamePasswordCredentials(username, password);
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -212,6 +376,45 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient != null && httpClient instanceof Closeable) {
             IOHelper.close((Closeable)httpClient);
         }
+        if (httpAsyncClient != null && asyncConnectionManager != null) {
+            // only close the client created by this endpoint, which also shuts down the async connection manager
+            IOHelper.close(httpAsyncClient);
+            httpAsyncClient = null;
+            asyncConnectionManager = null;
+        }
+    }
+
+    private PoolStats getPoolStats() {
+        if (asyncConnectionManager != null) {
+            return asyncConnectionManager.getTotalStats();
+        } else if (clientConnectionManager instanceof PoolingHttpClientConnectionManager) {
+            return ((PoolingHttpClientConnectionManager) clientConnectionManager).getTotalStats();
+        }
+        return null;
+    }
+
+    @ManagedAttribute(description = "Number of connections in use by requests")
+    public int getConnectionsLeased() {
+        PoolStats stats = getPoolStats();
+        return stats != null ? stats.getLeased() : -1;
+    }
+
+    @ManagedAttribute(description = "Number of idle connections in the pool")
+    public int getConnectionsAvailable() {
+        PoolStats stats = getPoolStats();
+        return stats != null ? stats.getAvailable() : -1;
+    }
+
+    @ManagedAttribute(description = "Number of requests waiting for a connection")
+    public int getConnectionsPending() {
+        PoolStats stats = getPoolStats();
+        return stats != null ? stats.getPending() : -1;
+    }
+
+    @ManagedAttribute(description = "Maximum number of connections in the pool")
+    public int getConnectionsMax() {
+        PoolStats stats = getPoolStats();
+        return stats != null ? stats.getMax() : -1;
     }
 
     // Properties
@@ -366,6 +569,54 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.connectionsPerRoute = connectionsPerRoute;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non blocking HttpAsyncClient instead of the blocking HttpClient.
+     * This allows many concurrent requests without holding a thread per request while waiting for the response.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
+    public long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    /**
+     * The timeout in millis for the entire request/response when using the async client.
+     * The timeout can be overridden per message using the CamelHttpAsyncTimeout header.
+     * Setting a value of 0 or negative disables the timeout.
+     */
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    public int getAsyncIoThreadCount() {
+        return asyncIoThreadCount;
+    }
+
+    /**
+     * The number of I/O dispatcher threads of the async client.
+     * The default value is 0 which uses the number of available processors.
+     */
+    public void setAsyncIoThreadCount(int asyncIoThreadCount) {
+        this.asyncIoThreadCount = asyncIoThreadCount;
+    }
+
+    public SSLContextParameters getSslContextParameters() {
+        return sslContextParameters;
+    }
+
+    /**
+     * The SSLContextParameters used by the async client, which is configured by the component.
+     */
+    public void setSslContextParameters(SSLContextParameters sslContextParameters) {
+        this.sslContextParameters = sslContextParameters;
+    }
+
     public HostnameVerifier getX509HostnameVerifier() {
         return x509HostnameVerifier;
     }
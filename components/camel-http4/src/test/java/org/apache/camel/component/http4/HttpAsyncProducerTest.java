@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http4.handler.BasicValidationHandler;
+import org.apache.camel.component.http4.handler.DelayValidationHandler;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private HttpServer localServer;
+    private volatile String timeoutThreadName;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().
+                setHttpProcessor(getBasicHttpProcessor()).
+                setConnectionReuseStrategy(getConnectionReuseStrategy()).
+                setResponseFactory(getHttpResponseFactory()).
+                setExpectationVerifier(getHttpExpectationVerifier()).
+                setSslContext(getSSLContext()).
+                registerHandler("/", new BasicValidationHandler("GET", null, null, getExpectedContent())).
+                registerHandler("/delay", new DelayValidationHandler("GET", null, null, getExpectedContent(), 2000)).create();
+        localServer.start();
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void httpGet() throws Exception {
+        Exchange exchange = template.request(getServerUri() + "?useAsyncClient=true", new Processor() {
+            public void process(Exchange exchange) throws Exception {
+            }
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpGetWithTimeout() throws Exception {
+        Exchange exchange = template.request(getServerUri() + "/delay?useAsyncClient=true&asyncTimeout=500", new Processor() {
+            public void process(Exchange exchange) throws Exception {
+            }
+        });
+
+        assertIsInstanceOf(ExchangeTimedOutException.class, exchange.getException());
+    }
+
+    @Test
+    public void httpGetWithTimeoutContinuesRoutingOnWorkerThread() throws Exception {
+        template.sendBody("direct:timeout", null);
+
+        assertNotNull(timeoutThreadName);
+        assertTrue("Should continue routing on the worker pool: " + timeoutThreadName, timeoutThreadName.endsWith("HttpAsyncProducer"));
+    }
+
+    @Test
+    public void httpGetWithTimeoutHeader() throws Exception {
+        Exchange exchange = template.request(getServerUri() + "/delay?useAsyncClient=true&asyncTimeout=500", new Processor() {
+            public void process(Exchange exchange) throws Exception {
+                exchange.getIn().setHeader(HttpConstants.HTTP_ASYNC_TIMEOUT, 5000);
+            }
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpGetConnectionStats() throws Exception {
+        template.request(getServerUri() + "?useAsyncClient=true", null);
+
+        HttpEndpoint endpoint = context.getEndpoint(getServerUri() + "?useAsyncClient=true", HttpEndpoint.class);
+        assertEquals(200, endpoint.getConnectionsMax());
+    }
+
+    @Test
+    public void httpGetWithCustomClientAfterRestart() throws Exception {
+        CloseableHttpAsyncClient client = HttpAsyncClients.createDefault();
+        try {
+            HttpEndpoint endpoint = context.getEndpoint(getServerUri() + "?useAsyncClient=true", HttpEndpoint.class);
+            endpoint.setHttpAsyncClient(client);
+
+            assertExchange(template.request(endpoint, null));
+
+            // the endpoint must not close a client it did not create
+            endpoint.stop();
+            assertTrue(client.isRunning());
+            endpoint.start();
+
+            assertExchange(template.request(endpoint, null));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:timeout")
+                    .doTry()
+                        .to(getServerUri() + "/delay?useAsyncClient=true&asyncTimeout=500")
+                    .doCatch(ExchangeTimedOutException.class)
+                        .process(new Processor() {
+                            public void process(Exchange exchange) throws Exception {
+                                timeoutThreadName = Thread.currentThread().getName();
+                            }
+                        })
+                    .end();
+            }
+        };
+    }
+
+    private String getServerUri() {
+        return "http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+    }
+}
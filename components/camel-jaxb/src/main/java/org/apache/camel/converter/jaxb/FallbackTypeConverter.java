@@ -26,8 +26,10 @@ import java.io.UnsupportedEncodingException;
 import java.io.Writer;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
@@ -66,7 +68,12 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
     public static final String OBJECT_FACTORY = "CamelJaxbObjectFactory";
 
     private static final Logger LOG = LoggerFactory.getLogger(FallbackTypeConverter.class);
-    private final Map<AnnotatedElement, JAXBContext> contexts = new HashMap<>();
+    private static final int POOL_SIZE = 16;
+
+    private final Map<AnnotatedElement, JAXBContext> contexts = new ConcurrentHashMap<>();
+    // marshallers and unmarshallers are not thread safe, so keep a pool of idle instances per context
+    private final Map<JAXBContext, BlockingQueue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+    private final Map<JAXBContext, BlockingQueue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
     private final StaxConverter staxConverter = new StaxConverter();
     private TypeConverter parentTypeConverter;
     private boolean prettyPrint = true;
@@ -206,6 +213,8 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
     @Override
     protected void doStop() throws Exception {
         contexts.clear();
+        marshallers.clear();
+        unmarshallers.clear();
     }
 
     private <T> boolean hasXmlRootElement(Class<T> type) {
@@ -239,21 +248,32 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
         }
 
         Unmarshaller unmarshaller = getUnmarshaller(type);
-
-        if (parentTypeConverter != null) {
-            if (!needFiltering(exchange)) {
-                // we cannot filter the XMLStreamReader if necessary
-                XMLStreamReader xmlReader = parentTypeConverter.convertTo(XMLStreamReader.class, exchange, value);
-                if (xmlReader != null) {
-                    try {
-                        Object unmarshalled = unmarshal(unmarshaller, exchange, xmlReader);
-                        return castJaxbType(unmarshalled, type);
-                    } catch (Exception ex) {
-                        // There is some issue on the StaxStreamReader to CXFPayload message body with different namespaces
-                        LOG.debug("Cannot use StaxStreamReader to unmarshal the message, due to {}", ex);
-                    }
+        if (parentTypeConverter != null && !needFiltering(exchange)) {
+            // we cannot filter the XMLStreamReader if necessary
+            XMLStreamReader xmlReader = parentTypeConverter.convertTo(XMLStreamReader.class, exchange, value);
+            if (xmlReader != null) {
+                try {
+                    Object unmarshalled = unmarshal(unmarshaller, exchange, xmlReader);
+                    T answer = castJaxbType(unmarshalled, type);
+                    releaseUnmarshaller(type, unmarshaller);
+                    return answer;
+                } catch (Exception ex) {
+                    // There is some issue on the StaxStreamReader to CXFPayload message body with different namespaces
+                    LOG.debug("Cannot use StaxStreamReader to unmarshal the message, due to {}", ex);
+                    // do not reuse the failed unmarshaller, but try the other sources with another one
+                    unmarshaller = getUnmarshaller(type);
                 }
             }
+        }
+
+        T answer = unmarshall(type, exchange, value, unmarshaller);
+        // only reuse the unmarshaller if it did not fail
+        releaseUnmarshaller(type, unmarshaller);
+        return answer;
+    }
+
+    private <T> T unmarshall(Class<T> type, Exchange exchange, Object value, Unmarshaller unmarshaller) throws Exception {
+        if (parentTypeConverter != null) {
             InputStream inputStream = parentTypeConverter.convertTo(InputStream.class, exchange, value);
             if (inputStream != null) {
                 Object unmarshalled = unmarshal(unmarshaller, exchange, inputStream);
@@ -291,15 +311,13 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
             // lets convert the object to a JAXB source and try convert that to
             // the required source
             JAXBContext context = createContext(value.getClass());
-            // must create a new instance of marshaller as its not thread safe
-            Marshaller marshaller = context.createMarshaller();
+            // marshaller is not thread safe, so take one from the pool
+            Marshaller marshaller = acquireMarshaller(context);
             Writer buffer = new StringWriter();
 
-            if (isPrettyPrint()) {
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            }
-            if (exchange != null && exchange.getProperty(Exchange.CHARSET_NAME, String.class) != null) {
-                marshaller.setProperty(Marshaller.JAXB_ENCODING, exchange.getProperty(Exchange.CHARSET_NAME, String.class));
+            String charset = exchange != null ? exchange.getProperty(Exchange.CHARSET_NAME, String.class) : null;
+            if (charset != null) {
+                marshaller.setProperty(Marshaller.JAXB_ENCODING, charset);
             }
             Object toMarshall = value;
             if (objectFactoryMethod != null) {
@@ -319,6 +337,10 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
             } else {
                 marshaller.marshal(toMarshall, buffer);
             }
+            if (charset != null) {
+                marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+            }
+            releaseMarshaller(context, marshaller);
             // we need to pass the exchange
             answer = parentTypeConverter.convertTo(type, exchange, buffer.toString());
         }
@@ -363,16 +385,19 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
         return exchange != null && exchange.getProperty(Exchange.FILTER_NON_XML_CHARS, Boolean.FALSE, Boolean.class);
     }
 
-    protected synchronized <T> JAXBContext createContext(Class<T> type) throws JAXBException {
+    protected <T> JAXBContext createContext(Class<T> type) throws JAXBException {
         AnnotatedElement ae = hasXmlRootElement(type) ? type : type.getPackage();
         JAXBContext context = contexts.get(ae);
         if (context == null) {
             if (hasXmlRootElement(type)) {
                 context = JAXBContext.newInstance(type);
-                contexts.put(type, context);
             } else {
                 context = JAXBContext.newInstance(type.getPackage().getName());
-                contexts.put(type.getPackage(), context);
+            }
+            // another thread may have created the context in the meantime
+            JAXBContext existing = contexts.putIfAbsent(ae, context);
+            if (existing != null) {
+                context = existing;
             }
         }
         return context;
@@ -380,7 +405,34 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
 
     protected <T> Unmarshaller getUnmarshaller(Class<T> type) throws JAXBException {
         JAXBContext context = createContext(type);
-        return context.createUnmarshaller();
+        Unmarshaller unmarshaller = pool(unmarshallers, context).poll();
+        if (unmarshaller == null) {
+            unmarshaller = context.createUnmarshaller();
+        }
+        return unmarshaller;
+    }
+
+    private <T> void releaseUnmarshaller(Class<T> type, Unmarshaller unmarshaller) throws JAXBException {
+        pool(unmarshallers, createContext(type)).offer(unmarshaller);
+    }
+
+    private Marshaller acquireMarshaller(JAXBContext context) throws JAXBException {
+        Marshaller marshaller = pool(marshallers, context).poll();
+        if (marshaller == null) {
+            marshaller = context.createMarshaller();
+            if (isPrettyPrint()) {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            }
+        }
+        return marshaller;
+    }
+
+    private void releaseMarshaller(JAXBContext context, Marshaller marshaller) {
+        pool(marshallers, context).offer(marshaller);
+    }
+
+    private static <T> BlockingQueue<T> pool(Map<JAXBContext, BlockingQueue<T>> pools, JAXBContext context) {
+        return pools.computeIfAbsent(context, k -> new LinkedBlockingQueue<T>(POOL_SIZE));
     }
 
     private static <T> boolean isNotStreamCacheType(Class<T> type) {
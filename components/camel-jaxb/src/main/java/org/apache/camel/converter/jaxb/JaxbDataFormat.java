@@ -107,6 +107,9 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
     private Schema cachedSchema;
     private Map<String, Object> jaxbProviderProperties;
     private boolean contentTypeHeader = true;
+    private int poolSize = 16;
+    private BlockingQueue<Marshaller> marshallerPool;
+    private BlockingQueue<Unmarshaller> unmarshallerPool;
 
     public JaxbDataFormat() {
     }
@@ -126,46 +129,32 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
 
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws IOException, SAXException {
         try {
-            // must create a new instance of marshaller as its not thread safe
-            Marshaller marshaller = createMarshaller();
-
-            if (isPrettyPrint()) {
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            }
             // exchange take precedence over encoding option
             String charset = exchange.getProperty(Exchange.CHARSET_NAME, String.class);
-            if (charset == null) {
-                charset = encoding;
+            // a marshaller configured with JAX-RI custom properties from the exchange cannot be reused
+            Map<String, Object> customProperties = exchange.getProperty(JaxbConstants.JAXB_PROVIDER_PROPERTIES, Map.class);
+            boolean pooled = customProperties == null;
+
+            Marshaller marshaller;
+            if (pooled) {
+                marshaller = acquireMarshaller();
+            } else {
+                // must create a new instance of marshaller as its not thread safe
+                marshaller = configureMarshaller(createMarshaller(), customProperties);
             }
-            if (charset != null) {
+            boolean encodingChanged = charset != null && !charset.equals(encoding);
+            if (encodingChanged) {
                 marshaller.setProperty(Marshaller.JAXB_ENCODING, charset);
             }
-            if (isFragment()) {
-                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
-            }
-            if (ObjectHelper.isNotEmpty(schemaLocation)) {
-                marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
-            }
-            if (ObjectHelper.isNotEmpty(noNamespaceSchemaLocation)) {
-                marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, noNamespaceSchemaLocation);
-            }
-            if (namespacePrefixMapper != null) {
-                marshaller.setProperty(namespacePrefixMapper.getRegistrationKey(), namespacePrefixMapper);
-            }
-            // Inject any JAX-RI custom properties from the exchange or from the instance into the marshaller
-            Map<String, Object> customProperties = exchange.getProperty(JaxbConstants.JAXB_PROVIDER_PROPERTIES, Map.class);
-            if (customProperties == null) {
-                customProperties = getJaxbProviderProperties();
-            }
-            if (customProperties != null) {
-                for (Entry<String, Object> property : customProperties.entrySet()) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Using JAXB Provider Property {}={}", property.getKey(), property.getValue());
-                    }
-                    marshaller.setProperty(property.getKey(), property.getValue());
+
+            marshal(exchange, graph, stream, marshaller);
+
+            if (pooled) {
+                if (encodingChanged) {
+                    marshaller.setProperty(Marshaller.JAXB_ENCODING, encoding != null ? encoding : "UTF-8");
                 }
+                releaseMarshaller(marshaller);
             }
-            marshal(exchange, graph, stream, marshaller);
 
             if (contentTypeHeader) {
                 if (exchange.hasOut()) {
@@ -179,6 +168,72 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
         }
     }
 
+    /**
+     * Configures the marshaller with the options of this data format, and the given JAX-RI custom properties
+     * (falls back to the <tt>jaxbProviderProperties</tt> option if <tt>null</tt>).
+     */
+    private Marshaller configureMarshaller(Marshaller marshaller, Map<String, Object> customProperties) throws JAXBException {
+        if (isPrettyPrint()) {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        }
+        if (encoding != null) {
+            marshaller.setProperty(Marshaller.JAXB_ENCODING, encoding);
+        }
+        if (isFragment()) {
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        }
+        if (ObjectHelper.isNotEmpty(schemaLocation)) {
+            marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
+        }
+        if (ObjectHelper.isNotEmpty(noNamespaceSchemaLocation)) {
+            marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, noNamespaceSchemaLocation);
+        }
+        if (namespacePrefixMapper != null) {
+            marshaller.setProperty(namespacePrefixMapper.getRegistrationKey(), namespacePrefixMapper);
+        }
+        // Inject any JAX-RI custom properties from the exchange or from the instance into the marshaller
+        if (customProperties == null) {
+            customProperties = getJaxbProviderProperties();
+        }
+        if (customProperties != null) {
+            for (Entry<String, Object> property : customProperties.entrySet()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Using JAXB Provider Property {}={}", property.getKey(), property.getValue());
+                }
+                marshaller.setProperty(property.getKey(), property.getValue());
+            }
+        }
+        return marshaller;
+    }
+
+    private Marshaller acquireMarshaller() throws Exception {
+        Marshaller marshaller = marshallerPool != null ? marshallerPool.poll() : null;
+        if (marshaller == null) {
+            marshaller = configureMarshaller(createMarshaller(), null);
+        }
+        return marshaller;
+    }
+
+    private void releaseMarshaller(Marshaller marshaller) {
+        if (marshallerPool != null) {
+            marshallerPool.offer(marshaller);
+        }
+    }
+
+    private Unmarshaller acquireUnmarshaller() throws JAXBException, SAXException, FileNotFoundException, MalformedURLException {
+        Unmarshaller unmarshaller = unmarshallerPool != null ? unmarshallerPool.poll() : null;
+        if (unmarshaller == null) {
+            unmarshaller = createUnmarshaller();
+        }
+        return unmarshaller;
+    }
+
+    private void releaseUnmarshaller(Unmarshaller unmarshaller) {
+        if (unmarshallerPool != null) {
+            unmarshallerPool.offer(unmarshaller);
+        }
+    }
+
     void marshal(Exchange exchange, Object graph, OutputStream stream, Marshaller marshaller)
         throws XMLStreamException, JAXBException, NoTypeConversionAvailableException, IOException, InvalidPayloadException {
 
@@ -256,12 +311,14 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
             } else {
                 xmlReader = typeConverter.convertTo(XMLStreamReader.class, stream);
             }
+            Unmarshaller unmarshaller = acquireUnmarshaller();
             if (partialClass != null) {
                 // partial unmarshalling
-                answer = createUnmarshaller().unmarshal(xmlReader, partialClass);
+                answer = unmarshaller.unmarshal(xmlReader, partialClass);
             } else {
-                answer = createUnmarshaller().unmarshal(xmlReader);
+                answer = unmarshaller.unmarshal(xmlReader);
             }
+            releaseUnmarshaller(unmarshaller);
 
             if (answer instanceof JAXBElement && isIgnoreJAXBElement()) {
                 answer = ((JAXBElement<?>)answer).getValue();
@@ -458,6 +515,19 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
         this.contentTypeHeader = contentTypeHeader;
     }
 
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * The maximum number of idle marshallers and unmarshallers kept for reuse, as creating and configuring
+     * them for every message is expensive. Setting this to 0 creates a new instance for every message.
+     * The default is 16.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void doStart() throws Exception {
@@ -482,12 +552,18 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
         if (schema != null) {
             cachedSchema = createSchema(getSources());
         }
+        if (poolSize > 0) {
+            marshallerPool = new LinkedBlockingQueue<Marshaller>(poolSize);
+            unmarshallerPool = new LinkedBlockingQueue<Unmarshaller>(poolSize);
+        }
 
         LOG.debug("JaxbDataFormat [prettyPrint={}, objectFactory={}]", prettyPrint, objectFactory);
     }
 
     @Override
     protected void doStop() throws Exception {
+        marshallerPool = null;
+        unmarshallerPool = null;
     }
 
     /**
@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.jaxb;
+
+import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.converter.jaxb.person.Person;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.DefaultExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class FallbackTypeConverterPoolTest {
+
+    private static final String PERSON = "<person xmlns=\"person.jaxb.converter.camel.apache.org\"><firstName>Claus</firstName></person>";
+
+    private final List<Unmarshaller> unmarshallers = new CopyOnWriteArrayList<Unmarshaller>();
+    private volatile Unmarshaller failStaxWith;
+    private volatile boolean failStax;
+    private FallbackTypeConverter converter;
+    private CamelContext camelContext;
+
+    @Before
+    public void setUp() throws Exception {
+        camelContext = new DefaultCamelContext();
+        camelContext.start();
+
+        converter = new FallbackTypeConverter() {
+            @Override
+            protected <T> Unmarshaller getUnmarshaller(Class<T> type) throws JAXBException {
+                Unmarshaller unmarshaller = super.getUnmarshaller(type);
+                unmarshallers.add(unmarshaller);
+                return unmarshaller;
+            }
+
+            @Override
+            protected Object unmarshal(Unmarshaller unmarshaller, Exchange exchange, Object value)
+                throws JAXBException, UnsupportedEncodingException, XMLStreamException {
+                if (failStax && value instanceof XMLStreamReader) {
+                    failStaxWith = unmarshaller;
+                    throw new XMLStreamException("Forced");
+                }
+                return super.unmarshal(unmarshaller, exchange, value);
+            }
+        };
+        converter.setCamelContext(camelContext);
+        converter.setTypeConverter(camelContext.getTypeConverter());
+        converter.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        converter.stop();
+        camelContext.stop();
+    }
+
+    @Test
+    public void testFailedStaxUnmarshallerIsNotReused() throws Exception {
+        failStax = true;
+        Person person = converter.convertTo(Person.class, new DefaultExchange(camelContext), PERSON);
+        assertEquals("Claus", person.getFirstName());
+        // the failed unmarshaller is discarded and another one is used for the fallback
+        assertEquals(2, unmarshallers.size());
+        assertSame(failStaxWith, unmarshallers.get(0));
+
+        failStax = false;
+        person = converter.convertTo(Person.class, new DefaultExchange(camelContext), PERSON);
+        assertEquals("Claus", person.getFirstName());
+        assertEquals(3, unmarshallers.size());
+        assertNotSame(failStaxWith, unmarshallers.get(2));
+        assertSame(unmarshallers.get(1), unmarshallers.get(2));
+    }
+}
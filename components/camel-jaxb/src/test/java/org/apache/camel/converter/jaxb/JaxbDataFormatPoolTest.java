@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.jaxb;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.net.MalformedURLException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.xml.sax.SAXException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.converter.jaxb.person.Person;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.DefaultExchange;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JaxbDataFormatPoolTest {
+
+    private final AtomicInteger marshallers = new AtomicInteger();
+    private final AtomicInteger unmarshallers = new AtomicInteger();
+    private JaxbDataFormat jaxbDataFormat;
+    private CamelContext camelContext;
+
+    @Before
+    public void setUp() throws Exception {
+        camelContext = new DefaultCamelContext();
+
+        jaxbDataFormat = new JaxbDataFormat(JAXBContext.newInstance(Person.class)) {
+            @Override
+            protected Marshaller createMarshaller() throws JAXBException, SAXException, FileNotFoundException, MalformedURLException {
+                marshallers.incrementAndGet();
+                return super.createMarshaller();
+            }
+
+            @Override
+            protected Unmarshaller createUnmarshaller() throws JAXBException, SAXException, FileNotFoundException, MalformedURLException {
+                unmarshallers.incrementAndGet();
+                return super.createUnmarshaller();
+            }
+        };
+        jaxbDataFormat.setCamelContext(camelContext);
+        jaxbDataFormat.setPrettyPrint(false);
+        jaxbDataFormat.start();
+    }
+
+    @Test
+    public void testMarshallersAreReused() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            Person person = new Person();
+            person.setFirstName("Claus" + i);
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            jaxbDataFormat.marshal(new DefaultExchange(camelContext), person, bos);
+
+            Person answer = (Person) jaxbDataFormat.unmarshal(new DefaultExchange(camelContext), new ByteArrayInputStream(bos.toByteArray()));
+            assertEquals("Claus" + i, answer.getFirstName());
+        }
+
+        assertEquals(1, marshallers.get());
+        assertEquals(1, unmarshallers.get());
+    }
+
+    @Test
+    public void testEncodingFromExchangeIsNotKept() throws Exception {
+        Person person = new Person();
+        person.setFirstName("Claus");
+
+        Exchange exchange = new DefaultExchange(camelContext);
+        exchange.setProperty(Exchange.CHARSET_NAME, "ISO-8859-1");
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        jaxbDataFormat.marshal(exchange, person, bos);
+        assertTrue(bos.toString("ISO-8859-1").contains("ISO-8859-1"));
+
+        bos = new ByteArrayOutputStream();
+        jaxbDataFormat.marshal(new DefaultExchange(camelContext), person, bos);
+        assertTrue(bos.toString("UTF-8").contains("UTF-8"));
+        assertEquals(1, marshallers.get());
+    }
+
+    @Test
+    public void testCustomPropertiesFromExchangeAreNotPooled() throws Exception {
+        Person person = new Person();
+        person.setFirstName("Claus");
+
+        for (int i = 0; i < 3; i++) {
+            Exchange exchange = new DefaultExchange(camelContext);
+            exchange.setProperty(JaxbConstants.JAXB_PROVIDER_PROPERTIES, Collections.singletonMap(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE));
+            jaxbDataFormat.marshal(exchange, person, new ByteArrayOutputStream());
+        }
+
+        assertEquals(3, marshallers.get());
+    }
+}
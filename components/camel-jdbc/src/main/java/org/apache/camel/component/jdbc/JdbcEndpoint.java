@@ -43,6 +43,12 @@ public class JdbcEndpoint extends DefaultEndpoint {
     @UriParam
     private int readSize;
     @UriParam
+    private int fetchSize;
+    @UriParam
+    private int streamChunkSize;
+    @UriParam
+    private boolean reuseRow;
+    @UriParam
     private boolean transacted;
     @UriParam(defaultValue = "true")
     private boolean resetAutoCommit = true;
@@ -107,6 +113,47 @@ public class JdbcEndpoint extends DefaultEndpoint {
         this.readSize = readSize;
     }
 
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Gives the JDBC driver a hint as to the number of rows that should be fetched from the database
+     * when more rows are needed. The default value is 0 which lets the driver decide.
+     * <p/>
+     * When using outputType=StreamList a fetch size keeps the driver from reading the entire result into memory,
+     * however some drivers (such as PostgreSQL) only honour it when autoCommit is disabled, which is the case when resetAutoCommit is true.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public int getStreamChunkSize() {
+        return streamChunkSize;
+    }
+
+    /**
+     * When using outputType=StreamList the iterator returns the rows in chunks (a List of rows) of this size
+     * instead of one row at a time, so each split message holds a bounded number of rows. The default value is 0 which
+     * returns one row at a time.
+     */
+    public void setStreamChunkSize(int streamChunkSize) {
+        this.streamChunkSize = streamChunkSize;
+    }
+
+    public boolean isReuseRow() {
+        return reuseRow;
+    }
+
+    /**
+     * When using outputType=StreamList the iterator fills in and returns the same Map for every row instead of
+     * creating a new Map per row. This is only safe when each row is fully processed before the next row is read,
+     * such as a sequential split which does not keep the rows, and it is not used together with streamChunkSize.
+     */
+    public void setReuseRow(boolean reuseRow) {
+        this.reuseRow = reuseRow;
+    }
+
     public boolean isTransacted() {
         return transacted;
     }
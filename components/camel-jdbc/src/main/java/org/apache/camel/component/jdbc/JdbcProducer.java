@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.jdbc;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -31,6 +32,7 @@ import java.util.Map;
 
 import javax.sql.DataSource;
 
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultProducer;
 import org.apache.camel.spi.Synchronization;
@@ -41,7 +43,7 @@ import org.slf4j.LoggerFactory;
 /**
  * @version
  */
-public class JdbcProducer extends DefaultProducer {
+public class JdbcProducer extends DefaultProducer implements BatchProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(JdbcProducer.class);
     private DataSource dataSource;
     private int readSize;
@@ -70,6 +72,148 @@ public class JdbcProducer extends DefaultProducer {
         }
     }
 
+    /**
+     * Executes the sql of the exchanges as a JDBC batch using {@link Statement#executeBatch()} on a single connection,
+     * and sets the update count of each statement on its exchange. The sql must therefore be updates which do not
+     * return a result set. When using headers as parameters, consecutive exchanges with the same sql are executed
+     * as a batch of the same {@link PreparedStatement}.
+     * <p/>
+     * If resetAutoCommit is enabled then the batch is executed in a single transaction, and the entire batch fails if any
+     * statement fails. Otherwise the exchanges of the statements which failed, or were not executed, get the exception.
+     * If any exchange retrieves generated keys then the exchanges are processed one by one, as the keys are only returned
+     * for a single statement.
+     */
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        for (Exchange exchange : exchanges) {
+            if (exchange.getIn().getHeader(JdbcConstants.JDBC_RETRIEVE_GENERATED_KEYS, false, Boolean.class)) {
+                for (Exchange single : exchanges) {
+                    try {
+                        process(single);
+                    } catch (Exception e) {
+                        single.setException(e);
+                    }
+                }
+                return;
+            }
+        }
+
+        Connection conn = null;
+        Boolean autoCommit = null;
+        try {
+            conn = dataSource.getConnection();
+            if (getEndpoint().isResetAutoCommit()) {
+                autoCommit = conn.getAutoCommit();
+                if (autoCommit) {
+                    conn.setAutoCommit(false);
+                }
+            }
+
+            if (getEndpoint().isUseHeadersAsParameters()) {
+                int from = 0;
+                while (from < exchanges.size()) {
+                    String sql = exchanges.get(from).getIn().getBody(String.class);
+                    int to = from + 1;
+                    while (to < exchanges.size() && sql.equals(exchanges.get(to).getIn().getBody(String.class))) {
+                        to++;
+                    }
+                    executePreparedStatementBatch(conn, sql, exchanges.subList(from, to));
+                    from = to;
+                }
+            } else {
+                executeStatementBatch(conn, exchanges);
+            }
+
+            if (getEndpoint().isResetAutoCommit()) {
+                conn.commit();
+            }
+        } catch (Exception e) {
+            try {
+                if (conn != null && getEndpoint().isResetAutoCommit()) {
+                    conn.rollback();
+                }
+            } catch (Throwable sqle) {
+                LOG.warn("Error occurred during jdbc rollback. This exception will be ignored.", sqle);
+            }
+            throw e;
+        } finally {
+            resetAutoCommit(conn, autoCommit);
+            closeQuietly(conn);
+        }
+    }
+
+    private void executeStatementBatch(Connection conn, List<Exchange> exchanges) throws Exception {
+        Statement stmt = null;
+        try {
+            stmt = conn.createStatement();
+            if (parameters != null && !parameters.isEmpty()) {
+                Map<String, Object> copy = new HashMap<String, Object>(parameters);
+                IntrospectionSupport.setProperties(stmt, copy);
+            }
+            for (Exchange exchange : exchanges) {
+                stmt.addBatch(exchange.getIn().getBody(String.class));
+            }
+
+            LOG.debug("Executing JDBC batch of {} Statements", exchanges.size());
+            executeBatch(stmt, exchanges);
+        } finally {
+            closeQuietly(stmt);
+        }
+    }
+
+    private void executePreparedStatementBatch(Connection conn, String sql, List<Exchange> exchanges) throws Exception {
+        PreparedStatement ps = null;
+        try {
+            final String preparedQuery = getEndpoint().getPrepareStatementStrategy().prepareQuery(sql, getEndpoint().isAllowNamedParameters());
+            ps = conn.prepareStatement(preparedQuery);
+
+            int expectedCount = ps.getParameterMetaData().getParameterCount();
+            for (Exchange exchange : exchanges) {
+                if (expectedCount > 0) {
+                    Iterator<?> it = getEndpoint().getPrepareStatementStrategy()
+                            .createPopulateIterator(sql, preparedQuery, expectedCount, exchange, exchange.getIn().getBody());
+                    getEndpoint().getPrepareStatementStrategy().populateStatement(ps, it, expectedCount);
+                }
+                ps.addBatch();
+            }
+
+            LOG.debug("Executing JDBC batch of {} PreparedStatements: {}", exchanges.size(), sql);
+            executeBatch(ps, exchanges);
+        } finally {
+            closeQuietly(ps);
+        }
+    }
+
+    private void executeBatch(Statement stmt, List<Exchange> exchanges) throws Exception {
+        int[] updateCounts;
+        BatchUpdateException cause = null;
+        try {
+            updateCounts = stmt.executeBatch();
+        } catch (BatchUpdateException e) {
+            if (getEndpoint().isResetAutoCommit()) {
+                // the transaction is rolled back so the entire batch fails
+                throw e;
+            }
+            updateCounts = e.getUpdateCounts() != null ? e.getUpdateCounts() : new int[0];
+            cause = e;
+        }
+
+        for (int i = 0; i < exchanges.size(); i++) {
+            Exchange exchange = exchanges.get(i);
+            // the driver may stop at the first failed statement, so the statements after it are not executed
+            if (cause != null && (i >= updateCounts.length || updateCounts[i] == Statement.EXECUTE_FAILED)) {
+                exchange.setException(cause);
+            } else {
+                // preserve headers
+                exchange.getOut().getHeaders().putAll(exchange.getIn().getHeaders());
+                // and then set the new header
+                if (i < updateCounts.length) {
+                    exchange.getOut().setHeader(JdbcConstants.JDBC_UPDATE_COUNT, updateCounts[i]);
+                }
+            }
+        }
+    }
+
     private void processingSqlBySettingAutoCommit(Exchange exchange) throws Exception {
         String sql = exchange.getIn().getBody(String.class);
         Connection conn = null;
@@ -85,7 +229,13 @@ public class JdbcProducer extends DefaultProducer {
 
             shouldCloseResources = createAndExecuteSqlStatement(exchange, sql, conn);
 
-            conn.commit();
+            if (shouldCloseResources) {
+                conn.commit();
+            } else {
+                // in streaming mode the result set is read after this method returns, and committing now would
+                // close the cursor on some databases, so commit when the exchange is done instead
+                exchange.addOnCompletion(new StreamingCommitCompletion(conn, autoCommit));
+            }
         } catch (Exception e) {
             try {
                 if (conn != null) {
@@ -152,6 +302,10 @@ public class JdbcProducer extends DefaultProducer {
                 ps = conn.prepareStatement(preparedQuery);
             }
 
+            if (getEndpoint().getFetchSize() > 0) {
+                ps.setFetchSize(getEndpoint().getFetchSize());
+            }
+
             int expectedCount = ps.getParameterMetaData().getParameterCount();
 
             if (expectedCount > 0) {
@@ -198,6 +352,9 @@ public class JdbcProducer extends DefaultProducer {
                 Map<String, Object> copy = new HashMap<String, Object>(parameters);
                 IntrospectionSupport.setProperties(stmt, copy);
             }
+            if (getEndpoint().getFetchSize() > 0) {
+                stmt.setFetchSize(getEndpoint().getFetchSize());
+            }
 
             LOG.debug("Executing JDBC Statement: {}", sql);
 
@@ -324,7 +481,13 @@ public class JdbcProducer extends DefaultProducer {
         JdbcOutputType outputType = getEndpoint().getOutputType();
         exchange.getOut().setHeader(JdbcConstants.JDBC_COLUMN_NAMES, iterator.getColumnNames());
         if (outputType == JdbcOutputType.StreamList) {
-            exchange.getOut().setBody(iterator);
+            int chunkSize = getEndpoint().getStreamChunkSize();
+            if (chunkSize > 0) {
+                exchange.getOut().setBody(new ResultSetChunkIterator(iterator, chunkSize));
+            } else {
+                iterator.setReuseRow(getEndpoint().isReuseRow());
+                exchange.getOut().setBody(iterator);
+            }
             exchange.addOnCompletion(new ResultSetIteratorCompletion(iterator));
             // do not close resources as we are in streaming mode
             answer = false;
@@ -399,6 +562,62 @@ public class JdbcProducer extends DefaultProducer {
         return answer;
     }
 
+    private static final class ResultSetChunkIterator implements Iterator<List<Map<String, Object>>> {
+        private final ResultSetIterator iterator;
+        private final int chunkSize;
+
+        private ResultSetChunkIterator(ResultSetIterator iterator, int chunkSize) {
+            this.iterator = iterator;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public List<Map<String, Object>> next() {
+            return iterator.nextChunk(chunkSize);
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+        }
+    }
+
+    private final class StreamingCommitCompletion implements Synchronization {
+        private final Connection connection;
+        private final Boolean autoCommit;
+
+        private StreamingCommitCompletion(Connection connection, Boolean autoCommit) {
+            this.connection = connection;
+            this.autoCommit = autoCommit;
+        }
+
+        @Override
+        public void onComplete(Exchange exchange) {
+            // runs before the iterator completion (which closes the connection) as synchronizations are invoked in reverse order
+            try {
+                connection.commit();
+            } catch (Throwable sqle) {
+                LOG.warn("Error occurred during jdbc commit. This exception will be ignored.", sqle);
+            }
+            resetAutoCommit(connection, autoCommit);
+        }
+
+        @Override
+        public void onFailure(Exchange exchange) {
+            try {
+                connection.rollback();
+            } catch (Throwable sqle) {
+                LOG.warn("Error occurred during jdbc rollback. This exception will be ignored.", sqle);
+            }
+            resetAutoCommit(connection, autoCommit);
+        }
+    }
+
     private static final class ResultSetIteratorCompletion implements Synchronization {
         private final ResultSetIterator iterator;
 
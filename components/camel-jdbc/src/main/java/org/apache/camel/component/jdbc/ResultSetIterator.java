@@ -22,9 +22,11 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -43,6 +45,8 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
     private final Column[] columns;
     private final boolean useGetBytes;
     private final AtomicBoolean closed = new AtomicBoolean();
+    private boolean reuseRow;
+    private Map<String, Object> row;
 
     public ResultSetIterator(Connection conn, ResultSet resultSet, boolean isJDBC4, boolean useGetBytes) throws SQLException {
         this.resultSet = resultSet;
@@ -78,7 +82,14 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
         }
 
         try {
-            Map<String, Object> row = new LinkedHashMap<String, Object>();
+            Map<String, Object> row = this.row;
+            if (row == null) {
+                // size the map up front so it does not rehash while the columns are added
+                row = new LinkedHashMap<String, Object>(columns.length * 4 / 3 + 1);
+                if (reuseRow) {
+                    this.row = row;
+                }
+            }
             for (Column column : columns) {
                 if (useGetBytes && column instanceof BlobColumn) {
                     row.put(column.getName(), ((BlobColumn) column).getBytes(resultSet));
@@ -94,6 +105,46 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
         }
     }
 
+    /**
+     * Reads the next (up to) <tt>size</tt> rows into a new list.
+     * <p/>
+     * Rows are never reused when reading chunks, as the chunk holds on to all of them.
+     */
+    public List<Map<String, Object>> nextChunk(int size) {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        boolean reuse = reuseRow;
+        reuseRow = false;
+        row = null;
+        try {
+            List<Map<String, Object>> chunk = new ArrayList<Map<String, Object>>(size);
+            while (chunk.size() < size && hasNext()) {
+                chunk.add(next());
+            }
+            return chunk;
+        } finally {
+            reuseRow = reuse;
+        }
+    }
+
+    public boolean isReuseRow() {
+        return reuseRow;
+    }
+
+    /**
+     * Whether {@link #next()} should fill in and return the same map instance for every row instead of creating a new map per row.
+     * <p/>
+     * This is only safe when each row has been fully processed before the next row is read.
+     */
+    public void setReuseRow(boolean reuseRow) {
+        this.reuseRow = reuseRow;
+        if (!reuseRow) {
+            this.row = null;
+        }
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException("Cannot remove from a database result");
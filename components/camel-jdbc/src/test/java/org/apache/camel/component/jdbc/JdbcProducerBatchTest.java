@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.ServiceHelper;
+import org.junit.Test;
+
+public class JdbcProducerBatchTest extends AbstractJdbcTestSupport {
+
+    @Test
+    public void testBatchFromSeda() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:start", "insert into customer values('batch" + i + "','name" + i + "')");
+        }
+
+        NotifyBuilder notify = new NotifyBuilder(context).fromRoute("batch").whenDone(1).create();
+        context.startRoute("batch");
+
+        assertTrue(notify.matches(10, TimeUnit.SECONDS));
+        assertEquals(5, countCustomers("batch%"));
+    }
+
+    @Test
+    public void testBatchWithHeadersAsParameters() throws Exception {
+        JdbcProducer producer = createProducer("jdbc:testdb?useHeadersAsParameters=true");
+        try {
+            List<Exchange> exchanges = new ArrayList<Exchange>();
+            for (int i = 0; i < 3; i++) {
+                exchanges.add(createExchange("insert into customer values(:?id, :?name)", "param" + i));
+            }
+            exchanges.add(createExchange("update customer set name = 'renamed' where id like :?id", "param%"));
+            producer.processBatch(exchanges);
+
+            for (Exchange exchange : exchanges) {
+                assertNull(exchange.getException());
+            }
+            assertEquals(1, exchanges.get(0).getOut().getHeader(JdbcConstants.JDBC_UPDATE_COUNT));
+            assertEquals(3, exchanges.get(3).getOut().getHeader(JdbcConstants.JDBC_UPDATE_COUNT));
+            assertEquals("param1", exchanges.get(1).getOut().getHeader("id"));
+            assertEquals(3, countCustomers("param%"));
+        } finally {
+            ServiceHelper.stopService(producer);
+        }
+    }
+
+    @Test
+    public void testBatchFailsInTransaction() throws Exception {
+        JdbcProducer producer = createProducer("jdbc:testdb");
+        try {
+            List<Exchange> exchanges = Arrays.asList(
+                createExchange("insert into customer values('tx1','name')", null),
+                createExchange("insert into unknown values('tx2','name')", null));
+            try {
+                producer.processBatch(exchanges);
+                fail("Should have thrown an exception");
+            } catch (Exception e) {
+                // expected
+            }
+            // the entire batch is rolled back
+            assertEquals(0, countCustomers("tx%"));
+        } finally {
+            ServiceHelper.stopService(producer);
+        }
+    }
+
+    @Test
+    public void testBatchFailsOnlyFailedStatementsWithoutTransaction() throws Exception {
+        JdbcProducer producer = createProducer("jdbc:testdb?resetAutoCommit=false");
+        try {
+            List<Exchange> exchanges = Arrays.asList(
+                createExchange("insert into customer values('auto1','name')", null),
+                createExchange("insert into unknown values('auto2','name')", null));
+            producer.processBatch(exchanges);
+
+            assertNull(exchanges.get(0).getException());
+            assertEquals(1, exchanges.get(0).getOut().getHeader(JdbcConstants.JDBC_UPDATE_COUNT));
+            assertNotNull(exchanges.get(1).getException());
+            assertEquals(1, countCustomers("auto%"));
+        } finally {
+            ServiceHelper.stopService(producer);
+        }
+    }
+
+    private JdbcProducer createProducer(String uri) throws Exception {
+        JdbcProducer producer = (JdbcProducer) context.getEndpoint(uri).createProducer();
+        ServiceHelper.startService(producer);
+        return producer;
+    }
+
+    private Exchange createExchange(String sql, String id) {
+        Exchange exchange = createExchangeWithBody(sql);
+        if (id != null) {
+            exchange.getIn().setHeader("id", id);
+            exchange.getIn().setHeader("name", "name");
+        }
+        return exchange;
+    }
+
+    private int countCustomers(String id) throws Exception {
+        List<?> rows = template.requestBody("jdbc:testdb", "select * from customer where id like '" + id + "'", List.class);
+        return rows.size();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("seda:start?batchSize=10").routeId("batch").noAutoStartup()
+                    .to("jdbc:testdb");
+            }
+        };
+    }
+}
@@ -52,12 +52,41 @@ public class JdbcProducerOutputTypeStreamListTest extends AbstractJdbcTestSuppor
         assertThat(resultBodyAt(2), instanceOf(Map.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldStreamResultRowsInChunks() throws Exception {
+        result.expectedMessageCount(2);
+
+        template.sendBody("direct:withChunks", QUERY + " order by id");
+
+        result.assertIsSatisfied();
+        List<Map<String, Object>> first = (List<Map<String, Object>>) resultBodyAt(0);
+        List<Map<String, Object>> second = (List<Map<String, Object>>) resultBodyAt(1);
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertEquals("cust1", first.get(0).get("ID"));
+        assertEquals("cust2", first.get(1).get("ID"));
+        assertEquals("cust3", second.get(0).get("ID"));
+    }
+
+    @Test
+    public void shouldReuseRowWhenStreaming() throws Exception {
+        result.expectedBodiesReceived("cust1", "cust2", "cust3");
+
+        template.sendBody("direct:withReuseRow", QUERY + " order by id");
+
+        result.assertIsSatisfied();
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
             public void configure() throws Exception {
                 from("direct:start").to("jdbc:testdb?outputType=StreamList").to("mock:result");
                 from("direct:withSplit").to("jdbc:testdb?outputType=StreamList").split(body()).to("mock:result");
+                from("direct:withChunks").to("jdbc:testdb?outputType=StreamList&fetchSize=2&streamChunkSize=2").split(body()).to("mock:result");
+                from("direct:withReuseRow").to("jdbc:testdb?outputType=StreamList&reuseRow=true").split(body()).streaming()
+                    .transform(simple("${body[ID]}")).to("mock:result");
             }
         };
     }
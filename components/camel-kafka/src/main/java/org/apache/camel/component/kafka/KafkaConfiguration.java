@@ -59,6 +59,8 @@ public class KafkaConfiguration implements Cloneable {
     private int consumerStreams = 10;
     @UriParam(label = "consumer", defaultValue = "1")
     private int consumersCount = 1;
+    @UriParam(label = "consumer")
+    private int exchangePoolSize;
 
     //interceptor.classes
     @UriParam(label = "common,monitoring")
@@ -538,6 +540,21 @@ public class KafkaConfiguration implements Cloneable {
         this.consumersCount = consumersCount;
     }
 
+    public int getExchangePoolSize() {
+        return exchangePoolSize;
+    }
+
+    /**
+     * To recycle the exchanges created by the consumer using a pool of the given size, which reduces
+     * the garbage created when consuming at a high rate.
+     * The exchanges are released back to the pool when the routing has completed,
+     * so the routes must not keep references to the exchanges afterwards.
+     * A value of zero or negative means no pooling.
+     */
+    public void setExchangePoolSize(int exchangePoolSize) {
+        this.exchangePoolSize = exchangePoolSize;
+    }
+
     public String getClientId() {
         return clientId;
     }
@@ -28,9 +28,12 @@ import java.util.concurrent.ExecutorService;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.impl.DefaultConsumer;
+import org.apache.camel.impl.DefaultExchangePool;
+import org.apache.camel.spi.ExchangePool;
 import org.apache.camel.spi.StateRepository;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.ServiceHelper;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -50,6 +53,7 @@ public class KafkaConsumer extends DefaultConsumer {
     private final Long pollTimeoutMs;
     // This list helps working around the infinite loop of KAFKA-1894
     private final List<KafkaFetchRecords> tasks = new ArrayList<>();
+    private volatile ExchangePool exchangePool;
 
     public KafkaConsumer(KafkaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -91,6 +95,12 @@ public class KafkaConsumer extends DefaultConsumer {
         LOG.info("Starting Kafka consumer");
         super.doStart();
 
+        if (endpoint.getConfiguration().getExchangePoolSize() > 0) {
+            exchangePool = new DefaultExchangePool(endpoint, endpoint.getConfiguration().getExchangePoolSize());
+            // add as service so the pool is enlisted in JMX
+            endpoint.getCamelContext().addService(exchangePool, false, true);
+        }
+
         executor = endpoint.createExecutor();
         for (int i = 0; i < endpoint.getConfiguration().getConsumersCount(); i++) {
             KafkaFetchRecords task = new KafkaFetchRecords(endpoint.getConfiguration().getTopic(), i + "", getProps());
@@ -117,6 +127,12 @@ public class KafkaConsumer extends DefaultConsumer {
         tasks.clear();
         executor = null;
 
+        if (exchangePool != null) {
+            endpoint.getCamelContext().removeService(exchangePool);
+            ServiceHelper.stopService(exchangePool);
+            exchangePool = null;
+        }
+
         super.doStop();
     }
 
@@ -197,7 +213,8 @@ public class KafkaConsumer extends DefaultConsumer {
                                     LOG.trace("partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(),
                                               record.value());
                                 }
-                                Exchange exchange = endpoint.createKafkaExchange(record);
+                                ExchangePool pool = exchangePool;
+                                Exchange exchange = pool != null ? endpoint.createKafkaExchange(record, pool.acquire()) : endpoint.createKafkaExchange(record);
                                 if (endpoint.getConfiguration().isAutoCommitEnable() != null && !endpoint.getConfiguration().isAutoCommitEnable()) {
                                     exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, !recordIterator.hasNext());
                                 }
@@ -206,6 +223,9 @@ public class KafkaConsumer extends DefaultConsumer {
                                 } catch (Exception e) {
                                     getExceptionHandler().handleException("Error during processing", exchange, e);
                                 }
+                                if (pool != null) {
+                                    pool.release(exchange);
+                                }
                             }
                             long partitionLastOffset = record.offset();
                             if (offsetRepository != null) {
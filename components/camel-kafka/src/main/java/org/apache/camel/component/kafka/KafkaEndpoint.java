@@ -168,8 +168,13 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
     }
 
     public Exchange createKafkaExchange(ConsumerRecord record) {
-        Exchange exchange = super.createExchange();
+        return createKafkaExchange(record, super.createExchange());
+    }
 
+    /**
+     * Populates the given (possibly pooled) exchange from the consumer record.
+     */
+    public Exchange createKafkaExchange(ConsumerRecord record, Exchange exchange) {
         Message message = exchange.getIn();
         message.setHeader(KafkaConstants.PARTITION, record.partition());
         message.setHeader(KafkaConstants.TOPIC, record.topic());
@@ -25,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.spi.ExchangeCodec;
 import org.apache.camel.spi.RecoverableAggregationRepository;
 import org.apache.camel.support.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -55,6 +56,10 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
     private int maximumRedeliveries;
     private String deadLetterUri;
     private boolean allowSerializedHeaders;
+    private boolean groupCommit;
+    private long groupCommitWindow;
+    private int groupCommitMaxBatchSize = 1000;
+    private LevelDBGroupCommit groupCommitter;
 
     /**
      * Creates an aggregation repository
@@ -111,7 +116,11 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
             }
 
             LOG.trace("Adding key index {} for repository {}", key, repositoryName);
-            levelDBFile.getDb().put(lDbKey, exchangeBuffer.toByteArray(), levelDBFile.getWriteOptions());
+            if (groupCommitter != null) {
+                groupCommitter.commit(new LevelDBGroupCommit.Write().put(lDbKey, exchangeBuffer.toByteArray()));
+            } else {
+                levelDBFile.getDb().put(lDbKey, exchangeBuffer.toByteArray(), levelDBFile.getWriteOptions());
+            }
             LOG.trace("Added key index {}", key);
 
             if (rc == null) {
@@ -159,7 +168,12 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
             // remove the exchange
             byte[] rc = levelDBFile.getDb().get(lDbKey);
 
-            if (rc != null) {
+            if (rc != null && groupCommitter != null) {
+                // remove and add to confirmed index in the same write
+                byte[] confirmedLDBKey = keyBuilder(getRepositoryNameCompleted(), exchangeId);
+                groupCommitter.commit(new LevelDBGroupCommit.Write().delete(lDbKey).put(confirmedLDBKey, exchangeBuffer.toByteArray()));
+                LOG.trace("Removed key index {} and added confirm index {} for repository {}", key, exchangeId, getRepositoryNameCompleted());
+            } else if (rc != null) {
                 WriteBatch batch = levelDBFile.getDb().createWriteBatch();
                 try {
                     batch.delete(lDbKey);
@@ -189,7 +203,15 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         byte[] rc = levelDBFile.getDb().get(confirmedLDBKey);
 
         if (rc != null) {
-            levelDBFile.getDb().delete(confirmedLDBKey);
+            if (groupCommitter != null) {
+                try {
+                    groupCommitter.commit(new LevelDBGroupCommit.Write().delete(confirmedLDBKey));
+                } catch (IOException e) {
+                    throw new RuntimeException("Error confirming exchangeId " + exchangeId + " from repository " + repositoryName, e);
+                }
+            } else {
+                levelDBFile.getDb().delete(confirmedLDBKey);
+            }
             LOG.trace("Removed confirm index {} -> {}", exchangeId, new Buffer(rc));
         }
     }
@@ -398,6 +420,54 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public boolean isGroupCommit() {
+        return groupCommit;
+    }
+
+    /**
+     * Whether to coalesce concurrent add, remove and confirm operations into a single LevelDB write batch.
+     * Each caller blocks until the batch containing its operation has been written, so when using sync
+     * many operations only cost a single sync to disk.
+     */
+    public void setGroupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+    }
+
+    public long getGroupCommitWindow() {
+        return groupCommitWindow;
+    }
+
+    /**
+     * Millis to wait for more operations before writing a batch when using group commit. By default the batch is
+     * written right away, and only the operations arriving while the previous batch is being written are coalesced.
+     */
+    public void setGroupCommitWindow(long groupCommitWindow) {
+        this.groupCommitWindow = groupCommitWindow;
+    }
+
+    public int getGroupCommitMaxBatchSize() {
+        return groupCommitMaxBatchSize;
+    }
+
+    /**
+     * The maximum number of operations to write in a single batch when using group commit, which must be positive. The default is 1000.
+     */
+    public void setGroupCommitMaxBatchSize(int groupCommitMaxBatchSize) {
+        this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
+    }
+
+    public ExchangeCodec getExchangeCodec() {
+        return codec.getExchangeCodec();
+    }
+
+    /**
+     * Sets the codec to use for storing the exchanges, such as {@link org.apache.camel.impl.BinaryExchangeCodec}.
+     * By default the exchanges are stored using java serialization, which can still be read after a codec has been set.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        codec.setExchangeCodec(exchangeCodec);
+    }
+
     @Override
     protected void doStart() throws Exception {
         // either we have a LevelDB configured or we use a provided fileName
@@ -410,6 +480,11 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         ObjectHelper.notNull(levelDBFile, "Either set a persistentFileName or a levelDBFile");
         ObjectHelper.notNull(repositoryName, "repositoryName");
 
+        // validates the group commit options before starting the file
+        if (groupCommit) {
+            groupCommitter = new LevelDBGroupCommit(levelDBFile, groupCommitWindow, groupCommitMaxBatchSize);
+        }
+
         ServiceHelper.startService(levelDBFile);
 
         // log number of existing exchanges
@@ -430,6 +505,7 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
     @Override
     protected void doStop() throws Exception {
+        groupCommitter = null;
         ServiceHelper.stopService(levelDBFile);
     }
 
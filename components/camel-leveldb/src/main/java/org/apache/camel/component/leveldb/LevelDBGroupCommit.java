@@ -0,0 +1,178 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.iq80.leveldb.WriteBatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces concurrent writes to a {@link LevelDBFile} into a single {@link WriteBatch}, so many writes only
+ * cost a single sync to disk when the file is using sync.
+ * <p/>
+ * The writes are queued, and the first caller which gets hold of the commit lock becomes the leader, which
+ * writes all the queued writes in one batch. The callers which were queued meanwhile will find their writes
+ * has been committed once they get the lock, and return without writing anything. Each caller blocks
+ * until its own write has been committed. Writes keep being coalesced while the leader is waiting for the disk,
+ * and the leader can optionally wait a little while for more writes before committing.
+ */
+public class LevelDBGroupCommit {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LevelDBGroupCommit.class);
+
+    private final LevelDBFile levelDBFile;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Queue<Write> queue = new ConcurrentLinkedQueue<Write>();
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+
+    /**
+     * @param levelDBFile  the file to write to
+     * @param window       millis the leader waits for more writes before committing, use zero to not wait
+     * @param maxBatchSize the maximum number of writes to commit in a single batch, must be positive
+     */
+    public LevelDBGroupCommit(LevelDBFile levelDBFile, long window, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("The groupCommitMaxBatchSize must be positive, was: " + maxBatchSize);
+        }
+        this.levelDBFile = levelDBFile;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(window);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Number of batches which has been committed
+     */
+    public long getCommitCount() {
+        return commits.get();
+    }
+
+    /**
+     * Number of writes which has been committed
+     */
+    public long getWriteCount() {
+        return writes.get();
+    }
+
+    /**
+     * Commits the write, and blocks until it has been written.
+     *
+     * @param write the write, whose puts and deletes are applied atomically
+     * @throws IOException is thrown if the batch containing the write could not be written
+     */
+    public void commit(Write write) throws IOException {
+        queue.add(write);
+
+        commitLock.lock();
+        try {
+            // another thread may have committed our write while we were waiting for the lock,
+            // and if we are the leader our write may not fit in the first batch
+            while (!write.done) {
+                if (windowNanos > 0) {
+                    LockSupport.parkNanos(windowNanos);
+                }
+                commitQueued();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+
+        if (write.failure != null) {
+            throw new IOException("Error writing batch to LevelDB file " + levelDBFile.getFile(), write.failure);
+        }
+    }
+
+    private void commitQueued() {
+        List<Write> batchWrites = new ArrayList<Write>();
+        WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+        try {
+            Write write;
+            while (batchWrites.size() < maxBatchSize && (write = queue.poll()) != null) {
+                write.applyTo(batch);
+                batchWrites.add(write);
+            }
+            levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+
+            commits.incrementAndGet();
+            writes.addAndGet(batchWrites.size());
+            LOG.trace("Committed batch of {} writes", batchWrites.size());
+        } catch (Throwable e) {
+            // mark the writes as failed on any error, otherwise the callers would think they are committed
+            for (Write failed : batchWrites) {
+                failed.failure = e;
+            }
+        } finally {
+            for (Write done : batchWrites) {
+                done.done = true;
+            }
+            try {
+                batch.close();
+            } catch (IOException e) {
+                LOG.debug("Error closing write batch. This exception is ignored.", e);
+            }
+        }
+    }
+
+    /**
+     * The puts and deletes of a single caller, which are written atomically in the same batch.
+     */
+    public static final class Write {
+
+        private final List<byte[]> keys = new ArrayList<byte[]>(2);
+        // a null value is a delete
+        private final List<byte[]> values = new ArrayList<byte[]>(2);
+        // set by the leader which committed the write
+        private volatile boolean done;
+        private volatile Throwable failure;
+
+        public Write put(byte[] key, byte[] value) {
+            keys.add(key);
+            values.add(value);
+            return this;
+        }
+
+        public Write delete(byte[] key) {
+            keys.add(key);
+            values.add(null);
+            return this;
+        }
+
+        private void applyTo(WriteBatch batch) {
+            for (int i = 0; i < keys.size(); i++) {
+                byte[] value = values.get(i);
+                if (value != null) {
+                    batch.put(keys.get(i), value);
+                } else {
+                    batch.delete(keys.get(i));
+                }
+            }
+        }
+    }
+
+}
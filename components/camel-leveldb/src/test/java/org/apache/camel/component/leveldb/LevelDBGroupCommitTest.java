@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultExchange;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class LevelDBGroupCommitTest extends CamelTestSupport {
+
+    private LevelDBFile levelDBFile;
+    private ExecutorService executor;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        deleteDirectory("target/data");
+        levelDBFile = new LevelDBFile();
+        levelDBFile.setFile(new File("target/data/leveldb.dat"));
+        levelDBFile.setSync(true);
+        executor = Executors.newFixedThreadPool(10);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        levelDBFile.stop();
+        super.tearDown();
+    }
+
+    @Test
+    public void testCoalesceWrites() throws Exception {
+        levelDBFile.start();
+        final LevelDBGroupCommit groupCommit = new LevelDBGroupCommit(levelDBFile, 5, 1000);
+
+        List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        for (int i = 0; i < 100; i++) {
+            final int index = i;
+            futures.add(executor.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    groupCommit.commit(new LevelDBGroupCommit.Write().put(("key" + index).getBytes(), ("value" + index).getBytes()));
+                    return null;
+                }
+            }));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+
+        assertEquals(100, groupCommit.getWriteCount());
+        assertTrue("Should coalesce writes: " + groupCommit.getCommitCount(), groupCommit.getCommitCount() < 100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("value" + i, new String(levelDBFile.getDb().get(("key" + i).getBytes())));
+        }
+    }
+
+    @Test
+    public void testMaxBatchSize() throws Exception {
+        levelDBFile.start();
+        LevelDBGroupCommit groupCommit = new LevelDBGroupCommit(levelDBFile, 0, 1);
+
+        groupCommit.commit(new LevelDBGroupCommit.Write().put("foo".getBytes(), "bar".getBytes()).delete("baz".getBytes()));
+        groupCommit.commit(new LevelDBGroupCommit.Write().delete("foo".getBytes()));
+
+        assertEquals(2, groupCommit.getCommitCount());
+        assertNull(levelDBFile.getDb().get("foo".getBytes()));
+    }
+
+    @Test
+    public void testInvalidMaxBatchSize() throws Exception {
+        LevelDBAggregationRepository repo = new LevelDBAggregationRepository("repo1", levelDBFile);
+        repo.setGroupCommit(true);
+        repo.setGroupCommitMaxBatchSize(0);
+        try {
+            repo.start();
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The groupCommitMaxBatchSize must be positive, was: 0", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGroupCommitRepository() throws Exception {
+        final LevelDBAggregationRepository repo = new LevelDBAggregationRepository("repo1", levelDBFile);
+        repo.setGroupCommit(true);
+        // starts the file as well
+        repo.start();
+
+        List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        for (int i = 0; i < 50; i++) {
+            final int index = i;
+            futures.add(executor.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    Exchange exchange = new DefaultExchange(context);
+                    exchange.getIn().setBody("Hello " + index);
+                    repo.add(context, "key" + index, exchange);
+                    return null;
+                }
+            }));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+        assertEquals(50, repo.getKeys().size());
+        assertEquals("Hello 7", repo.get(context, "key7").getIn().getBody());
+
+        futures.clear();
+        for (int i = 0; i < 50; i++) {
+            final int index = i;
+            futures.add(executor.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    Exchange exchange = repo.get(context, "key" + index);
+                    repo.remove(context, "key" + index, exchange);
+                    repo.confirm(context, exchange.getExchangeId());
+                    return null;
+                }
+            }));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+        assertEquals(0, repo.getKeys().size());
+        assertEquals(0, repo.scan(context).size());
+
+        repo.stop();
+    }
+
+}
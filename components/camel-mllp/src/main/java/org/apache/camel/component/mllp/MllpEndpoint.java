@@ -104,6 +104,12 @@ public class MllpEndpoint extends DefaultEndpoint {
     @UriParam(defaultValue = "false")
     boolean validatePayload;
 
+    @UriParam(label = "consumer,advanced", defaultValue = "false")
+    boolean nio;
+
+    @UriParam(label = "consumer,advanced", defaultValue = "10")
+    int nioWorkerThreads = 10;
+
     @UriParam(label = "codec")
     String charsetName;
 
@@ -143,7 +149,12 @@ public class MllpEndpoint extends DefaultEndpoint {
 
     public Consumer createConsumer(Processor processor) throws Exception {
         LOG.trace("({}).createConsumer(processor)", this.getEndpointKey());
-        Consumer consumer = new MllpTcpServerConsumer(this, processor);
+        Consumer consumer;
+        if (nio) {
+            consumer = new MllpNioServerConsumer(this, processor);
+        } else {
+            consumer = new MllpTcpServerConsumer(this, processor);
+        }
         configureConsumer(consumer);
         return consumer;
     }
@@ -429,4 +440,34 @@ public class MllpEndpoint extends DefaultEndpoint {
     public void setBufferWrites(boolean bufferWrites) {
         this.bufferWrites = bufferWrites;
     }
+
+    public boolean isNio() {
+        return nio;
+    }
+
+    /**
+     * Enable/Disable the non-blocking (NIO) consumer
+     *
+     * If enabled, the consumer uses a single selector thread to accept connections and read MLLP frames from all of
+     * them, and the received messages are routed on a fixed pool of worker threads (see nioWorkerThreads).  Messages
+     * received on a connection are still processed in order.  If disabled, the consumer uses one thread per connection.
+     *
+     * @param nio enabled if true, otherwise disabled
+     */
+    public void setNio(boolean nio) {
+        this.nio = nio;
+    }
+
+    public int getNioWorkerThreads() {
+        return nioWorkerThreads;
+    }
+
+    /**
+     * The number of threads used to route the messages received by the non-blocking (NIO) consumer
+     *
+     * @param nioWorkerThreads the size of the worker thread pool
+     */
+    public void setNioWorkerThreads(int nioWorkerThreads) {
+        this.nioWorkerThreads = nioWorkerThreads;
+    }
 }
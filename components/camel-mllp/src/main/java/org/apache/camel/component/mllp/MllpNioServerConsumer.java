@@ -0,0 +1,589 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Processor;
+import org.apache.camel.component.mllp.impl.MllpSocketUtil;
+import org.apache.camel.component.mllp.impl.MllpSocketWriter;
+import org.slf4j.MDC;
+
+import static org.apache.camel.component.mllp.MllpEndpoint.END_OF_BLOCK;
+import static org.apache.camel.component.mllp.MllpEndpoint.END_OF_DATA;
+import static org.apache.camel.component.mllp.MllpEndpoint.START_OF_BLOCK;
+
+/**
+ * The non-blocking MLLP consumer.
+ * <p/>
+ * A single selector thread accepts the connections and reads the MLLP frames from all of them into a shared buffer.
+ * Complete frames are handed to a fixed pool of worker threads for routing, while the messages received on a single
+ * connection are still processed (and acknowledged) in the order they were received.
+ */
+public class MllpNioServerConsumer extends MllpTcpServerConsumer {
+    static final int READ_BUFFER_SIZE = 64 * 1024;
+    static final int DEFAULT_SELECT_TIMEOUT = 1000;
+
+    final Map<SocketChannel, NioConnection> connections = new ConcurrentHashMap<>();
+    final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+
+    Selector selector;
+    ServerSocketChannel serverChannel;
+    SelectorThread selectorThread;
+    ExecutorService workerPool;
+
+    private final MllpEndpoint endpoint;
+
+    public MllpNioServerConsumer(MllpEndpoint endpoint, Processor processor) {
+        super(endpoint, processor);
+        log.trace("MllpNioServerConsumer(endpoint, processor)");
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    protected void startListener() throws Exception {
+        log.debug("startListener() - creating selector thread");
+
+        workerPool = endpoint.getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "MllpNioWorker", endpoint.getNioWorkerThreads());
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+
+        bind(serverChannel.socket());
+
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        selectorThread = new SelectorThread();
+        selectorThread.start();
+    }
+
+    @Override
+    protected void stopListener() throws Exception {
+        if (selectorThread != null) {
+            selectorThread.shutdown();
+            selectorThread.join(endpoint.getReadTimeout() + DEFAULT_SELECT_TIMEOUT);
+            selectorThread = null;
+        }
+
+        for (NioConnection connection : connections.values()) {
+            connection.close(getClass().getSimpleName() + " stopping");
+        }
+        connections.clear();
+        selectorTasks.clear();
+
+        if (serverChannel != null) {
+            try {
+                serverChannel.close();
+            } catch (IOException ioEx) {
+                log.debug("Exception encountered closing ServerSocketChannel - ignoring", ioEx);
+            }
+            serverChannel = null;
+        }
+
+        if (selector != null) {
+            try {
+                selector.close();
+            } catch (IOException ioEx) {
+                log.debug("Exception encountered closing Selector - ignoring", ioEx);
+            }
+            selector = null;
+        }
+
+        if (workerPool != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdownNow(workerPool);
+            workerPool = null;
+        }
+    }
+
+    /**
+     * The number of client connections that are currently open.
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Run a task on the selector thread - the interest set of a key must only be changed by the selector thread.
+     */
+    void runOnSelectorThread(Runnable task) {
+        selectorTasks.add(task);
+        Selector currentSelector = selector;
+        if (currentSelector != null) {
+            currentSelector.wakeup();
+        }
+    }
+
+    /**
+     * Nested Class to handle the accept, read and write readiness of all the channels
+     */
+    class SelectorThread extends Thread {
+        final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+        volatile boolean running = true;
+
+        SelectorThread() {
+            // Get the URI without options
+            String fullEndpointKey = endpoint.getEndpointKey();
+            String endpointKey;
+            if (fullEndpointKey.contains("?")) {
+                endpointKey = fullEndpointKey.substring(0, fullEndpointKey.indexOf('?'));
+            } else {
+                endpointKey = fullEndpointKey;
+            }
+
+            this.setName(String.format("%s[%s] - %s", getClass().getSimpleName(), endpointKey, serverChannel.socket().getLocalSocketAddress()));
+        }
+
+        void shutdown() {
+            running = false;
+            Selector currentSelector = selector;
+            if (currentSelector != null) {
+                currentSelector.wakeup();
+            }
+        }
+
+        @Override
+        public void run() {
+            MDC.put("camel.contextId", endpoint.getCamelContext().getName());
+
+            long selectTimeout = DEFAULT_SELECT_TIMEOUT;
+            if (endpoint.getReadTimeout() > 0) {
+                selectTimeout = Math.min(selectTimeout, endpoint.getReadTimeout());
+            }
+
+            try {
+                while (running && !isInterrupted()) {
+                    selector.select(selectTimeout);
+
+                    Runnable task;
+                    while ((task = selectorTasks.poll()) != null) {
+                        task.run();
+                    }
+
+                    Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                    while (selectedKeys.hasNext()) {
+                        SelectionKey key = selectedKeys.next();
+                        selectedKeys.remove();
+
+                        if (!key.isValid()) {
+                            continue;
+                        }
+
+                        if (key.isAcceptable()) {
+                            accept();
+                            continue;
+                        }
+
+                        NioConnection connection = (NioConnection) key.attachment();
+                        if (key.isWritable()) {
+                            connection.flushPendingWrite(key);
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            read(connection);
+                        }
+                    }
+
+                    checkConnections(System.currentTimeMillis());
+                }
+            } catch (ClosedSelectorException closedEx) {
+                log.debug("Selector closed - exiting selector loop");
+            } catch (IOException ioEx) {
+                log.error("Exception encountered in selector loop - closing listener", ioEx);
+            } finally {
+                log.debug("Selector loop finished");
+            }
+        }
+
+        void accept() {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException ioEx) {
+                log.warn("Exception encountered accepting connection - ignoring", ioEx);
+                return;
+            }
+            if (channel == null) {
+                return;
+            }
+
+            try {
+                channel.configureBlocking(false);
+                Socket socket = channel.socket();
+                socket.setKeepAlive(endpoint.keepAlive);
+                socket.setTcpNoDelay(endpoint.tcpNoDelay);
+                if (null != endpoint.receiveBufferSize) {
+                    socket.setReceiveBufferSize(endpoint.receiveBufferSize);
+                }
+                if (null != endpoint.sendBufferSize) {
+                    socket.setSendBufferSize(endpoint.sendBufferSize);
+                }
+                socket.setReuseAddress(endpoint.reuseAddress);
+                socket.setSoLinger(false, -1);
+
+                NioConnection connection = new NioConnection(channel);
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                connections.put(channel, connection);
+                log.debug("Accepted connection {}", socket.getRemoteSocketAddress());
+            } catch (IOException ioEx) {
+                log.warn("Exception encountered configuring accepted connection - closing connection", ioEx);
+                MllpSocketUtil.close(channel.socket(), null, null);
+            }
+        }
+
+        void read(NioConnection connection) {
+            readBuffer.clear();
+            int readCount;
+            try {
+                readCount = connection.channel.read(readBuffer);
+            } catch (IOException ioEx) {
+                log.debug("Exception encountered reading from connection - connection was reset", ioEx);
+                connection.receiveFailed(new MllpReceiveException("Error receiving payload", connection.partialPayload(), ioEx));
+                return;
+            }
+
+            if (readCount < 0) {
+                if (connection.inFrame) {
+                    connection.receiveFailed(new MllpReceiveException("END_OF_STREAM encountered while attempting to read the end of the payload - Socket was closed or reset",
+                        connection.partialPayload()));
+                } else {
+                    log.debug("END_OF_STREAM encountered - closing connection {}", connection.channel.socket().getRemoteSocketAddress());
+                    connection.close(null);
+                }
+                return;
+            }
+
+            if (readCount > 0) {
+                if (log.isTraceEnabled()) {
+                    log.trace("Received bytes: {}", MllpComponent.covertBytesToPrintFriendlyString(readBuffer.array(), 0, readCount));
+                }
+                connection.lastReadTicks = System.currentTimeMillis();
+                connection.parse(readBuffer.array(), 0, readCount);
+            }
+        }
+
+        void checkConnections(long now) {
+            for (NioConnection connection : connections.values()) {
+                if (!connection.channel.isOpen()) {
+                    connections.remove(connection.channel);
+                } else if (connection.inFrame) {
+                    if (endpoint.getReadTimeout() > 0 && now - connection.lastReadTicks > endpoint.getReadTimeout()) {
+                        connection.receiveFailed(new MllpTimeoutException("Timeout reading the end of the payload", connection.partialPayload()));
+                    }
+                } else if (endpoint.getMaxReceiveTimeouts() > 0 && !connection.isBusy()) {
+                    long idleTime = now - connection.lastReadTicks;
+                    if (idleTime > (long) endpoint.getReceiveTimeout() * endpoint.getMaxReceiveTimeouts()) {
+                        String reasonMessage = String.format("Idle Client after %d receive timeouts [%d-milliseconds] - resetting connection",
+                            endpoint.getMaxReceiveTimeouts(), endpoint.getReceiveTimeout());
+                        connection.reset(reasonMessage);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Nested Class holding the framing and processing state of a client connection
+     * <p/>
+     * The frames are located in the shared read buffer of the selector thread; only frames spanning more than one
+     * read are copied into the per-connection partial buffer.
+     */
+    class NioConnection implements Runnable {
+        final SocketChannel channel;
+        final Socket socket;
+        final NioSocketWriter writer;
+        final ByteArrayOutputStream partial = new ByteArrayOutputStream();
+        final Queue<Runnable> tasks = new LinkedList<>();
+
+        SelectionKey key;
+
+        boolean inFrame;
+        boolean endOfBlockSeen;
+        volatile long lastReadTicks = System.currentTimeMillis();
+
+        boolean processing;
+
+        NioConnection(SocketChannel channel) {
+            this.channel = channel;
+            this.socket = channel.socket();
+            this.writer = new NioSocketWriter(this);
+        }
+
+        /**
+         * Locate the MLLP frames in the bytes that were just read, dispatching the complete frames for processing.
+         */
+        void parse(byte[] bytes, int offset, int length) {
+            final int end = offset + length;
+            int segmentStart = offset;
+            int outOfBandCount = 0;
+
+            for (int i = offset; i < end; ++i) {
+                final byte b = bytes[i];
+                if (!inFrame) {
+                    if (START_OF_BLOCK == b) {
+                        inFrame = true;
+                        endOfBlockSeen = false;
+                        partial.reset();
+                        segmentStart = i + 1;
+                    } else {
+                        ++outOfBandCount;
+                    }
+                } else if (endOfBlockSeen && END_OF_DATA == b) {
+                    byte[] payload;
+                    if (partial.size() == 0) {
+                        payload = Arrays.copyOfRange(bytes, segmentStart, i - 1);
+                    } else {
+                        partial.write(bytes, segmentStart, i - segmentStart);
+                        byte[] buffered = partial.toByteArray();
+                        payload = Arrays.copyOf(buffered, buffered.length - 1);
+                        partial.reset();
+                    }
+                    inFrame = false;
+                    endOfBlockSeen = false;
+                    segmentStart = i + 1;
+
+                    final byte[] hl7MessageBytes = payload;
+                    dispatch(new Runnable() {
+                        @Override
+                        public void run() {
+                            processHl7Message(hl7MessageBytes, socket, writer);
+                        }
+                    });
+                } else {
+                    endOfBlockSeen = END_OF_BLOCK == b;
+                }
+            }
+
+            if (inFrame && segmentStart < end) {
+                partial.write(bytes, segmentStart, end - segmentStart);
+            }
+
+            if (outOfBandCount > 0) {
+                log.warn("Ignoring {} out-of-band bytes received outside of an MLLP payload", outOfBandCount);
+            }
+        }
+
+        byte[] partialPayload() {
+            return partial.size() > 0 ? partial.toByteArray() : null;
+        }
+
+        /**
+         * Send the exception to the route (in order with any messages already received) and reset the connection.
+         */
+        void receiveFailed(final MllpException mllpEx) {
+            inFrame = false;
+            endOfBlockSeen = false;
+            partial.reset();
+            dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    processReceiveException(mllpEx);
+                }
+            });
+            reset(mllpEx.getMessage());
+        }
+
+        synchronized boolean isBusy() {
+            return processing;
+        }
+
+        void dispatch(Runnable task) {
+            boolean submit;
+            synchronized (this) {
+                tasks.add(task);
+                submit = !processing;
+                processing = true;
+            }
+            if (submit) {
+                workerPool.execute(this);
+            }
+        }
+
+        /**
+         * Process the queued tasks of this connection one at a time, so the acknowledgements are sent in order.
+         */
+        @Override
+        public void run() {
+            MDC.put("camel.contextId", endpoint.getCamelContext().getName());
+            while (true) {
+                Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        processing = false;
+                        return;
+                    }
+                }
+                try {
+                    task.run();
+                } catch (Exception ex) {
+                    log.error("Unexpected exception processing message received on connection " + socket.getRemoteSocketAddress(), ex);
+                }
+            }
+        }
+
+        // Write support - the writes are performed directly by the worker thread, and only fall back to the selector
+        // thread when the socket send buffer is full
+        ByteBuffer pendingWrite;
+        IOException pendingWriteException;
+        CountDownLatch pendingWriteLatch;
+
+        void write(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.write(buffer) == 0) {
+                    break;
+                }
+            }
+            if (!buffer.hasRemaining()) {
+                return;
+            }
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            synchronized (this) {
+                pendingWrite = buffer;
+                pendingWriteException = null;
+                pendingWriteLatch = latch;
+            }
+            runOnSelectorThread(new Runnable() {
+                @Override
+                public void run() {
+                    if (key.isValid()) {
+                        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    } else {
+                        latch.countDown();
+                    }
+                }
+            });
+
+            try {
+                if (!latch.await(endpoint.getReceiveTimeout(), TimeUnit.MILLISECONDS)) {
+                    throw new IOException(String.format("Timeout waiting %d milliseconds for the socket to accept the payload", endpoint.getReceiveTimeout()));
+                }
+            } catch (InterruptedException interruptedEx) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted waiting for the socket to accept the payload", interruptedEx);
+            }
+
+            synchronized (this) {
+                pendingWrite = null;
+                pendingWriteLatch = null;
+                if (pendingWriteException != null) {
+                    throw pendingWriteException;
+                }
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Connection closed before the payload was written");
+            }
+        }
+
+        synchronized void flushPendingWrite(SelectionKey writableKey) {
+            try {
+                if (pendingWrite != null) {
+                    channel.write(pendingWrite);
+                    if (pendingWrite.hasRemaining()) {
+                        return;
+                    }
+                }
+            } catch (IOException ioEx) {
+                pendingWriteException = ioEx;
+            }
+            writableKey.interestOps(writableKey.interestOps() & ~SelectionKey.OP_WRITE);
+            if (pendingWriteLatch != null) {
+                pendingWriteLatch.countDown();
+            }
+        }
+
+        void close(String reasonMessage) {
+            MllpSocketUtil.close(socket, reasonMessage != null ? log : null, reasonMessage);
+            closed();
+        }
+
+        void reset(String reasonMessage) {
+            MllpSocketUtil.reset(socket, log, reasonMessage);
+            closed();
+        }
+
+        private void closed() {
+            try {
+                channel.close();
+            } catch (IOException ioEx) {
+                log.debug("Exception encountered closing SocketChannel - ignoring", ioEx);
+            }
+            synchronized (this) {
+                if (pendingWriteLatch != null) {
+                    pendingWriteLatch.countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the MLLP enveloped acknowledgement to the channel of a connection in a single write operation
+     */
+    class NioSocketWriter extends MllpSocketWriter {
+        final NioConnection connection;
+
+        NioSocketWriter(NioConnection connection) {
+            super(connection.socket, true);
+            this.connection = connection;
+        }
+
+        @Override
+        public void writeEnvelopedPayload(byte[] hl7MessageBytes, byte[] hl7AcknowledgementBytes) throws MllpException {
+            if (!connection.channel.isOpen()) {
+                throw new MllpAcknowledgementDeliveryException("Socket is closed", hl7MessageBytes, hl7AcknowledgementBytes);
+            }
+
+            byte[] payload = isAcknowledgementWriter() ? hl7AcknowledgementBytes : hl7MessageBytes;
+            if (payload == null || payload.length <= 0) {
+                log.warn("HL7 Acknowledgement payload is null or empty - sending empty MLLP payload");
+                payload = new byte[0];
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(payload.length + 3);
+            buffer.put((byte) START_OF_BLOCK);
+            buffer.put(payload);
+            buffer.put((byte) END_OF_BLOCK);
+            buffer.put((byte) END_OF_DATA);
+            buffer.flip();
+
+            try {
+                connection.write(buffer);
+            } catch (IOException ioEx) {
+                throw new MllpAcknowledgementDeliveryException("Failed to write the HL7 Acknowledgement payload to the SocketChannel", hl7MessageBytes, hl7AcknowledgementBytes, ioEx);
+            }
+        }
+    }
+}
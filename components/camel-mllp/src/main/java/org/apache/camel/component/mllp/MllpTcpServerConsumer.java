@@ -93,18 +93,74 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     @Override
     protected void doStart() throws Exception {
-        log.debug("doStart() - creating acceptor thread");
+        startListener();
+
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        log.debug("doStop()");
+
+        stopListener();
+
+        super.doStop();
+    }
+
+    /**
+     * Bind the server socket and start accepting connections.
+     */
+    protected void startListener() throws Exception {
+        log.debug("startListener() - creating acceptor thread");
 
         ServerSocket serverSocket = new ServerSocket();
+
+        // Accept Timeout
+        serverSocket.setSoTimeout(endpoint.acceptTimeout);
+
+        bind(serverSocket);
+
+        serverSocketThread = new ServerSocketThread(serverSocket);
+        serverSocketThread.start();
+    }
+
+    /**
+     * Stop accepting connections and close any client connections that are currently open.
+     */
+    protected void stopListener() throws Exception {
+        // Close any client sockets that are currently open
+        for (ClientSocketThread clientSocketThread: clientThreads) {
+            clientSocketThread.interrupt();
+        }
+
+
+        switch (serverSocketThread.getState()) {
+        case TERMINATED:
+            // This is what we hope for
+            break;
+        case NEW:
+        case RUNNABLE:
+        case BLOCKED:
+        case WAITING:
+        case TIMED_WAITING:
+        default:
+            serverSocketThread.interrupt();
+            break;
+        }
+
+        serverSocketThread = null;
+    }
+
+    /**
+     * Bind the server socket to the address of the endpoint, retrying until the bind timeout of the endpoint expires.
+     */
+    protected void bind(ServerSocket serverSocket) throws Exception {
         if (null != endpoint.receiveBufferSize) {
             serverSocket.setReceiveBufferSize(endpoint.receiveBufferSize);
         }
 
         serverSocket.setReuseAddress(endpoint.reuseAddress);
 
-        // Accept Timeout
-        serverSocket.setSoTimeout(endpoint.acceptTimeout);
-
         InetSocketAddress socketAddress;
         if (null == endpoint.getHostname()) {
             socketAddress = new InetSocketAddress(endpoint.getPort());
@@ -126,40 +182,311 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
                 }
             }
         } while (!serverSocket.isBound());
+    }
 
-        serverSocketThread = new ServerSocketThread(serverSocket);
-        serverSocketThread.start();
+    /**
+     * Send an exception encountered reading a payload to the route.
+     */
+    protected void processReceiveException(MllpException mllpEx) {
+        Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
+        exchange.setException(mllpEx);
+        log.warn("Exception encountered reading payload - sending exception to route", mllpEx);
+        try {
+            getProcessor().process(exchange);
+        } catch (Exception e) {
+            log.error("Exception encountered processing exchange with exception encounter reading payload", e);
+        }
+    }
 
-        super.doStart();
+    /**
+     * Send a received HL7 payload to the route and write the acknowledgement using the given writer.
+     */
+    protected void processHl7Message(byte[] hl7MessageBytes, Socket clientSocket, MllpSocketWriter mllpSocketWriter) {
+        // Send the message on for processing and wait for the response
+        log.debug("Populating the exchange with received message");
+        Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
+        try {
+            createUoW(exchange);
+            Message message = exchange.getIn();
+            message.setBody(hl7MessageBytes, byte[].class);
+
+            message.setHeader(MLLP_LOCAL_ADDRESS, clientSocket.getLocalAddress().toString());
+            message.setHeader(MLLP_REMOTE_ADDRESS, clientSocket.getRemoteSocketAddress());
+            message.setHeader(MLLP_AUTO_ACKNOWLEDGE, endpoint.autoAck);
+
+            if (endpoint.validatePayload) {
+                String exceptionMessage = Hl7Util.generateInvalidPayloadExceptionMessage(hl7MessageBytes);
+                if (exceptionMessage != null) {
+                    exchange.setException(new MllpInvalidMessageException(exceptionMessage, hl7MessageBytes));
+                }
+            }
+            populateHl7DataHeaders(exchange, message, hl7MessageBytes);
+
+            log.debug("Calling processor");
+            try {
+                getProcessor().process(exchange);
+                sendAcknowledgement(hl7MessageBytes, exchange, clientSocket, mllpSocketWriter);
+            } catch (RuntimeException runtimeEx) {
+                throw runtimeEx;
+            } catch (Exception ex) {
+                log.error("Unexpected exception processing exchange", ex);
+            }
+        } catch (Exception uowEx) {
+            // TODO:  Handle this correctly
+            exchange.setException(uowEx);
+            log.warn("Exception encountered creating Unit of Work - sending exception to route", uowEx);
+            try {
+                getProcessor().process(exchange);
+            } catch (Exception e) {
+                log.error("Exception encountered processing exchange with exception encountered createing Unit of Work", e);
+            }
+        } finally {
+            if (exchange != null) {
+                doneUoW(exchange);
+            }
+        }
     }
 
-    @Override
-    protected void doStop() throws Exception {
-        log.debug("doStop()");
+    void sendAcknowledgement(byte[] originalHl7MessageBytes, Exchange exchange, Socket clientSocket, MllpSocketWriter mllpSocketWriter) {
+        log.info("sendAcknowledgement");
+
+        // Check BEFORE_SEND Properties
+        if (exchange.getProperty(MLLP_RESET_CONNECTION_BEFORE_SEND, boolean.class)) {
+            String reasonMessage = String.format("Exchange property %s is %b", MLLP_RESET_CONNECTION_BEFORE_SEND,  exchange.getProperty(MLLP_RESET_CONNECTION_BEFORE_SEND, boolean.class));
+            MllpSocketUtil.reset(clientSocket, log, reasonMessage);
+            return;
+        } else if (exchange.getProperty(MLLP_CLOSE_CONNECTION_BEFORE_SEND, boolean.class)) {
+            String reasonMessage = String.format("Exchange property %s is %b", MLLP_CLOSE_CONNECTION_BEFORE_SEND,  exchange.getProperty(MLLP_CLOSE_CONNECTION_BEFORE_SEND, boolean.class));
+            MllpSocketUtil.close(clientSocket, log, reasonMessage);
+            return;
+        }
 
-        // Close any client sockets that are currently open
-        for (ClientSocketThread clientSocketThread: clientThreads) {
-            clientSocketThread.interrupt();
+        // Find the acknowledgement body
+        // TODO:  Enhance this to say whether or not the acknowledgment is missing or just of an un-convertible type
+        byte[] acknowledgementMessageBytes = exchange.getProperty(MLLP_ACKNOWLEDGEMENT, byte[].class);
+        String acknowledgementMessageType = null;
+        if (null == acknowledgementMessageBytes) {
+            boolean autoAck = exchange.getProperty(MLLP_AUTO_ACKNOWLEDGE, true, boolean.class);
+            if (!autoAck) {
+                exchange.setException(new MllpInvalidAcknowledgementException("Automatic Acknowledgement is disabled and the "
+                        + MLLP_ACKNOWLEDGEMENT + " exchange property is null or cannot be converted to byte[]", originalHl7MessageBytes, acknowledgementMessageBytes));
+                return;
+            }
+
+            String acknowledgmentTypeProperty = exchange.getProperty(MLLP_ACKNOWLEDGEMENT_TYPE, String.class);
+            try {
+                if (null == acknowledgmentTypeProperty) {
+                    if (null == exchange.getException()) {
+                        acknowledgementMessageType = "AA";
+                        acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationAcceptAcknowledgementMessage(originalHl7MessageBytes);
+                    } else {
+                        acknowledgementMessageType = "AE";
+                        acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationErrorAcknowledgementMessage(originalHl7MessageBytes);
+                    }
+                } else {
+                    switch (acknowledgmentTypeProperty) {
+                    case "AA":
+                        acknowledgementMessageType = "AA";
+                        acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationAcceptAcknowledgementMessage(originalHl7MessageBytes);
+                        break;
+                    case "AE":
+                        acknowledgementMessageType = "AE";
+                        acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationErrorAcknowledgementMessage(originalHl7MessageBytes);
+                        break;
+                    case "AR":
+                        acknowledgementMessageType = "AR";
+                        acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationRejectAcknowledgementMessage(originalHl7MessageBytes);
+                        break;
+                    default:
+                        exchange.setException(new Hl7AcknowledgementGenerationException("Unsupported acknowledgment type: " + acknowledgmentTypeProperty));
+                        return;
+                    }
+                }
+            } catch (Hl7AcknowledgementGenerationException ackGenerationException) {
+                exchange.setProperty(MLLP_ACKNOWLEDGEMENT_EXCEPTION, ackGenerationException);
+                exchange.setException(ackGenerationException);
+            }
+        } else {
+            final byte bM = 77;
+            final byte bS = 83;
+            final byte bA = 65;
+            final byte bE = 69;
+            final byte bR = 82;
+
+            final byte fieldSeparator = originalHl7MessageBytes[3];
+            // Acknowledgment is specified in exchange property - determine the acknowledgement type
+            for (int i = 0; i < originalHl7MessageBytes.length; ++i) {
+                if (SEGMENT_DELIMITER == i) {
+                    if (i + 7 < originalHl7MessageBytes.length // Make sure we don't run off the end of the message
+                            && bM == originalHl7MessageBytes[i + 1] && bS == originalHl7MessageBytes[i + 2]
+                            && bA == originalHl7MessageBytes[i + 3] && fieldSeparator == originalHl7MessageBytes[i + 4]) {
+                        if (fieldSeparator != originalHl7MessageBytes[i + 7]) {
+                            log.warn("MSA-1 is longer than 2-bytes - ignoring trailing bytes");
+                        }
+                        // Found MSA - pull acknowledgement bytes
+                        byte[] acknowledgmentTypeBytes = new byte[2];
+                        acknowledgmentTypeBytes[0] = originalHl7MessageBytes[i + 5];
+                        acknowledgmentTypeBytes[1] = originalHl7MessageBytes[i + 6];
+                        try {
+                            acknowledgementMessageType = IOConverter.toString(acknowledgmentTypeBytes, exchange);
+                        } catch (IOException ioEx) {
+                            throw new RuntimeException("Failed to convert acknowledgement message to string", ioEx);
+                        }
+
+                        // Verify it's a valid acknowledgement code
+                        if (bA != acknowledgmentTypeBytes[0]) {
+                            switch (acknowledgementMessageBytes[1]) {
+                            case bA:
+                            case bR:
+                            case bE:
+                                break;
+                            default:
+                                log.warn("Invalid acknowledgement type [" + acknowledgementMessageType + "] found in message - should be AA, AE or AR");
+                            }
+                        }
+
+                        // if the MLLP_ACKNOWLEDGEMENT_TYPE property is set on the exchange, make sure it matches
+                        String acknowledgementTypeProperty = exchange.getProperty(MLLP_ACKNOWLEDGEMENT_TYPE, String.class);
+                        if (null != acknowledgementTypeProperty && !acknowledgementTypeProperty.equals(acknowledgementMessageType)) {
+                            log.warn("Acknowledgement type found in message [" + acknowledgementMessageType + "] does not match "
+                                    + MLLP_ACKNOWLEDGEMENT_TYPE + " exchange property value [" + acknowledgementTypeProperty + "] - using value found in message");
+                        }
+                    }
+                }
+            }
+        }
+
+        Message message;
+        if (exchange.hasOut()) {
+            message = exchange.getOut();
+        } else {
+            message = exchange.getIn();
+        }
+        message.setHeader(MLLP_ACKNOWLEDGEMENT, acknowledgementMessageBytes);
+        // TODO:  Use the charset of the exchange
+        message.setHeader(MLLP_ACKNOWLEDGEMENT_STRING, new String(acknowledgementMessageBytes));
+        message.setHeader(MLLP_ACKNOWLEDGEMENT_TYPE, acknowledgementMessageType);
+
+        // Send the acknowledgement
+        log.debug("Sending Acknowledgement: {}", MllpComponent.covertBytesToPrintFriendlyString(acknowledgementMessageBytes));
+        try {
+            mllpSocketWriter.writeEnvelopedPayload(originalHl7MessageBytes, acknowledgementMessageBytes);
+        } catch (MllpException mllpEx) {
+            log.error("MLLP Acknowledgement failure: {}", mllpEx);
+            MllpAcknowledgementDeliveryException deliveryException = new MllpAcknowledgementDeliveryException(originalHl7MessageBytes, acknowledgementMessageBytes, mllpEx);
+            exchange.setProperty(MLLP_ACKNOWLEDGEMENT_EXCEPTION, deliveryException);
+            exchange.setException(deliveryException);
         }
 
+        // Check AFTER_SEND Properties
+        if (exchange.getProperty(MLLP_RESET_CONNECTION_AFTER_SEND, boolean.class)) {
+            String reasonMessage = String.format("Exchange property %s is %b", MLLP_RESET_CONNECTION_AFTER_SEND,  exchange.getProperty(MLLP_RESET_CONNECTION_AFTER_SEND, boolean.class));
+            MllpSocketUtil.reset(clientSocket, log, reasonMessage);
+            return;
+        } else if (exchange.getProperty(MLLP_CLOSE_CONNECTION_AFTER_SEND, boolean.class)) {
+            String reasonMessage = String.format("Exchange property %s is %b", MLLP_CLOSE_CONNECTION_AFTER_SEND,  exchange.getProperty(MLLP_CLOSE_CONNECTION_AFTER_SEND, boolean.class));
+            MllpSocketUtil.reset(clientSocket, log, reasonMessage);
+        }
+    }
 
-        switch (serverSocketThread.getState()) {
-        case TERMINATED:
-            // This is what we hope for
-            break;
-        case NEW:
-        case RUNNABLE:
-        case BLOCKED:
-        case WAITING:
-        case TIMED_WAITING:
-        default:
-            serverSocketThread.interrupt();
-            break;
+    void populateHl7DataHeaders(Exchange exchange, Message message, byte[] hl7MessageBytes) {
+        if (hl7MessageBytes == null ||  hl7MessageBytes.length < 8) {
+            // Not enough data to populate anything - just return
+            return;
+        }
+        // Find the end of the MSH and indexes of the fields in the MSH to populate message headers
+        final byte fieldSeparator = hl7MessageBytes[3];
+        int endOfMSH = -1;
+        List<Integer> fieldSeparatorIndexes = new ArrayList<>(10);  // We should have at least 10 fields
+
+        for (int i = 0; i < hl7MessageBytes.length; ++i) {
+            if (fieldSeparator == hl7MessageBytes[i]) {
+                fieldSeparatorIndexes.add(i);
+            } else if (SEGMENT_DELIMITER == hl7MessageBytes[i]) {
+                // If the MSH Segment doesn't have a trailing field separator, add one so the field can be extracted into a header
+                if (fieldSeparator != hl7MessageBytes[i - 1]) {
+                    fieldSeparatorIndexes.add(i);
+                }
+                endOfMSH = i;
+                break;
+            }
         }
 
-        serverSocketThread = null;
+        String messageBodyForDebugging = new String(hl7MessageBytes);
+        if (-1 == endOfMSH) {
+            // TODO:  May want to throw some sort of an Exception here
+            log.error("Population of message headers failed - unable to find the end of the MSH segment");
+        } else if (endpoint.hl7Headers) {
+            log.debug("Populating the HL7 message headers");
+            Charset charset = Charset.forName(IOHelper.getCharsetName(exchange));
+
+            for (int i = 2; i < fieldSeparatorIndexes.size(); ++i) {
+                int startingFieldSeparatorIndex = fieldSeparatorIndexes.get(i - 1);
+                int endingFieldSeparatorIndex = fieldSeparatorIndexes.get(i);
+
+                // Only populate the header if there's data in the HL7 field
+                if (endingFieldSeparatorIndex - startingFieldSeparatorIndex > 1) {
+                    String headerName = null;
+                    switch (i) {
+                    case 2: // MSH-3
+                        headerName = MLLP_SENDING_APPLICATION;
+                        break;
+                    case 3: // MSH-4
+                        headerName = MLLP_SENDING_FACILITY;
+                        break;
+                    case 4: // MSH-5
+                        headerName = MLLP_RECEIVING_APPLICATION;
+                        break;
+                    case 5: // MSH-6
+                        headerName = MLLP_RECEIVING_FACILITY;
+                        break;
+                    case 6: // MSH-7
+                        headerName = MLLP_TIMESTAMP;
+                        break;
+                    case 7: // MSH-8
+                        headerName = MLLP_SECURITY;
+                        break;
+                    case 8: // MSH-9
+                        headerName = MLLP_MESSAGE_TYPE;
+                        break;
+                    case 9: // MSH-10
+                        headerName = MLLP_MESSAGE_CONTROL;
+                        break;
+                    case 10: // MSH-11
+                        headerName = MLLP_PROCESSING_ID;
+                        break;
+                    case 11: // MSH-12
+                        headerName = MLLP_VERSION_ID;
+                        break;
+                    case 17: // MSH-18
+                        headerName = MLLP_CHARSET;
+                        break;
+                    default:
+                        // Not processing this field
+                        continue;
+                    }
+
+                    String headerValue = new String(hl7MessageBytes, startingFieldSeparatorIndex + 1,
+                            endingFieldSeparatorIndex - startingFieldSeparatorIndex - 1,
+                            charset);
+                    message.setHeader(headerName, headerValue);
+
+                    // For MSH-9, set a couple more headers
+                    if (i == 8) {
+                        // final byte componentSeparator = hl7MessageBytes[4];
+                        String componentSeparator = new String(hl7MessageBytes, 4, 1, charset);
+                        String[] components = headerValue.split(String.format("\\Q%s\\E", componentSeparator), 3);
+                        message.setHeader(MLLP_EVENT_TYPE, components[0]);
+                        if (2 <= components.length) {
+                            message.setHeader(MLLP_TRIGGER_EVENT, components[1]);
+                        }
+                    }
+                }
+            }
+        } else {
+            log.trace("HL7 Message headers disabled");
+        }
 
-        super.doStop();
     }
 
     /**
@@ -424,312 +751,18 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
                         continue;
                     }
                 } catch (MllpException mllpEx) {
-                    Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
-                    exchange.setException(mllpEx);
-                    log.warn("Exception encountered reading payload - sending exception to route", mllpEx);
-                    try {
-                        getProcessor().process(exchange);
-                    } catch (Exception e) {
-                        log.error("Exception encountered processing exchange with exception encounter reading payload", e);
-                    }
+                    processReceiveException(mllpEx);
                     continue;
                 } finally {
                     initialByte = null;
                 }
 
-                // Send the message on for processing and wait for the response
-                log.debug("Populating the exchange with received message");
-                Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
-                try {
-                    createUoW(exchange);
-                    Message message = exchange.getIn();
-                    message.setBody(hl7MessageBytes, byte[].class);
-
-                    message.setHeader(MLLP_LOCAL_ADDRESS, clientSocket.getLocalAddress().toString());
-                    message.setHeader(MLLP_REMOTE_ADDRESS, clientSocket.getRemoteSocketAddress());
-                    message.setHeader(MLLP_AUTO_ACKNOWLEDGE, endpoint.autoAck);
-
-                    if (endpoint.validatePayload) {
-                        String exceptionMessage = Hl7Util.generateInvalidPayloadExceptionMessage(hl7MessageBytes);
-                        if (exceptionMessage != null) {
-                            exchange.setException(new MllpInvalidMessageException(exceptionMessage, hl7MessageBytes));
-                        }
-                    }
-                    populateHl7DataHeaders(exchange, message, hl7MessageBytes);
-
-                    log.debug("Calling processor");
-                    try {
-                        getProcessor().process(exchange);
-                        sendAcknowledgement(hl7MessageBytes, exchange);
-                    } catch (RuntimeException runtimeEx) {
-                        throw runtimeEx;
-                    } catch (Exception ex) {
-                        log.error("Unexpected exception processing exchange", ex);
-                    }
-                } catch (Exception uowEx) {
-                    // TODO:  Handle this correctly
-                    exchange.setException(uowEx);
-                    log.warn("Exception encountered creating Unit of Work - sending exception to route", uowEx);
-                    try {
-                        getProcessor().process(exchange);
-                    } catch (Exception e) {
-                        log.error("Exception encountered processing exchange with exception encountered createing Unit of Work", e);
-                    }
-                    continue;
-                } finally {
-                    if (exchange != null) {
-                        doneUoW(exchange);
-                    }
-                }
-
-
+                processHl7Message(hl7MessageBytes, clientSocket, mllpSocketWriter);
             }
 
             log.debug("ClientSocketThread exiting");
         }
 
-        private void sendAcknowledgement(byte[] originalHl7MessageBytes, Exchange exchange) {
-            log.info("sendAcknowledgement");
-
-            // Check BEFORE_SEND Properties
-            if (exchange.getProperty(MLLP_RESET_CONNECTION_BEFORE_SEND, boolean.class)) {
-                String reasonMessage = String.format("Exchange property %s is %b", MLLP_RESET_CONNECTION_BEFORE_SEND,  exchange.getProperty(MLLP_RESET_CONNECTION_BEFORE_SEND, boolean.class));
-                MllpSocketUtil.reset(clientSocket, log, reasonMessage);
-                return;
-            } else if (exchange.getProperty(MLLP_CLOSE_CONNECTION_BEFORE_SEND, boolean.class)) {
-                String reasonMessage = String.format("Exchange property %s is %b", MLLP_CLOSE_CONNECTION_BEFORE_SEND,  exchange.getProperty(MLLP_CLOSE_CONNECTION_BEFORE_SEND, boolean.class));
-                MllpSocketUtil.close(clientSocket, log, reasonMessage);
-                return;
-            }
-
-            // Find the acknowledgement body
-            // TODO:  Enhance this to say whether or not the acknowledgment is missing or just of an un-convertible type
-            byte[] acknowledgementMessageBytes = exchange.getProperty(MLLP_ACKNOWLEDGEMENT, byte[].class);
-            String acknowledgementMessageType = null;
-            if (null == acknowledgementMessageBytes) {
-                boolean autoAck = exchange.getProperty(MLLP_AUTO_ACKNOWLEDGE, true, boolean.class);
-                if (!autoAck) {
-                    exchange.setException(new MllpInvalidAcknowledgementException("Automatic Acknowledgement is disabled and the "
-                            + MLLP_ACKNOWLEDGEMENT + " exchange property is null or cannot be converted to byte[]", originalHl7MessageBytes, acknowledgementMessageBytes));
-                    return;
-                }
-
-                String acknowledgmentTypeProperty = exchange.getProperty(MLLP_ACKNOWLEDGEMENT_TYPE, String.class);
-                try {
-                    if (null == acknowledgmentTypeProperty) {
-                        if (null == exchange.getException()) {
-                            acknowledgementMessageType = "AA";
-                            acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationAcceptAcknowledgementMessage(originalHl7MessageBytes);
-                        } else {
-                            acknowledgementMessageType = "AE";
-                            acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationErrorAcknowledgementMessage(originalHl7MessageBytes);
-                        }
-                    } else {
-                        switch (acknowledgmentTypeProperty) {
-                        case "AA":
-                            acknowledgementMessageType = "AA";
-                            acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationAcceptAcknowledgementMessage(originalHl7MessageBytes);
-                            break;
-                        case "AE":
-                            acknowledgementMessageType = "AE";
-                            acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationErrorAcknowledgementMessage(originalHl7MessageBytes);
-                            break;
-                        case "AR":
-                            acknowledgementMessageType = "AR";
-                            acknowledgementMessageBytes = acknowledgementGenerator.generateApplicationRejectAcknowledgementMessage(originalHl7MessageBytes);
-                            break;
-                        default:
-                            exchange.setException(new Hl7AcknowledgementGenerationException("Unsupported acknowledgment type: " + acknowledgmentTypeProperty));
-                            return;
-                        }
-                    }
-                } catch (Hl7AcknowledgementGenerationException ackGenerationException) {
-                    exchange.setProperty(MLLP_ACKNOWLEDGEMENT_EXCEPTION, ackGenerationException);
-                    exchange.setException(ackGenerationException);
-                }
-            } else {
-                final byte bM = 77;
-                final byte bS = 83;
-                final byte bA = 65;
-                final byte bE = 69;
-                final byte bR = 82;
-
-                final byte fieldSeparator = originalHl7MessageBytes[3];
-                // Acknowledgment is specified in exchange property - determine the acknowledgement type
-                for (int i = 0; i < originalHl7MessageBytes.length; ++i) {
-                    if (SEGMENT_DELIMITER == i) {
-                        if (i + 7 < originalHl7MessageBytes.length // Make sure we don't run off the end of the message
-                                && bM == originalHl7MessageBytes[i + 1] && bS == originalHl7MessageBytes[i + 2]
-                                && bA == originalHl7MessageBytes[i + 3] && fieldSeparator == originalHl7MessageBytes[i + 4]) {
-                            if (fieldSeparator != originalHl7MessageBytes[i + 7]) {
-                                log.warn("MSA-1 is longer than 2-bytes - ignoring trailing bytes");
-                            }
-                            // Found MSA - pull acknowledgement bytes
-                            byte[] acknowledgmentTypeBytes = new byte[2];
-                            acknowledgmentTypeBytes[0] = originalHl7MessageBytes[i + 5];
-                            acknowledgmentTypeBytes[1] = originalHl7MessageBytes[i + 6];
-                            try {
-                                acknowledgementMessageType = IOConverter.toString(acknowledgmentTypeBytes, exchange);
-                            } catch (IOException ioEx) {
-                                throw new RuntimeException("Failed to convert acknowledgement message to string", ioEx);
-                            }
-
-                            // Verify it's a valid acknowledgement code
-                            if (bA != acknowledgmentTypeBytes[0]) {
-                                switch (acknowledgementMessageBytes[1]) {
-                                case bA:
-                                case bR:
-                                case bE:
-                                    break;
-                                default:
-                                    log.warn("Invalid acknowledgement type [" + acknowledgementMessageType + "] found in message - should be AA, AE or AR");
-                                }
-                            }
-
-                            // if the MLLP_ACKNOWLEDGEMENT_TYPE property is set on the exchange, make sure it matches
-                            String acknowledgementTypeProperty = exchange.getProperty(MLLP_ACKNOWLEDGEMENT_TYPE, String.class);
-                            if (null != acknowledgementTypeProperty && !acknowledgementTypeProperty.equals(acknowledgementMessageType)) {
-                                log.warn("Acknowledgement type found in message [" + acknowledgementMessageType + "] does not match "
-                                        + MLLP_ACKNOWLEDGEMENT_TYPE + " exchange property value [" + acknowledgementTypeProperty + "] - using value found in message");
-                            }
-                        }
-                    }
-                }
-            }
-
-            Message message;
-            if (exchange.hasOut()) {
-                message = exchange.getOut();
-            } else {
-                message = exchange.getIn();
-            }
-            message.setHeader(MLLP_ACKNOWLEDGEMENT, acknowledgementMessageBytes);
-            // TODO:  Use the charset of the exchange
-            message.setHeader(MLLP_ACKNOWLEDGEMENT_STRING, new String(acknowledgementMessageBytes));
-            message.setHeader(MLLP_ACKNOWLEDGEMENT_TYPE, acknowledgementMessageType);
-
-            // Send the acknowledgement
-            log.debug("Sending Acknowledgement: {}", MllpComponent.covertBytesToPrintFriendlyString(acknowledgementMessageBytes));
-            try {
-                mllpSocketWriter.writeEnvelopedPayload(originalHl7MessageBytes, acknowledgementMessageBytes);
-            } catch (MllpException mllpEx) {
-                log.error("MLLP Acknowledgement failure: {}", mllpEx);
-                MllpAcknowledgementDeliveryException deliveryException = new MllpAcknowledgementDeliveryException(originalHl7MessageBytes, acknowledgementMessageBytes, mllpEx);
-                exchange.setProperty(MLLP_ACKNOWLEDGEMENT_EXCEPTION, deliveryException);
-                exchange.setException(deliveryException);
-            }
-
-            // Check AFTER_SEND Properties
-            if (exchange.getProperty(MLLP_RESET_CONNECTION_AFTER_SEND, boolean.class)) {
-                String reasonMessage = String.format("Exchange property %s is %b", MLLP_RESET_CONNECTION_AFTER_SEND,  exchange.getProperty(MLLP_RESET_CONNECTION_AFTER_SEND, boolean.class));
-                MllpSocketUtil.reset(clientSocket, log, reasonMessage);
-                return;
-            } else if (exchange.getProperty(MLLP_CLOSE_CONNECTION_AFTER_SEND, boolean.class)) {
-                String reasonMessage = String.format("Exchange property %s is %b", MLLP_CLOSE_CONNECTION_AFTER_SEND,  exchange.getProperty(MLLP_CLOSE_CONNECTION_AFTER_SEND, boolean.class));
-                MllpSocketUtil.reset(clientSocket, log, reasonMessage);
-            }
-        }
-
-        private void populateHl7DataHeaders(Exchange exchange, Message message, byte[] hl7MessageBytes) {
-            if (hl7MessageBytes == null ||  hl7MessageBytes.length < 8) {
-                // Not enough data to populate anything - just return
-                return;
-            }
-            // Find the end of the MSH and indexes of the fields in the MSH to populate message headers
-            final byte fieldSeparator = hl7MessageBytes[3];
-            int endOfMSH = -1;
-            List<Integer> fieldSeparatorIndexes = new ArrayList<>(10);  // We should have at least 10 fields
-
-            for (int i = 0; i < hl7MessageBytes.length; ++i) {
-                if (fieldSeparator == hl7MessageBytes[i]) {
-                    fieldSeparatorIndexes.add(i);
-                } else if (SEGMENT_DELIMITER == hl7MessageBytes[i]) {
-                    // If the MSH Segment doesn't have a trailing field separator, add one so the field can be extracted into a header
-                    if (fieldSeparator != hl7MessageBytes[i - 1]) {
-                        fieldSeparatorIndexes.add(i);
-                    }
-                    endOfMSH = i;
-                    break;
-                }
-            }
-
-            String messageBodyForDebugging = new String(hl7MessageBytes);
-            if (-1 == endOfMSH) {
-                // TODO:  May want to throw some sort of an Exception here
-                log.error("Population of message headers failed - unable to find the end of the MSH segment");
-            } else if (endpoint.hl7Headers) {
-                log.debug("Populating the HL7 message headers");
-                Charset charset = Charset.forName(IOHelper.getCharsetName(exchange));
-
-                for (int i = 2; i < fieldSeparatorIndexes.size(); ++i) {
-                    int startingFieldSeparatorIndex = fieldSeparatorIndexes.get(i - 1);
-                    int endingFieldSeparatorIndex = fieldSeparatorIndexes.get(i);
-
-                    // Only populate the header if there's data in the HL7 field
-                    if (endingFieldSeparatorIndex - startingFieldSeparatorIndex > 1) {
-                        String headerName = null;
-                        switch (i) {
-                        case 2: // MSH-3
-                            headerName = MLLP_SENDING_APPLICATION;
-                            break;
-                        case 3: // MSH-4
-                            headerName = MLLP_SENDING_FACILITY;
-                            break;
-                        case 4: // MSH-5
-                            headerName = MLLP_RECEIVING_APPLICATION;
-                            break;
-                        case 5: // MSH-6
-                            headerName = MLLP_RECEIVING_FACILITY;
-                            break;
-                        case 6: // MSH-7
-                            headerName = MLLP_TIMESTAMP;
-                            break;
-                        case 7: // MSH-8
-                            headerName = MLLP_SECURITY;
-                            break;
-                        case 8: // MSH-9
-                            headerName = MLLP_MESSAGE_TYPE;
-                            break;
-                        case 9: // MSH-10
-                            headerName = MLLP_MESSAGE_CONTROL;
-                            break;
-                        case 10: // MSH-11
-                            headerName = MLLP_PROCESSING_ID;
-                            break;
-                        case 11: // MSH-12
-                            headerName = MLLP_VERSION_ID;
-                            break;
-                        case 17: // MSH-18
-                            headerName = MLLP_CHARSET;
-                            break;
-                        default:
-                            // Not processing this field
-                            continue;
-                        }
-
-                        String headerValue = new String(hl7MessageBytes, startingFieldSeparatorIndex + 1,
-                                endingFieldSeparatorIndex - startingFieldSeparatorIndex - 1,
-                                charset);
-                        message.setHeader(headerName, headerValue);
-
-                        // For MSH-9, set a couple more headers
-                        if (i == 8) {
-                            // final byte componentSeparator = hl7MessageBytes[4];
-                            String componentSeparator = new String(hl7MessageBytes, 4, 1, charset);
-                            String[] components = headerValue.split(String.format("\\Q%s\\E", componentSeparator), 3);
-                            message.setHeader(MLLP_EVENT_TYPE, components[0]);
-                            if (2 <= components.length) {
-                                message.setHeader(MLLP_TRIGGER_EVENT, components[1]);
-                            }
-                        }
-                    }
-                }
-            } else {
-                log.trace("HL7 Message headers disabled");
-            }
-
-        }
-
         @Override
         public void interrupt() {
             if (null != clientSocket  &&  clientSocket.isConnected()  && !clientSocket.isClosed()) {
@@ -0,0 +1,192 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.test.junit.rule.mllp.MllpClientResource;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.apache.camel.component.mllp.MllpEndpoint.END_OF_BLOCK;
+import static org.apache.camel.component.mllp.MllpEndpoint.END_OF_DATA;
+import static org.apache.camel.component.mllp.MllpEndpoint.START_OF_BLOCK;
+import static org.apache.camel.test.mllp.Hl7MessageGenerator.generateMessage;
+
+public class MllpNioServerConsumerTest extends CamelTestSupport {
+    @Rule
+    public MllpClientResource mllpClient = new MllpClientResource();
+
+    @Rule
+    public MllpClientResource secondMllpClient = new MllpClientResource();
+
+    @EndpointInject(uri = "mock://result")
+    MockEndpoint result;
+
+    @EndpointInject(uri = "mock://timeout-ex")
+    MockEndpoint timeout;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        DefaultCamelContext context = (DefaultCamelContext) super.createCamelContext();
+
+        context.setUseMDCLogging(true);
+        context.setName(this.getClass().getSimpleName());
+
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+
+        mllpClient.setMllpHost("localhost");
+        mllpClient.setMllpPort(AvailablePortFinder.getNextAvailable());
+        secondMllpClient.setMllpHost(mllpClient.getMllpHost());
+        secondMllpClient.setMllpPort(mllpClient.getMllpPort());
+
+        return new RouteBuilder() {
+            int responseTimeout = 5000;
+
+            @Override
+            public void configure() throws Exception {
+                String routeId = "mllp-nio-test-receiver-route";
+
+                onException(MllpTimeoutException.class)
+                        .to(timeout);
+
+                fromF("mllp://%s:%d?autoAck=true&nio=true&nioWorkerThreads=4&receiveTimeout=%d",
+                        mllpClient.getMllpHost(), mllpClient.getMllpPort(), responseTimeout)
+                        .routeId(routeId)
+                        .log(LoggingLevel.INFO, routeId, "Test route received message")
+                        .to(result);
+
+            }
+        };
+    }
+
+    @Test
+    public void testReceiveSingleMessage() throws Exception {
+        result.expectedMessageCount(1);
+        timeout.expectedMessageCount(0);
+
+        mllpClient.connect();
+
+        String acknowledgement = mllpClient.sendMessageAndWaitForAcknowledgement(generateMessage(), 10000);
+
+        assertMockEndpointsSatisfied(10, TimeUnit.SECONDS);
+        assertTrue("Should be acknowledgment for message 1", acknowledgement.contains("MSA|AA|00001"));
+    }
+
+    @Test
+    public void testReceiveMultipleMessages() throws Exception {
+        int sendMessageCount = 5;
+        result.expectedMessageCount(sendMessageCount);
+        timeout.expectedMessageCount(0);
+
+        mllpClient.connect();
+
+        for (int i = 1; i <= sendMessageCount; ++i) {
+            String acknowledgement = mllpClient.sendMessageAndWaitForAcknowledgement(generateMessage(i));
+            assertTrue("Should be acknowledgment for message " + i, acknowledgement.contains(String.format("MSA|AA|%05d", i)));
+        }
+
+        assertMockEndpointsSatisfied(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testReceiveMessageInMultiplePackets() throws Exception {
+        result.expectedMessageCount(1);
+        result.expectedBodiesReceived(generateMessage());
+        timeout.expectedMessageCount(0);
+
+        mllpClient.connect();
+        mllpClient.setSoTimeout(10000);
+
+        mllpClient.sendFramedDataInMultiplePackets(generateMessage(), (byte) '\r');
+        String acknowledgement = mllpClient.receiveFramedData();
+
+        assertMockEndpointsSatisfied(10, TimeUnit.SECONDS);
+        assertTrue("Should be acknowledgment for message 1", acknowledgement.contains("MSA|AA|00001"));
+    }
+
+    @Test
+    public void testReceivePipelinedMessagesInOrder() throws Exception {
+        int sendMessageCount = 10;
+        result.expectedMessageCount(sendMessageCount);
+        timeout.expectedMessageCount(0);
+
+        // Buffer all but the last frame, so several frames arrive in the same read
+        StringBuilder frames = new StringBuilder();
+        for (int i = 1; i < sendMessageCount; ++i) {
+            frames.append(START_OF_BLOCK).append(generateMessage(i)).append(END_OF_BLOCK).append(END_OF_DATA);
+        }
+
+        mllpClient.connect();
+        mllpClient.setSoTimeout(10000);
+        mllpClient.sendData(frames.toString());
+        mllpClient.sendFramedData(generateMessage(sendMessageCount));
+
+        for (int i = 1; i <= sendMessageCount; ++i) {
+            String acknowledgement = mllpClient.receiveFramedData();
+            assertTrue("Should be acknowledgment for message " + i, acknowledgement.contains(String.format("MSA|AA|%05d", i)));
+        }
+
+        assertMockEndpointsSatisfied(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testReceiveFromMultipleConnections() throws Exception {
+        result.expectedMessageCount(4);
+        timeout.expectedMessageCount(0);
+
+        mllpClient.connect();
+        secondMllpClient.connect();
+
+        assertTrue(mllpClient.sendMessageAndWaitForAcknowledgement(generateMessage(1)).contains("MSA|AA|00001"));
+        assertTrue(secondMllpClient.sendMessageAndWaitForAcknowledgement(generateMessage(2)).contains("MSA|AA|00002"));
+        assertTrue(mllpClient.sendMessageAndWaitForAcknowledgement(generateMessage(3)).contains("MSA|AA|00003"));
+        assertTrue(secondMllpClient.sendMessageAndWaitForAcknowledgement(generateMessage(4)).contains("MSA|AA|00004"));
+
+        assertMockEndpointsSatisfied(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testMessageReadTimeout() throws Exception {
+        result.expectedMessageCount(0);
+        timeout.expectedMessageCount(1);
+
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(1).create();
+
+        mllpClient.setSendEndOfBlock(false);
+        mllpClient.setSendEndOfData(false);
+
+        mllpClient.sendFramedData(generateMessage());
+
+        assertTrue("One exchange should have completed", notify.matches(15, TimeUnit.SECONDS));
+
+        assertMockEndpointsSatisfied();
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.util.Collection;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * To manage and correlate state of {@link NettyCamelState} when doing request/reply via {@link NettyProducer}.
+ * <p/>
+ * The default implementation keeps a single state per {@link Channel} which means a channel can only
+ * have one request in flight at any time. A custom implementation which is able to map a reply to its request,
+ * for example by a correlation id present in both messages, allows the producer to pipeline multiple
+ * concurrent requests over the same channel.
+ */
+public interface NettyCamelStateCorrelationManager {
+
+    /**
+     * Whether this manager is able to correlate multiple requests in flight on the same channel.
+     * <p/>
+     * When <tt>true</tt> the {@link NettyProducer} sends all requests to the same remote address on a single
+     * shared channel, so requests are pipelined without waiting for the previous reply.
+     */
+    boolean isPipelining();
+
+    /**
+     * Puts the state.
+     * <p/>
+     * You can get access to the Camel message from the {@link NettyCamelState} instance.
+     *
+     * @param channel the channel
+     * @param state   the Camel state to be stored
+     */
+    void putState(Channel channel, NettyCamelState state);
+
+    /**
+     * Removes the state when the channel is inactive.
+     *
+     * @param ctx     netty channel handler context
+     * @param channel the channel
+     */
+    void removeState(ChannelHandlerContext ctx, Channel channel);
+
+    /**
+     * Removes all the states of the channel when the channel has been closed, so the exchanges which are still
+     * waiting for a reply can be failed.
+     *
+     * @param ctx     netty channel handler context
+     * @param channel the channel
+     * @return the states which were removed, or an empty collection if no states exists
+     */
+    Collection<NettyCamelState> removeStates(ChannelHandlerContext ctx, Channel channel);
+
+    /**
+     * Gets the state when a response message has been received.
+     * <p/>
+     * If the implementation stores the state temporary in for example a cache, then its
+     * safe to remove the state at this point. The {@link NettyCamelState} that is returned
+     * is the state for the message which should be continued routed.
+     *
+     * @param ctx     netty channel handler context
+     * @param channel the channel
+     * @param msg     the response message, or <tt>null</tt> if the channel was closed without a response
+     * @return the state, or <tt>null</tt> if no state exists
+     */
+    NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Object msg);
+
+    /**
+     * Gets the state when some internal error occurred.
+     *
+     * @param ctx     netty channel handler context
+     * @param channel the channel
+     * @param cause   the error
+     * @return the state, or <tt>null</tt> if no state exists
+     */
+    NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Throwable cause);
+
+}
@@ -110,6 +110,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     private boolean udpByteArrayCodec;
     @UriParam(label = "producer")
     private boolean reuseChannel;
+    @UriParam(label = "producer,advanced")
+    private NettyCamelStateCorrelationManager correlationManager;
 
     /**
      * Returns a copy of this configuration
@@ -541,8 +543,9 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     }
 
     /**
-     * Sets the cap on the number of objects that can be allocated by the pool
+     * Sets the cap on the number of channels that can be allocated by the pool
      * (checked out to clients, or idle awaiting checkout) at a given time. Use a negative value for no limit.
+     * When the cap is reached then requests wait for a channel to be returned to the pool, for at most the connect timeout.
      */
     public void setProducerPoolMaxActive(int producerPoolMaxActive) {
         this.producerPoolMaxActive = producerPoolMaxActive;
@@ -553,7 +556,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     }
 
     /**
-     * Sets the minimum number of instances allowed in the producer pool before the evictor thread (if active) spawns new objects.
+     * Sets the minimum number of idle channels to keep in the producer pool, which are not evicted even if they have been idle
+     * longer than the producerPoolMinEvictableIdle option.
      */
     public void setProducerPoolMinIdle(int producerPoolMinIdle) {
         this.producerPoolMinIdle = producerPoolMinIdle;
@@ -564,7 +568,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     }
 
     /**
-     * Sets the cap on the number of "idle" instances in the pool.
+     * Sets the cap on the number of "idle" channels in the pool. Channels returned to a pool which already has this number of
+     * idle channels are closed.
      */
     public void setProducerPoolMaxIdle(int producerPoolMaxIdle) {
         this.producerPoolMaxIdle = producerPoolMaxIdle;
@@ -575,7 +580,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     }
 
     /**
-     * Sets the minimum amount of time (value in millis) an object may sit idle in the pool before it is eligible for eviction by the idle object evictor.
+     * Sets the minimum amount of time (value in millis) a channel may sit idle in the pool before it is eligible for eviction.
+     * The eviction runs on the event loop of the channel. Use zero or a negative value to never evict idle channels.
      */
     public void setProducerPoolMinEvictableIdle(long producerPoolMinEvictableIdle) {
         this.producerPoolMinEvictableIdle = producerPoolMinEvictableIdle;
@@ -655,6 +661,20 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.reuseChannel = reuseChannel;
     }
 
+    public NettyCamelStateCorrelationManager getCorrelationManager() {
+        return correlationManager;
+    }
+
+    /**
+     * To use a custom correlation manager to manage how request and reply messages are mapped when using request/reply with the netty producer.
+     * This should only be used if you have a way to map requests together with replies such as if there is correlation ids in both the request
+     * and reply messages. A correlation manager which supports pipelining makes the producer send concurrent requests on a single shared channel
+     * without waiting for the previous reply, which is useful for protocols that correlate replies by an id.
+     */
+    public void setCorrelationManager(NettyCamelStateCorrelationManager correlationManager) {
+        this.correlationManager = correlationManager;
+    }
+
     private static <T> void addToHandlersList(List<T> configured, List<T> handlers, Class<T> handlerType) {
         if (handlers != null) {
             for (T handler : handlers) {
@@ -18,6 +18,8 @@ package org.apache.camel.component.netty4;
 
 import java.math.BigInteger;
 import java.security.Principal;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
@@ -32,6 +34,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.impl.DefaultEndpoint;
 import org.apache.camel.impl.SynchronousDelegateProducer;
 import org.apache.camel.spi.UriEndpoint;
@@ -41,6 +45,7 @@ import org.apache.camel.util.ObjectHelper;
 /**
  * Socket level networking using TCP or UDP with the Netty 4.x library.
  */
+@ManagedResource(description = "Managed NettyEndpoint")
 @UriEndpoint(firstVersion = "2.14.0", scheme = "netty4", title = "Netty4", syntax = "netty4:protocol:host:port", consumerClass = NettyConsumer.class, label = "networking,tcp,udp")
 public class NettyEndpoint extends DefaultEndpoint implements AsyncEndpoint {
     @UriParam
@@ -48,6 +53,7 @@ public class NettyEndpoint extends DefaultEndpoint implements AsyncEndpoint {
     @UriParam(label = "advanced", javaType = "org.apache.camel.component.netty4.NettyServerBootstrapConfiguration",
             description = "To use a custom configured NettyServerBootstrapConfiguration for configuring this endpoint.")
     private Object bootstrapConfiguration; // to include in component docs as NettyServerBootstrapConfiguration is a @UriParams class
+    private final Set<NettyProducer> producers = new CopyOnWriteArraySet<NettyProducer>();
 
     public NettyEndpoint(String endpointUri, NettyComponent component, NettyConfiguration configuration) {
         super(endpointUri, component);
@@ -93,6 +99,59 @@ public class NettyEndpoint extends DefaultEndpoint implements AsyncEndpoint {
         this.configuration = configuration;
     }
 
+    void addProducer(NettyProducer producer) {
+        producers.add(producer);
+    }
+
+    void removeProducer(NettyProducer producer) {
+        producers.remove(producer);
+    }
+
+    @ManagedAttribute(description = "Number of producer channels in use by requests")
+    public int getProducerChannelsInUse() {
+        int answer = 0;
+        for (NettyProducer producer : producers) {
+            answer += producer.getChannelsInUse();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of idle producer channels in the pools")
+    public int getProducerChannelsIdle() {
+        int answer = 0;
+        for (NettyProducer producer : producers) {
+            answer += producer.getChannelsIdle();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of requests waiting to acquire a producer channel")
+    public int getProducerPendingAcquires() {
+        int answer = 0;
+        for (NettyProducer producer : producers) {
+            answer += producer.getPendingAcquires();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of producer channels created")
+    public long getProducerChannelsCreated() {
+        long answer = 0;
+        for (NettyProducer producer : producers) {
+            answer += producer.getChannelsCreated();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of idle producer channels evicted")
+    public long getProducerChannelsEvicted() {
+        long answer = 0;
+        for (NettyProducer producer : producers) {
+            answer += producer.getChannelsEvicted();
+        }
+        return answer;
+    }
+
     @Override
     protected String createEndpointUri() {
         ObjectHelper.notNull(configuration, "configuration");
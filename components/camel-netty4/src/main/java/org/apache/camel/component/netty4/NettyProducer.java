@@ -18,10 +18,12 @@ package org.apache.camel.component.netty4;
 
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
@@ -35,23 +37,24 @@ import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.pool.AbstractChannelPoolMap;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
-import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultAsyncProducer;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.CamelLogger;
 import org.apache.camel.util.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
-import org.apache.commons.pool.ObjectPool;
-import org.apache.commons.pool.PoolableObjectFactory;
-import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,8 +66,14 @@ public class NettyProducer extends DefaultAsyncProducer {
     private ClientInitializerFactory pipelineFactory;
     private CamelLogger noReplyLogger;
     private EventLoopGroup workerGroup;
-    private ObjectPool<ChannelFuture> pool;
-    private Map<Channel, NettyCamelState> nettyCamelStatesMap = new ConcurrentHashMap<Channel, NettyCamelState>();
+    private Bootstrap bootstrap;
+    private InetSocketAddress remoteAddress;
+    private AbstractChannelPoolMap<InetSocketAddress, ChannelPool> pools;
+    private final List<NettyProducerChannelPool> channelPools = new CopyOnWriteArrayList<NettyProducerChannelPool>();
+    private NettyCamelStateCorrelationManager correlationManager;
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+    private final AtomicInteger channelsInUse = new AtomicInteger();
+    private final AtomicLong channelsCreated = new AtomicLong();
 
     public NettyProducer(NettyEndpoint nettyEndpoint, NettyConfiguration configuration) {
         super(nettyEndpoint);
@@ -101,32 +110,11 @@ public class NettyProducer extends DefaultAsyncProducer {
                 .withWorkerCount(configuration.getWorkerCount())
                 .withName("NettyClientTCPWorker").build();
         }
-               
-        if (configuration.isProducerPoolEnabled()) {
-            // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
-            GenericObjectPool.Config config = new GenericObjectPool.Config();
-            config.maxActive = configuration.getProducerPoolMaxActive();
-            config.minIdle = configuration.getProducerPoolMinIdle();
-            config.maxIdle = configuration.getProducerPoolMaxIdle();
-            // we should test on borrow to ensure the channel is still valid
-            config.testOnBorrow = true;
-            // only evict channels which are no longer valid
-            config.testWhileIdle = true;
-            // run eviction every 30th second
-            config.timeBetweenEvictionRunsMillis = 30 * 1000L;
-            config.minEvictableIdleTimeMillis = configuration.getProducerPoolMinEvictableIdle();
-            config.whenExhaustedAction = GenericObjectPool.WHEN_EXHAUSTED_FAIL;
-            pool = new GenericObjectPool<ChannelFuture>(new NettyProducerPoolableObjectFactory(), config);
 
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Created NettyProducer pool[maxActive={}, minIdle={}, maxIdle={}, minEvictableIdleTimeMillis={}] -> {}",
-                        new Object[]{config.maxActive, config.minIdle, config.maxIdle, config.minEvictableIdleTimeMillis, pool});
-            }
+        if (configuration.getCorrelationManager() != null) {
+            correlationManager = configuration.getCorrelationManager();
         } else {
-            pool = new SharedSingletonObjectPool<ChannelFuture>(new NettyProducerPoolableObjectFactory());
-            if (LOG.isDebugEnabled()) {
-                LOG.info("Created NettyProducer shared singleton pool -> {}", pool);
-            }
+            correlationManager = new DefaultNettyCamelStateCorrelationManager();
         }
 
         // setup pipeline factory
@@ -143,18 +131,45 @@ public class NettyProducer extends DefaultAsyncProducer {
         } else {
             allChannels = configuration.getChannelGroup();
         }
-        
+
+        // setup the channel pools, where we have a pool per remote address
+        bootstrap = createBootstrap();
+        remoteAddress = new InetSocketAddress(configuration.getHost(), configuration.getPort());
+        pools = new AbstractChannelPoolMap<InetSocketAddress, ChannelPool>() {
+            @Override
+            protected ChannelPool newPool(InetSocketAddress key) {
+                return createChannelPool(key);
+            }
+        };
+
         if (!configuration.isLazyChannelCreation()) {
             // ensure the connection can be established when we start up
-            ChannelFuture channelFuture = pool.borrowObject();
-            channelFuture.get();
-            pool.returnObject(channelFuture);
+            ChannelPool pool = pools.get(remoteAddress);
+            Channel channel = pool.acquire().get();
+            pool.release(channel);
         }
+
+        getEndpoint().addProducer(this);
     }
 
     @Override
     protected void doStop() throws Exception {
         LOG.debug("Stopping producer at address: {}", configuration.getAddress());
+        getEndpoint().removeProducer(this);
+
+        if (pools != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Stopping producer with channel pool[inUse={}, idle={}, pending={}]",
+                        new Object[]{getChannelsInUse(), getChannelsIdle(), getPendingAcquires()});
+            }
+            // the pools close their channels using the event loop, which may already be shutdown if its shared
+            if (!getWorkerGroup().isShuttingDown()) {
+                pools.close();
+            }
+            pools = null;
+            channelPools.clear();
+        }
+
         // close all channels
         LOG.trace("Closing {} channels", allChannels.size());
         ChannelGroupFuture future = allChannels.close();
@@ -166,14 +181,6 @@ public class NettyProducer extends DefaultAsyncProducer {
             workerGroup = null;
         }
 
-        if (pool != null) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Stopping producer with channel pool[active={}, idle={}]", pool.getNumActive(), pool.getNumIdle());
-            }
-            pool.close();
-            pool = null;
-        }
-
         super.doStop();
     }
 
@@ -210,23 +217,18 @@ public class NettyProducer extends DefaultAsyncProducer {
         }
 
         if (LOG.isTraceEnabled()) {
-            LOG.trace("Pool[active={}, idle={}]", pool.getNumActive(), pool.getNumIdle());
+            LOG.trace("Pool[inUse={}, idle={}, pending={}]", new Object[]{getChannelsInUse(), getChannelsIdle(), getPendingAcquires()});
         }
 
         // get a channel from the pool
-        ChannelFuture channelFuture = null;
+        ChannelPool pool = null;
         Channel channel = null;
         try {
             if (getConfiguration().isReuseChannel()) {
                 channel = exchange.getProperty(NettyConstants.NETTY_CHANNEL, Channel.class);
             }
             if (channel == null) {
-                channelFuture = pool.borrowObject();
-                if (channelFuture != null) {
-                    LOG.trace("Got channel request from pool {}", channelFuture);
-                }
-            } else {
-                channelFuture = channel.newSucceededFuture();
+                pool = pools.get(remoteAddress);
             }
         } catch (Exception e) {
             exchange.setException(e);
@@ -234,20 +236,27 @@ public class NettyProducer extends DefaultAsyncProducer {
             return true;
         }
 
-        // we must have a channel
-        if (channelFuture == null) {
-            exchange.setException(new CamelExchangeException("Cannot get channel from pool", exchange));
-            callback.done(true);
-            return true;
+        if (channel != null) {
+            // the channel is already connected so continue on this thread
+            try {
+                processWithConnectedChannel(exchange, callback, null, channel, body);
+            } catch (Throwable e) {
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+            return false;
         }
 
-        channelFuture.addListener(new ChannelConnectedListener(exchange, callback, body));
+        // acquiring a channel is done asynchronously by the event loop and does not block
+        pendingAcquires.incrementAndGet();
+        pool.acquire().addListener(new ChannelAcquiredListener(exchange, callback, pool, body));
         return false;
     }
 
-    public void processWithConnectedChannel(final Exchange exchange, final BodyReleaseCallback callback, final ChannelFuture channelFuture, final Object body) {
+    public void processWithConnectedChannel(final Exchange exchange, final BodyReleaseCallback callback, final ChannelPool pool,
+                                            final Channel channel, final Object body) {
         // remember channel so we can reuse it
-        final Channel channel = channelFuture.channel();
         if (getConfiguration().isReuseChannel() && exchange.getProperty(NettyConstants.NETTY_CHANNEL) == null) {
             exchange.setProperty(NettyConstants.NETTY_CHANNEL, channel);
             // and defer closing the channel until we are done routing the exchange
@@ -273,7 +282,7 @@ public class NettyProducer extends DefaultAsyncProducer {
                         NettyHelper.close(channel);
                     }
 
-                    releaseChannel(channelFuture);
+                    releaseChannel(pool, channel);
                 }
             });
         }
@@ -297,19 +306,19 @@ public class NettyProducer extends DefaultAsyncProducer {
             // as when reuse channel is enabled it will put the channel back in the pool when exchange is done using on completion
             producerCallback = callback.getOriginalCallback();
         } else {
-            producerCallback = new NettyProducerCallback(channelFuture, callback.getOriginalCallback());
+            producerCallback = new NettyProducerCallback(pool, channel, callback.getOriginalCallback());
         }
 
         // setup state as attachment on the channel, so we can access the state later when needed
-        putState(channel, new NettyCamelState(producerCallback, exchange));
+        correlationManager.putState(channel, new NettyCamelState(producerCallback, exchange));
         // here we need to setup the remote address information here
-        InetSocketAddress remoteAddress = null;
+        InetSocketAddress address = null;
         if (!isTcp()) {
-            remoteAddress = new InetSocketAddress(configuration.getHost(), configuration.getPort()); 
+            address = remoteAddress;
         }
 
         // write body
-        NettyHelper.writeBodyAsync(LOG, channel, remoteAddress, body, exchange, new ChannelFutureListener() {
+        NettyHelper.writeBodyAsync(LOG, channel, address, body, exchange, new ChannelFutureListener() {
             public void operationComplete(ChannelFuture channelFuture) throws Exception {
                 LOG.trace("Operation complete {}", channelFuture);
                 if (!channelFuture.isSuccess()) {
@@ -374,24 +383,40 @@ public class NettyProducer extends DefaultAsyncProducer {
 
     /**
      * To get the {@link NettyCamelState} from the given channel.
+     *
+     * @deprecated use {@link #getCorrelationManager()}
      */
+    @Deprecated
     public NettyCamelState getState(Channel channel) {
-        return nettyCamelStatesMap.get(channel);
+        return correlationManager.getState(null, channel, (Object) null);
     }
 
     /**
      * To remove the {@link NettyCamelState} stored on the channel,
      * when no longer needed
+     *
+     * @deprecated use {@link #getCorrelationManager()}
      */
+    @Deprecated
     public void removeState(Channel channel) {
-        nettyCamelStatesMap.remove(channel);
+        correlationManager.removeState(null, channel);
     }
 
     /**
      * Put the {@link NettyCamelState} into the map use the given channel as the key
+     *
+     * @deprecated use {@link #getCorrelationManager()}
      */
+    @Deprecated
     public void putState(Channel channel, NettyCamelState state) {
-        nettyCamelStatesMap.put(channel, state);
+        correlationManager.putState(channel, state);
+    }
+
+    /**
+     * The {@link NettyCamelStateCorrelationManager} in use, which keeps the state of the requests in flight.
+     */
+    public NettyCamelStateCorrelationManager getCorrelationManager() {
+        return correlationManager;
     }
 
     protected EventLoopGroup getWorkerGroup() {
@@ -403,116 +428,74 @@ public class NettyProducer extends DefaultAsyncProducer {
         return wg;
     }
 
-    protected ChannelFuture openConnection() throws Exception {
-        ChannelFuture answer;
+    /**
+     * Creates the {@link Bootstrap} which the channel pools use for creating new channels.
+     * The pools install the pipeline factory on each newly created channel.
+     */
+    protected Bootstrap createBootstrap() {
+        Bootstrap answer = new Bootstrap();
+        answer.group(getWorkerGroup());
+        answer.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.getConnectTimeout());
+
+        //TODO need to check it later
+        // set any additional netty options
+        /*
+        if (configuration.getOptions() != null) {
+            for (Map.Entry<String, Object> entry : configuration.getOptions().entrySet()) {
+                answer.setOption(entry.getKey(), entry.getValue());
+            }
+        }*/
 
         if (isTcp()) {
-            // its okay to create a new bootstrap for each new channel
-            Bootstrap clientBootstrap = new Bootstrap();
             if (configuration.isNativeTransport()) {
-                clientBootstrap.channel(EpollSocketChannel.class);
+                answer.channel(EpollSocketChannel.class);
             } else {
-                clientBootstrap.channel(NioSocketChannel.class);
-            }
-            clientBootstrap.group(getWorkerGroup());
-            clientBootstrap.option(ChannelOption.SO_KEEPALIVE, configuration.isKeepAlive());
-            clientBootstrap.option(ChannelOption.TCP_NODELAY, configuration.isTcpNoDelay());
-            clientBootstrap.option(ChannelOption.SO_REUSEADDR, configuration.isReuseAddress());
-            clientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.getConnectTimeout());
-
-            //TODO need to check it later
-            // set any additional netty options
-            /*
-            if (configuration.getOptions() != null) {
-                for (Map.Entry<String, Object> entry : configuration.getOptions().entrySet()) {
-                    clientBootstrap.setOption(entry.getKey(), entry.getValue());
-                }
-            }*/
-
-            // set the pipeline factory, which creates the pipeline for each newly created channels
-            clientBootstrap.handler(pipelineFactory);
-            answer = clientBootstrap.connect(new InetSocketAddress(configuration.getHost(), configuration.getPort()));
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Created new TCP client bootstrap connecting to {}:{} with options: {}",
-                        new Object[]{configuration.getHost(), configuration.getPort(), clientBootstrap});
+                answer.channel(NioSocketChannel.class);
             }
-            return answer;
+            answer.option(ChannelOption.SO_KEEPALIVE, configuration.isKeepAlive());
+            answer.option(ChannelOption.TCP_NODELAY, configuration.isTcpNoDelay());
+            answer.option(ChannelOption.SO_REUSEADDR, configuration.isReuseAddress());
         } else {
-            // its okay to create a new bootstrap for each new channel
-            Bootstrap connectionlessClientBootstrap = new Bootstrap();
             if (configuration.isNativeTransport()) {
-                connectionlessClientBootstrap.channel(EpollDatagramChannel.class);
-            } else {
-                connectionlessClientBootstrap.channel(NioDatagramChannel.class);
-            }
-            connectionlessClientBootstrap.group(getWorkerGroup());
-            connectionlessClientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.getConnectTimeout());
-            connectionlessClientBootstrap.option(ChannelOption.SO_BROADCAST, configuration.isBroadcast());
-            connectionlessClientBootstrap.option(ChannelOption.SO_SNDBUF, configuration.getSendBufferSize());
-            connectionlessClientBootstrap.option(ChannelOption.SO_RCVBUF, configuration.getReceiveBufferSize());
-
-            //TODO need to check it later
-            // set any additional netty options
-            /*
-            if (configuration.getOptions() != null) {
-                for (Map.Entry<String, Object> entry : configuration.getOptions().entrySet()) {
-                    connectionlessClientBootstrap.setOption(entry.getKey(), entry.getValue());
-                }
-            }*/
-
-            // set the pipeline factory, which creates the pipeline for each newly created channels
-            connectionlessClientBootstrap.handler(pipelineFactory);
-           
-            // if udp connectionless sending is true we don't do a connect.
-            // we just send on the channel created with bind which means
-            // really fire and forget. You wont get an PortUnreachableException
-            // if no one is listen on the port
-            if (!configuration.isUdpConnectionlessSending()) {
-                answer = connectionlessClientBootstrap.connect(new InetSocketAddress(configuration.getHost(), configuration.getPort()));
+                answer.channel(EpollDatagramChannel.class);
             } else {
-                // bind and store channel so we can close it when stopping
-                answer = connectionlessClientBootstrap.bind(new InetSocketAddress(0)).sync();
-                Channel channel = answer.channel();
-                allChannels.add(channel);
-            }
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Created new UDP client bootstrap connecting to {}:{} with options: {}",
-                       new Object[]{configuration.getHost(), configuration.getPort(), connectionlessClientBootstrap});
+                answer.channel(NioDatagramChannel.class);
             }
-            return answer;
+            answer.option(ChannelOption.SO_BROADCAST, configuration.isBroadcast());
+            answer.option(ChannelOption.SO_SNDBUF, configuration.getSendBufferSize());
+            answer.option(ChannelOption.SO_RCVBUF, configuration.getReceiveBufferSize());
         }
+        return answer;
     }
 
-    protected void notifyChannelOpen(ChannelFuture channelFuture) throws Exception {
-        // blocking for channel to be done
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Channel open finished with {}", channelFuture);
-        }
+    /**
+     * Creates the {@link ChannelPool} for the given remote address.
+     */
+    protected ChannelPool createChannelPool(InetSocketAddress address) {
+        NettyProducerChannelPool pool = new NettyProducerChannelPool(bootstrap.clone().remoteAddress(address),
+                new NettyProducerChannelPoolHandler(), configuration);
+        channelPools.add(pool);
 
-        if (channelFuture.isSuccess()) {
-            Channel answer = channelFuture.channel();
-            // to keep track of all channels in use
-            allChannels.add(answer);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Created NettyProducer pool[address={}, maxActive={}, minIdle={}, maxIdle={}, minEvictableIdleTimeMillis={}, shared={}] -> {}",
+                    new Object[]{address, configuration.getProducerPoolMaxActive(), configuration.getProducerPoolMinIdle(), configuration.getProducerPoolMaxIdle(),
+                        configuration.getProducerPoolMinEvictableIdle(), !configuration.isProducerPoolEnabled(), pool});
+        }
 
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Creating connector to address: {}", configuration.getAddress());
-            }
+        // when the correlation manager supports pipelining the requests share a single channel, which is kept
+        // out of the pool until it is closed, so the pool never closes it while replies are outstanding
+        if (!configuration.isProducerPoolEnabled() || correlationManager.isPipelining()) {
+            return new SharedSingletonChannelPool(pool);
         }
+        return pool;
     }
 
-    protected void releaseChannel(ChannelFuture channelFuture) {
-        Channel channel = channelFuture.channel();
+    protected void releaseChannel(ChannelPool pool, Channel channel) {
+        LOG.trace("Putting channel back to pool {}", channel);
+        channelsInUse.decrementAndGet();
         try {
-            // Only put the connected channel back to the pool
-            if (channel.isActive()) {
-                LOG.trace("Putting channel back to pool {}", channel);
-                pool.returnObject(channelFuture);
-            } else {
-                // and if its not active then invalidate it
-                LOG.trace("Invalidating channel from pool {}", channel);
-                pool.invalidateObject(channelFuture);
-            }
+            // the pool will close and discard the channel if its no longer active
+            pool.release(channel);
         } catch (Exception e) {
             LOG.warn("Error returning channel to pool " + channel + ". This exception will be ignored.", e);
         }
@@ -531,16 +514,61 @@ public class NettyProducer extends DefaultAsyncProducer {
         return allChannels;
     }
 
+    /**
+     * Number of channels currently acquired from the pools
+     */
+    public int getChannelsInUse() {
+        return channelsInUse.get();
+    }
+
+    /**
+     * Number of idle channels in the pools
+     */
+    public int getChannelsIdle() {
+        int answer = 0;
+        for (NettyProducerChannelPool pool : channelPools) {
+            answer += pool.getIdleCount();
+        }
+        return answer;
+    }
+
+    /**
+     * Number of requests waiting to acquire a channel from the pools
+     */
+    public int getPendingAcquires() {
+        return pendingAcquires.get();
+    }
+
+    /**
+     * Total number of channels created by the pools
+     */
+    public long getChannelsCreated() {
+        return channelsCreated.get();
+    }
+
+    /**
+     * Total number of idle channels evicted from the pools
+     */
+    public long getChannelsEvicted() {
+        long answer = 0;
+        for (NettyProducerChannelPool pool : channelPools) {
+            answer += pool.getEvictedCount();
+        }
+        return answer;
+    }
+
     /**
      * Callback that ensures the channel is returned to the pool when we are done.
      */
     private final class NettyProducerCallback implements AsyncCallback {
 
-        private final ChannelFuture channelFuture;
+        private final ChannelPool pool;
+        private final Channel channel;
         private final AsyncCallback callback;
 
-        private NettyProducerCallback(ChannelFuture channelFuture, AsyncCallback callback) {
-            this.channelFuture = channelFuture;
+        private NettyProducerCallback(ChannelPool pool, Channel channel, AsyncCallback callback) {
+            this.pool = pool;
+            this.channel = channel;
             this.callback = callback;
         }
 
@@ -548,7 +576,7 @@ public class NettyProducer extends DefaultAsyncProducer {
         public void done(boolean doneSync) {
             // put back in pool
             try {
-                releaseChannel(channelFuture);
+                releaseChannel(pool, channel);
             } finally {
                 // ensure we call the delegated callback
                 callback.done(doneSync);
@@ -557,85 +585,51 @@ public class NettyProducer extends DefaultAsyncProducer {
     }
 
     /**
-     * Object factory to create {@link Channel} used by the pool.
+     * Handler invoked by the pools, which sets up the pipeline on newly created channels.
      */
-    private final class NettyProducerPoolableObjectFactory implements PoolableObjectFactory<ChannelFuture> {
-
-        @Override
-        public ChannelFuture makeObject() throws Exception {
-            ChannelFuture channelFuture = openConnection().addListener(new ChannelFutureListener() {
-                @Override
-                public void operationComplete(ChannelFuture future) throws Exception {
-                    notifyChannelOpen(future);
-                }
-            });
-            LOG.trace("Requested channel: {}", channelFuture);
-            return channelFuture;
-        }
+    private final class NettyProducerChannelPoolHandler implements ChannelPoolHandler {
 
         @Override
-        public void destroyObject(ChannelFuture channelFuture) throws Exception {
-            LOG.trace("Destroying channel request: {}", channelFuture);
-            channelFuture.addListener(new ChannelFutureListener() {
-                @Override
-                public void operationComplete(ChannelFuture future) throws Exception {
-                    Channel channel = future.channel();
-                    if (channel.isOpen()) {
-                        NettyHelper.close(channel);
-                    }
-                    allChannels.remove(channel);
-                }
-            });
-            channelFuture.cancel(false);
-        }
-
-        @Override
-        public boolean validateObject(ChannelFuture channelFuture) {
-            // we need a connecting or connected channel to be valid
-            if (!channelFuture.isDone()) {
-                LOG.trace("Validating connecting channel request: {} -> {}", channelFuture, true);
-                return true;
-            }
-            if (!channelFuture.isSuccess()) {
-                LOG.trace("Validating unsuccessful channel request: {} -> {}", channelFuture, false);
-                return false;
-            }
-            Channel channel = channelFuture.channel();
-            boolean answer = channel.isActive();
-            LOG.trace("Validating channel: {} -> {}", channel, answer);
-            return answer;
+        public void channelCreated(Channel channel) throws Exception {
+            LOG.trace("Created channel: {}", channel);
+            channelsCreated.incrementAndGet();
+            // set the pipeline factory, which creates the pipeline for the newly created channel
+            channel.pipeline().addLast(pipelineFactory);
+            // to keep track of all channels so we can close them when stopping
+            allChannels.add(channel);
         }
 
         @Override
-        public void activateObject(ChannelFuture channelFuture) throws Exception {
-            // noop
-            LOG.trace("activateObject channel request: {} -> {}", channelFuture);
+        public void channelAcquired(Channel channel) throws Exception {
+            LOG.trace("Acquired channel: {}", channel);
         }
 
         @Override
-        public void passivateObject(ChannelFuture channelFuture) throws Exception {
-            // noop
-            LOG.trace("passivateObject channel request: {} -> {}", channelFuture);
+        public void channelReleased(Channel channel) throws Exception {
+            LOG.trace("Released channel: {}", channel);
         }
     }
 
     /**
-     * Listener waiting for connection finished while processing exchange
+     * Listener waiting for a channel to be acquired from the pool while processing exchange
      */
-    private class ChannelConnectedListener implements ChannelFutureListener {
+    private class ChannelAcquiredListener implements FutureListener<Channel> {
         private final Exchange exchange;
         private final BodyReleaseCallback callback;
+        private final ChannelPool pool;
         private final Object body;
 
-        ChannelConnectedListener(Exchange exchange, BodyReleaseCallback callback, Object body) {
+        ChannelAcquiredListener(Exchange exchange, BodyReleaseCallback callback, ChannelPool pool, Object body) {
             this.exchange = exchange;
             this.callback = callback;
+            this.pool = pool;
             this.body = body;
         }
 
         @Override
-        public void operationComplete(ChannelFuture future) {
-            if (!future.isDone() || !future.isSuccess()) {
+        public void operationComplete(Future<Channel> future) {
+            pendingAcquires.decrementAndGet();
+            if (!future.isSuccess()) {
                 ConnectException cause = new ConnectException("Cannot connect to " + configuration.getAddress());
                 if (future.cause() != null) {
                     cause.initCause(future.cause());
@@ -645,9 +639,16 @@ public class NettyProducer extends DefaultAsyncProducer {
                 return;
             }
 
+            Channel channel = future.getNow();
+            channelsInUse.incrementAndGet();
+            LOG.trace("Got channel from pool {}", channel);
             try {
-                processWithConnectedChannel(exchange, callback, future, body);
+                processWithConnectedChannel(exchange, callback, pool, channel, body);
             } catch (Throwable e) {
+                // put the channel back in the pool, unless its released by the on completion when reusing the channel
+                if (exchange.getProperty(NettyConstants.NETTY_CHANNEL) != channel) {
+                    releaseChannel(pool, channel);
+                }
                 exchange.setException(e);
                 callback.done(false);
             }
@@ -0,0 +1,176 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.util.AttributeKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The channel pool used by {@link NettyProducer} for a single remote address.
+ * <p/>
+ * The pool is built on Netty's {@link FixedChannelPool} so acquiring and releasing channels do not take any locks,
+ * but run on the event loop. Idle channels are kept in last in, first out order, and are evicted by a task
+ * scheduled on the event loop of the channel itself, when they have been idle longer than the configured
+ * minimum evictable idle time. At most <tt>maxIdle</tt> idle channels are kept in the pool.
+ */
+public class NettyProducerChannelPool extends FixedChannelPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NettyProducerChannelPool.class);
+    private static final AttributeKey<Long> IDLE_SINCE = AttributeKey.valueOf("CamelNettyProducerIdleSince");
+    private static final AttributeKey<Boolean> TRACKED = AttributeKey.valueOf("CamelNettyProducerTracked");
+
+    private final boolean connectionless;
+    private final int minIdle;
+    private final int maxIdle;
+    private final long minEvictableIdle;
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public NettyProducerChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler, NettyConfiguration configuration) {
+        super(bootstrap, handler, ChannelHealthChecker.ACTIVE,
+                configuration.getProducerPoolMaxActive() > 0 ? AcquireTimeoutAction.FAIL : null,
+                configuration.getProducerPoolMaxActive() > 0 ? configuration.getConnectTimeout() : -1,
+                configuration.getProducerPoolMaxActive() > 0 ? configuration.getProducerPoolMaxActive() : Integer.MAX_VALUE,
+                Integer.MAX_VALUE, true);
+        this.connectionless = !configuration.getProtocol().equalsIgnoreCase("tcp") && configuration.isUdpConnectionlessSending();
+        this.minIdle = configuration.getProducerPoolMinIdle();
+        this.maxIdle = configuration.getProducerPoolMaxIdle();
+        this.minEvictableIdle = configuration.getProducerPoolMinEvictableIdle();
+    }
+
+    /**
+     * Number of idle channels in the pool
+     */
+    public int getIdleCount() {
+        return idle.get();
+    }
+
+    /**
+     * Number of idle channels which has been closed by the pool because they were idle for too long
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    @Override
+    protected ChannelFuture connectChannel(Bootstrap bs) {
+        if (connectionless) {
+            // if udp connectionless sending is true we don't do a connect.
+            // we just send on the channel created with bind which means
+            // really fire and forget. You wont get an PortUnreachableException
+            // if no one is listen on the port
+            return bs.bind(new InetSocketAddress(0));
+        }
+        return super.connectChannel(bs);
+    }
+
+    @Override
+    protected Channel pollChannel() {
+        Channel channel = super.pollChannel();
+        if (channel != null && channel.attr(IDLE_SINCE).getAndSet(null) != null) {
+            idle.decrementAndGet();
+        }
+        return channel;
+    }
+
+    @Override
+    protected boolean offerChannel(final Channel channel) {
+        if (idle.get() >= maxIdle) {
+            LOG.trace("Closing channel {} as the pool already has {} idle channels", channel, maxIdle);
+            return false;
+        }
+
+        // mark the channel as idle before its visible to other threads in the pool
+        channel.attr(IDLE_SINCE).set(System.currentTimeMillis());
+        idle.incrementAndGet();
+        if (!super.offerChannel(channel)) {
+            if (channel.attr(IDLE_SINCE).getAndSet(null) != null) {
+                idle.decrementAndGet();
+            }
+            return false;
+        }
+
+        if (channel.attr(TRACKED).setIfAbsent(Boolean.TRUE) == null) {
+            // idle channels which are closed should no longer count as idle
+            channel.closeFuture().addListener(new ChannelFutureListener() {
+                @Override
+                public void operationComplete(ChannelFuture future) throws Exception {
+                    if (channel.attr(IDLE_SINCE).getAndSet(null) != null) {
+                        idle.decrementAndGet();
+                    }
+                }
+            });
+            if (minEvictableIdle > 0) {
+                channel.eventLoop().schedule(new IdleEvictionTask(channel), minEvictableIdle, TimeUnit.MILLISECONDS);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Task running on the event loop of the channel, which closes the channel if it has been idle too long.
+     * The task reschedules itself for as long as the channel is open, so only one task exists per channel.
+     */
+    private final class IdleEvictionTask implements Runnable {
+
+        private final Channel channel;
+
+        private IdleEvictionTask(Channel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            if (!channel.isOpen()) {
+                return;
+            }
+
+            long delay = minEvictableIdle;
+            Long since = channel.attr(IDLE_SINCE).get();
+            if (since != null) {
+                long elapsed = System.currentTimeMillis() - since;
+                if (elapsed >= minEvictableIdle) {
+                    // only evict if the channel has not been acquired meanwhile
+                    if (idle.get() > minIdle && channel.attr(IDLE_SINCE).getAndSet(null) != null) {
+                        LOG.debug("Evicting channel {} which has been idle for {} millis", channel, elapsed);
+                        idle.decrementAndGet();
+                        evicted.incrementAndGet();
+                        NettyHelper.close(channel);
+                        return;
+                    }
+                } else {
+                    delay = minEvictableIdle - elapsed;
+                }
+            }
+            channel.eventLoop().schedule(this, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * A {@link ChannelPool} that uses a single shared channel.
+ * <p/>
+ * The channel is acquired from the given delegate pool the first time, and then handed out to every caller
+ * until the channel is no longer active, in which case the channel is released to the delegate pool
+ * and a new channel is acquired on the following call.
+ */
+public class SharedSingletonChannelPool implements ChannelPool {
+
+    private final ChannelPool delegate;
+    private final AtomicReference<Future<Channel>> shared = new AtomicReference<Future<Channel>>();
+
+    public SharedSingletonChannelPool(ChannelPool delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        while (true) {
+            Future<Channel> current = shared.get();
+            if (current != null && (!current.isDone() || (current.isSuccess() && current.getNow().isActive()))) {
+                return current;
+            }
+            Future<Channel> answer = delegate.acquire();
+            if (shared.compareAndSet(current, answer)) {
+                if (current != null && current.isSuccess()) {
+                    // give the old inactive channel back so the delegate pool can discard it
+                    delegate.release(current.getNow());
+                }
+                return answer;
+            }
+            // another thread acquired a channel in the meantime so give ours back
+            answer.addListener(new FutureListener<Channel>() {
+                @Override
+                public void operationComplete(Future<Channel> future) throws Exception {
+                    if (future.isSuccess()) {
+                        delegate.release(future.getNow());
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public Future<Channel> acquire(final Promise<Channel> promise) {
+        acquire().addListener(new FutureListener<Channel>() {
+            @Override
+            public void operationComplete(Future<Channel> future) throws Exception {
+                if (future.isSuccess()) {
+                    promise.trySuccess(future.getNow());
+                } else {
+                    promise.tryFailure(future.cause());
+                }
+            }
+        });
+        return promise;
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, channel.eventLoop().<Void>newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        if (channel.isActive()) {
+            // the channel is shared so keep it
+            return promise.setSuccess(null);
+        }
+        Future<Channel> current = shared.get();
+        if (current != null && current.isSuccess() && current.getNow() == channel && shared.compareAndSet(current, null)) {
+            return delegate.release(channel, promise);
+        }
+        return promise.setSuccess(null);
+    }
+
+    @Override
+    public void close() {
+        shared.set(null);
+        delegate.close();
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.netty4.handlers;
 
+import java.util.Collection;
+
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -42,6 +44,7 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
     private final NettyProducer producer;
     private volatile boolean messageReceived;
     private volatile boolean exceptionHandled;
+    private volatile NettyCamelState exceptionState;
 
     public ClientChannelHandler(NettyProducer producer) {
         this.producer = producer;
@@ -75,8 +78,10 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             LOG.debug("Closing channel as an exception was thrown from Netty", cause);
         }
 
-        Exchange exchange = getExchange(ctx);
-        AsyncCallback callback = getAsyncCallback(ctx);
+        NettyCamelState state = getState(ctx, cause);
+        Exchange exchange = state != null ? state.getExchange() : null;
+        AsyncCallback callback = state != null ? state.getCallback() : null;
+        exceptionState = state;
 
         // the state may not be set
         if (exchange != null && callback != null) {
@@ -102,36 +107,45 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             LOG.trace("Channel closed: {}", ctx.channel());
         }
 
-        Exchange exchange = getExchange(ctx);
-        AsyncCallback callback = getAsyncCallback(ctx);
-
-        // remove state
-        producer.removeState(ctx.channel());
+        // remove the states, as there can be many requests in flight when the correlation manager supports pipelining
+        Collection<NettyCamelState> states = producer.getCorrelationManager().removeStates(ctx, ctx.channel());
 
         // to keep track of open sockets
         producer.getAllChannels().remove(ctx.channel());
 
-        // this channel is maybe closing graceful and the exchange is already done
-        // and if so we should not trigger an exception
-        boolean doneUoW = exchange.getUnitOfWork() == null;
+        // a pipelining correlation manager removes the state when the reply is received,
+        // so any state which is left has not received a reply
+        boolean pipelining = producer.getCorrelationManager().isPipelining();
 
         NettyConfiguration configuration = producer.getConfiguration();
-        if (configuration.isSync() && !doneUoW && !messageReceived && !exceptionHandled) {
-            // To avoid call the callback.done twice
-            exceptionHandled = true;
-            // session was closed but no message received. This could be because the remote server had an internal error
-            // and could not return a response. We should count down to stop waiting for a response            
-            String address = configuration != null ? configuration.getAddress() : "";
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Channel closed but no message received from address: {}", address);
-            }
-            // don't fail the exchange if we actually specify to disconnect
-            if (!configuration.isDisconnect()) {
-                exchange.setException(new CamelExchangeException("No response received from remote server: " + address, exchange));
+        for (NettyCamelState state : states) {
+            Exchange exchange = state.getExchange();
+            AsyncCallback callback = state.getCallback();
+
+            // this channel is maybe closing graceful and the exchange is already done
+            // and if so we should not trigger an exception
+            boolean doneUoW = exchange == null || exchange.getUnitOfWork() == null;
+            boolean replied = !pipelining && messageReceived;
+            boolean handled = pipelining ? state == exceptionState : exceptionHandled;
+
+            if (configuration.isSync() && !doneUoW && !replied && !handled) {
+                // To avoid call the callback.done twice
+                exceptionHandled = true;
+                // session was closed but no message received. This could be because the remote server had an internal error
+                // and could not return a response. We should count down to stop waiting for a response
+                String address = configuration != null ? configuration.getAddress() : "";
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Channel closed but no message received from address: {}", address);
+                }
+                // don't fail the exchange if we actually specify to disconnect
+                if (!configuration.isDisconnect()) {
+                    exchange.setException(new CamelExchangeException("No response received from remote server: " + address, exchange));
+                }
+                // signal callback
+                callback.done(false);
             }
-            // signal callback
-            callback.done(false);
         }
+
         
         // make sure the event can be processed by other handlers
         super.channelInactive(ctx);
@@ -151,12 +165,13 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             ctx.pipeline().remove(handler);
         }
 
-        Exchange exchange = getExchange(ctx);
+        NettyCamelState state = getState(ctx, msg);
+        Exchange exchange = state != null ? state.getExchange() : null;
         if (exchange == null) {
             // we just ignore the received message as the channel is closed
             return;
         }
-        AsyncCallback callback = getAsyncCallback(ctx);
+        AsyncCallback callback = state.getCallback();
 
         Message message;
         try {
@@ -246,14 +261,12 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
         }
     }
 
-    private Exchange getExchange(ChannelHandlerContext ctx) {
-        NettyCamelState state = producer.getState(ctx.channel());
-        return state != null ? state.getExchange() : null;
+    private NettyCamelState getState(ChannelHandlerContext ctx, Object msg) {
+        return producer.getCorrelationManager().getState(ctx, ctx.channel(), msg);
     }
 
-    private AsyncCallback getAsyncCallback(ChannelHandlerContext ctx) {
-        NettyCamelState state = producer.getState(ctx.channel());
-        return state != null ? state.getCallback() : null;
+    private NettyCamelState getState(ChannelHandlerContext ctx, Throwable cause) {
+        return producer.getCorrelationManager().getState(ctx, ctx.channel(), cause);
     }
 
 }
@@ -0,0 +1,227 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.JndiRegistry;
+import org.junit.Test;
+
+public class NettyProducerChannelPoolTest extends BaseNettyTest {
+
+    private final MyCorrelationManager manager = new MyCorrelationManager();
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry jndi = super.createRegistry();
+        jndi.bind("myManager", manager);
+        return jndi;
+    }
+
+    @Test
+    public void testBoundedPool() throws Exception {
+        String uri = "netty4:tcp://localhost:{{port}}?textline=true&sync=true&producerPoolMaxActive=2";
+        List<String> replies = sendConcurrent(uri, 20);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i + ":Bye", replies.get(i));
+        }
+
+        NettyEndpoint endpoint = context.getEndpoint(uri, NettyEndpoint.class);
+        assertTrue("Should not create more than 2 channels", endpoint.getProducerChannelsCreated() <= 2);
+        assertEquals(0, endpoint.getProducerChannelsInUse());
+        assertEquals(0, endpoint.getProducerPendingAcquires());
+
+        // the channels are put back in the pool by the event loop
+        for (int i = 0; i < 50 && endpoint.getProducerChannelsIdle() == 0; i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(endpoint.getProducerChannelsIdle() > 0);
+    }
+
+    @Test
+    public void testIdleEviction() throws Exception {
+        String uri = "netty4:tcp://localhost:{{port}}?textline=true&sync=true&producerPoolMinEvictableIdle=200";
+        assertEquals("0:Bye", template.requestBody(uri, "0:Hello", String.class));
+
+        NettyEndpoint endpoint = context.getEndpoint(uri, NettyEndpoint.class);
+
+        // the channel should be evicted by the event loop
+        for (int i = 0; i < 50 && endpoint.getProducerChannelsEvicted() == 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(1, endpoint.getProducerChannelsEvicted());
+        assertEquals(0, endpoint.getProducerChannelsIdle());
+
+        // and a new channel is created on demand
+        assertEquals("1:Bye", template.requestBody(uri, "1:Hello", String.class));
+        assertEquals(2, endpoint.getProducerChannelsCreated());
+    }
+
+    @Test
+    public void testPipelining() throws Exception {
+        String uri = "netty4:tcp://localhost:{{port}}?textline=true&sync=true&producerPoolMaxActive=1&correlationManager=#myManager";
+        List<String> replies = sendConcurrent(uri, 20);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i + ":Bye", replies.get(i));
+        }
+
+        NettyEndpoint endpoint = context.getEndpoint(uri, NettyEndpoint.class);
+        assertEquals(1, endpoint.getProducerChannelsCreated());
+        assertEquals(0, endpoint.getProducerChannelsInUse());
+    }
+
+    @Test
+    public void testPipeliningChannelClosed() throws Exception {
+        final String uri = "netty4:tcp://localhost:{{port}}?textline=true&sync=true&correlationManager=#myManager";
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> futures = new ArrayList<Future<String>>();
+            for (int i = 1; i <= 3; i++) {
+                final int index = i;
+                futures.add(executor.submit(new Callable<String>() {
+                    public String call() throws Exception {
+                        return template.requestBody(uri, index + ":Wait", String.class);
+                    }
+                }));
+            }
+            // wait until all the requests are in flight on the shared channel
+            for (int i = 0; i < 50 && manager.states.size() < 3; i++) {
+                Thread.sleep(100);
+            }
+            assertEquals(3, manager.states.size());
+
+            // the server closes the channel after this reply, so all the requests waiting for a reply should fail
+            assertEquals("4:Bye", template.requestBody(uri, "4:Close", String.class));
+            for (Future<String> future : futures) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                    fail("Should have thrown an exception");
+                } catch (ExecutionException e) {
+                    assertIsInstanceOf(CamelExchangeException.class, e.getCause().getCause());
+                }
+            }
+            assertEquals(0, manager.states.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> sendConcurrent(final String uri, int count) throws Exception {
+        // send the first message upfront so the producer is created only once
+        List<String> answer = new ArrayList<String>();
+        answer.add(template.requestBody(uri, "0:Hello", String.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<String>> futures = new ArrayList<Future<String>>();
+            for (int i = 1; i < count; i++) {
+                final int index = i;
+                futures.add(executor.submit(new Callable<String>() {
+                    public String call() throws Exception {
+                        return template.requestBody(uri, index + ":Hello", String.class);
+                    }
+                }));
+            }
+            for (Future<String> future : futures) {
+                answer.add(future.get());
+            }
+            return answer;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("netty4:tcp://localhost:{{port}}?textline=true&sync=true&disconnectOnNoReply=false")
+                    .choice()
+                        .when(body().endsWith(":Wait"))
+                            // do not reply, so the request waits until the channel is closed
+                            .setBody(constant(null))
+                        .when(body().endsWith(":Close"))
+                            .setProperty(NettyConstants.NETTY_CLOSE_CHANNEL_WHEN_COMPLETE, constant(true))
+                            .transform(body().regexReplaceAll("Close", "Bye"))
+                        .otherwise()
+                            .transform(body().regexReplaceAll("Hello", "Bye"));
+            }
+        };
+    }
+
+    /**
+     * Correlates the replies by the id before the colon in the message.
+     */
+    private static final class MyCorrelationManager implements NettyCamelStateCorrelationManager {
+
+        private final Map<String, NettyCamelState> states = new ConcurrentHashMap<String, NettyCamelState>();
+
+        @Override
+        public boolean isPipelining() {
+            return true;
+        }
+
+        @Override
+        public void putState(Channel channel, NettyCamelState state) {
+            String body = state.getExchange().getIn().getBody(String.class);
+            states.put(body.substring(0, body.indexOf(':')), state);
+        }
+
+        @Override
+        public void removeState(ChannelHandlerContext ctx, Channel channel) {
+            // noop
+        }
+
+        @Override
+        public Collection<NettyCamelState> removeStates(ChannelHandlerContext ctx, Channel channel) {
+            // all the requests are sent on the same channel
+            List<NettyCamelState> answer = new ArrayList<NettyCamelState>(states.values());
+            states.clear();
+            return answer;
+        }
+
+        @Override
+        public NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Object msg) {
+            if (msg == null) {
+                return null;
+            }
+            String body = msg.toString();
+            return states.remove(body.substring(0, body.indexOf(':')));
+        }
+
+        @Override
+        public NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Throwable cause) {
+            return null;
+        }
+    }
+}
@@ -16,12 +16,12 @@
  */
 package org.apache.camel.opentracing;
 
-import java.net.URI;
 import java.util.EventObject;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import io.opentracing.Span;
 import io.opentracing.Tracer;
@@ -36,6 +36,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.Route;
 import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.management.event.ExchangeSendingEvent;
 import org.apache.camel.management.event.ExchangeSentEvent;
@@ -60,6 +61,10 @@ import org.slf4j.LoggerFactory;
  * This class is implemented as both an {@link org.apache.camel.spi.EventNotifier} and {@link RoutePolicy} that allows
  * to trap when Camel starts/ends an {@link Exchange} being routed using the {@link RoutePolicy} and during the routing
  * if the {@link Exchange} sends messages, then we track them using the {@link org.apache.camel.spi.EventNotifier}.
+ * <p/>
+ * Whether an {@link Exchange} is traced is decided once, when the exchange is first seen by this tracer, according
+ * to the configured rate. Exchanges which continue a trace from an incoming span context are always traced. Exchanges
+ * which are not sampled skip all the tracing work for the rest of their routing.
  */
 @ManagedResource(description = "OpenTracingTracer")
 public class OpenTracingTracer extends ServiceSupport implements RoutePolicyFactory, StaticService, CamelContextAware {
@@ -67,6 +72,7 @@ public class OpenTracingTracer extends ServiceSupport implements RoutePolicyFact
     private static final Logger LOG = LoggerFactory.getLogger(OpenTracingTracer.class);
 
     private static final String MANAGED_SPAN_PROPERTY = "ManagedSpan";
+    private static final String SAMPLED_PROPERTY = "CamelOpenTracingSampled";
 
     private static Map<String, SpanDecorator> decorators = new HashMap<>();
 
@@ -74,6 +80,7 @@ public class OpenTracingTracer extends ServiceSupport implements RoutePolicyFact
     private final CamelSpanManager spanManager = CamelSpanManager.getInstance();
     private Tracer tracer;
     private CamelContext camelContext;
+    private float rate = 1.0f;
 
     static {
         ServiceLoader.load(SpanDecorator.class).forEach(d -> {
@@ -134,6 +141,23 @@ public class OpenTracingTracer extends ServiceSupport implements RoutePolicyFact
         this.tracer = tracer;
     }
 
+    @ManagedAttribute(description = "Rates how many exchanges should be traced. The rate is expressed as a percentage (1.0f = 100%, 0.5f is 50%, 0.1f is 10%).")
+    public float getRate() {
+        return rate;
+    }
+
+    /**
+     * Configures a rate that decides how many exchanges should be traced, which is decided when the exchange
+     * is first seen by this tracer, such as at the beginning of a route.
+     * The rate is expressed as a percentage (1.0f = 100%, 0.5f is 50%, 0.1f is 10%).
+     * <p/>
+     * Exchanges which continue a trace from an incoming span context are always traced.
+     */
+    @ManagedAttribute(description = "Rates how many exchanges should be traced. The rate is expressed as a percentage (1.0f = 100%, 0.5f is 50%, 0.1f is 10%).")
+    public void setRate(float rate) {
+        this.rate = rate;
+    }
+
     @Override
     protected void doStart() throws Exception {
         ObjectHelper.notNull(camelContext, "CamelContext", this);
@@ -169,19 +193,50 @@ public class OpenTracingTracer extends ServiceSupport implements RoutePolicyFact
     }
 
     protected SpanDecorator getSpanDecorator(Endpoint endpoint) {
-        SpanDecorator sd = decorators.get(URI.create(endpoint.getEndpointUri()).getScheme());
+        // the scheme is the part of the uri before the first colon
+        String uri = endpoint.getEndpointUri();
+        int idx = uri.indexOf(':');
+        SpanDecorator sd = decorators.get(idx > 0 ? uri.substring(0, idx) : uri);
         if (sd == null) {
             return SpanDecorator.DEFAULT;
         }
         return sd;
     }
 
+    /**
+     * Whether the exchange should be traced, which is decided the first time the exchange is seen and then
+     * remembered on the exchange, so sub routes and copies of the exchange follow the same decision.
+     */
+    private boolean isSampled(Exchange exchange) {
+        Object sampled = exchange.getProperty(SAMPLED_PROPERTY);
+        if (sampled == null) {
+            sampled = rate >= 1.0f || ThreadLocalRandom.current().nextFloat() < rate
+                || tracer.extract(Format.Builtin.TEXT_MAP, new CamelHeadersExtractAdapter(exchange.getIn().getHeaders())) != null;
+            exchange.setProperty(SAMPLED_PROPERTY, sampled);
+        }
+        return (Boolean) sampled;
+    }
+
     private final class OpenTracingEventNotifier extends EventNotifierSupport {
 
+        OpenTracingEventNotifier() {
+            // only the sending and sent events are in use, so avoid Camel creating the other events
+            setIgnoreCamelContextEvents(true);
+            setIgnoreRouteEvents(true);
+            setIgnoreServiceEvents(true);
+            setIgnoreExchangeCreatedEvent(true);
+            setIgnoreExchangeCompletedEvent(true);
+            setIgnoreExchangeFailedEvents(true);
+            setIgnoreExchangeRedeliveryEvents(true);
+        }
+
         @Override
         public void notify(EventObject event) throws Exception {
             if (event instanceof ExchangeSendingEvent) {
                 ExchangeSendingEvent ese = (ExchangeSendingEvent) event;
+                if (!isSampled(ese.getExchange())) {
+                    return;
+                }
                 SpanManager.ManagedSpan parent = spanManager.current();
                 SpanDecorator sd = getSpanDecorator(ese.getEndpoint());
                 SpanBuilder spanBuilder = tracer.buildSpan(sd.getOperationName(ese.getExchange(), ese.getEndpoint()))
@@ -201,6 +256,9 @@ public class OpenTracingTracer extends ServiceSupport implements RoutePolicyFact
                 }
             } else if (event instanceof ExchangeSentEvent) {
                 ExchangeSentEvent ese = (ExchangeSentEvent) event;
+                if (!isSampled(ese.getExchange())) {
+                    return;
+                }
                 SpanManager.ManagedSpan managedSpan = (SpanManager.ManagedSpan)
                         ese.getExchange().getProperty(MANAGED_SPAN_PROPERTY);
                 if (managedSpan != null) {
@@ -238,6 +296,10 @@ public class OpenTracingTracer extends ServiceSupport implements RoutePolicyFact
 
         @Override
         public void onExchangeBegin(Route route, Exchange exchange) {
+            if (!isSampled(exchange)) {
+                return;
+            }
+
             // Check if continuing exchange on same thread
             if (exchange.getProperties().containsKey(MANAGED_SPAN_PROPERTY)) {
                 spanManager.activate((SpanManager.ManagedSpan)exchange.getProperty(MANAGED_SPAN_PROPERTY));
@@ -258,6 +320,9 @@ public class OpenTracingTracer extends ServiceSupport implements RoutePolicyFact
 
         @Override
         public void onExchangeDone(Route route, Exchange exchange) {
+            if (!isSampled(exchange)) {
+                return;
+            }
             SpanManager.ManagedSpan managedSpan = spanManager.current();
             if (managedSpan.getSpan() != null) {
                 if (LOG.isTraceEnabled()) {
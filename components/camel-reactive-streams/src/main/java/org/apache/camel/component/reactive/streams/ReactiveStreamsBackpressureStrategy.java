@@ -37,13 +37,27 @@ public enum ReactiveStreamsBackpressureStrategy {
         }
     },
 
+    /**
+     * Buffers onNext values like {@link #BUFFER}, but when the buffer size of a subscriber is reached, the route
+     * sending the values is suspended until the subscriber has consumed half of its buffer.
+     * <p/>
+     * This pushes backpressure upstream to the consumer of the route, instead of growing the buffer.
+     */
+    SUSPEND {
+        @Override
+        public <T> Collection<T> update(Deque<T> buffer, T element) {
+            buffer.addLast(element);
+            return Collections.emptySet();
+        }
+    },
+
     /**
      * Drops the most recent onNext value if the downstream can't keep up.
      */
     DROP {
         @Override
         public <T> Collection<T> update(Deque<T> buffer, T element) {
-            if (buffer.size() > 0) {
+            if (!buffer.isEmpty()) {
                 return Arrays.asList(element);
             } else {
                 buffer.addLast(element);
@@ -60,8 +74,10 @@ public enum ReactiveStreamsBackpressureStrategy {
         @Override
         public <T> Collection<T> update(Deque<T> buffer, T element) {
             Collection<T> discarded = Collections.emptySet();
-            if (buffer.size() > 0) {
-                discarded = Arrays.asList(buffer.removeFirst());
+            // the buffer may be drained concurrently
+            T oldest = buffer.pollFirst();
+            if (oldest != null) {
+                discarded = Arrays.asList(oldest);
             }
 
             buffer.addLast(element);
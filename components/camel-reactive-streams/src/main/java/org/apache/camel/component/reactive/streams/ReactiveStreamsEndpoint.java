@@ -52,6 +52,9 @@ public class ReactiveStreamsEndpoint extends DefaultEndpoint {
     @UriParam(label = "producer")
     private ReactiveStreamsBackpressureStrategy backpressureStrategy;
 
+    @UriParam(label = "producer")
+    private Integer bufferSize;
+
     public ReactiveStreamsEndpoint(String endpointUri, ReactiveStreamsComponent component) {
         super(endpointUri, component);
     }
@@ -128,6 +131,19 @@ public class ReactiveStreamsEndpoint extends DefaultEndpoint {
         this.backpressureStrategy = backpressureStrategy;
     }
 
+    public Integer getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Maximum number of exchanges to buffer for each subscriber. When the buffer of a slow subscriber is full
+     * the exchange fails, unless the SUSPEND backpressure strategy is used, which suspends the route instead.
+     * By default the buffer is unbounded.
+     */
+    public void setBufferSize(Integer bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
     public boolean isForwardOnComplete() {
         return forwardOnComplete;
     }
@@ -16,21 +16,27 @@
  */
 package org.apache.camel.component.reactive.streams.engine;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
 import org.apache.camel.Exchange;
+import org.apache.camel.Route;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsBackpressureStrategy;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsComponent;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsEndpoint;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsProducer;
 import org.apache.camel.component.reactive.streams.api.DispatchCallback;
+import org.apache.camel.util.ServiceHelper;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.slf4j.Logger;
@@ -49,6 +55,13 @@ public class CamelPublisher implements Publisher<StreamPayload<Exchange>>, AutoC
 
     private ReactiveStreamsBackpressureStrategy backpressureStrategy;
 
+    private int bufferSize = Integer.MAX_VALUE;
+
+    /**
+     * The consumers of the routes suspended by the {@link ReactiveStreamsBackpressureStrategy#SUSPEND} strategy.
+     */
+    private Set<Consumer> suspendedConsumers = ConcurrentHashMap.newKeySet();
+
     private List<CamelSubscription> subscriptions = new CopyOnWriteArrayList<>();
 
     private ReactiveStreamsProducer producer;
@@ -63,12 +76,14 @@ public class CamelPublisher implements Publisher<StreamPayload<Exchange>>, AutoC
     public void subscribe(Subscriber<? super StreamPayload<Exchange>> subscriber) {
         Objects.requireNonNull(subscriber, "subscriber must not be null");
         CamelSubscription sub = new CamelSubscription(workerPool, this, this.backpressureStrategy, subscriber);
+        sub.setBufferSize(bufferSize);
         this.subscriptions.add(sub);
         subscriber.onSubscribe(sub);
     }
 
     public void unsubscribe(CamelSubscription subscription) {
         subscriptions.remove(subscription);
+        onBufferDrained();
     }
 
     public void publish(StreamPayload<Exchange> data) {
@@ -94,8 +109,12 @@ public class CamelPublisher implements Publisher<StreamPayload<Exchange>>, AutoC
         if (subs.size() > 0) {
             LOG.debug("Exchange published to {} subscriptions for the stream {}: {}", subs.size(), name, data.getItem());
             // at least one subscriber
+            boolean full = false;
             for (CamelSubscription sub : subs) {
-                sub.publish(data);
+                full |= sub.publish(data);
+            }
+            if (full && backpressureStrategy == ReactiveStreamsBackpressureStrategy.SUSPEND) {
+                suspend(data.getItem());
             }
         } else {
             data.getCallback().processed(data.getItem(), new IllegalStateException("The stream has no active subscriptions"));
@@ -103,6 +122,64 @@ public class CamelPublisher implements Publisher<StreamPayload<Exchange>>, AutoC
     }
 
 
+    /**
+     * Suspends the route which sent the exchange, as a subscriber is too slow.
+     */
+    private void suspend(Exchange exchange) {
+        Route route = exchange.getFromRouteId() != null ? exchange.getContext().getRoute(exchange.getFromRouteId()) : null;
+        if (route == null || route.getConsumer() == null) {
+            return;
+        }
+
+        Consumer consumer = route.getConsumer();
+        synchronized (suspendedConsumers) {
+            // the subscribers may have caught up meanwhile
+            if (!isAnyBufferAbove(bufferSize - 1) || suspendedConsumers.contains(consumer)) {
+                return;
+            }
+            try {
+                if (ServiceHelper.suspendService(consumer)) {
+                    LOG.debug("Suspended consumer {} of route {} as a subscriber of the stream {} has {} buffered exchanges", consumer, route.getId(), name, bufferSize);
+                    suspendedConsumers.add(consumer);
+                }
+            } catch (Exception e) {
+                LOG.warn("Error suspending consumer " + consumer + " of route " + route.getId() + ". This exception is ignored.", e);
+            }
+        }
+    }
+
+    /**
+     * Called when exchanges have been taken from the buffer of a subscription, to resume the suspended routes
+     * once all the subscribers have consumed at least half of their buffer.
+     */
+    void onBufferDrained() {
+        // always take the lock, as a consumer may be in the middle of being suspended
+        synchronized (suspendedConsumers) {
+            if (isAnyBufferAbove(bufferSize / 2)) {
+                return;
+            }
+            for (Consumer consumer : new ArrayList<>(suspendedConsumers)) {
+                suspendedConsumers.remove(consumer);
+                try {
+                    if (ServiceHelper.resumeService(consumer)) {
+                        LOG.debug("Resumed consumer {} as the subscribers of the stream {} have caught up", consumer, name);
+                    }
+                } catch (Exception e) {
+                    LOG.warn("Error resuming consumer " + consumer + ". This exception is ignored.", e);
+                }
+            }
+        }
+    }
+
+    private boolean isAnyBufferAbove(int size) {
+        for (CamelSubscription sub : subscriptions) {
+            if (sub.getBufferedCount() > size) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void attachProducer(ReactiveStreamsProducer producer) {
         Objects.requireNonNull(producer, "producer cannot be null, use the detach method");
         if (this.producer != null) {
@@ -118,10 +195,18 @@ public class CamelPublisher implements Publisher<StreamPayload<Exchange>>, AutoC
                 sub.setBackpressureStrategy(endpoint.getBackpressureStrategy());
             }
         }
+        if (endpoint.getBufferSize() != null && endpoint.getBufferSize() > 0) {
+            this.bufferSize = endpoint.getBufferSize();
+            for (CamelSubscription sub : this.subscriptions) {
+                sub.setBufferSize(this.bufferSize);
+            }
+        }
     }
 
     public void detachProducer() {
         this.producer = null;
+        // the route is stopping so the suspended consumers are stopped with it
+        suspendedConsumers.clear();
     }
 
     @Override
@@ -134,7 +134,10 @@ public class CamelSubscriber implements Subscriber<Exchange>, Closeable {
                 Integer consMax = consumer.getEndpoint().getMaxInflightExchanges();
                 long max = (consMax != null && consMax > 0) ? consMax.longValue() : MAX_INFLIGHT_UNBOUNDED;
                 long newRequest = max - requested - inflightCount;
-                if (newRequest > 0) {
+                // request in batches of a quarter of the max, instead of one by one as exchanges complete,
+                // but always when nothing is outstanding so the stream can't stall
+                long batch = Math.max(1, max / 4);
+                if (newRequest > 0 && (newRequest >= batch || requested == 0)) {
                     toBeRequested = newRequest;
                     requested += toBeRequested;
                     subs = this.subscription;
@@ -17,12 +17,10 @@
 package org.apache.camel.component.reactive.streams.engine;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -36,6 +34,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Represents a contract between a Camel published and an external subscriber.
  * It manages backpressure in order to deal with slow subscribers.
+ * <p/>
+ * Items are kept in a lock-free queue, which can be bounded by a buffer size, and are delivered to the
+ * subscriber by a single task which drains as many items as requested, instead of a task per item.
  */
 public class CamelSubscription implements Subscription {
 
@@ -45,37 +46,45 @@ public class CamelSubscription implements Subscription {
 
     private CamelPublisher publisher;
 
-    private ReactiveStreamsBackpressureStrategy backpressureStrategy;
+    private volatile ReactiveStreamsBackpressureStrategy backpressureStrategy;
+
+    private volatile int bufferSize = Integer.MAX_VALUE;
 
     private Subscriber<? super StreamPayload<Exchange>> subscriber;
 
     /**
-     * The lock is used just for the time necessary to read/write shared variables.
+     * The lock is used just to let the backpressure strategy update the buffer atomically.
+     * Items are taken from the buffer without locking.
      */
-    private Lock mutex = new ReentrantLock(true);
+    private Lock mutex = new ReentrantLock();
+
+    private ConcurrentLinkedDeque<StreamPayload<Exchange>> buffer = new ConcurrentLinkedDeque<>();
 
-    private LinkedList<StreamPayload<Exchange>> buffer = new LinkedList<>();
+    /**
+     * The number of items in the buffer, as the size of the queue is not a constant-time operation.
+     */
+    private AtomicInteger buffered = new AtomicInteger();
 
     /**
      * The current number of exchanges requested by the subscriber.
      */
-    private long requested;
+    private AtomicLong requested = new AtomicLong();
 
     /**
-     * Indicates that a cancel operation is to be performed.
+     * The number of times a drain has been requested while a task is draining the buffer.
+     * Items must be sent downstream by a single thread for each subscription.
      */
-    private boolean terminating;
+    private AtomicInteger wip = new AtomicInteger();
 
     /**
-     * Indicates that the subscription is end.
+     * Indicates that a cancel operation is to be performed.
      */
-    private boolean terminated;
+    private volatile boolean terminating;
 
     /**
-     * Indicates that a thread is currently sending items downstream.
-     * Items must be sent downstream by a single thread for each subscription.
+     * Indicates that the subscription is end.
      */
-    private boolean sending;
+    private volatile boolean terminated;
 
 
     public CamelSubscription(ExecutorService workerPool, CamelPublisher publisher, ReactiveStreamsBackpressureStrategy backpressureStrategy, Subscriber<? super StreamPayload<Exchange>> subscriber) {
@@ -90,101 +99,71 @@ public class CamelSubscription implements Subscription {
         LOG.debug("Requested {} events from subscriber", l);
         if (l <= 0) {
             // wrong argument
-            mutex.lock();
             terminated = true;
-            mutex.unlock();
 
             publisher.unsubscribe(this);
             subscriber.onError(new IllegalArgumentException("3.9"));
         } else {
-            mutex.lock();
-            requested += l;
-            mutex.unlock();
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + l;
+                if (next < 0) {
+                    // overflow means unbounded
+                    next = Long.MAX_VALUE;
+                }
+            } while (!requested.compareAndSet(current, next));
 
             checkAndFlush();
         }
     }
 
     protected void checkAndFlush() {
-        mutex.lock();
-        boolean shouldFlush = !terminated && !sending && requested > 0 && buffer.size() > 0;
-        if (shouldFlush) {
-            sending = true;
-        }
-        mutex.unlock();
-
-        if (shouldFlush) {
-            workerPool.execute(() -> {
-
-                this.flush();
-
-                mutex.lock();
-                sending = false;
-                mutex.unlock();
-
-                // try again to flush
-                checkAndFlush();
-            });
-        } else {
-            mutex.lock();
-            boolean shouldComplete = terminating && !terminated;
-            if (shouldComplete) {
-                terminated = true;
-            }
-            mutex.unlock();
-
-            if (shouldComplete) {
-                this.publisher.unsubscribe(this);
-                this.subscriber.onComplete();
-                discardBuffer(this.buffer);
-            }
+        boolean shouldFlush = !terminated && (terminating || (requested.get() > 0 && buffered.get() > 0));
+        if (shouldFlush && wip.getAndIncrement() == 0) {
+            workerPool.execute(this::flush);
         }
     }
 
     protected void flush() {
-        LinkedList<StreamPayload<Exchange>> sendingQueue = null;
-        try {
-            mutex.lock();
-
-            if (this.terminated) {
-                return;
-            }
-
-            int amount = (int) Math.min(requested, (long) buffer.size());
-            if (amount > 0) {
-                this.requested -= amount;
-                sendingQueue = new LinkedList<>();
-                while (amount > 0) {
-                    sendingQueue.add(buffer.removeFirst());
-                    amount--;
+        int missed = 1;
+        while (true) {
+            long amount = requested.get();
+            long sent = 0;
+            while (sent < amount && !terminated) {
+                StreamPayload<Exchange> data = buffer.poll();
+                if (data == null) {
+                    break;
                 }
-            }
-
-        } finally {
-            mutex.unlock();
-        }
-
-        if (sendingQueue != null) {
-            LOG.debug("Sending {} events to the subscriber", sendingQueue.size());
-            for (StreamPayload<Exchange> data : sendingQueue) {
+                buffered.decrementAndGet();
                 // TODO what if the subscriber throws an exception?
                 this.subscriber.onNext(data);
+                sent++;
+            }
+
+            if (sent > 0) {
+                LOG.debug("Sent {} events to the subscriber", sent);
+                requested.addAndGet(-sent);
+                publisher.onBufferDrained();
+            }
 
-                mutex.lock();
-                boolean shouldStop = this.terminated;
-                mutex.unlock();
+            if (terminating && !terminated && (buffered.get() == 0 || requested.get() == 0)) {
+                terminated = true;
+                this.publisher.unsubscribe(this);
+                this.subscriber.onComplete();
+                discardBuffer();
+            }
 
-                if (shouldStop) {
-                    break;
-                }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
             }
         }
     }
 
     public void signalCompletion() throws Exception {
-        mutex.lock();
         terminating = true;
-        mutex.unlock();
 
         checkAndFlush();
     }
@@ -193,55 +172,70 @@ public class CamelSubscription implements Subscription {
     public void cancel() {
         publisher.unsubscribe(this);
 
-        mutex.lock();
         this.terminated = true;
-        List<StreamPayload<Exchange>> bufferCopy = new LinkedList<>(buffer);
-        this.buffer.clear();
-        mutex.unlock();
-
-        discardBuffer(bufferCopy);
+        discardBuffer();
     }
 
-    protected void discardBuffer(List<StreamPayload<Exchange>> remaining) {
-        for (StreamPayload<Exchange> data : remaining) {
+    protected void discardBuffer() {
+        StreamPayload<Exchange> data;
+        while ((data = buffer.poll()) != null) {
+            buffered.decrementAndGet();
             data.getCallback().processed(data.getItem(), new IllegalStateException("Cannot process the exchange " + data.getItem() + ": subscription cancelled"));
         }
     }
 
-    public void publish(StreamPayload<Exchange> message) {
-        Map<StreamPayload<Exchange>, String> discardedMessages = null;
+    /**
+     * Adds the message to the buffer of the subscription.
+     *
+     * @return <tt>true</tt> if the buffer has reached the buffer size
+     */
+    public boolean publish(StreamPayload<Exchange> message) {
+        Collection<StreamPayload<Exchange>> discarded = null;
+        String reason = null;
+        boolean full = false;
+        mutex.lock();
         try {
-            mutex.lock();
-            if (!this.terminating && !this.terminated) {
-                Collection<StreamPayload<Exchange>> discarded = this.backpressureStrategy.update(buffer, message);
-                if (discarded.iterator().hasNext()) {
-                    discardedMessages = new HashMap<>();
-                    for (StreamPayload<Exchange> ex : discarded) {
-                        discardedMessages.put(ex, "Exchange " + ex.getItem() + " discarded by backpressure strategy " + this.backpressureStrategy);
-                    }
-                }
+            if (this.terminating || this.terminated) {
+                reason = "subscription closed";
+            } else if (buffered.get() >= bufferSize && backpressureStrategy != ReactiveStreamsBackpressureStrategy.SUSPEND) {
+                reason = "buffer is full (" + bufferSize + " exchanges)";
             } else {
-                // acknowledge
-                discardedMessages = Collections.singletonMap(message, "Exchange " + message.getItem() + " discarded: subscription closed");
+                discarded = this.backpressureStrategy.update(buffer, message);
+                int size = buffered.addAndGet(1 - discarded.size());
+                full = size >= bufferSize;
             }
         } finally {
             mutex.unlock();
         }
 
         // discarding outside of mutex scope
-        if (discardedMessages != null) {
-            for (Map.Entry<StreamPayload<Exchange>, String> discarded : discardedMessages.entrySet()) {
-                StreamPayload<Exchange> m = discarded.getKey();
-                m.getCallback().processed(m.getItem(), new IllegalStateException(discarded.getValue()));
+        if (reason != null) {
+            message.getCallback().processed(message.getItem(), new IllegalStateException("Exchange " + message.getItem() + " discarded: " + reason));
+        } else {
+            for (StreamPayload<Exchange> m : discarded) {
+                m.getCallback().processed(m.getItem(), new IllegalStateException("Exchange " + m.getItem() + " discarded by backpressure strategy " + this.backpressureStrategy));
             }
         }
 
         checkAndFlush();
+        return full;
+    }
+
+    /**
+     * The number of exchanges waiting to be delivered to the subscriber.
+     */
+    public int getBufferedCount() {
+        return buffered.get();
     }
 
     public void setBackpressureStrategy(ReactiveStreamsBackpressureStrategy backpressureStrategy) {
-        mutex.lock();
         this.backpressureStrategy = backpressureStrategy;
-        mutex.unlock();
+    }
+
+    /**
+     * Sets the maximum number of exchanges to buffer, use {@link Integer#MAX_VALUE} for an unbounded buffer.
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
     }
 }
@@ -0,0 +1,222 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.reactive.streams;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.StatefulService;
+import org.apache.camel.Suspendable;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.reactive.streams.api.CamelReactiveStreams;
+import org.apache.camel.component.reactive.streams.support.TestSubscriber;
+import org.apache.camel.impl.DefaultConsumer;
+import org.apache.camel.impl.DefaultEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+public class BackpressureSuspendStrategyTest extends CamelTestSupport {
+
+    @Test
+    public void testSuspendStrategySuspendsRoute() throws Exception {
+
+        new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:tick?period=20&repeatCount=35")
+                        .id("suspend-route")
+                        .setBody().header(Exchange.TIMER_COUNTER)
+                        .to("reactive-streams:pub?backpressureStrategy=SUSPEND&bufferSize=10");
+            }
+        }.addRoutesToCamelContext(context);
+
+        CountDownLatch receptionLatch = new CountDownLatch(35);
+
+        Publisher<Integer> pub = CamelReactiveStreams.get(context()).fromStream("pub", Integer.class);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+            @Override
+            public void onNext(Integer o) {
+                super.onNext(o);
+                receptionLatch.countDown();
+            }
+        };
+        subscriber.setInitiallyRequested(5);
+        pub.subscribe(subscriber);
+
+        context.start();
+
+        // 5 exchanges are delivered and the buffer gets full with the next 10
+        StatefulService service = (StatefulService) context().getRoute("suspend-route").getConsumer();
+        for (int i = 0; i < 50 && !service.isSuspended(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(service.isStopped() || service.isSuspended());
+        assertEquals(30, receptionLatch.getCount());
+
+        // consuming the buffer resumes the route
+        subscriber.request(30);
+        assertTrue(receptionLatch.await(5, TimeUnit.SECONDS));
+        assertTrue(service.isStarted());
+    }
+
+    @Test
+    public void testBufferDrainedWhileSuspending() throws Exception {
+        CountDownLatch suspending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SlowSuspendEndpoint endpoint = new SlowSuspendEndpoint(suspending, release);
+        endpoint.setCamelContext(context);
+        context.addEndpoint("slow-suspend:start", endpoint);
+
+        new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("slow-suspend:start")
+                        .id("slow-suspend-route")
+                        .to("reactive-streams:pub?backpressureStrategy=SUSPEND&bufferSize=2");
+            }
+        }.addRoutesToCamelContext(context);
+
+        CountDownLatch receptionLatch = new CountDownLatch(2);
+        Publisher<Integer> pub = CamelReactiveStreams.get(context()).fromStream("pub", Integer.class);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+            @Override
+            public void onNext(Integer o) {
+                super.onNext(o);
+                receptionLatch.countDown();
+            }
+        };
+        pub.subscribe(subscriber);
+
+        context.start();
+
+        // filling up the buffer suspends the consumer, which blocks until released
+        Thread sender = new Thread(() -> {
+            for (int i = 1; i <= 2; i++) {
+                Exchange exchange = endpoint.createExchange();
+                exchange.getIn().setBody(i);
+                endpoint.consumer.getAsyncProcessor().process(exchange, doneSync -> { });
+            }
+        });
+        sender.start();
+        assertTrue(suspending.await(5, TimeUnit.SECONDS));
+
+        // drain the buffer while the consumer is being suspended
+        subscriber.request(2);
+        assertTrue(receptionLatch.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        release.countDown();
+        sender.join(5000);
+
+        // the drained buffer must resume the consumer once it has been suspended
+        for (int i = 0; i < 50 && !endpoint.consumer.isStarted(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(endpoint.consumer.isStarted());
+    }
+
+    @Test
+    public void testBoundedBufferFailsExchanges() throws Exception {
+
+        AtomicInteger failed = new AtomicInteger();
+
+        new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                onException(IllegalStateException.class)
+                        .handled(true)
+                        .process(x -> failed.incrementAndGet());
+
+                from("timer:tick?period=10&repeatCount=20")
+                        .setBody().header(Exchange.TIMER_COUNTER)
+                        .to("reactive-streams:pub?bufferSize=5");
+            }
+        }.addRoutesToCamelContext(context);
+
+        Publisher<Integer> pub = CamelReactiveStreams.get(context()).fromStream("pub", Integer.class);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        pub.subscribe(subscriber);
+
+        context.start();
+
+        // nothing is requested, so only 5 exchanges fit in the buffer
+        for (int i = 0; i < 50 && failed.get() < 15; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(15, failed.get());
+
+        // cancelling discards the buffered exchanges
+        subscriber.cancel();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private static final class SlowSuspendEndpoint extends DefaultEndpoint {
+        private final CountDownLatch suspending;
+        private final CountDownLatch release;
+        private volatile SlowSuspendConsumer consumer;
+
+        SlowSuspendEndpoint(CountDownLatch suspending, CountDownLatch release) {
+            this.suspending = suspending;
+            this.release = release;
+        }
+
+        @Override
+        protected String createEndpointUri() {
+            return "slow-suspend:start";
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            consumer = new SlowSuspendConsumer(this, processor);
+            return consumer;
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return true;
+        }
+    }
+
+    private static final class SlowSuspendConsumer extends DefaultConsumer implements Suspendable {
+
+        SlowSuspendConsumer(SlowSuspendEndpoint endpoint, Processor processor) {
+            super(endpoint, processor);
+        }
+
+        @Override
+        protected void doSuspend() throws Exception {
+            SlowSuspendEndpoint endpoint = (SlowSuspendEndpoint) getEndpoint();
+            endpoint.suspending.countDown();
+            endpoint.release.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+}
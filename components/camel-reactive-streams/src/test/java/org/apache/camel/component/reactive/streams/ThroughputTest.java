@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.reactive.streams;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.reactive.streams.api.CamelReactiveStreams;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.junit.Test;
+
+/**
+ * Measures the throughput of publishing exchanges to a subscriber with the different backpressure strategies.
+ */
+public class ThroughputTest extends CamelTestSupport {
+
+    private static final int SIZE = 10000;
+
+    @Test
+    public void testBufferThroughput() throws Exception {
+        doTestThroughput("reactive-streams:numbers");
+    }
+
+    @Test
+    public void testSuspendThroughput() throws Exception {
+        doTestThroughput("reactive-streams:numbers?backpressureStrategy=SUSPEND&bufferSize=1024");
+    }
+
+    private void doTestThroughput(String uri) throws Exception {
+        new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:numbers?concurrentConsumers=4&size=" + SIZE)
+                        .to(uri);
+            }
+        }.addRoutesToCamelContext(context);
+
+        CountDownLatch latch = new CountDownLatch(SIZE);
+        Flowable.fromPublisher(CamelReactiveStreams.get(context).fromStream("numbers", Integer.class))
+                .subscribe(n -> latch.countDown());
+
+        context.start();
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < SIZE; i++) {
+            template.sendBody("seda:numbers", i);
+        }
+        assertTrue("Should receive all exchanges", latch.await(60, TimeUnit.SECONDS));
+
+        long taken = Math.max(1, watch.taken());
+        log.info("Published {} exchanges to {} in {} millis ({} exchanges/sec)", SIZE, uri, taken, SIZE * 1000L / taken);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+}
@@ -50,6 +50,17 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private boolean transacted;
     @UriParam(label = "producer", description = "Enables or disables batch mode")
     private boolean batch;
+    @UriParam(label = "producer", description = "If set greater than zero, then the producer accumulates incoming exchanges and executes them as a single JDBC batch"
+            + " in one transaction when this number of exchanges is pending, or when the batchTimeout has passed. A batch executed due to the timeout"
+            + " runs on a timer thread, outside of any transaction of the exchanges in the batch. This option is not in use when batch is enabled.")
+    private int batchSize;
+    @UriParam(label = "producer", defaultValue = "100", description = "The maximum time in millis an exchange waits for the batch to fill up, when using batchSize"
+            + " to accumulate exchanges. Must be greater than zero when batchSize is greater than one. Notice that exchanges which are sent one at a time,"
+            + " such as from a splitter without parallel processing, never fill up a batch, so each exchange waits the full batchTimeout.")
+    private long batchTimeout = 100;
+    @UriParam(label = "producer", description = "When batch is enabled and the message body is an iterator, then the statements are executed in JDBC batches"
+            + " of this size, so a large or streaming iterator is not held by the JDBC driver as one batch. By default all the statements are executed as one batch.")
+    private int batchChunkSize;
     @UriParam(label = "consumer", description = "Sets the maximum number of messages to poll")
     private int maxMessagesPerPoll;
     @UriParam(label = "consumer,advanced",
@@ -162,6 +173,44 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.batch = batch;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer accumulates incoming exchanges and executes them as a single JDBC batch
+     * in one transaction when this number of exchanges is pending, or when the batchTimeout has passed. A batch executed due to the timeout
+     * runs on a timer thread, outside of any transaction of the exchanges in the batch. This option is not in use when batch is enabled.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time in millis an exchange waits for the batch to fill up, when using batchSize to accumulate exchanges.
+     * Must be greater than zero when batchSize is greater than one. Notice that exchanges which are sent one at a time,
+     * such as from a splitter without parallel processing, never fill up a batch, so each exchange waits the full batchTimeout.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    public int getBatchChunkSize() {
+        return batchChunkSize;
+    }
+
+    /**
+     * When batch is enabled and the message body is an iterator, then the statements are executed in JDBC batches
+     * of this size, so a large or streaming iterator is not held by the JDBC driver as one batch. By default all the statements are executed as one batch.
+     */
+    public void setBatchChunkSize(int batchChunkSize) {
+        this.batchChunkSize = batchChunkSize;
+    }
+
     public int getMaxMessagesPerPoll() {
         return maxMessagesPerPoll;
     }
@@ -0,0 +1,352 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
+
+/**
+ * A producer which accumulates the incoming exchanges and executes them as a single JDBC batch in one
+ * transaction, when <tt>batchSize</tt> exchanges are pending or <tt>batchTimeout</tt> millis has passed
+ * since the first exchange was added to the batch.
+ * <p/>
+ * Each exchange is completed when its batch has been executed, with its own update count set in the
+ * {@link SqlConstants#SQL_UPDATE_COUNT} header, or with the exception if its statement failed. The statements
+ * which did not fail are committed, unless the batch failed as a whole and was rolled back, in which case
+ * every exchange of the batch fails.
+ * <p/>
+ * A full batch is executed by the thread of the exchange which filled it up, whereas a batch executed due to
+ * the timeout runs on the timeout executor, and therefore outside of any transaction the exchanges are part of.
+ * The other exchanges of the batch continue being routed by a thread pool, so the exchanges of a batch are
+ * not routed one by one by the thread which executed the batch.
+ */
+public class SqlBatchProducer extends DefaultAsyncProducer {
+    private final String query;
+    private String resolvedQuery;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean alwaysPopulateStatement;
+    private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
+    private final boolean useMessageBodyForSql;
+    private int parametersCount;
+    private final int batchSize;
+    private final long batchTimeout;
+
+    private final Object lock = new Object();
+    private Batch batch;
+    private ScheduledExecutorService timeoutExecutor;
+    private ExecutorService callbackExecutor;
+
+    public SqlBatchProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
+                            boolean alwaysPopulateStatement, boolean useMessageBodyForSql, int batchSize, long batchTimeout) {
+        super(endpoint);
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
+        this.query = query;
+        this.alwaysPopulateStatement = alwaysPopulateStatement;
+        this.useMessageBodyForSql = useMessageBodyForSql;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
+        resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+        if (batchTimeout > 0) {
+            timeoutExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "SqlBatchProducer");
+        }
+        callbackExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "SqlBatchProducerCallback");
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // execute what is pending before stopping
+        Batch pending;
+        synchronized (lock) {
+            pending = takeBatch();
+        }
+        if (pending != null) {
+            execute(pending, null);
+        }
+        if (timeoutExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(timeoutExecutor);
+            timeoutExecutor = null;
+        }
+        if (callbackExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(callbackExecutor);
+            callbackExecutor = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final String sql;
+        final String preparedQuery;
+        final Object value;
+        try {
+            if (useMessageBodyForSql) {
+                sql = exchange.getIn().getBody(String.class);
+                value = exchange.getIn().getHeader(SqlConstants.SQL_PARAMETERS);
+            } else {
+                String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+                sql = queryHeader != null ? queryHeader : resolvedQuery;
+                value = exchange.getIn().getBody();
+            }
+            preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        Batch other = null;
+        Batch full = null;
+        synchronized (lock) {
+            if (batch != null && !batch.preparedQuery.equals(preparedQuery)) {
+                // a batch can only hold statements of the same query
+                other = takeBatch();
+            }
+            if (batch == null) {
+                batch = new Batch(sql, preparedQuery);
+                if (timeoutExecutor != null) {
+                    final Batch scheduled = batch;
+                    batch.timeoutTask = timeoutExecutor.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            onTimeout(scheduled);
+                        }
+                    }, batchTimeout, TimeUnit.MILLISECONDS);
+                }
+            }
+            batch.entries.add(new Entry(exchange, callback, value));
+            if (batch.entries.size() >= batchSize) {
+                full = takeBatch();
+            }
+        }
+
+        if (other != null) {
+            execute(other, null);
+        }
+        if (full != null) {
+            // the current exchange is completed synchronously as part of the full batch
+            execute(full, exchange);
+            return true;
+        }
+        return false;
+    }
+
+    private void onTimeout(Batch scheduled) {
+        Batch pending = null;
+        synchronized (lock) {
+            if (batch == scheduled) {
+                pending = takeBatch();
+            }
+        }
+        if (pending != null) {
+            log.trace("Executing batch of {} statements due to timeout", pending.entries.size());
+            execute(pending, null);
+        }
+    }
+
+    /**
+     * Removes the pending batch, must be called while holding the lock.
+     */
+    private Batch takeBatch() {
+        Batch answer = batch;
+        batch = null;
+        if (answer != null && answer.timeoutTask != null) {
+            answer.timeoutTask.cancel(false);
+        }
+        return answer;
+    }
+
+    private void execute(final Batch pending, Exchange current) {
+        log.trace("Executing batch of {} statements: {}", pending.entries.size(), pending.preparedQuery);
+        final int size = pending.entries.size();
+        final int[] updateCounts = new int[size];
+        final SQLException[] failures = new SQLException[size];
+        try {
+            jdbcTemplate.execute(new ConnectionCallback<Void>() {
+                @Override
+                public Void doInConnection(Connection con) throws SQLException {
+                    // run the batch in its own transaction unless the connection is already part of one
+                    boolean autoCommit = con.getAutoCommit();
+                    if (autoCommit) {
+                        con.setAutoCommit(false);
+                    }
+                    try {
+                        int index = 0;
+                        while (index < size) {
+                            index = executeBatch(con, pending, index, updateCounts, failures);
+                        }
+                        if (autoCommit) {
+                            con.commit();
+                        }
+                        return null;
+                    } catch (SQLException | RuntimeException e) {
+                        if (autoCommit) {
+                            con.rollback();
+                        }
+                        throw e;
+                    } finally {
+                        if (autoCommit) {
+                            con.setAutoCommit(true);
+                        }
+                    }
+                }
+            });
+            for (int i = 0; i < size; i++) {
+                Exchange exchange = pending.entries.get(i).exchange;
+                if (failures[i] != null) {
+                    exchange.setException(failures[i]);
+                } else {
+                    exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+                }
+            }
+        } catch (Exception e) {
+            // the whole batch has been rolled back so all its exchanges failed
+            for (Entry entry : pending.entries) {
+                entry.exchange.setException(e);
+            }
+        }
+
+        Entry caller = null;
+        for (final Entry entry : pending.entries) {
+            if (entry.exchange == current) {
+                caller = entry;
+                continue;
+            }
+            // let the other exchanges continue routing in parallel instead of one by one by this thread
+            try {
+                callbackExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        entry.callback.done(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                entry.callback.done(false);
+            }
+        }
+        if (caller != null) {
+            caller.callback.done(true);
+        }
+    }
+
+    /**
+     * Executes the statements of the batch from the given index as a JDBC batch, and returns the index of the
+     * next statement to execute. If a statement fails then its exception is stored in the failures, and if the
+     * JDBC driver stopped processing the batch at the failed statement, the statements after it must be executed again.
+     */
+    private int executeBatch(Connection con, Batch pending, int from, int[] updateCounts, SQLException[] failures) throws SQLException {
+        int size = pending.entries.size();
+        PreparedStatement ps = null;
+        try {
+            ps = con.prepareStatement(pending.preparedQuery);
+            int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+            for (int i = from; i < size; i++) {
+                Entry entry = pending.entries.get(i);
+                // only populate if really needed
+                if (alwaysPopulateStatement || expected > 0) {
+                    Iterator<?> it = sqlPrepareStatementStrategy.createPopulateIterator(pending.sql, pending.preparedQuery, expected, entry.exchange, entry.value);
+                    sqlPrepareStatementStrategy.populateStatement(ps, it, expected);
+                }
+                ps.addBatch();
+            }
+            try {
+                int[] answer = ps.executeBatch();
+                for (int i = 0; i < answer.length && from + i < size; i++) {
+                    updateCounts[from + i] = answer[i];
+                }
+                return size;
+            } catch (BatchUpdateException e) {
+                int[] answer = e.getUpdateCounts() != null ? e.getUpdateCounts() : new int[0];
+                for (int i = 0; i < answer.length && from + i < size; i++) {
+                    if (answer[i] == Statement.EXECUTE_FAILED) {
+                        failures[from + i] = e;
+                    } else {
+                        updateCounts[from + i] = answer[i];
+                    }
+                }
+                int next = from + answer.length;
+                if (next < size) {
+                    // the driver stopped processing the batch at the statement which failed
+                    failures[next] = e;
+                    next++;
+                }
+                return next;
+            }
+        } finally {
+            closeStatement(ps);
+        }
+    }
+
+    public void setParametersCount(int parametersCount) {
+        this.parametersCount = parametersCount;
+    }
+
+    private static final class Batch {
+        private final String sql;
+        private final String preparedQuery;
+        private final List<Entry> entries = new ArrayList<Entry>();
+        private ScheduledFuture<?> timeoutTask;
+
+        Batch(String sql, String preparedQuery) {
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+    }
+
+    private static final class Entry {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final Object value;
+
+        Entry(Exchange exchange, AsyncCallback callback, Object value) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.value = value;
+        }
+    }
+}
@@ -62,9 +62,19 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
 
     public Producer createProducer() throws Exception {
         SqlPrepareStatementStrategy prepareStrategy = getPrepareStatementStrategy() != null ? getPrepareStatementStrategy() : new DefaultSqlPrepareStatementStrategy(getSeparator());
+        if (!isBatch() && getBatchSize() > 0) {
+            if (getBatchSize() > 1 && getBatchTimeout() <= 0) {
+                throw new IllegalArgumentException("The batchTimeout option must be greater than zero when batchSize is greater than one, was: " + getBatchTimeout());
+            }
+            SqlBatchProducer batchProducer = new SqlBatchProducer(this, query, getJdbcTemplate(), prepareStrategy,
+                    isAlwaysPopulateStatement(), isUseMessageBodyForSql(), getBatchSize(), getBatchTimeout());
+            batchProducer.setParametersCount(getParametersCount());
+            return batchProducer;
+        }
         SqlProducer result = new SqlProducer(this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        result.setBatchChunkSize(getBatchChunkSize());
         return result;
     }
 
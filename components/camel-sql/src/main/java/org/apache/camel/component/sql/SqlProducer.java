@@ -45,6 +45,7 @@ public class SqlProducer extends DefaultProducer {
     private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
     private final boolean useMessageBodyForSql;
     private int parametersCount;
+    private int batchChunkSize;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
                        boolean batch, boolean alwaysPopulateStatement, boolean useMessageBodyForSql) {
@@ -118,6 +119,7 @@ public class SqlProducer extends DefaultProducer {
                 ResultSet rs = null;
                 try {
                     int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+                    int batchTotal = 0;
 
                     // only populate if really needed
                     if (alwaysPopulateStatement || expected > 0) {
@@ -129,11 +131,16 @@ public class SqlProducer extends DefaultProducer {
                             } else {
                                 iterator = exchange.getIn().getBody(Iterator.class);
                             }
+                            int rows = 0;
                             while (iterator != null && iterator.hasNext()) {
                                 Object value = iterator.next();
                                 Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(sql, preparedQuery, expected, exchange, value);
                                 sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
                                 ps.addBatch();
+                                // execute in chunks so a streaming iterator is not buffered as one huge batch
+                                if (batchChunkSize > 0 && ++rows % batchChunkSize == 0) {
+                                    batchTotal += sum(ps.executeBatch());
+                                }
                             }
                         } else {
                             Object value;
@@ -151,11 +158,7 @@ public class SqlProducer extends DefaultProducer {
 
                     // execute the prepared statement and populate the outgoing message
                     if (batch) {
-                        int[] updateCounts = ps.executeBatch();
-                        int total = 0;
-                        for (int count : updateCounts) {
-                            total += count;
-                        }
+                        int total = batchTotal + sum(ps.executeBatch());
                         exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, total);
                     } else {
                         isResultSet = ps.execute();
@@ -307,7 +310,19 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    private static int sum(int[] updateCounts) {
+        int total = 0;
+        for (int count : updateCounts) {
+            total += count;
+        }
+        return total;
+    }
+
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
+
+    public void setBatchChunkSize(int batchChunkSize) {
+        this.batchChunkSize = batchChunkSize;
+    }
 }
@@ -28,6 +28,7 @@ import javax.sql.DataSource;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.spi.ExchangeCodec;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
 import org.apache.camel.support.ServiceSupport;
@@ -417,6 +418,18 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         this.codec = codec;
     }
 
+    public ExchangeCodec getExchangeCodec() {
+        return codec.getExchangeCodec();
+    }
+
+    /**
+     * Sets the codec to use for storing the exchanges, such as {@link org.apache.camel.impl.BinaryExchangeCodec}.
+     * By default the exchanges are stored using java serialization, which can still be read after a codec has been set.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        codec.setExchangeCodec(exchangeCodec);
+    }
+
     public boolean hasHeadersToStoreAsText() {
         return this.headersToStoreAsText != null && !this.headersToStoreAsText.isEmpty();
     }
@@ -27,6 +27,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultExchange;
 import org.apache.camel.impl.DefaultExchangeHolder;
+import org.apache.camel.spi.ExchangeCodec;
 import org.apache.camel.util.IOHelper;
 
 /**
@@ -34,6 +35,21 @@ import org.apache.camel.util.IOHelper;
  */
 public class JdbcCamelCodec {
 
+    private ExchangeCodec exchangeCodec;
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * Sets the codec to use for the exchanges. By default the exchanges are stored using java serialization.
+     * <p/>
+     * Exchanges which has been stored using java serialization can still be read after setting a codec.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
     public byte[] marshallExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders) throws IOException {
         // use DefaultExchangeHolder to marshal to a serialized object
         DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
@@ -51,7 +67,7 @@ public class JdbcCamelCodec {
         if (exchange.getFromEndpoint() != null) {
             DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
         }
-        return encode(pe);
+        return encode(camelContext, pe);
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, byte[] buffer) throws IOException, ClassNotFoundException {
@@ -69,8 +85,12 @@ public class JdbcCamelCodec {
         return answer;
     }
 
-    private byte[] encode(Object object) throws IOException {
+    private byte[] encode(CamelContext camelContext, DefaultExchangeHolder object) throws IOException {
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        if (exchangeCodec != null) {
+            exchangeCodec.encode(camelContext, object, bytesOut);
+            return bytesOut.toByteArray();
+        }
         ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut);
         objectOut.writeObject(object);
         objectOut.close();
@@ -80,6 +100,9 @@ public class JdbcCamelCodec {
 
     private DefaultExchangeHolder decode(CamelContext camelContext, byte[] dataIn) throws IOException, ClassNotFoundException {
         ByteArrayInputStream bytesIn = new ByteArrayInputStream(dataIn);
+        if (exchangeCodec != null && !isSerialized(dataIn)) {
+            return exchangeCodec.decode(camelContext, bytesIn);
+        }
 
         ObjectInputStream objectIn = null;
         Object obj = null;
@@ -93,5 +116,10 @@ public class JdbcCamelCodec {
         return (DefaultExchangeHolder)obj;
     }
 
+    private static boolean isSerialized(byte[] data) {
+        // the stream magic of java serialization
+        return data.length >= 2 && (data[0] & 0xFF) == 0xAC && (data[1] & 0xFF) == 0xED;
+    }
+
 }
 
@@ -0,0 +1,199 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.BatchUpdateException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class SqlProducerBatchSizeTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testAccumulateExchangesIntoBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        List<Future<Exchange>> futures = new ArrayList<Future<Exchange>>();
+        for (int i = 0; i < 10; i++) {
+            final int id = 100 + i;
+            futures.add(executor.submit(() -> template.send("direct:start", e -> e.getIn().setBody(Arrays.asList(id, "p" + id, "ASF")))));
+        }
+        for (Future<Exchange> future : futures) {
+            Exchange out = future.get();
+            assertNull(out.getException());
+            assertEquals(1, out.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+        executor.shutdownNow();
+
+        assertMockEndpointsSatisfied();
+        assertEquals(new Integer(10), jdbcTemplate.queryForObject("select count(*) from projects where id >= 100", Integer.class));
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        // a single exchange does not fill up the batch so its executed when the timeout triggers
+        Exchange out = template.send("direct:start", e -> e.getIn().setBody(Arrays.asList(200, "Timeout", "ASF")));
+        assertNull(out.getException());
+        assertEquals(1, out.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals("Timeout", jdbcTemplate.queryForObject("select project from projects where id = 200", String.class));
+    }
+
+    @Test
+    public void testFailedStatementOnlyFailsItsExchange() throws Exception {
+        // the batch timeout is so long that the first exchange waits for the second to fill up the batch
+        Future<Exchange> ok = template.asyncSend("direct:failed", e -> e.getIn().setBody(Arrays.asList(301, "Ok", "ASF")));
+        // id 1 already exists so the statement of this exchange fails
+        Exchange duplicate = template.send("direct:failed", e -> e.getIn().setBody(Arrays.asList(1, "Duplicate", "ASF")));
+        assertIsInstanceOf(BatchUpdateException.class, duplicate.getException());
+
+        Exchange out = ok.get(10, TimeUnit.SECONDS);
+        assertNull(out.getException());
+        assertEquals(1, out.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals("Ok", jdbcTemplate.queryForObject("select project from projects where id = 301", String.class));
+    }
+
+    @Test
+    public void testStatementsAfterFailedStatementAreExecuted() throws Exception {
+        Future<Exchange> first = template.asyncSend("direct:failed3", e -> e.getIn().setBody(Arrays.asList(311, "First", "ASF")));
+        Thread.sleep(100);
+        Future<Exchange> duplicate = template.asyncSend("direct:failed3", e -> e.getIn().setBody(Arrays.asList(1, "Duplicate", "ASF")));
+        Thread.sleep(100);
+        Exchange last = template.send("direct:failed3", e -> e.getIn().setBody(Arrays.asList(312, "Last", "ASF")));
+
+        assertNull(first.get(10, TimeUnit.SECONDS).getException());
+        assertNotNull(duplicate.get(10, TimeUnit.SECONDS).getException());
+        assertNull(last.getException());
+        assertEquals(1, last.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals(new Integer(2), jdbcTemplate.queryForObject("select count(*) from projects where id in (311, 312)", Integer.class));
+    }
+
+    @Test
+    public void testOtherExchangesOfBatchAreNotRoutedByCallerThread() throws Exception {
+        Future<Exchange> first = template.asyncSend("direct:thread", e -> e.getIn().setBody(Arrays.asList(321, "First", "ASF")));
+        Future<Exchange> second = template.asyncSend("direct:thread", e -> e.getIn().setBody(Arrays.asList(322, "Second", "ASF")));
+
+        // the exchange which filled up the batch continues on its own thread, and the other exchange by the thread pool
+        int pooled = 0;
+        for (Future<Exchange> future : Arrays.asList(first, second)) {
+            Exchange out = future.get(10, TimeUnit.SECONDS);
+            assertNull(out.getException());
+            if (out.getIn().getHeader("thread", String.class).contains("SqlBatchProducerCallback")) {
+                pooled++;
+            }
+        }
+        assertEquals(1, pooled);
+    }
+
+    @Test
+    public void testSequentialSplitWaitsForTimeout() throws Exception {
+        // a splitter without parallel processing sends the exchanges one at a time, so the batch never fills up
+        long start = System.currentTimeMillis();
+        template.sendBody("direct:split", Arrays.asList(Arrays.asList(331, "a", "b"), Arrays.asList(332, "c", "d"), Arrays.asList(333, "e", "f")));
+        long delta = System.currentTimeMillis() - start;
+
+        assertTrue("Each exchange should wait the batch timeout, took " + delta, delta >= 3 * 500);
+        assertEquals(new Integer(3), jdbcTemplate.queryForObject("select count(*) from projects where id >= 331 and id <= 333", Integer.class));
+    }
+
+    @Test
+    public void testBatchTimeoutMustBePositive() throws Exception {
+        Endpoint endpoint = context.getEndpoint("sql:insert into projects values (#, #, #)?batchSize=2&batchTimeout=0");
+        try {
+            endpoint.createProducer();
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("The batchTimeout option must be greater than zero"));
+        }
+    }
+
+    @Test
+    public void testIteratorBodyExecutedInChunks() throws Exception {
+        List<?> data = Arrays.asList(Arrays.asList(400, "a", "b"), Arrays.asList(401, "c", "d"), Arrays.asList(402, "e", "f"));
+        Exchange out = template.send("direct:iterator", e -> e.getIn().setBody(data));
+        assertNull(out.getException());
+        assertEquals(3, out.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals(new Integer(3), jdbcTemplate.queryForObject("select count(*) from projects where id >= 400", Integer.class));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:start")
+                    .to("sql:insert into projects values (#, #, #)?batchSize=2&batchTimeout=500")
+                    .to("mock:result");
+
+                from("direct:iterator")
+                    .to("sql:insert into projects values (#, #, #)?batch=true&batchChunkSize=2");
+
+                from("direct:failed")
+                    .to("sql:insert into projects values (#, #, #)?batchSize=2&batchTimeout=60000");
+
+                from("direct:failed3")
+                    .to("sql:insert into projects values (#, #, #)?batchSize=3&batchTimeout=60000");
+
+                from("direct:thread")
+                    .to("sql:insert into projects values (#, #, #)?batchSize=2&batchTimeout=60000")
+                    .process(e -> e.getIn().setHeader("thread", Thread.currentThread().getName()));
+
+                from("direct:split")
+                    .split(body())
+                        .to("sql:insert into projects values (#, #, #)?batchSize=10&batchTimeout=500");
+            }
+        };
+    }
+}
@@ -65,4 +65,61 @@ public final class StAXBuilder {
         return new StAXJAXBIteratorExpression<T>(clazzName, isNamespaceAware);
     }
 
+    /**
+     * Creates a {@link StAXStreamJAXBIteratorExpression} which uses the StAX cursor API.
+     *
+     * @param clazz the class which has JAXB annotations to bind POJO.
+     */
+    public static <T> Expression staxStream(Class<T> clazz) {
+        return new StAXStreamJAXBIteratorExpression<T>(clazz);
+    }
+
+    /**
+     * Creates a {@link StAXStreamJAXBIteratorExpression} which uses the StAX cursor API.
+     *
+     * @param clazzName the FQN name of the class which has JAXB annotations to bind POJO.
+     */
+    public static <T> Expression staxStream(String clazzName) {
+        return new StAXStreamJAXBIteratorExpression<T>(clazzName);
+    }
+
+    /**
+     * Creates a {@link StAXStreamJAXBIteratorExpression} which uses the StAX cursor API.
+     *
+     * @param clazz            the class which has JAXB annotations to bind POJO.
+     * @param isNamespaceAware sets the namespace awareness of the xml reader
+     */
+    public static <T> Expression staxStream(Class<T> clazz, boolean isNamespaceAware) {
+        return new StAXStreamJAXBIteratorExpression<T>(clazz, isNamespaceAware);
+    }
+
+    /**
+     * Creates a {@link StAXStreamJAXBIteratorExpression} which uses the StAX cursor API.
+     *
+     * @param clazzName        the FQN name of the class which has JAXB annotations to bind POJO.
+     * @param isNamespaceAware sets the namespace awareness of the xml reader
+     */
+    public static <T> Expression staxStream(String clazzName, boolean isNamespaceAware) {
+        return new StAXStreamJAXBIteratorExpression<T>(clazzName, isNamespaceAware);
+    }
+
+    /**
+     * Creates a {@link StAXFragmentIteratorExpression} which returns the elements as {@link javax.xml.stream.XMLStreamReader}.
+     *
+     * @param elementName the local name of the elements to iterate
+     */
+    public static Expression staxFragment(String elementName) {
+        return new StAXFragmentIteratorExpression(elementName);
+    }
+
+    /**
+     * Creates a {@link StAXFragmentIteratorExpression} which returns the elements as {@link javax.xml.stream.XMLStreamReader}.
+     *
+     * @param elementName      the local name of the elements to iterate
+     * @param isNamespaceAware sets the namespace awareness of the xml reader
+     */
+    public static Expression staxFragment(String elementName, boolean isNamespaceAware) {
+        return new StAXFragmentIteratorExpression(elementName, isNamespaceAware);
+    }
+
 }
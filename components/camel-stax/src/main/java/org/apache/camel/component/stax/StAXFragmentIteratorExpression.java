@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * {@link org.apache.camel.Expression} to walk a {@link org.apache.camel.Message} body
+ * using an {@link Iterator}, which uses the StAX cursor API to walk in streaming mode.
+ * The elements returned are {@link XMLStreamReader} views on the elements with the given local name,
+ * which means the XML document is never materialized as a String or DOM.
+ * <p/>
+ * To look ahead for the next element, {@link Iterator#hasNext()} must move the underlying reader past
+ * the current element. If the current element has not been read yet, it is then copied into memory first,
+ * so only a single element is held in memory at a time. The splitter always looks ahead before routing an element,
+ * so the {@link Exchange#SPLIT_COMPLETE} property is set on the last element. An element which has been partially
+ * read cannot be copied, so looking ahead then fails with an {@link IllegalStateException}.
+ * <p/>
+ * The message body must be able to convert to {@link XMLStreamReader} type which is used as stream
+ * to access the message body.
+ */
+public class StAXFragmentIteratorExpression extends ExpressionAdapter {
+
+    private final String elementName;
+    private final boolean isNamespaceAware;
+
+    /**
+     * Creates this expression.
+     *
+     * @param elementName the local name of the elements to iterate
+     */
+    public StAXFragmentIteratorExpression(String elementName) {
+        this(elementName, true);
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param elementName      the local name of the elements to iterate
+     * @param isNamespaceAware sets the namespace awareness of the xml reader
+     */
+    public StAXFragmentIteratorExpression(String elementName, boolean isNamespaceAware) {
+        ObjectHelper.notEmpty(elementName, "elementName");
+        this.elementName = elementName;
+        this.isNamespaceAware = isNamespaceAware;
+    }
+
+    @Override
+    public Object evaluate(Exchange exchange) {
+        try {
+            XMLStreamReader reader = StAXUtil.createXMLStreamReader(exchange, isNamespaceAware);
+            return new StAXFragmentIterator(elementName, reader, isNamespaceAware);
+        } catch (InvalidPayloadException e) {
+            exchange.setException(e);
+            return null;
+        } catch (XMLStreamException e) {
+            exchange.setException(e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "staxFragment(" + elementName + ")";
+    }
+
+    /**
+     * Iterator to walk the XML reader
+     */
+    static class StAXFragmentIterator implements Iterator<XMLStreamReader>, Closeable {
+
+        private final XMLStreamReader reader;
+        private final String name;
+        private final boolean isNamespaceAware;
+        private StAXFragmentStreamReader fragment;
+        private boolean pending;
+        private boolean end;
+
+        StAXFragmentIterator(String name, XMLStreamReader reader, boolean isNamespaceAware) {
+            this.name = name;
+            this.reader = reader;
+            this.isNamespaceAware = isNamespaceAware;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending) {
+                return true;
+            }
+            if (end) {
+                return false;
+            }
+            try {
+                if (fragment != null) {
+                    // the current fragment may still be in use, so keep it in memory before moving on
+                    fragment.buffer();
+                    fragment = null;
+                }
+                pending = StAXUtil.moveToStartElement(reader, name);
+                end = !pending;
+                return pending;
+            } catch (XMLStreamException e) {
+                throw new RuntimeCamelException(e);
+            }
+        }
+
+        @Override
+        public XMLStreamReader next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements with the name " + name);
+            }
+            pending = false;
+            fragment = new StAXFragmentStreamReader(reader, isNamespaceAware);
+            fragment.reset();
+            return fragment;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.NoSuchElementException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+/**
+ * A {@link XMLStreamReader} which exposes a single element (and its children) of an underlying
+ * {@link XMLStreamReader} as if it was a document on its own.
+ * <p/>
+ * The reader is a view on top of the underlying reader which reports {@link XMLStreamConstants#END_DOCUMENT}
+ * when the end tag of the fragment has been reached. If the underlying reader must move on to the next
+ * fragment before this fragment has been read, then the fragment is copied into memory by {@link #buffer()}
+ * so it can still be read.
+ */
+class StAXFragmentStreamReader extends StreamReaderDelegate {
+
+    private final boolean isNamespaceAware;
+    private int depth;
+    private boolean done;
+
+    StAXFragmentStreamReader(XMLStreamReader reader, boolean isNamespaceAware) {
+        super(reader);
+        this.isNamespaceAware = isNamespaceAware;
+    }
+
+    /**
+     * Starts a new fragment, the underlying reader must be positioned on the start tag of the fragment.
+     */
+    void reset() {
+        depth = 1;
+        done = false;
+    }
+
+    /**
+     * Skips the remainder of the fragment, so the underlying reader is positioned on the end tag of the fragment.
+     */
+    void skip() throws XMLStreamException {
+        while (!done) {
+            next();
+        }
+    }
+
+    /**
+     * Copies the fragment into memory, so the underlying reader can move on while this fragment is still in use.
+     * The underlying reader is positioned on the end tag of the fragment afterwards.
+     *
+     * @throws IllegalStateException if the fragment has already been partially read
+     */
+    void buffer() throws XMLStreamException {
+        if (done || depth == 0) {
+            // the fragment has been read until its end tag
+            return;
+        }
+        XMLStreamReader reader = getParent();
+        if (depth != 1 || reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+            throw new IllegalStateException("Cannot move on to the next XML fragment as the current fragment has been partially read");
+        }
+
+        StringWriter buffer = new StringWriter();
+        XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+        outputFactory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, isNamespaceAware);
+        XMLStreamWriter writer = outputFactory.createXMLStreamWriter(buffer);
+        int level = 0;
+        int event = reader.getEventType();
+        while (true) {
+            switch (event) {
+            case XMLStreamConstants.START_ELEMENT:
+                level++;
+                writeStartElement(reader, writer);
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                level--;
+                writer.writeEndElement();
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.SPACE:
+                writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                break;
+            case XMLStreamConstants.CDATA:
+                writer.writeCData(reader.getText());
+                break;
+            case XMLStreamConstants.COMMENT:
+                writer.writeComment(reader.getText());
+                break;
+            case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+                break;
+            default:
+                break;
+            }
+            if (level == 0) {
+                break;
+            }
+            event = reader.next();
+        }
+        writer.close();
+
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, isNamespaceAware);
+        XMLStreamReader buffered = inputFactory.createXMLStreamReader(new StringReader(buffer.toString()));
+        // position the copy on the start tag of the fragment like the underlying reader was
+        buffered.nextTag();
+        setParent(buffered);
+    }
+
+    private void writeStartElement(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+        if (isNamespaceAware) {
+            writer.writeStartElement(nonNull(reader.getPrefix()), reader.getLocalName(), nonNull(reader.getNamespaceURI()));
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                writer.writeNamespace(nonNull(reader.getNamespacePrefix(i)), nonNull(reader.getNamespaceURI(i)));
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                writer.writeAttribute(nonNull(reader.getAttributePrefix(i)), nonNull(reader.getAttributeNamespace(i)),
+                    reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+        } else {
+            // the prefixes are just part of the names, and the namespace declarations are plain attributes
+            writer.writeStartElement(qualifiedName(reader.getPrefix(), reader.getLocalName()));
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                writer.writeAttribute(qualifiedName("xmlns", reader.getNamespacePrefix(i)), nonNull(reader.getNamespaceURI(i)));
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                writer.writeAttribute(qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)), reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+        if (prefix == null || prefix.isEmpty()) {
+            return localName;
+        }
+        if (localName == null || localName.isEmpty()) {
+            return prefix;
+        }
+        return prefix + ":" + localName;
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        if (done) {
+            throw new NoSuchElementException("No more events in the XML fragment");
+        }
+        if (depth == 0) {
+            // we are positioned on the end tag of the fragment
+            done = true;
+            return XMLStreamConstants.END_DOCUMENT;
+        }
+        int event = super.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+            depth++;
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+            depth--;
+        }
+        return event;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        // must not delegate as we need to keep track of the depth
+        int event = next();
+        while ((event == XMLStreamConstants.CHARACTERS && isWhiteSpace())
+            || (event == XMLStreamConstants.CDATA && isWhiteSpace())
+            || event == XMLStreamConstants.SPACE
+            || event == XMLStreamConstants.PROCESSING_INSTRUCTION
+            || event == XMLStreamConstants.COMMENT) {
+            event = next();
+        }
+        if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("Expected start or end tag", getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        // the underlying reader moves to the end tag of the current element
+        String answer = super.getElementText();
+        depth--;
+        return answer;
+    }
+
+    @Override
+    public boolean hasNext() throws XMLStreamException {
+        return !done;
+    }
+
+    @Override
+    public int getEventType() {
+        return done ? XMLStreamConstants.END_DOCUMENT : super.getEventType();
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        // the underlying reader is owned by the iterator, so only skip to the end of this fragment
+        if (!done) {
+            skip();
+        }
+    }
+
+}
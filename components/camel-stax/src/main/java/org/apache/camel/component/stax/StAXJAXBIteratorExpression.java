@@ -20,6 +20,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Map;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -97,7 +98,7 @@ public class StAXJAXBIteratorExpression<T> extends ExpressionAdapter {
         this.isNamespaceAware = isNamespaceAware;
     }
 
-    private static JAXBContext jaxbContext(Class<?> handled) throws JAXBException {
+    static JAXBContext jaxbContext(Class<?> handled) throws JAXBException {
         if (JAX_CONTEXTS.containsKey(handled)) {
             return JAX_CONTEXTS.get(handled);
         }
@@ -179,8 +180,8 @@ public class StAXJAXBIteratorExpression<T> extends ExpressionAdapter {
 
         @Override
         public T next() {
-            if (element == null) {
-                element = getNextElement();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements with the name " + name);
             }
 
             T answer = element;
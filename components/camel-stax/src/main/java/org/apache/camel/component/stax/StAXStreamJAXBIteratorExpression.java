@@ -0,0 +1,200 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.util.ObjectHelper;
+
+import static org.apache.camel.component.stax.StAXUtil.getTagName;
+
+/**
+ * {@link org.apache.camel.Expression} to walk a {@link org.apache.camel.Message} body
+ * using an {@link Iterator}, which uses the StAX cursor API to walk in streaming mode.
+ * The elements returned is a POJO which is bound using JAXB annotations.
+ * <p/>
+ * This is the same as {@link StAXJAXBIteratorExpression} but uses a {@link XMLStreamReader}
+ * instead of a {@link javax.xml.stream.XMLEventReader}, which means no event objects are created
+ * while skipping the content in between the elements, and JAXB unmarshals directly from the cursor.
+ * <p/>
+ * The message body must be able to convert to {@link XMLStreamReader} type which is used as stream
+ * to access the message body. And there must be a JAXB annotated class to use as binding.
+ */
+public class StAXStreamJAXBIteratorExpression<T> extends ExpressionAdapter {
+
+    private final Class<T> handled;
+    private final String handledName;
+    private final boolean isNamespaceAware;
+
+    /**
+     * Creates this expression.
+     *
+     * @param handled the class which has JAXB annotations to bind POJO.
+     */
+    public StAXStreamJAXBIteratorExpression(Class<T> handled) {
+        this(handled, true);
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param handled          the class which has JAXB annotations to bind POJO.
+     * @param isNamespaceAware sets the namespace awareness of the xml reader
+     */
+    public StAXStreamJAXBIteratorExpression(Class<T> handled, boolean isNamespaceAware) {
+        ObjectHelper.notNull(handled, "handled");
+        this.handled = handled;
+        this.handledName = null;
+        this.isNamespaceAware = isNamespaceAware;
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param handledName the FQN name of the class which has JAXB annotations to bind POJO.
+     */
+    public StAXStreamJAXBIteratorExpression(String handledName) {
+        this(handledName, true);
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param handledName      the FQN name of the class which has JAXB annotations to bind POJO.
+     * @param isNamespaceAware sets the namespace awareness of the xml reader
+     */
+    public StAXStreamJAXBIteratorExpression(String handledName, boolean isNamespaceAware) {
+        ObjectHelper.notNull(handledName, "handledName");
+        this.handled = null;
+        this.handledName = handledName;
+        this.isNamespaceAware = isNamespaceAware;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object evaluate(Exchange exchange) {
+        try {
+            XMLStreamReader reader = StAXUtil.createXMLStreamReader(exchange, isNamespaceAware);
+
+            Class<T> clazz = handled;
+            if (clazz == null && handledName != null) {
+                clazz = (Class<T>) exchange.getContext().getClassResolver().resolveMandatoryClass(handledName);
+            }
+            return new StAXStreamJAXBIterator<T>(clazz, reader);
+        } catch (InvalidPayloadException e) {
+            exchange.setException(e);
+            return null;
+        } catch (JAXBException e) {
+            exchange.setException(e);
+            return null;
+        } catch (ClassNotFoundException e) {
+            exchange.setException(e);
+            return null;
+        } catch (XMLStreamException e) {
+            exchange.setException(e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "staxStream(" + (handled != null ? handled.getName() : handledName) + ")";
+    }
+
+    /**
+     * Iterator to walk the XML reader
+     */
+    static class StAXStreamJAXBIterator<T> implements Iterator<T>, Closeable {
+
+        private final XMLStreamReader reader;
+        private final Class<T> clazz;
+        private final String name;
+        private final Unmarshaller unmarshaller;
+        private T element;
+
+        StAXStreamJAXBIterator(Class<T> clazz, XMLStreamReader reader) throws JAXBException {
+            this.clazz = clazz;
+            this.reader = reader;
+
+            name = getTagName(clazz);
+            JAXBContext jaxb = StAXJAXBIteratorExpression.jaxbContext(clazz);
+            // unmarshaller is not thread safe so we need to create a new instance per iterator
+            unmarshaller = jaxb.createUnmarshaller();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (element == null) {
+                element = getNextElement();
+            }
+            return element != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements with the name " + name);
+            }
+
+            T answer = element;
+            element = null;
+            return answer;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        T getNextElement() {
+            try {
+                if (!StAXUtil.moveToStartElement(reader, name)) {
+                    return null;
+                }
+                // unmarshal from the cursor which leaves the reader positioned after the end tag of the element
+                return unmarshaller.unmarshal(reader, clazz).getValue();
+            } catch (XMLStreamException e) {
+                throw new RuntimeCamelException(e);
+            } catch (JAXBException e) {
+                throw new RuntimeCamelException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+}
@@ -16,10 +16,17 @@
  */
 package org.apache.camel.component.stax;
 
+import java.io.InputStream;
 import java.util.Map;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.util.LRUSoftCache;
 
 public final class StAXUtil {
@@ -47,4 +54,43 @@ public final class StAXUtil {
         }
         throw new IllegalArgumentException("XML name not found for " + handled.getName());
     }
+
+    /**
+     * Creates a {@link XMLStreamReader} on the message body of the given exchange.
+     *
+     * @param exchange         the exchange
+     * @param isNamespaceAware sets the namespace awareness of the xml reader
+     */
+    public static XMLStreamReader createXMLStreamReader(Exchange exchange, boolean isNamespaceAware) throws InvalidPayloadException, XMLStreamException {
+        if (isNamespaceAware) {
+            return exchange.getIn().getMandatoryBody(XMLStreamReader.class);
+        } else {
+            InputStream inputStream = exchange.getIn().getMandatoryBody(InputStream.class);
+            XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+            xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+            return xmlInputFactory.createXMLStreamReader(inputStream);
+        }
+    }
+
+    /**
+     * Moves the reader forward until it is positioned on a start tag with the given local name.
+     * <p/>
+     * The current event of the reader is checked first, so a reader which is already positioned on
+     * a matching start tag is not moved.
+     *
+     * @param reader    the reader
+     * @param localName the local name of the element
+     * @return <tt>true</tt> if the reader is positioned on the start tag, <tt>false</tt> if the end of the document was reached
+     */
+    public static boolean moveToStartElement(XMLStreamReader reader, String localName) throws XMLStreamException {
+        if (reader.getEventType() == XMLStreamConstants.START_ELEMENT && localName.equals(reader.getLocalName())) {
+            return true;
+        }
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT && localName.equals(reader.getLocalName())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,150 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+import javax.xml.bind.JAXBContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.stax.model.Record;
+import org.apache.camel.component.stax.model.RecordsUtil;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.apache.camel.component.stax.StAXBuilder.staxFragment;
+
+public class StAXFragmentIteratorExpressionTest extends CamelTestSupport {
+    @EndpointInject(uri = "mock:keys")
+    private MockEndpoint keysEndpoint;
+
+    @EndpointInject(uri = "mock:records")
+    private MockEndpoint recordsEndpoint;
+
+    @EndpointInject(uri = "mock:complete")
+    private MockEndpoint completeEndpoint;
+
+    @BeforeClass
+    public static void initRouteExample() {
+        RecordsUtil.createXMLFile();
+    }
+
+    @Override
+    public RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                final JAXBContext jaxb = JAXBContext.newInstance(Record.class);
+
+                from("file:target/in?noop=true")
+                    .multicast().to("direct:keys", "direct:records");
+
+                from("direct:keys")
+                    // only read the start tag of each fragment
+                    .split(staxFragment("record")).streaming()
+                        .process(new Processor() {
+                            @Override
+                            public void process(Exchange exchange) throws Exception {
+                                XMLStreamReader reader = exchange.getIn().getBody(XMLStreamReader.class);
+                                exchange.getIn().setBody(reader.getAttributeValue(null, "key"));
+                            }
+                        })
+                        .to("mock:keys");
+
+                from("direct:records")
+                    // unmarshal each fragment from the reader
+                    .split(staxFragment("record")).streaming()
+                        .process(new Processor() {
+                            @Override
+                            public void process(Exchange exchange) throws Exception {
+                                XMLStreamReader reader = exchange.getIn().getBody(XMLStreamReader.class);
+                                exchange.getIn().setBody(jaxb.createUnmarshaller().unmarshal(reader, Record.class).getValue());
+                            }
+                        })
+                        .to("mock:records");
+
+                from("direct:complete")
+                    .split(staxFragment("item")).streaming()
+                        .process(new Processor() {
+                            @Override
+                            public void process(Exchange exchange) throws Exception {
+                                XMLStreamReader reader = exchange.getIn().getBody(XMLStreamReader.class);
+                                exchange.getIn().setBody(reader.getElementText());
+                            }
+                        })
+                        .to("mock:complete");
+            }
+        };
+    }
+
+    @Test
+    public void testStaxFragmentExpression() throws InterruptedException {
+        keysEndpoint.expectedBodiesReceived("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        recordsEndpoint.expectedMessageCount(10);
+        recordsEndpoint.allMessages().body().isInstanceOf(Record.class);
+
+        assertMockEndpointsSatisfied();
+
+        Record five = recordsEndpoint.getReceivedExchanges().get(4).getIn().getBody(Record.class);
+        assertEquals("4", five.getKey());
+        assertEquals("#4", five.getValue());
+    }
+
+    @Test
+    public void testSplitCompleteOnLastFragment() throws Exception {
+        completeEndpoint.expectedBodiesReceived("a", "b", "c");
+        completeEndpoint.message(0).exchangeProperty(Exchange.SPLIT_COMPLETE).isEqualTo(false);
+        completeEndpoint.message(1).exchangeProperty(Exchange.SPLIT_COMPLETE).isEqualTo(false);
+        completeEndpoint.message(2).exchangeProperty(Exchange.SPLIT_COMPLETE).isEqualTo(true);
+
+        template.sendBody("direct:complete", "<items><item>a</item><other/><item>b</item><item>c</item><other/></items>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testIteratorLooksAhead() throws Exception {
+        XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(
+            new StringReader("<items xmlns:p=\"urn:p\"><p:item id=\"1\">a</p:item><p:item id=\"2\">b</p:item></items>"));
+        StAXFragmentIteratorExpression.StAXFragmentIterator it = new StAXFragmentIteratorExpression.StAXFragmentIterator("item", reader, true);
+
+        XMLStreamReader first = it.next();
+        XMLStreamReader second = it.next();
+        assertFalse(it.hasNext());
+        try {
+            it.next();
+            fail("Should have thrown an exception");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+
+        // the first fragment was copied when looking ahead, so it can still be read including its namespace
+        assertEquals("urn:p", first.getNamespaceURI());
+        assertEquals("1", first.getAttributeValue(null, "id"));
+        assertEquals("a", first.getElementText());
+        assertEquals("2", second.getAttributeValue(null, "id"));
+        assertEquals("b", second.getElementText());
+        it.close();
+    }
+}
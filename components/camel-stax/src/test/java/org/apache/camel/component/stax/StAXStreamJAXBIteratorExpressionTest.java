@@ -0,0 +1,64 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.stax.model.Record;
+import org.apache.camel.component.stax.model.RecordsUtil;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.apache.camel.component.stax.StAXBuilder.staxStream;
+
+public class StAXStreamJAXBIteratorExpressionTest extends CamelTestSupport {
+    @EndpointInject(uri = "mock:records")
+    private MockEndpoint recordsEndpoint;
+
+    @BeforeClass
+    public static void initRouteExample() {
+        RecordsUtil.createXMLFile();
+    }
+
+    @Override
+    public RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/in")
+                    // split the file using the StAX cursor API
+                    .split(staxStream(Record.class)).streaming()
+                        .to("mock:records");
+            }
+        };
+    }
+
+    @Test
+    public void testStaxStreamExpression() throws InterruptedException {
+        recordsEndpoint.expectedMessageCount(10);
+        recordsEndpoint.allMessages().body().isInstanceOf(Record.class);
+        recordsEndpoint.message(9).exchangeProperty("CamelSplitComplete").isEqualTo(true);
+
+        recordsEndpoint.assertIsSatisfied();
+
+        Record five = recordsEndpoint.getReceivedExchanges().get(4).getIn().getBody(Record.class);
+        assertEquals("4", five.getKey());
+        assertEquals("#4", five.getValue());
+    }
+}
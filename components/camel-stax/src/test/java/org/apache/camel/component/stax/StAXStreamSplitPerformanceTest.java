@@ -0,0 +1,169 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.stax.model.Order;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import static org.apache.camel.component.stax.StAXBuilder.stax;
+import static org.apache.camel.component.stax.StAXBuilder.staxFragment;
+import static org.apache.camel.component.stax.StAXBuilder.staxStream;
+
+/**
+ * Benchmark of splitting a big XML file (5 GB by default) using the StAX event, cursor and fragment modes.
+ * <p/>
+ * The size of the file can be configured using the <tt>stax.perf.size</tt> system property (in MB).
+ * Run with a small heap (eg <tt>-Xmx64m</tt>) to verify the split runs in constant memory.
+ */
+@Ignore("this is a manual test")
+public class StAXStreamSplitPerformanceTest extends CamelTestSupport {
+
+    private static final long SIZE = Long.getLong("stax.perf.size", 5 * 1024) * 1024 * 1024;
+
+    private final AtomicLong counter = new AtomicLong();
+    private final AtomicLong amount = new AtomicLong();
+
+    @Override
+    public void setUp() throws Exception {
+        File file = new File("target/bigdata/data.xml");
+        if (!file.exists() || file.length() < SIZE) {
+            createDataFile(log, SIZE);
+        }
+        super.setUp();
+    }
+
+    @Test
+    public void testStaxEvent() throws Exception {
+        runRoute("event");
+    }
+
+    @Test
+    public void testStaxStream() throws Exception {
+        runRoute("stream");
+    }
+
+    @Test
+    public void testStaxFragment() throws Exception {
+        runRoute("fragment");
+    }
+
+    private void runRoute(String routeId) throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).fromRoute(routeId).whenDone(1).create();
+
+        StopWatch watch = new StopWatch();
+        context.startRoute(routeId);
+
+        assertTrue("Should complete route", notify.matches(2, TimeUnit.HOURS));
+        long taken = watch.stop();
+
+        Runtime runtime = Runtime.getRuntime();
+        log.info("Split {} orders using {} in: {} ({} orders/sec)", new Object[]{counter.get(), routeId, TimeUtils.printDuration(taken), counter.get() * 1000 / Math.max(1, taken)});
+        log.info("Total amount: {}, used memory: {} MB", amount.get(), (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/bigdata?noop=true").routeId("event").noAutoStartup()
+                    .split(stax(Order.class)).streaming()
+                        .process(new Processor() {
+                            public void process(Exchange exchange) throws Exception {
+                                count(exchange.getIn().getBody(Order.class).getAmount());
+                            }
+                        });
+
+                from("file:target/bigdata?noop=true").routeId("stream").noAutoStartup()
+                    .split(staxStream(Order.class)).streaming()
+                        .process(new Processor() {
+                            public void process(Exchange exchange) throws Exception {
+                                count(exchange.getIn().getBody(Order.class).getAmount());
+                            }
+                        });
+
+                from("file:target/bigdata?noop=true").routeId("fragment").noAutoStartup()
+                    .split(staxFragment("order")).streaming()
+                        .process(new Processor() {
+                            public void process(Exchange exchange) throws Exception {
+                                // read the amount element from the fragment without any binding
+                                XMLStreamReader reader = exchange.getIn().getBody(XMLStreamReader.class);
+                                while (reader.hasNext()) {
+                                    if (reader.next() == XMLStreamReader.START_ELEMENT && "amount".equals(reader.getLocalName())) {
+                                        count(Integer.parseInt(reader.getElementText()));
+                                    }
+                                }
+                            }
+                        });
+            }
+        };
+    }
+
+    private void count(int orderAmount) {
+        amount.addAndGet(orderAmount);
+        long num = counter.incrementAndGet();
+        if (num % 1000000 == 0) {
+            log.info("Processed {} orders", num);
+        }
+    }
+
+    public static void createDataFile(Logger log, long size) throws Exception {
+        deleteDirectory("target/bigdata");
+        createDirectory("target/bigdata");
+
+        log.info("Creating data file of {} MB ...", size / (1024 * 1024));
+
+        File file = new File("target/bigdata/data.xml");
+        OutputStream os = new BufferedOutputStream(new FileOutputStream(file), 64 * 1024);
+        os.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><orders>\n".getBytes());
+
+        long written = 0;
+        for (long i = 0; written < size; i++) {
+            byte[] order = ("<order>\n"
+                + "  <id>" + i + "</id>\n"
+                + "  <amount>" + (i % 100) + "</amount>\n"
+                + "  <customerId>" + (i % 1000) + "</customerId>\n"
+                + "  <description>bla bla bla bla bla bla bla bla bla bla bla bla bla bla bla bla</description>\n"
+                + "</order>\n").getBytes();
+            os.write(order);
+            written += order.length;
+        }
+
+        os.write("</orders>".getBytes());
+        os.close();
+
+        log.info("Creating data file done.");
+    }
+
+}
@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.zipkin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.kristofa.brave.SpanCollector;
+import com.twitter.zipkin.gen.Span;
+import org.apache.camel.CamelContext;
+import org.apache.camel.support.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SpanCollector} which hands over the spans to another collector using a bounded queue
+ * and a background thread, so the routing threads are not waiting for the spans to be reported.
+ * <p/>
+ * If the queue is full, because the spans cannot be reported as fast as they are collected,
+ * then the spans are dropped instead of blocking the routing threads.
+ */
+public class ZipkinAsyncSpanCollector extends ServiceSupport implements SpanCollector, Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ZipkinAsyncSpanCollector.class);
+    private static final int MAX_BATCH = 256;
+
+    private final CamelContext camelContext;
+    private final SpanCollector delegate;
+    private final BlockingQueue<Span> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private ExecutorService executorService;
+
+    public ZipkinAsyncSpanCollector(CamelContext camelContext, SpanCollector delegate, int queueSize) {
+        this.camelContext = camelContext;
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    /**
+     * The collector the spans are reported to
+     */
+    public SpanCollector getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Number of spans waiting in the queue to be reported
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Number of spans which has been dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void collect(Span span) {
+        if (!queue.offer(span)) {
+            long count = dropped.incrementAndGet();
+            LOG.trace("Dropping span as the queue is full. {} spans dropped so far.", count);
+        }
+    }
+
+    @Override
+    public void addDefaultAnnotation(String key, String value) {
+        delegate.addDefaultAnnotation(key, value);
+    }
+
+    @Override
+    public void run() {
+        List<Span> batch = new ArrayList<>(MAX_BATCH);
+        while (isRunAllowed()) {
+            try {
+                Span span = queue.poll(1000, TimeUnit.MILLISECONDS);
+                if (span != null) {
+                    batch.add(span);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    report(batch);
+                }
+            } catch (InterruptedException e) {
+                LOG.debug("Interrupted while waiting for spans to report");
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void report(List<Span> batch) {
+        for (Span span : batch) {
+            try {
+                delegate.collect(span);
+            } catch (Throwable e) {
+                LOG.warn("Error reporting span: " + span + ". This exception is ignored.", e);
+            }
+        }
+        batch.clear();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "ZipkinSpanReporter");
+        executorService.execute(this);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        // report the remaining spans so they are not lost
+        List<Span> batch = new ArrayList<>(queue.size());
+        queue.drainTo(batch);
+        report(batch);
+    }
+
+}
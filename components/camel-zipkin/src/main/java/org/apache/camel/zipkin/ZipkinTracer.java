@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.github.kristofa.brave.Brave;
 import com.github.kristofa.brave.ClientSpanThreadBinder;
@@ -41,9 +42,6 @@ import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.properties.ServiceHostPropertiesFunction;
 import org.apache.camel.component.properties.ServicePortPropertiesFunction;
-import org.apache.camel.management.event.ExchangeCompletedEvent;
-import org.apache.camel.management.event.ExchangeCreatedEvent;
-import org.apache.camel.management.event.ExchangeFailedEvent;
 import org.apache.camel.management.event.ExchangeSendingEvent;
 import org.apache.camel.management.event.ExchangeSentEvent;
 import org.apache.camel.model.RouteDefinition;
@@ -91,12 +89,17 @@ import static org.apache.camel.builder.ExpressionBuilder.routeIdExpression;
  * This class is implemented as both an {@link org.apache.camel.spi.EventNotifier} and {@link RoutePolicy} that allows
  * to trap when Camel starts/ends an {@link Exchange} being routed using the {@link RoutePolicy} and during the routing
  * if the {@link Exchange} sends messages, then we track them using the {@link org.apache.camel.spi.EventNotifier}.
+ * <p/>
+ * Whether an {@link Exchange} is traced is decided once, when the exchange is first seen by this tracer, according to
+ * the configured rate, or the sampled decision of the incoming zipkin headers. Exchanges which are not sampled
+ * skip all the tracing work for the rest of their routing.
  */
 @ManagedResource(description = "ZipkinTracer")
 public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory, StaticService, CamelContextAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(ZipkinTracer.class);
     private static final String ZIPKIN_COLLECTOR_THRIFT_SERVICE = "zipkin-collector-thrift";
+    private static final String SAMPLED_KEY = "CamelZipkinSampled";
     private final ZipkinEventNotifier eventNotifier = new ZipkinEventNotifier();
     private final Map<String, Brave> braves = new HashMap<>();
     private transient boolean useFallbackServiceNames;
@@ -106,6 +109,8 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
     private int port;
     private float rate = 1.0f;
     private SpanCollector spanCollector;
+    private int reporterQueueSize;
+    private ZipkinAsyncSpanCollector reporter;
     private Map<String, String> clientServiceMappings = new HashMap<>();
     private Map<String, String> serverServiceMappings = new HashMap<>();
     private Set<String> excludePatterns = new HashSet<>();
@@ -194,6 +199,26 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
         this.spanCollector = spanCollector;
     }
 
+    @ManagedAttribute(description = "The size of the queue used for reporting spans asynchronously, or 0 if spans are reported synchronously.")
+    public int getReporterQueueSize() {
+        return reporterQueueSize;
+    }
+
+    /**
+     * To report the spans asynchronously to the span collector using a bounded queue of the given size.
+     * If the queue is full, then spans are dropped instead of blocking the routing.
+     * <p/>
+     * By default this is 0, which means the spans are reported synchronously by the routing threads.
+     */
+    public void setReporterQueueSize(int reporterQueueSize) {
+        this.reporterQueueSize = reporterQueueSize;
+    }
+
+    @ManagedAttribute(description = "Number of spans dropped because the reporter queue was full")
+    public long getDroppedSpanCount() {
+        return reporter != null ? reporter.getDroppedCount() : 0;
+    }
+
     public String getServiceName() {
         return clientServiceMappings.get("*");
     }
@@ -333,6 +358,11 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
 
         ObjectHelper.notNull(spanCollector, "SpanCollector", this);
 
+        if (reporterQueueSize > 0) {
+            LOG.info("Reporting Zipkin spans asynchronously using a queue with size: {}", reporterQueueSize);
+            reporter = new ZipkinAsyncSpanCollector(camelContext, spanCollector, reporterQueueSize);
+        }
+
         if (clientServiceMappings.isEmpty() && serverServiceMappings.isEmpty()) {
             LOG.warn("No service name(s) has been mapped in clientServiceMappings or serverServiceMappings. Camel will fallback and use endpoint uris as service names.");
             useFallbackServiceNames = true;
@@ -350,7 +380,7 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
             createBraveForService(pattern, serviceName);
         }
 
-        ServiceHelper.startServices(spanCollector, eventNotifier);
+        ServiceHelper.startServices(spanCollector, reporter, eventNotifier);
     }
 
     @Override
@@ -359,6 +389,10 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
         camelContext.getManagementStrategy().removeEventNotifier(eventNotifier);
         ServiceHelper.stopService(eventNotifier);
 
+        // stop the reporter first so the queued spans are reported before the collector is closed
+        ServiceHelper.stopService(reporter);
+        reporter = null;
+
         // stop and close collector
         ServiceHelper.stopAndShutdownService(spanCollector);
         if (spanCollector instanceof Closeable) {
@@ -471,10 +505,9 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
         Brave brave = braves.get(pattern);
         if (brave == null && !braves.containsKey(serviceName)) {
             Brave.Builder builder = new Brave.Builder(serviceName);
-            builder = builder.traceSampler(Sampler.create(rate));
-            if (spanCollector != null) {
-                builder = builder.spanCollector(spanCollector);
-            }
+            // the sampling is decided per exchange so brave should trace all the exchanges it is given
+            builder = builder.traceSampler(Sampler.ALWAYS_SAMPLE);
+            builder = builder.spanCollector(reporter != null ? reporter : spanCollector);
             brave = builder.build();
             braves.put(serviceName, brave);
         }
@@ -488,10 +521,8 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
             if (brave == null && useFallbackServiceNames) {
                 LOG.debug("Creating Brave assigned to serviceName: {}", serviceName + " as fallback");
                 Brave.Builder builder = new Brave.Builder(serviceName);
-                builder = builder.traceSampler(Sampler.create(rate));
-                if (spanCollector != null) {
-                    builder = builder.spanCollector(spanCollector);
-                }
+                builder = builder.traceSampler(Sampler.ALWAYS_SAMPLE);
+                builder = builder.spanCollector(reporter != null ? reporter : spanCollector);
                 brave = builder.build();
                 braves.put(serviceName, brave);
             }
@@ -638,6 +669,25 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
         }
     }
 
+    /**
+     * Whether the exchange should be traced, which is decided the first time the exchange is seen and then
+     * remembered on the exchange, so sub routes and copies of the exchange follow the same decision.
+     */
+    private boolean isSampled(Exchange exchange) {
+        Object sampled = exchange.getProperty(SAMPLED_KEY);
+        if (sampled == null) {
+            if (hasZipkinTraceId(exchange)) {
+                // the calling service has already decided
+                String header = exchange.getIn().getHeader(ZipkinConstants.SAMPLED, "0", String.class);
+                sampled = !(header.equals("0") || header.equalsIgnoreCase("false"));
+            } else {
+                sampled = rate >= 1.0f || ThreadLocalRandom.current().nextFloat() < rate;
+            }
+            exchange.setProperty(SAMPLED_KEY, sampled);
+        }
+        return (Boolean) sampled;
+    }
+
     private boolean hasZipkinTraceId(Exchange exchange) {
         // must have zipkin headers to start a server event
         return exchange.getIn().getHeader(ZipkinConstants.TRACE_ID) != null;
@@ -653,6 +703,11 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
             // client events
             if (event instanceof ExchangeSendingEvent) {
                 ExchangeSendingEvent ese = (ExchangeSendingEvent) event;
+                if (!isSampled(ese.getExchange())) {
+                    // let downstream services know this trace is not sampled
+                    ese.getExchange().getIn().setHeader(ZipkinConstants.SAMPLED, "0");
+                    return;
+                }
                 String serviceName = getServiceName(ese.getExchange(), ese.getEndpoint(), false, true);
                 Brave brave = getBrave(serviceName);
                 if (brave != null) {
@@ -660,6 +715,9 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
                 }
             } else if (event instanceof ExchangeSentEvent) {
                 ExchangeSentEvent ese = (ExchangeSentEvent) event;
+                if (!isSampled(ese.getExchange())) {
+                    return;
+                }
                 String serviceName = getServiceName(ese.getExchange(), ese.getEndpoint(), false, true);
                 Brave brave = getBrave(serviceName);
                 if (brave != null) {
@@ -668,13 +726,21 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
             }
         }
 
+        ZipkinEventNotifier() {
+            // only the sending and sent events are in use, so avoid Camel creating the other events
+            setIgnoreCamelContextEvents(true);
+            setIgnoreRouteEvents(true);
+            setIgnoreServiceEvents(true);
+            setIgnoreExchangeCreatedEvent(true);
+            setIgnoreExchangeCompletedEvent(true);
+            setIgnoreExchangeFailedEvents(true);
+            setIgnoreExchangeRedeliveryEvents(true);
+        }
+
         @Override
         public boolean isEnabled(EventObject event) {
             return event instanceof ExchangeSendingEvent
-                    || event instanceof ExchangeSentEvent
-                    || event instanceof ExchangeCreatedEvent
-                    || event instanceof ExchangeCompletedEvent
-                    || event instanceof ExchangeFailedEvent;
+                    || event instanceof ExchangeSentEvent;
         }
 
         @Override
@@ -696,6 +762,10 @@ public class ZipkinTracer extends ServiceSupport implements RoutePolicyFactory,
             // use route policy to track events when Camel a Camel route begins/end the lifecycle of an Exchange
             // these events corresponds to Zipkin server events
 
+            if (!isSampled(exchange)) {
+                return;
+            }
+
             if (hasZipkinTraceId(exchange)) {
                 String serviceName = getServiceName(exchange, route.getEndpoint(), true, false);
                 Brave brave = getBrave(serviceName);
@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.zipkin;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.github.kristofa.brave.SpanCollector;
+import com.twitter.zipkin.gen.Span;
+import org.apache.camel.CamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class ZipkinSamplingTest extends CamelTestSupport {
+
+    private final ListSpanCollector collector = new ListSpanCollector();
+    private ZipkinTracer zipkin;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+
+        zipkin = new ZipkinTracer();
+        zipkin.setServiceName("dude");
+        zipkin.setSpanCollector(collector);
+        zipkin.setReporterQueueSize(100);
+
+        // attaching ourself to CamelContext
+        zipkin.init(context);
+
+        return context;
+    }
+
+    @Test
+    public void testSampled() throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(5).create();
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+
+        assertTrue(notify.matches(30, TimeUnit.SECONDS));
+
+        // the spans are reported asynchronously
+        for (int i = 0; i < 50 && countSpans("mock://result") < 5; i++) {
+            Thread.sleep(100);
+        }
+        // all the exchanges are traced
+        assertEquals(5, countSpans("mock://result"));
+        assertEquals(0, zipkin.getDroppedSpanCount());
+    }
+
+    @Test
+    public void testNotSampled() throws Exception {
+        zipkin.setRate(0.0f);
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+        mock.allMessages().header(ZipkinConstants.SAMPLED).isEqualTo("0");
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // stopping the tracer reports all the queued spans
+        context.stop();
+        assertEquals(0, collector.spans.size());
+    }
+
+    @Override
+    protected RoutesBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("seda:dude");
+
+                from("seda:dude").routeId("dude")
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private int countSpans(String name) {
+        int count = 0;
+        for (Span span : collector.spans) {
+            if (name.equals(span.getName())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static final class ListSpanCollector implements SpanCollector {
+
+        private final List<Span> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void collect(Span span) {
+            spans.add(span);
+        }
+
+        @Override
+        public void addDefaultAnnotation(String key, String value) {
+            // noop
+        }
+    }
+}